@@ -1,8 +1,20 @@
 package org.ldbcouncil.snb.impls.workloads;
 
 import org.ldbcouncil.snb.driver.DbConnectionState;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.limiter.ConcurrencyLimiter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.MetricsExporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationMetrics;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultChecksums;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultMode;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
+import java.util.function.IntSupplier;
 
 public abstract class BaseDbConnectionState<TQueryStore extends QueryStore> extends DbConnectionState {
 
@@ -10,6 +22,13 @@ public abstract class BaseDbConnectionState<TQueryStore extends QueryStore> exte
     protected boolean printNames;
     protected boolean printStrings;
     protected boolean printResults;
+    protected OperationMetrics metrics;
+    protected ConcurrencyLimiter limiter;
+    protected ResultMode resultMode;
+    // set while BaseDb warms up the implementation, whose operations are not measured
+    private volatile boolean warmingUp;
+    private final ResultChecksums resultChecksums = new ResultChecksums();
+    private MetricsExporter metricsExporter;
 
     public BaseDbConnectionState(Map<String, String> properties, TQueryStore queryStore) {
         super();
@@ -18,6 +37,28 @@ public abstract class BaseDbConnectionState<TQueryStore extends QueryStore> exte
         this.printNames = Boolean.valueOf(properties.get("printQueryNames"));
         this.printStrings = Boolean.valueOf(properties.get("printQueryStrings"));
         this.printResults = Boolean.valueOf(properties.get("printQueryResults"));
+        this.resultMode = ResultMode.fromProperties(properties);
+
+        // live metrics are opt-in: they are collected only if an endpoint or a file is configured
+        String metricsPort = properties.get("metricsPort");
+        String metricsFile = properties.get("metricsFile");
+        if (metricsPort != null || metricsFile != null) {
+            metrics = new OperationMetrics();
+            try {
+                metricsExporter = new MetricsExporter(metrics,
+                        metricsPort != null ? Integer.parseInt(metricsPort) : -1,
+                        metricsFile != null ? Paths.get(metricsFile) : null,
+                        Integer.parseInt(properties.getOrDefault("metricsInterval", "10")));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot start the metrics exporter", e);
+            }
+        }
+
+        // the adaptive concurrency limiter is opt-in as well
+        limiter = ConcurrencyLimiter.fromProperties(properties);
+        if (metrics != null && limiter != null) {
+            metrics.registerLimiter(limiter);
+        }
     }
 
     public final TQueryStore getQueryStore() {
@@ -28,6 +69,42 @@ public abstract class BaseDbConnectionState<TQueryStore extends QueryStore> exte
         return printResults;
     }
 
+    public final ResultMode getResultMode() {
+        return resultMode;
+    }
+
+    public final void setResultMode(ResultMode resultMode) {
+        this.resultMode = resultMode;
+    }
+
+    /**
+     * @return whether the warm-up is running, so the operations must not be recorded in the live metrics,
+     * the JFR events or the slow query log
+     */
+    public final boolean isWarmingUp() {
+        return warmingUp;
+    }
+
+    public final void setWarmingUp(boolean warmingUp) {
+        this.warmingUp = warmingUp;
+    }
+
+    /**
+     * @param limit the result limit of the operation, or 0 if it has no limit
+     * @return a sink for the rows of a list operation, according to the result mode
+     */
+    public <TOperationResult> ResultSink<TOperationResult> newResultSink(int limit) {
+        return new ResultSink<>(resultMode, resultChecksums, limit);
+    }
+
+    /**
+     * Prints the result checksums per query type, if the result mode is checksum. Called by BaseDb when the
+     * database is closed.
+     */
+    public void printResultChecksums() {
+        resultChecksums.print(System.out);
+    }
+
     public void logQuery(String queryType, String query) {
         if (printNames) {
             System.out.println("########### " + queryType);
@@ -37,4 +114,53 @@ public abstract class BaseDbConnectionState<TQueryStore extends QueryStore> exte
         }
     }
 
+    /**
+     * Starts measuring the execution of an operation. Handlers close the returned probe when the execution ends.
+     * If the concurrency limiter is enabled, this waits until the limiter admits the operation.
+     * The operations of the warm-up are only admitted, not measured.
+     *
+     * @throws DbException if the thread is interrupted while waiting for the limiter
+     */
+    public OperationProbe startOperation(Operation<?> operation) throws DbException {
+        if (warmingUp) {
+            return OperationProbe.startUnmeasured(operation, limiter);
+        }
+        return OperationProbe.start(operation, getBackendName(), metrics, limiter);
+    }
+
+    /**
+     * @return whether the live metrics are enabled
+     */
+    protected boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * Exposes the utilisation of a connection pool in the live metrics, if they are enabled.
+     *
+     * @param pool name of the pool, e.g. "read" or "write"
+     * @return the pool's metrics, which record the time spent waiting for connections, or null if the metrics are disabled
+     */
+    protected OperationMetrics.Pool registerPoolMetrics(String pool, IntSupplier active, IntSupplier idle,
+                                                        IntSupplier total, IntSupplier awaiting) {
+        return metrics != null ? metrics.registerPool(pool, active, idle, total, awaiting) : null;
+    }
+
+    /**
+     * Stops the metrics exporter, if any. Called by BaseDb when the database is closed.
+     */
+    public void closeMetrics() {
+        if (metricsExporter != null) {
+            metricsExporter.close();
+            metricsExporter = null;
+        }
+    }
+
+    /**
+     * Name of the backend reported with the operation measurements.
+     */
+    protected String getBackendName() {
+        return getClass().getSimpleName();
+    }
+
 }
@@ -0,0 +1,183 @@
+package org.ldbcouncil.snb.impls.workloads;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationMetrics;
+import org.ldbcouncil.snb.impls.workloads.monitoring.SlowQueryRecorder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TimeZone;
+
+/**
+ * Connection state of the implementations speaking the PostgreSQL protocol over JDBC, with HikariCP pools.
+ *
+ * By default, all operations share one connection pool (poolSize). If writePoolSize is set, the updates get a
+ * separate pool, so that a burst of slow reads cannot starve the updates (which other operations depend on).
+ * The read pool (poolSize) is then read-only (unless the implementation needs to write while reading) and uses
+ * the readIsolation level (default: TRANSACTION_READ_COMMITTED), the write pool has writePoolSize connections.
+ * The synchronousCommit property (on, off, local, remote_write, remote_apply) sets synchronous_commit for
+ * the connections executing the updates.
+ */
+public abstract class JdbcDbConnectionState<TDbQueryStore extends QueryStore> extends BaseDbConnectionState<TDbQueryStore> {
+
+    public static final List<String> SYNCHRONOUS_COMMIT_LEVELS = Arrays.asList("on", "off", "local", "remote_write", "remote_apply");
+
+    protected String endPoint;
+    protected HikariDataSource ds;
+    // the pool of the updates, or null if they share the pool of the reads
+    protected HikariDataSource writeDs;
+    protected SlowQueryRecorder slowQueries;
+
+    /**
+     * @param explainPrefix prefix of the statements explaining the slow queries, e.g. "EXPLAIN ANALYZE "
+     * @param readOnlyReads whether the read pool (if writePoolSize is set) is read-only
+     */
+    protected JdbcDbConnectionState(Map<String, String> properties, TDbQueryStore store, String explainPrefix,
+                                    boolean readOnlyReads) throws ClassNotFoundException {
+        super(properties, store);
+        endPoint = properties.get("endpoint");
+
+        Class.forName(properties.get("jdbcDriver"));
+
+        HikariConfig config = createPoolConfig(properties, endPoint);
+        if (properties.containsKey("writePoolSize")) {
+            if (readOnlyReads) {
+                // without readOnlyMode=always, the JDBC driver ignores the read-only flag in auto-commit mode
+                config.setReadOnly(true);
+                config.addDataSourceProperty("readOnlyMode", "always");
+            }
+            config.setTransactionIsolation(properties.getOrDefault("readIsolation", "TRANSACTION_READ_COMMITTED"));
+            ds = createDataSource(config, "read");
+
+            HikariConfig writeConfig = createPoolConfig(properties, endPoint);
+            writeConfig.setMaximumPoolSize(Integer.parseInt(properties.get("writePoolSize")));
+            setSynchronousCommit(writeConfig, properties.get("synchronousCommit"));
+            writeDs = createDataSource(writeConfig, "write");
+        } else {
+            setSynchronousCommit(config, properties.get("synchronousCommit"));
+            ds = createDataSource(config, "main");
+        }
+
+        // slow queries are explained on a dedicated connection, so the pool is not drained by EXPLAIN ANALYZE runs
+        String user = properties.get("user");
+        String password = properties.get("password");
+        slowQueries = SlowQueryRecorder.fromProperties(properties, explainPrefix, endPoint,
+                explainEndPoint -> DriverManager.getConnection(explainEndPoint, user, password));
+    }
+
+    /**
+     * @return the configuration of a connection pool for the given endpoint, with the connection properties and
+     * the pool size (poolSize) of the benchmark
+     */
+    protected static HikariConfig createPoolConfig(Map<String, String> properties, String endPoint) {
+        Properties props = new Properties();
+        props.setProperty("jdbcUrl", endPoint);
+        props.setProperty("dataSource.databaseName", properties.get("databaseName"));
+        props.setProperty("dataSource.assumeMinServerVersion", "9.0");
+        props.setProperty("dataSource.ssl", "false");
+        HikariConfig config = new HikariConfig(props);
+        config.setPassword(properties.get("password"));
+        config.setUsername(properties.get("user"));
+        config.setJdbcUrl(endPoint);
+        if (properties.containsKey("poolSize")) {
+            config.setMaximumPoolSize(Integer.parseInt(properties.get("poolSize")));
+        }
+        return config;
+    }
+
+    private static void setSynchronousCommit(HikariConfig config, String level) {
+        if (level == null) {
+            return;
+        }
+        if (!SYNCHRONOUS_COMMIT_LEVELS.contains(level)) {
+            throw new IllegalArgumentException("Invalid synchronousCommit: " + level + ", expected one of " + SYNCHRONOUS_COMMIT_LEVELS);
+        }
+        config.setConnectionInitSql("SET synchronous_commit TO " + level);
+    }
+
+    /**
+     * Creates a connection pool, reporting its utilisation and wait times in the live metrics (if they are enabled).
+     *
+     * @param poolName name of the pool in the metrics
+     */
+    protected HikariDataSource createDataSource(HikariConfig config, String poolName) {
+        config.setPoolName("ldbc-snb-" + poolName);
+        if (isMetricsEnabled()) {
+            config.setMetricsTrackerFactory((hikariPoolName, poolStats) -> {
+                OperationMetrics.Pool pool = registerPoolMetrics(poolName, poolStats::getActiveConnections,
+                        poolStats::getIdleConnections, poolStats::getTotalConnections, poolStats::getPendingThreads);
+                return new IMetricsTracker() {
+                    @Override
+                    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                        if (!isWarmingUp()) {
+                            pool.connectionAcquired(elapsedAcquiredNanos);
+                        }
+                    }
+
+                    @Override
+                    public void recordConnectionTimeout() {
+                        pool.connectionTimedOut();
+                    }
+                };
+            });
+        }
+        return new HikariDataSource(config);
+    }
+
+    public Connection getConnection() throws DbException {
+        return getConnection(ds);
+    }
+
+    protected Connection getConnection(HikariDataSource dataSource) throws DbException {
+        Connection connection = null;
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Etc/GMT+0"));
+            connection = dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new DbException(e);
+        }
+        return connection;
+    }
+
+    /**
+     * @return a connection for executing the queries of a read operation
+     */
+    public Connection getReadConnection() throws DbException {
+        return getConnection();
+    }
+
+    /**
+     * @return a connection for executing the queries of an update operation
+     */
+    public Connection getWriteConnection() throws DbException {
+        return writeDs != null ? getConnection(writeDs) : getConnection();
+    }
+
+    /**
+     * @return the slow query recorder, or null if slowQueryThreshold is not set or the warm-up is running
+     */
+    public SlowQueryRecorder getSlowQueryRecorder() {
+        return isWarmingUp() ? null : slowQueries;
+    }
+
+    @Override
+    public void close() {
+        if (slowQueries != null) {
+            slowQueries.close();
+        }
+        if (writeDs != null) {
+            writeDs.close();
+        }
+        if (ds != null) {
+            ds.close();
+        }
+    }
+}
@@ -4,8 +4,9 @@ package org.ldbcouncil.snb.impls.workloads;
  * 
  * This class stores functions to query definition files and to retrieve the following used in operation handlers:
  * - Query definition strings
- * - Parameter map (Map<String, Object>), with as default String objects as values
- * - Prepared queries (using string substitution)
+ * - Parameter map (Map<String, Object>), with as default String objects as values, for implementations
+ *   passing the parameters to the database separately from the query
+ * - Prepared queries (rendering the parameters into the query definition, see Parameters)
  * 
  * Implementations can extend this class and override functions to change e.g.
  * - ParameterPrefix ()
@@ -22,6 +23,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +38,22 @@ public abstract class QueryStore {
      */
     protected Converter getConverter() { return new Converter(); }
 
+    private Converter converter;
+
+    /**
+     * Converter shared by all parameter maps of this store. Converters are stateless,
+     * so a racy initialization at worst creates a few extra instances.
+     * @return
+     */
+    protected final Converter converter() {
+        Converter result = converter;
+        if (result == null) {
+            result = getConverter();
+            converter = result;
+        }
+        return result;
+    }
+
     /**
      * Parameter prefix used in query definitions. Defaults to '$'
      * @return
@@ -76,14 +95,182 @@ public abstract class QueryStore {
      * @return Prepared query string
      */
     protected String prepare(QueryType queryType, Map<String, Object> parameterSubstitutions) {
-        String querySpecification = queries.get(queryType);
-        for (String parameter : parameterSubstitutions.keySet()) {
-            querySpecification = querySpecification.replace(
-                    getParameterPrefix() + parameter + getParameterPostfix(),
-                    (String) parameterSubstitutions.get(parameter)
-            );
+        Parameters parameters = parameters(queryType);
+        for (Map.Entry<String, Object> parameter : parameterSubstitutions.entrySet()) {
+            parameters.rendered(parameter.getKey(), (String) parameter.getValue());
+        }
+        return parameters.prepare();
+    }
+
+    /**
+     * Starts collecting the parameters of a query, which are rendered by the converter straight into the prepared
+     * query string when calling Parameters#prepare.
+     * @param queryType Type of query to prepare (QueryType)
+     * @return Empty parameters of the query
+     */
+    protected Parameters parameters(QueryType queryType) {
+        return new Parameters(queryType);
+    }
+
+    /**
+     * The parameters of a query and their types. The query definition is copied into a single StringBuilder,
+     * rendering each parameter in place with the append* method of the converter, so that no string is created
+     * per parameter and the definition is scanned only once.
+     */
+    protected final class Parameters {
+
+        private static final int ID = 0;
+        private static final int ID_FOR_INSERTION = 1;
+        private static final int INTEGER = 2;
+        private static final int DATE = 3;
+        private static final int DATE_TIME = 4;
+        private static final int STRING = 5;
+        private static final int STRING_LIST = 6;
+        private static final int LONG_LIST = 7;
+        private static final int ORGANISATIONS = 8;
+        private static final int RENDERED = 9;
+
+        private final QueryType queryType;
+        private String[] names = new String[8];
+        private int[] types = new int[8];
+        private long[] numbers = new long[8];
+        private Object[] values = new Object[8];
+        private int size;
+
+        private Parameters(QueryType queryType) {
+            this.queryType = queryType;
+        }
+
+        public Parameters id(String name, long value) {
+            return add(name, ID, value, null);
+        }
+
+        public Parameters idForInsertion(String name, long value) {
+            return add(name, ID_FOR_INSERTION, value, null);
+        }
+
+        public Parameters integer(String name, int value) {
+            return add(name, INTEGER, value, null);
+        }
+
+        public Parameters date(String name, Date value) {
+            return add(name, DATE, 0, value);
+        }
+
+        public Parameters dateTime(String name, Date value) {
+            return add(name, DATE_TIME, 0, value);
+        }
+
+        public Parameters string(String name, String value) {
+            return add(name, STRING, 0, value);
+        }
+
+        public Parameters stringList(String name, List<String> value) {
+            return add(name, STRING_LIST, 0, value);
+        }
+
+        public Parameters longList(String name, List<Long> value) {
+            return add(name, LONG_LIST, 0, value);
         }
-        return querySpecification;
+
+        public Parameters organisations(String name, List<LdbcUpdate1AddPerson.Organization> value) {
+            return add(name, ORGANISATIONS, 0, value);
+        }
+
+        /**
+         * Adds a parameter which is already rendered as a query literal.
+         */
+        public Parameters rendered(String name, String value) {
+            return add(name, RENDERED, 0, value);
+        }
+
+        private Parameters add(String name, int type, long number, Object value) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+                numbers = Arrays.copyOf(numbers, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            names[size] = name;
+            types[size] = type;
+            numbers[size] = number;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Replaces every occurrence of prefix + name + postfix in the query definition with the rendered
+         * parameter. Where parameter names share a prefix, the longest one matching the definition is used.
+         * @return Prepared query string
+         */
+        public String prepare() {
+            String query = queries.get(queryType);
+            String prefix = getParameterPrefix();
+            String postfix = getParameterPostfix();
+            StringBuilder sb = new StringBuilder(query.length() + 32 * size);
+            int copied = 0;
+            int position = query.indexOf(prefix);
+            while (position >= 0) {
+                int nameStart = position + prefix.length();
+                int parameter = -1;
+                for (int i = 0; i < size; i++) {
+                    String name = names[i];
+                    if ((parameter < 0 || name.length() > names[parameter].length())
+                            && query.startsWith(name, nameStart)
+                            && query.startsWith(postfix, nameStart + name.length())) {
+                        parameter = i;
+                    }
+                }
+                if (parameter < 0) {
+                    position = query.indexOf(prefix, position + 1);
+                    continue;
+                }
+                sb.append(query, copied, position);
+                append(sb, parameter);
+                copied = nameStart + names[parameter].length() + postfix.length();
+                position = query.indexOf(prefix, copied);
+            }
+            return sb.append(query, copied, query.length()).toString();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void append(StringBuilder sb, int parameter) {
+            Converter converter = converter();
+            Object value = values[parameter];
+            switch (types[parameter]) {
+                case ID:
+                    converter.appendId(sb, numbers[parameter]);
+                    break;
+                case ID_FOR_INSERTION:
+                    converter.appendIdForInsertion(sb, numbers[parameter]);
+                    break;
+                case INTEGER:
+                    converter.appendInteger(sb, (int) numbers[parameter]);
+                    break;
+                case DATE:
+                    converter.appendDate(sb, (Date) value);
+                    break;
+                case DATE_TIME:
+                    converter.appendDateTime(sb, (Date) value);
+                    break;
+                case STRING:
+                    converter.appendString(sb, (String) value);
+                    break;
+                case STRING_LIST:
+                    converter.appendStringList(sb, (List<String>) value);
+                    break;
+                case LONG_LIST:
+                    converter.appendLongList(sb, (List<Long>) value);
+                    break;
+                case ORGANISATIONS:
+                    converter.appendOrganisations(sb, (List<LdbcUpdate1AddPerson.Organization>) value);
+                    break;
+                default:
+                    sb.append((String) value);
+            }
+        }
+
     }
 
     /**
@@ -107,13 +294,23 @@ public abstract class QueryStore {
         }
     }
 
+    /**
+     * Create QueryStore without query definition files, for implementations
+     * that evaluate the operations natively instead of through a query language.
+     */
+    protected QueryStore() {
+    }
+
     /**
      * Get prepared Query1 string
      * @param operation LdbcQuery1 operation containing parameter values
      * @return Prepared Query1 string
      */
     public String getQuery1(LdbcQuery1 operation) {
-        return prepare(QueryType.InteractiveComplexQuery1, getQuery1Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery1)
+                .id(LdbcQuery1.PERSON_ID, operation.getPersonIdQ1())
+                .string(LdbcQuery1.FIRST_NAME, operation.getFirstName())
+                .prepare();
     }
 
     /**
@@ -123,8 +320,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery1Map(LdbcQuery1 operation) {
         return new ImmutableMap.Builder<String, Object>()
-                .put(LdbcQuery1.PERSON_ID, getConverter().convertId(operation.getPersonIdQ1()))
-                .put(LdbcQuery1.FIRST_NAME, getConverter().convertString(operation.getFirstName()))
+                .put(LdbcQuery1.PERSON_ID, converter().convertId(operation.getPersonIdQ1()))
+                .put(LdbcQuery1.FIRST_NAME, converter().convertString(operation.getFirstName()))
                 .build();
     }
 
@@ -134,7 +331,10 @@ public abstract class QueryStore {
      * @return Prepared Query2 string
      */
     public String getQuery2(LdbcQuery2 operation) {
-        return prepare(QueryType.InteractiveComplexQuery2, getQuery2Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery2)
+                .id(LdbcQuery2.PERSON_ID, operation.getPersonIdQ2())
+                .date(LdbcQuery2.MAX_DATE, operation.getMaxDate())
+                .prepare();
     }
 
     /**
@@ -144,8 +344,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery2Map(LdbcQuery2 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery2.PERSON_ID, getConverter().convertId(operation.getPersonIdQ2()))
-        .put(LdbcQuery2.MAX_DATE, getConverter().convertDate(operation.getMaxDate()))
+        .put(LdbcQuery2.PERSON_ID, converter().convertId(operation.getPersonIdQ2()))
+        .put(LdbcQuery2.MAX_DATE, converter().convertDate(operation.getMaxDate()))
         .build();
     }
 
@@ -155,7 +355,13 @@ public abstract class QueryStore {
      * @return Prepared Query3 string
      */
     public String getQuery3(LdbcQuery3 operation) {
-        return prepare(QueryType.InteractiveComplexQuery3, getQuery3Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery3)
+                .id(LdbcQuery3.PERSON_ID, operation.getPersonIdQ3())
+                .string(LdbcQuery3.COUNTRY_X_NAME, operation.getCountryXName())
+                .string(LdbcQuery3.COUNTRY_Y_NAME, operation.getCountryYName())
+                .date(LdbcQuery3.START_DATE, operation.getStartDate())
+                .integer(LdbcQuery3.DURATION_DAYS, operation.getDurationDays())
+                .prepare();
     }
 
     /**
@@ -165,11 +371,11 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery3Map(LdbcQuery3 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery3.PERSON_ID, getConverter().convertId(operation.getPersonIdQ3()))
-        .put(LdbcQuery3.COUNTRY_X_NAME, getConverter().convertString(operation.getCountryXName()))
-        .put(LdbcQuery3.COUNTRY_Y_NAME, getConverter().convertString(operation.getCountryYName()))
-        .put(LdbcQuery3.START_DATE, getConverter().convertDate(operation.getStartDate()))
-        .put(LdbcQuery3.DURATION_DAYS, getConverter().convertInteger(operation.getDurationDays()))
+        .put(LdbcQuery3.PERSON_ID, converter().convertId(operation.getPersonIdQ3()))
+        .put(LdbcQuery3.COUNTRY_X_NAME, converter().convertString(operation.getCountryXName()))
+        .put(LdbcQuery3.COUNTRY_Y_NAME, converter().convertString(operation.getCountryYName()))
+        .put(LdbcQuery3.START_DATE, converter().convertDate(operation.getStartDate()))
+        .put(LdbcQuery3.DURATION_DAYS, converter().convertInteger(operation.getDurationDays()))
         .build();
     }
 
@@ -179,7 +385,11 @@ public abstract class QueryStore {
      * @return Prepared Query4 string
      */
     public String getQuery4(LdbcQuery4 operation) {
-        return prepare(QueryType.InteractiveComplexQuery4, getQuery4Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery4)
+                .id(LdbcQuery4.PERSON_ID, operation.getPersonIdQ4())
+                .date(LdbcQuery4.START_DATE, operation.getStartDate())
+                .integer(LdbcQuery4.DURATION_DAYS, operation.getDurationDays())
+                .prepare();
     }
 
     /**
@@ -189,9 +399,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery4Map(LdbcQuery4 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery4.PERSON_ID, getConverter().convertId(operation.getPersonIdQ4()))
-        .put(LdbcQuery4.START_DATE, getConverter().convertDate(operation.getStartDate()))
-        .put(LdbcQuery4.DURATION_DAYS, getConverter().convertInteger(operation.getDurationDays()))
+        .put(LdbcQuery4.PERSON_ID, converter().convertId(operation.getPersonIdQ4()))
+        .put(LdbcQuery4.START_DATE, converter().convertDate(operation.getStartDate()))
+        .put(LdbcQuery4.DURATION_DAYS, converter().convertInteger(operation.getDurationDays()))
         .build();
     }
 
@@ -201,7 +411,10 @@ public abstract class QueryStore {
      * @return Prepared Query5 string
      */
     public String getQuery5(LdbcQuery5 operation) {
-        return prepare(QueryType.InteractiveComplexQuery5, getQuery5Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery5)
+                .id(LdbcQuery5.PERSON_ID, operation.getPersonIdQ5())
+                .date(LdbcQuery5.MIN_DATE, operation.getMinDate())
+                .prepare();
     }
 
     /**
@@ -211,8 +424,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery5Map(LdbcQuery5 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery5.PERSON_ID, getConverter().convertId(operation.getPersonIdQ5()))
-        .put(LdbcQuery5.MIN_DATE, getConverter().convertDate(operation.getMinDate()))
+        .put(LdbcQuery5.PERSON_ID, converter().convertId(operation.getPersonIdQ5()))
+        .put(LdbcQuery5.MIN_DATE, converter().convertDate(operation.getMinDate()))
         .build();
     }
 
@@ -222,7 +435,10 @@ public abstract class QueryStore {
      * @return Prepared Query6 string
      */
     public String getQuery6(LdbcQuery6 operation) {
-        return prepare(QueryType.InteractiveComplexQuery6, getQuery6Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery6)
+                .id(LdbcQuery6.PERSON_ID, operation.getPersonIdQ6())
+                .string(LdbcQuery6.TAG_NAME, operation.getTagName())
+                .prepare();
     }
 
     /**
@@ -232,8 +448,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery6Map(LdbcQuery6 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery6.PERSON_ID, getConverter().convertId(operation.getPersonIdQ6()))
-        .put(LdbcQuery6.TAG_NAME, getConverter().convertString(operation.getTagName()))
+        .put(LdbcQuery6.PERSON_ID, converter().convertId(operation.getPersonIdQ6()))
+        .put(LdbcQuery6.TAG_NAME, converter().convertString(operation.getTagName()))
         .build();
     }
 
@@ -243,7 +459,9 @@ public abstract class QueryStore {
      * @return Prepared Query7 string
      */
     public String getQuery7(LdbcQuery7 operation) {
-        return prepare(QueryType.InteractiveComplexQuery7, getQuery7Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery7)
+                .id(LdbcQuery7.PERSON_ID, operation.getPersonIdQ7())
+                .prepare();
     }
 
     /**
@@ -253,7 +471,7 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery7Map(LdbcQuery7 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery7.PERSON_ID, getConverter().convertId(operation.getPersonIdQ7()))
+        .put(LdbcQuery7.PERSON_ID, converter().convertId(operation.getPersonIdQ7()))
         .build();
     }
 
@@ -263,7 +481,9 @@ public abstract class QueryStore {
      * @return Prepared Query8 string
      */
     public String getQuery8(LdbcQuery8 operation) {
-        return prepare(QueryType.InteractiveComplexQuery8, getQuery8Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery8)
+                .id(LdbcQuery8.PERSON_ID, operation.getPersonIdQ8())
+                .prepare();
     }
 
     /**
@@ -273,7 +493,7 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery8Map(LdbcQuery8 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery8.PERSON_ID, getConverter().convertId(operation.getPersonIdQ8()))
+        .put(LdbcQuery8.PERSON_ID, converter().convertId(operation.getPersonIdQ8()))
         .build();
     }
 
@@ -283,7 +503,10 @@ public abstract class QueryStore {
      * @return Prepared Query9 string
      */
     public String getQuery9(LdbcQuery9 operation) {
-        return prepare(QueryType.InteractiveComplexQuery9, getQuery9Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery9)
+                .id(LdbcQuery9.PERSON_ID, operation.getPersonIdQ9())
+                .date(LdbcQuery9.MAX_DATE, operation.getMaxDate())
+                .prepare();
     }
 
     /**
@@ -293,8 +516,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery9Map(LdbcQuery9 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery9.PERSON_ID, getConverter().convertId(operation.getPersonIdQ9()))
-        .put(LdbcQuery9.MAX_DATE, getConverter().convertDate(operation.getMaxDate()))
+        .put(LdbcQuery9.PERSON_ID, converter().convertId(operation.getPersonIdQ9()))
+        .put(LdbcQuery9.MAX_DATE, converter().convertDate(operation.getMaxDate()))
         .build();
     }
 
@@ -304,7 +527,10 @@ public abstract class QueryStore {
      * @return Prepared Query10 string
      */
     public String getQuery10(LdbcQuery10 operation) {
-        return prepare(QueryType.InteractiveComplexQuery10, getQuery10Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery10)
+                .id(LdbcQuery10.PERSON_ID, operation.getPersonIdQ10())
+                .integer(LdbcQuery10.MONTH, operation.getMonth())
+                .prepare();
     }
 
     /**
@@ -314,8 +540,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery10Map(LdbcQuery10 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery10.PERSON_ID, getConverter().convertId(operation.getPersonIdQ10()))
-        .put(LdbcQuery10.MONTH, getConverter().convertInteger(operation.getMonth()))
+        .put(LdbcQuery10.PERSON_ID, converter().convertId(operation.getPersonIdQ10()))
+        .put(LdbcQuery10.MONTH, converter().convertInteger(operation.getMonth()))
         .build();
     }
 
@@ -325,7 +551,11 @@ public abstract class QueryStore {
      * @return Prepared Query11 string
      */
     public String getQuery11(LdbcQuery11 operation) {
-        return prepare(QueryType.InteractiveComplexQuery11, getQuery11Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery11)
+                .id(LdbcQuery11.PERSON_ID, operation.getPersonIdQ11())
+                .string(LdbcQuery11.COUNTRY_NAME, operation.getCountryName())
+                .integer(LdbcQuery11.WORK_FROM_YEAR, operation.getWorkFromYear())
+                .prepare();
     }
 
     /**
@@ -335,9 +565,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery11Map(LdbcQuery11 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery11.PERSON_ID, getConverter().convertId(operation.getPersonIdQ11()))
-        .put(LdbcQuery11.COUNTRY_NAME, getConverter().convertString(operation.getCountryName()))
-        .put(LdbcQuery11.WORK_FROM_YEAR, getConverter().convertInteger(operation.getWorkFromYear()))
+        .put(LdbcQuery11.PERSON_ID, converter().convertId(operation.getPersonIdQ11()))
+        .put(LdbcQuery11.COUNTRY_NAME, converter().convertString(operation.getCountryName()))
+        .put(LdbcQuery11.WORK_FROM_YEAR, converter().convertInteger(operation.getWorkFromYear()))
         .build();
     }
 
@@ -347,7 +577,10 @@ public abstract class QueryStore {
      * @return Prepared Query12 string
      */
     public String getQuery12(LdbcQuery12 operation) {
-        return prepare(QueryType.InteractiveComplexQuery12, getQuery12Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery12)
+                .id(LdbcQuery12.PERSON_ID, operation.getPersonIdQ12())
+                .string(LdbcQuery12.TAG_CLASS_NAME, operation.getTagClassName())
+                .prepare();
     }
 
     /**
@@ -357,8 +590,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery12Map(LdbcQuery12 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery12.PERSON_ID, getConverter().convertId(operation.getPersonIdQ12()))
-        .put(LdbcQuery12.TAG_CLASS_NAME, getConverter().convertString(operation.getTagClassName()))
+        .put(LdbcQuery12.PERSON_ID, converter().convertId(operation.getPersonIdQ12()))
+        .put(LdbcQuery12.TAG_CLASS_NAME, converter().convertString(operation.getTagClassName()))
         .build();
     }
 
@@ -368,7 +601,10 @@ public abstract class QueryStore {
      * @return Prepared Query13 string
      */
     public String getQuery13(LdbcQuery13 operation) {
-        return prepare(QueryType.InteractiveComplexQuery13, getQuery13Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery13)
+                .id(LdbcQuery13.PERSON1_ID, operation.getPerson1IdQ13StartNode())
+                .id(LdbcQuery13.PERSON2_ID, operation.getPerson2IdQ13EndNode())
+                .prepare();
     }
 
     /**
@@ -378,8 +614,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery13Map (LdbcQuery13 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery13.PERSON1_ID, getConverter().convertId(operation.getPerson1IdQ13StartNode()))
-        .put(LdbcQuery13.PERSON2_ID, getConverter().convertId(operation.getPerson2IdQ13EndNode()))
+        .put(LdbcQuery13.PERSON1_ID, converter().convertId(operation.getPerson1IdQ13StartNode()))
+        .put(LdbcQuery13.PERSON2_ID, converter().convertId(operation.getPerson2IdQ13EndNode()))
         .build();
     }
 
@@ -389,7 +625,10 @@ public abstract class QueryStore {
      * @return Prepared Query14 string
      */
     public String getQuery14(LdbcQuery14 operation) {
-        return prepare(QueryType.InteractiveComplexQuery14, getQuery14Map(operation));
+        return parameters(QueryType.InteractiveComplexQuery14)
+                .id(LdbcQuery14.PERSON1_ID, operation.getPerson1IdQ14StartNode())
+                .id(LdbcQuery14.PERSON2_ID, operation.getPerson2IdQ14EndNode())
+                .prepare();
     }
 
     /**
@@ -399,8 +638,8 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getQuery14Map (LdbcQuery14 operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcQuery14.PERSON1_ID, getConverter().convertId(operation.getPerson1IdQ14StartNode()))
-        .put(LdbcQuery14.PERSON2_ID, getConverter().convertId(operation.getPerson2IdQ14EndNode()))
+        .put(LdbcQuery14.PERSON1_ID, converter().convertId(operation.getPerson1IdQ14StartNode()))
+        .put(LdbcQuery14.PERSON2_ID, converter().convertId(operation.getPerson2IdQ14EndNode()))
         .build();
     }
 
@@ -410,9 +649,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery1PersonProfile string
      */
     public String getShortQuery1PersonProfile(LdbcShortQuery1PersonProfile operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery1,getShortQuery1PersonProfileMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery1)
+                .id(LdbcShortQuery1PersonProfile.PERSON_ID, operation.getPersonIdSQ1())
+                .prepare();
     }
 
     /**
@@ -421,7 +660,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery1PersonProfileMap(LdbcShortQuery1PersonProfile operation) {
-        return ImmutableMap.of(LdbcShortQuery1PersonProfile.PERSON_ID, getConverter().convertId(operation.getPersonIdSQ1()));
+        return ImmutableMap.of(LdbcShortQuery1PersonProfile.PERSON_ID, converter().convertId(operation.getPersonIdSQ1()));
     }
 
     /**
@@ -430,9 +669,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery2PersonPosts string
      */
     public String getShortQuery2PersonPosts(LdbcShortQuery2PersonPosts operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery2, getShortQuery2PersonPostsMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery2)
+                .id(LdbcShortQuery2PersonPosts.PERSON_ID, operation.getPersonIdSQ2())
+                .prepare();
     }
 
     /**
@@ -441,7 +680,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery2PersonPostsMap(LdbcShortQuery2PersonPosts operation) {
-        return ImmutableMap.of(LdbcShortQuery2PersonPosts.PERSON_ID, getConverter().convertId(operation.getPersonIdSQ2()));
+        return ImmutableMap.of(LdbcShortQuery2PersonPosts.PERSON_ID, converter().convertId(operation.getPersonIdSQ2()));
     }
 
     /**
@@ -450,9 +689,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery3PersonFriends string
      */
     public String getShortQuery3PersonFriends(LdbcShortQuery3PersonFriends operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery3, getShortQuery3PersonFriendsMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery3)
+                .id(LdbcShortQuery3PersonFriends.PERSON_ID, operation.getPersonIdSQ3())
+                .prepare();
     }
 
     /**
@@ -461,7 +700,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery3PersonFriendsMap(LdbcShortQuery3PersonFriends operation) {
-        return ImmutableMap.of(LdbcShortQuery3PersonFriends.PERSON_ID, getConverter().convertId(operation.getPersonIdSQ3()));
+        return ImmutableMap.of(LdbcShortQuery3PersonFriends.PERSON_ID, converter().convertId(operation.getPersonIdSQ3()));
     }
 
     /**
@@ -470,9 +709,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery4MessageContent string
      */
     public String getShortQuery4MessageContent(LdbcShortQuery4MessageContent operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery4, getShortQuery4MessageContentMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery4)
+                .id(LdbcShortQuery4MessageContent.MESSAGE_ID, operation.getMessageIdContent())
+                .prepare();
     }
 
     /**
@@ -481,7 +720,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery4MessageContentMap(LdbcShortQuery4MessageContent operation) {
-        return ImmutableMap.of(LdbcShortQuery4MessageContent.MESSAGE_ID, getConverter().convertId(operation.getMessageIdContent()));
+        return ImmutableMap.of(LdbcShortQuery4MessageContent.MESSAGE_ID, converter().convertId(operation.getMessageIdContent()));
     }
 
     /**
@@ -490,9 +729,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery5MessageCreator string
      */
     public String getShortQuery5MessageCreator(LdbcShortQuery5MessageCreator operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery5, getShortQuery5MessageCreatorMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery5)
+                .id(LdbcShortQuery5MessageCreator.MESSAGE_ID, operation.getMessageIdCreator())
+                .prepare();
     }
 
     /**
@@ -501,7 +740,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery5MessageCreatorMap(LdbcShortQuery5MessageCreator operation) {
-        return ImmutableMap.of(LdbcShortQuery5MessageCreator.MESSAGE_ID, getConverter().convertId(operation.getMessageIdCreator()));
+        return ImmutableMap.of(LdbcShortQuery5MessageCreator.MESSAGE_ID, converter().convertId(operation.getMessageIdCreator()));
     }
 
     /**
@@ -510,9 +749,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery6MessageForum string
      */
     public String getShortQuery6MessageForum(LdbcShortQuery6MessageForum operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery6, getShortQuery6MessageForumMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery6)
+                .id(LdbcShortQuery6MessageForum.MESSAGE_ID, operation.getMessageForumId())
+                .prepare();
     }
 
     /**
@@ -521,7 +760,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery6MessageForumMap(LdbcShortQuery6MessageForum operation) {
-        return ImmutableMap.of(LdbcShortQuery6MessageForum.MESSAGE_ID, getConverter().convertId(operation.getMessageForumId()));
+        return ImmutableMap.of(LdbcShortQuery6MessageForum.MESSAGE_ID, converter().convertId(operation.getMessageForumId()));
     }
 
     /**
@@ -530,9 +769,9 @@ public abstract class QueryStore {
      * @return Prepared LdbcShortQuery7MessageReplies string
      */
     public String getShortQuery7MessageReplies(LdbcShortQuery7MessageReplies operation) {
-        return prepare(
-                QueryType.InteractiveShortQuery7, getShortQuery7MessageRepliesMap(operation)
-        );
+        return parameters(QueryType.InteractiveShortQuery7)
+                .id(LdbcShortQuery7MessageReplies.MESSAGE_ID, operation.getMessageRepliesId())
+                .prepare();
     }
 
     /**
@@ -541,7 +780,7 @@ public abstract class QueryStore {
      * @return Map with parameters and values as string.
      */
     public Map<String, Object> getShortQuery7MessageRepliesMap(LdbcShortQuery7MessageReplies operation) {
-        return ImmutableMap.of(LdbcShortQuery7MessageReplies.MESSAGE_ID, getConverter().convertId(operation.getMessageRepliesId()));
+        return ImmutableMap.of(LdbcShortQuery7MessageReplies.MESSAGE_ID, converter().convertId(operation.getMessageRepliesId()));
     }
 
     
@@ -552,9 +791,22 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery1 string
      */
     public String getUpdate1Single(LdbcUpdate1AddPerson operation) {
-        return prepare(
-                QueryType.InteractiveUpdate1, getUpdate1SingleMap(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate1)
+                .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                .string(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, operation.getPersonFirstName())
+                .string(LdbcUpdate1AddPerson.PERSON_LAST_NAME, operation.getPersonLastName())
+                .string(LdbcUpdate1AddPerson.GENDER, operation.getGender())
+                .date(LdbcUpdate1AddPerson.BIRTHDAY, operation.getBirthday())
+                .dateTime(LdbcUpdate1AddPerson.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate1AddPerson.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate1AddPerson.BROWSER_USED, operation.getBrowserUsed())
+                .id(LdbcUpdate1AddPerson.CITY_ID, operation.getCityId())
+                .organisations(LdbcUpdate1AddPerson.WORK_AT, operation.getWorkAt())
+                .organisations(LdbcUpdate1AddPerson.STUDY_AT, operation.getStudyAt())
+                .stringList(LdbcUpdate1AddPerson.EMAILS, operation.getEmails())
+                .stringList(LdbcUpdate1AddPerson.LANGUAGES, operation.getLanguages())
+                .longList(LdbcUpdate1AddPerson.TAG_IDS, operation.getTagIds())
+                .prepare();
     }
 
     /**
@@ -564,20 +816,20 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate1SingleMap(LdbcUpdate1AddPerson operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()))
-        .put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, getConverter().convertString(operation.getPersonFirstName()))
-        .put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, getConverter().convertString(operation.getPersonLastName()))
-        .put(LdbcUpdate1AddPerson.GENDER, getConverter().convertString(operation.getGender()))
-        .put(LdbcUpdate1AddPerson.BIRTHDAY, getConverter().convertDate(operation.getBirthday()))
-        .put(LdbcUpdate1AddPerson.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-        .put(LdbcUpdate1AddPerson.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-        .put(LdbcUpdate1AddPerson.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-        .put(LdbcUpdate1AddPerson.CITY_ID, getConverter().convertId(operation.getCityId()))
-        .put(LdbcUpdate1AddPerson.WORK_AT, getConverter().convertOrganisations(operation.getWorkAt()))
-        .put(LdbcUpdate1AddPerson.STUDY_AT, getConverter().convertOrganisations(operation.getStudyAt()))
-        .put(LdbcUpdate1AddPerson.EMAILS, getConverter().convertStringList(operation.getEmails()))
-        .put(LdbcUpdate1AddPerson.LANGUAGES, getConverter().convertStringList(operation.getLanguages()))
-        .put(LdbcUpdate1AddPerson.TAG_IDS, getConverter().convertLongList(operation.getTagIds()))
+        .put(LdbcUpdate1AddPerson.PERSON_ID, converter().convertIdForInsertion(operation.getPersonId()))
+        .put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, converter().convertString(operation.getPersonFirstName()))
+        .put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, converter().convertString(operation.getPersonLastName()))
+        .put(LdbcUpdate1AddPerson.GENDER, converter().convertString(operation.getGender()))
+        .put(LdbcUpdate1AddPerson.BIRTHDAY, converter().convertDate(operation.getBirthday()))
+        .put(LdbcUpdate1AddPerson.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+        .put(LdbcUpdate1AddPerson.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+        .put(LdbcUpdate1AddPerson.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+        .put(LdbcUpdate1AddPerson.CITY_ID, converter().convertId(operation.getCityId()))
+        .put(LdbcUpdate1AddPerson.WORK_AT, converter().convertOrganisations(operation.getWorkAt()))
+        .put(LdbcUpdate1AddPerson.STUDY_AT, converter().convertOrganisations(operation.getStudyAt()))
+        .put(LdbcUpdate1AddPerson.EMAILS, converter().convertStringList(operation.getEmails()))
+        .put(LdbcUpdate1AddPerson.LANGUAGES, converter().convertStringList(operation.getLanguages()))
+        .put(LdbcUpdate1AddPerson.TAG_IDS, converter().convertLongList(operation.getTagIds()))
         .build();
     }
 
@@ -587,9 +839,11 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery2 string
      */
     public String getUpdate2(LdbcUpdate2AddPostLike operation) {
-        return prepare(
-                QueryType.InteractiveUpdate2, getUpdate2Map(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate2)
+                .id(LdbcUpdate2AddPostLike.PERSON_ID, operation.getPersonId())
+                .id(LdbcUpdate2AddPostLike.POST_ID, operation.getPostId())
+                .dateTime(LdbcUpdate2AddPostLike.CREATION_DATE, operation.getCreationDate())
+                .prepare();
     }
 
     /**
@@ -599,9 +853,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate2Map(LdbcUpdate2AddPostLike operation) {
         return ImmutableMap.of(
-            LdbcUpdate2AddPostLike.PERSON_ID, getConverter().convertId(operation.getPersonId()),
-            LdbcUpdate2AddPostLike.POST_ID, getConverter().convertId(operation.getPostId()),
-            LdbcUpdate2AddPostLike.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate())
+            LdbcUpdate2AddPostLike.PERSON_ID, converter().convertId(operation.getPersonId()),
+            LdbcUpdate2AddPostLike.POST_ID, converter().convertId(operation.getPostId()),
+            LdbcUpdate2AddPostLike.CREATION_DATE, converter().convertDateTime(operation.getCreationDate())
         );
     }
 
@@ -611,9 +865,11 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery3 string
      */
     public String getUpdate3(LdbcUpdate3AddCommentLike operation) {
-        return prepare(
-                QueryType.InteractiveUpdate3, getUpdate3Map(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate3)
+                .id(LdbcUpdate3AddCommentLike.PERSON_ID, operation.getPersonId())
+                .id(LdbcUpdate3AddCommentLike.COMMENT_ID, operation.getCommentId())
+                .dateTime(LdbcUpdate3AddCommentLike.CREATION_DATE, operation.getCreationDate())
+                .prepare();
     }
 
     /**
@@ -623,9 +879,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate3Map(LdbcUpdate3AddCommentLike operation) {
         return ImmutableMap.of(
-            LdbcUpdate3AddCommentLike.PERSON_ID, getConverter().convertId(operation.getPersonId()),
-            LdbcUpdate3AddCommentLike.COMMENT_ID, getConverter().convertId(operation.getCommentId()),
-            LdbcUpdate3AddCommentLike.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate())
+            LdbcUpdate3AddCommentLike.PERSON_ID, converter().convertId(operation.getPersonId()),
+            LdbcUpdate3AddCommentLike.COMMENT_ID, converter().convertId(operation.getCommentId()),
+            LdbcUpdate3AddCommentLike.CREATION_DATE, converter().convertDateTime(operation.getCreationDate())
         );
     }
 
@@ -636,9 +892,13 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery4 string
      */
     public String getUpdate4Single(LdbcUpdate4AddForum operation) {
-        return prepare(
-                QueryType.InteractiveUpdate4, getUpdate4SingleMap(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate4)
+                .idForInsertion(LdbcUpdate4AddForum.FORUM_ID, operation.getForumId())
+                .string(LdbcUpdate4AddForum.FORUM_TITLE, operation.getForumTitle())
+                .dateTime(LdbcUpdate4AddForum.CREATION_DATE, operation.getCreationDate())
+                .id(LdbcUpdate4AddForum.MODERATOR_PERSON_ID, operation.getModeratorPersonId())
+                .longList(LdbcUpdate4AddForum.TAG_IDS, operation.getTagIds())
+                .prepare();
     }
 
     /**
@@ -648,11 +908,11 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate4SingleMap(LdbcUpdate4AddForum operation) {
         return ImmutableMap.of(
-            LdbcUpdate4AddForum.FORUM_ID, getConverter().convertIdForInsertion(operation.getForumId()),
-            LdbcUpdate4AddForum.FORUM_TITLE, getConverter().convertString(operation.getForumTitle()),
-            LdbcUpdate4AddForum.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()),
-            LdbcUpdate4AddForum.MODERATOR_PERSON_ID, getConverter().convertId(operation.getModeratorPersonId()),
-            LdbcUpdate4AddForum.TAG_IDS, getConverter().convertLongList(operation.getTagIds())
+            LdbcUpdate4AddForum.FORUM_ID, converter().convertIdForInsertion(operation.getForumId()),
+            LdbcUpdate4AddForum.FORUM_TITLE, converter().convertString(operation.getForumTitle()),
+            LdbcUpdate4AddForum.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()),
+            LdbcUpdate4AddForum.MODERATOR_PERSON_ID, converter().convertId(operation.getModeratorPersonId()),
+            LdbcUpdate4AddForum.TAG_IDS, converter().convertLongList(operation.getTagIds())
         );
     }
 
@@ -662,9 +922,11 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery5 string
      */
     public String getUpdate5(LdbcUpdate5AddForumMembership operation) {
-        return prepare(
-                QueryType.InteractiveUpdate5, getUpdate5Map(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate5)
+                .id(LdbcUpdate5AddForumMembership.FORUM_ID, operation.getForumId())
+                .id(LdbcUpdate5AddForumMembership.PERSON_ID, operation.getPersonId())
+                .dateTime(LdbcUpdate5AddForumMembership.JOIN_DATE, operation.getJoinDate())
+                .prepare();
     }
 
     /**
@@ -674,9 +936,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate5Map(LdbcUpdate5AddForumMembership operation) {
         return ImmutableMap.of(
-            LdbcUpdate5AddForumMembership.FORUM_ID, getConverter().convertId(operation.getForumId()),
-            LdbcUpdate5AddForumMembership.PERSON_ID, getConverter().convertId(operation.getPersonId()),
-            LdbcUpdate5AddForumMembership.JOIN_DATE, getConverter().convertDateTime(operation.getJoinDate())
+            LdbcUpdate5AddForumMembership.FORUM_ID, converter().convertId(operation.getForumId()),
+            LdbcUpdate5AddForumMembership.PERSON_ID, converter().convertId(operation.getPersonId()),
+            LdbcUpdate5AddForumMembership.JOIN_DATE, converter().convertDateTime(operation.getJoinDate())
         );
     }
     
@@ -687,9 +949,20 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery6 string
      */
     public String getUpdate6Single(LdbcUpdate6AddPost operation) {
-        return prepare(
-                QueryType.InteractiveUpdate6, getUpdate6SingleMap(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate6)
+                .idForInsertion(LdbcUpdate6AddPost.POST_ID, operation.getPostId())
+                .string(LdbcUpdate6AddPost.IMAGE_FILE, operation.getImageFile())
+                .dateTime(LdbcUpdate6AddPost.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate6AddPost.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate6AddPost.BROWSER_USED, operation.getBrowserUsed())
+                .string(LdbcUpdate6AddPost.LANGUAGE, operation.getLanguage())
+                .string(LdbcUpdate6AddPost.CONTENT, operation.getContent())
+                .integer(LdbcUpdate6AddPost.LENGTH, operation.getLength())
+                .id(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, operation.getAuthorPersonId())
+                .id(LdbcUpdate6AddPost.FORUM_ID, operation.getForumId())
+                .id(LdbcUpdate6AddPost.COUNTRY_ID, operation.getCountryId())
+                .longList(LdbcUpdate6AddPost.TAG_IDS, operation.getTagIds())
+                .prepare();
     }
 
     /**
@@ -699,18 +972,18 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate6SingleMap(LdbcUpdate6AddPost operation) {
         return new ImmutableMap.Builder<String, Object>()
-            .put(LdbcUpdate6AddPost.POST_ID, getConverter().convertIdForInsertion(operation.getPostId()))
-            .put(LdbcUpdate6AddPost.IMAGE_FILE, getConverter().convertString(operation.getImageFile()))
-            .put(LdbcUpdate6AddPost.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-            .put(LdbcUpdate6AddPost.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-            .put(LdbcUpdate6AddPost.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-            .put(LdbcUpdate6AddPost.LANGUAGE, getConverter().convertString(operation.getLanguage()))
-            .put(LdbcUpdate6AddPost.CONTENT, getConverter().convertString(operation.getContent()))
-            .put(LdbcUpdate6AddPost.LENGTH, getConverter().convertInteger(operation.getLength()))
-            .put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-            .put(LdbcUpdate6AddPost.FORUM_ID, getConverter().convertId(operation.getForumId()))
-            .put(LdbcUpdate6AddPost.COUNTRY_ID, getConverter().convertId(operation.getCountryId()))
-            .put(LdbcUpdate6AddPost.TAG_IDS, getConverter().convertLongList(operation.getTagIds()))
+            .put(LdbcUpdate6AddPost.POST_ID, converter().convertIdForInsertion(operation.getPostId()))
+            .put(LdbcUpdate6AddPost.IMAGE_FILE, converter().convertString(operation.getImageFile()))
+            .put(LdbcUpdate6AddPost.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+            .put(LdbcUpdate6AddPost.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+            .put(LdbcUpdate6AddPost.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+            .put(LdbcUpdate6AddPost.LANGUAGE, converter().convertString(operation.getLanguage()))
+            .put(LdbcUpdate6AddPost.CONTENT, converter().convertString(operation.getContent()))
+            .put(LdbcUpdate6AddPost.LENGTH, converter().convertInteger(operation.getLength()))
+            .put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, converter().convertId(operation.getAuthorPersonId()))
+            .put(LdbcUpdate6AddPost.FORUM_ID, converter().convertId(operation.getForumId()))
+            .put(LdbcUpdate6AddPost.COUNTRY_ID, converter().convertId(operation.getCountryId()))
+            .put(LdbcUpdate6AddPost.TAG_IDS, converter().convertLongList(operation.getTagIds()))
             .build();
     }
 
@@ -721,9 +994,19 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery7 string
      */
     public String getUpdate7Single(LdbcUpdate7AddComment operation) {
-        return prepare(
-                QueryType.InteractiveUpdate7, getUpdate7SingleMap(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate7)
+                .idForInsertion(LdbcUpdate7AddComment.COMMENT_ID, operation.getCommentId())
+                .dateTime(LdbcUpdate7AddComment.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate7AddComment.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate7AddComment.BROWSER_USED, operation.getBrowserUsed())
+                .string(LdbcUpdate7AddComment.CONTENT, operation.getContent())
+                .integer(LdbcUpdate7AddComment.LENGTH, operation.getLength())
+                .id(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, operation.getAuthorPersonId())
+                .id(LdbcUpdate7AddComment.COUNTRY_ID, operation.getCountryId())
+                .id(LdbcUpdate7AddComment.REPLY_TO_POST_ID, operation.getReplyToPostId())
+                .id(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, operation.getReplyToCommentId())
+                .longList(LdbcUpdate7AddComment.TAG_IDS, operation.getTagIds())
+                .prepare();
     }
 
     /**
@@ -733,17 +1016,17 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate7SingleMap(LdbcUpdate7AddComment operation) {
         return new ImmutableMap.Builder<String, Object>()
-        .put(LdbcUpdate7AddComment.COMMENT_ID, getConverter().convertIdForInsertion(operation.getCommentId()))
-        .put(LdbcUpdate7AddComment.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-        .put(LdbcUpdate7AddComment.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-        .put(LdbcUpdate7AddComment.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-        .put(LdbcUpdate7AddComment.CONTENT, getConverter().convertString(operation.getContent()))
-        .put(LdbcUpdate7AddComment.LENGTH, getConverter().convertInteger(operation.getLength()))
-        .put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-        .put(LdbcUpdate7AddComment.COUNTRY_ID, getConverter().convertId(operation.getCountryId()))
-        .put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, getConverter().convertId(operation.getReplyToPostId()))
-        .put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, getConverter().convertId(operation.getReplyToCommentId()))
-        .put(LdbcUpdate7AddComment.TAG_IDS, getConverter().convertLongList(operation.getTagIds()))
+        .put(LdbcUpdate7AddComment.COMMENT_ID, converter().convertIdForInsertion(operation.getCommentId()))
+        .put(LdbcUpdate7AddComment.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+        .put(LdbcUpdate7AddComment.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+        .put(LdbcUpdate7AddComment.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+        .put(LdbcUpdate7AddComment.CONTENT, converter().convertString(operation.getContent()))
+        .put(LdbcUpdate7AddComment.LENGTH, converter().convertInteger(operation.getLength()))
+        .put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, converter().convertId(operation.getAuthorPersonId()))
+        .put(LdbcUpdate7AddComment.COUNTRY_ID, converter().convertId(operation.getCountryId()))
+        .put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, converter().convertId(operation.getReplyToPostId()))
+        .put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, converter().convertId(operation.getReplyToCommentId()))
+        .put(LdbcUpdate7AddComment.TAG_IDS, converter().convertLongList(operation.getTagIds()))
         .build();
     }
 
@@ -753,9 +1036,11 @@ public abstract class QueryStore {
      * @return Prepared UpdateQuery8 string
      */
     public String getUpdate8(LdbcUpdate8AddFriendship operation) {
-        return prepare(
-                QueryType.InteractiveUpdate8, getUpdate8Map(operation)
-        );
+        return parameters(QueryType.InteractiveUpdate8)
+                .id(LdbcUpdate8AddFriendship.PERSON1_ID, operation.getPerson1Id())
+                .id(LdbcUpdate8AddFriendship.PERSON2_ID, operation.getPerson2Id())
+                .dateTime(LdbcUpdate8AddFriendship.CREATION_DATE, operation.getCreationDate())
+                .prepare();
     }
 
     /**
@@ -765,9 +1050,9 @@ public abstract class QueryStore {
      */
     public Map<String, Object> getUpdate8Map(LdbcUpdate8AddFriendship operation) {
         return ImmutableMap.of(
-            LdbcUpdate8AddFriendship.PERSON1_ID, getConverter().convertId(operation.getPerson1Id()),
-            LdbcUpdate8AddFriendship.PERSON2_ID, getConverter().convertId(operation.getPerson2Id()),
-            LdbcUpdate8AddFriendship.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate())
+            LdbcUpdate8AddFriendship.PERSON1_ID, converter().convertId(operation.getPerson1Id()),
+            LdbcUpdate8AddFriendship.PERSON2_ID, converter().convertId(operation.getPerson2Id()),
+            LdbcUpdate8AddFriendship.CREATION_DATE, converter().convertDateTime(operation.getCreationDate())
         );
     }
 
@@ -779,68 +1064,56 @@ public abstract class QueryStore {
      */
     public List<String> getUpdate1Multiple(LdbcUpdate1AddPerson operation) {
         List<String> list = new ArrayList<>();
-        list.add(prepare(
-                QueryType.InteractiveUpdate1AddPerson,
-                new ImmutableMap.Builder<String, Object>()
-                        .put(LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()))
-                        .put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, getConverter().convertString(operation.getPersonFirstName()))
-                        .put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, getConverter().convertString(operation.getPersonLastName()))
-                        .put(LdbcUpdate1AddPerson.GENDER, getConverter().convertString(operation.getGender()))
-                        .put(LdbcUpdate1AddPerson.BIRTHDAY, getConverter().convertDate(operation.getBirthday()))
-                        .put(LdbcUpdate1AddPerson.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-                        .put(LdbcUpdate1AddPerson.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-                        .put(LdbcUpdate1AddPerson.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-                        .put(LdbcUpdate1AddPerson.CITY_ID, getConverter().convertId(operation.getCityId()))
-                        .build()
-        ));
+        list.add(parameters(QueryType.InteractiveUpdate1AddPerson)
+                .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                .string(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, operation.getPersonFirstName())
+                .string(LdbcUpdate1AddPerson.PERSON_LAST_NAME, operation.getPersonLastName())
+                .string(LdbcUpdate1AddPerson.GENDER, operation.getGender())
+                .date(LdbcUpdate1AddPerson.BIRTHDAY, operation.getBirthday())
+                .dateTime(LdbcUpdate1AddPerson.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate1AddPerson.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate1AddPerson.BROWSER_USED, operation.getBrowserUsed())
+                .id(LdbcUpdate1AddPerson.CITY_ID, operation.getCityId())
+                .prepare()
+        );
 
         for (LdbcUpdate1AddPerson.Organization organization : operation.getWorkAt()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate1AddPersonCompanies,
-                    ImmutableMap.of(
-                            LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()),
-                            "organizationId", getConverter().convertId(organization.getOrganizationId()),
-                            "worksFromYear", getConverter().convertInteger(organization.getYear())
-                    )
-            ));
+            list.add(parameters(QueryType.InteractiveUpdate1AddPersonCompanies)
+                    .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                    .id("organizationId", organization.getOrganizationId())
+                    .integer("worksFromYear", organization.getYear())
+                    .prepare()
+            );
         }
         for (String email : operation.getEmails()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate1AddPersonEmails,
-                    ImmutableMap.of(
-                            LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()),
-                            "email", getConverter().convertString(email)
-                    )
-            ));
+            list.add(parameters(QueryType.InteractiveUpdate1AddPersonEmails)
+                    .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                    .string("email", email)
+                    .prepare()
+            );
         }
         for (String language : operation.getLanguages()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate1AddPersonLanguages,
-                    ImmutableMap.of(
-                            LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()),
-                            "language", getConverter().convertString(language)
-                    )
-            ));
+            list.add(parameters(QueryType.InteractiveUpdate1AddPersonLanguages)
+                    .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                    .string("language", language)
+                    .prepare()
+            );
         }
 
         for (long tagId : operation.getTagIds()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate1AddPersonTags,
-                    ImmutableMap.of(
-                            LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()),
-                            "tagId", getConverter().convertId(tagId))
-                    )
+            list.add(parameters(QueryType.InteractiveUpdate1AddPersonTags)
+                    .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                    .id("tagId", tagId)
+                    .prepare()
             );
         }
         for (LdbcUpdate1AddPerson.Organization organization : operation.getStudyAt()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate1AddPersonUniversities,
-                    ImmutableMap.of(
-                            LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()),
-                            "organizationId", getConverter().convertId(organization.getOrganizationId()),
-                            "studiesFromYear", getConverter().convertInteger(organization.getYear())
-                    )
-            ));
+            list.add(parameters(QueryType.InteractiveUpdate1AddPersonUniversities)
+                    .idForInsertion(LdbcUpdate1AddPerson.PERSON_ID, operation.getPersonId())
+                    .id("organizationId", organization.getOrganizationId())
+                    .integer("studiesFromYear", organization.getYear())
+                    .prepare()
+            );
         }
         return list;
     }
@@ -853,23 +1126,19 @@ public abstract class QueryStore {
      */
     public List<String> getUpdate4Multiple(LdbcUpdate4AddForum operation) {
         List<String> list = new ArrayList<>();
-        list.add(prepare(
-                QueryType.InteractiveUpdate4AddForum,
-                ImmutableMap.of(
-                        LdbcUpdate4AddForum.FORUM_ID, getConverter().convertIdForInsertion(operation.getForumId()),
-                        LdbcUpdate4AddForum.FORUM_TITLE, getConverter().convertString(operation.getForumTitle()),
-                        LdbcUpdate4AddForum.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()),
-                        LdbcUpdate4AddForum.MODERATOR_PERSON_ID, getConverter().convertId(operation.getModeratorPersonId())
-                )
-        ));
+        list.add(parameters(QueryType.InteractiveUpdate4AddForum)
+                .idForInsertion(LdbcUpdate4AddForum.FORUM_ID, operation.getForumId())
+                .string(LdbcUpdate4AddForum.FORUM_TITLE, operation.getForumTitle())
+                .dateTime(LdbcUpdate4AddForum.CREATION_DATE, operation.getCreationDate())
+                .id(LdbcUpdate4AddForum.MODERATOR_PERSON_ID, operation.getModeratorPersonId())
+                .prepare()
+        );
 
         for (long tagId : operation.getTagIds()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate4AddForumTags,
-                    ImmutableMap.of(
-                            LdbcUpdate4AddForum.FORUM_ID, getConverter().convertIdForInsertion(operation.getForumId()),
-                            "tagId", getConverter().convertId(tagId))
-                    )
+            list.add(parameters(QueryType.InteractiveUpdate4AddForumTags)
+                    .idForInsertion(LdbcUpdate4AddForum.FORUM_ID, operation.getForumId())
+                    .id("tagId", tagId)
+                    .prepare()
             );
         }
         return list;
@@ -883,30 +1152,25 @@ public abstract class QueryStore {
      */
     public List<String> getUpdate6Multiple(LdbcUpdate6AddPost operation) {
         List<String> list = new ArrayList<>();
-        list.add(prepare(
-                QueryType.InteractiveUpdate6AddPost,
-                new ImmutableMap.Builder<String, Object>()
-                        .put(LdbcUpdate6AddPost.POST_ID, getConverter().convertIdForInsertion(operation.getPostId()))
-                        .put(LdbcUpdate6AddPost.IMAGE_FILE, getConverter().convertString(operation.getImageFile()))
-                        .put(LdbcUpdate6AddPost.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-                        .put(LdbcUpdate6AddPost.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-                        .put(LdbcUpdate6AddPost.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-                        .put(LdbcUpdate6AddPost.LANGUAGE, getConverter().convertString(operation.getLanguage()))
-                        .put(LdbcUpdate6AddPost.CONTENT, getConverter().convertString(operation.getContent()))
-                        .put(LdbcUpdate6AddPost.LENGTH, getConverter().convertInteger(operation.getLength()))
-                        .put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-                        .put(LdbcUpdate6AddPost.FORUM_ID, getConverter().convertId(operation.getForumId()))
-                        .put(LdbcUpdate6AddPost.COUNTRY_ID, getConverter().convertId(operation.getCountryId()))
-                        .build()
-                )
+        list.add(parameters(QueryType.InteractiveUpdate6AddPost)
+                .idForInsertion(LdbcUpdate6AddPost.POST_ID, operation.getPostId())
+                .string(LdbcUpdate6AddPost.IMAGE_FILE, operation.getImageFile())
+                .dateTime(LdbcUpdate6AddPost.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate6AddPost.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate6AddPost.BROWSER_USED, operation.getBrowserUsed())
+                .string(LdbcUpdate6AddPost.LANGUAGE, operation.getLanguage())
+                .string(LdbcUpdate6AddPost.CONTENT, operation.getContent())
+                .integer(LdbcUpdate6AddPost.LENGTH, operation.getLength())
+                .id(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, operation.getAuthorPersonId())
+                .id(LdbcUpdate6AddPost.FORUM_ID, operation.getForumId())
+                .id(LdbcUpdate6AddPost.COUNTRY_ID, operation.getCountryId())
+                .prepare()
         );
         for (long tagId : operation.getTagIds()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate6AddPostTags,
-                    ImmutableMap.of(
-                            LdbcUpdate6AddPost.POST_ID, getConverter().convertIdForInsertion(operation.getPostId()),
-                            "tagId", getConverter().convertId(tagId))
-                    )
+            list.add(parameters(QueryType.InteractiveUpdate6AddPostTags)
+                    .idForInsertion(LdbcUpdate6AddPost.POST_ID, operation.getPostId())
+                    .id("tagId", tagId)
+                    .prepare()
             );
         }
         return list;
@@ -920,28 +1184,24 @@ public abstract class QueryStore {
      */
     public List<String> getUpdate7Multiple(LdbcUpdate7AddComment operation) {
         List<String> list = new ArrayList<>();
-        list.add(prepare(
-                QueryType.InteractiveUpdate7AddComment,
-                new ImmutableMap.Builder<String, Object>()
-                        .put(LdbcUpdate7AddComment.COMMENT_ID, getConverter().convertIdForInsertion(operation.getCommentId()))
-                        .put(LdbcUpdate7AddComment.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-                        .put(LdbcUpdate7AddComment.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-                        .put(LdbcUpdate7AddComment.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-                        .put(LdbcUpdate7AddComment.CONTENT, getConverter().convertString(operation.getContent()))
-                        .put(LdbcUpdate7AddComment.LENGTH, getConverter().convertInteger(operation.getLength()))
-                        .put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-                        .put(LdbcUpdate7AddComment.COUNTRY_ID, getConverter().convertId(operation.getCountryId()))
-                        .put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, getConverter().convertId(operation.getReplyToPostId()))
-                        .put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, getConverter().convertId(operation.getReplyToCommentId()))
-                        .build()
-        ));
+        list.add(parameters(QueryType.InteractiveUpdate7AddComment)
+                .idForInsertion(LdbcUpdate7AddComment.COMMENT_ID, operation.getCommentId())
+                .dateTime(LdbcUpdate7AddComment.CREATION_DATE, operation.getCreationDate())
+                .string(LdbcUpdate7AddComment.LOCATION_IP, operation.getLocationIp())
+                .string(LdbcUpdate7AddComment.BROWSER_USED, operation.getBrowserUsed())
+                .string(LdbcUpdate7AddComment.CONTENT, operation.getContent())
+                .integer(LdbcUpdate7AddComment.LENGTH, operation.getLength())
+                .id(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, operation.getAuthorPersonId())
+                .id(LdbcUpdate7AddComment.COUNTRY_ID, operation.getCountryId())
+                .id(LdbcUpdate7AddComment.REPLY_TO_POST_ID, operation.getReplyToPostId())
+                .id(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, operation.getReplyToCommentId())
+                .prepare()
+        );
         for (long tagId : operation.getTagIds()) {
-            list.add(prepare(
-                    QueryType.InteractiveUpdate7AddCommentTags,
-                    ImmutableMap.of(
-                            LdbcUpdate7AddComment.COMMENT_ID, getConverter().convertIdForInsertion(operation.getCommentId()),
-                            "tagId", getConverter().convertId(tagId))
-                    )
+            list.add(parameters(QueryType.InteractiveUpdate7AddCommentTags)
+                    .idForInsertion(LdbcUpdate7AddComment.COMMENT_ID, operation.getCommentId())
+                    .id("tagId", tagId)
+                    .prepare()
             );
         }
         return list;
@@ -1,4 +1,11 @@
 package org.ldbcouncil.snb.impls.workloads;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.interactive.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum containing all query file names without extension.
  */
@@ -73,4 +80,54 @@ public enum QueryType {
        public String getName() {
            return name;
        }
+
+       private static final Map<Class<?>, QueryType> OPERATION_QUERY_TYPES = new HashMap<>();
+
+       static {
+              OPERATION_QUERY_TYPES.put(LdbcQuery1.class, InteractiveComplexQuery1);
+              OPERATION_QUERY_TYPES.put(LdbcQuery2.class, InteractiveComplexQuery2);
+              OPERATION_QUERY_TYPES.put(LdbcQuery3.class, InteractiveComplexQuery3);
+              OPERATION_QUERY_TYPES.put(LdbcQuery4.class, InteractiveComplexQuery4);
+              OPERATION_QUERY_TYPES.put(LdbcQuery5.class, InteractiveComplexQuery5);
+              OPERATION_QUERY_TYPES.put(LdbcQuery6.class, InteractiveComplexQuery6);
+              OPERATION_QUERY_TYPES.put(LdbcQuery7.class, InteractiveComplexQuery7);
+              OPERATION_QUERY_TYPES.put(LdbcQuery8.class, InteractiveComplexQuery8);
+              OPERATION_QUERY_TYPES.put(LdbcQuery9.class, InteractiveComplexQuery9);
+              OPERATION_QUERY_TYPES.put(LdbcQuery10.class, InteractiveComplexQuery10);
+              OPERATION_QUERY_TYPES.put(LdbcQuery11.class, InteractiveComplexQuery11);
+              OPERATION_QUERY_TYPES.put(LdbcQuery12.class, InteractiveComplexQuery12);
+              OPERATION_QUERY_TYPES.put(LdbcQuery13.class, InteractiveComplexQuery13);
+              OPERATION_QUERY_TYPES.put(LdbcQuery14.class, InteractiveComplexQuery14);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery1PersonProfile.class, InteractiveShortQuery1);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery2PersonPosts.class, InteractiveShortQuery2);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery3PersonFriends.class, InteractiveShortQuery3);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery4MessageContent.class, InteractiveShortQuery4);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery5MessageCreator.class, InteractiveShortQuery5);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery6MessageForum.class, InteractiveShortQuery6);
+              OPERATION_QUERY_TYPES.put(LdbcShortQuery7MessageReplies.class, InteractiveShortQuery7);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate1AddPerson.class, InteractiveUpdate1);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate2AddPostLike.class, InteractiveUpdate2);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate3AddCommentLike.class, InteractiveUpdate3);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate4AddForum.class, InteractiveUpdate4);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate5AddForumMembership.class, InteractiveUpdate5);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate6AddPost.class, InteractiveUpdate6);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate7AddComment.class, InteractiveUpdate7);
+              OPERATION_QUERY_TYPES.put(LdbcUpdate8AddFriendship.class, InteractiveUpdate8);
+       }
+
+       /**
+        * @param operation an Interactive workload operation
+        * @return the query type of the operation (for updates, the single-query variant), or null if unknown
+        */
+       public static QueryType forOperation(Operation<?> operation) {
+              return forOperationClass(operation.getClass());
+       }
+
+       /**
+        * @param operationClass class of an Interactive workload operation
+        * @return the query type of the operation class, or null if unknown
+        */
+       public static QueryType forOperationClass(Class<?> operationClass) {
+              return OPERATION_QUERY_TYPES.get(operationClass);
+       }
 }
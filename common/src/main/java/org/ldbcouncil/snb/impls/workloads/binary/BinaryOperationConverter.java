@@ -0,0 +1,172 @@
+package org.ldbcouncil.snb.impls.workloads.binary;
+
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.Schema;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Converts the update streams (updateStream_*_{person,forum}.csv) and the substitution parameters of the complex
+ * reads (interactive_N_param.txt) to the binary format of BinaryOperationFormat, which BinaryOperationReader
+ * maps into memory. The output files get the name of the input with a .bin extension.
+ * The files are converted in parallel.
+ *
+ * Usage:
+ * java -cp target/[implementation]-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationConverter
+ * --output [output dir] [--updates [update streams dir]] [--parameters [substitution parameters dir]] [--threads N]
+ */
+public class BinaryOperationConverter {
+
+    private static final Pattern UPDATE_STREAM = Pattern.compile("updateStream_.*\\.csv");
+    private static final Pattern PARAMETERS = Pattern.compile("interactive_(\\d+)_param\\.txt");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path outputDir = null;
+        Path updatesDir = null;
+        Path parametersDir = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--output":
+                    outputDir = Paths.get(args[++i]);
+                    break;
+                case "--updates":
+                    updatesDir = Paths.get(args[++i]);
+                    break;
+                case "--parameters":
+                    parametersDir = Paths.get(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (outputDir == null || (updatesDir == null && parametersDir == null)) {
+            throw new IllegalArgumentException("--output and at least one of --updates and --parameters are required");
+        }
+        Files.createDirectories(outputDir);
+
+        List<Path> updateStreams = list(updatesDir, UPDATE_STREAM);
+        List<Path> parameters = list(parametersDir, PARAMETERS);
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Path input : updateStreams) {
+                Path output = outputDir.resolve(binaryName(input));
+                futures.add(executor.submit(() -> {
+                    convertUpdateStream(input, output);
+                    return null;
+                }));
+            }
+            for (Path input : parameters) {
+                Path output = outputDir.resolve(binaryName(input));
+                futures.add(executor.submit(() -> {
+                    convertParameters(input, output);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Converting the files failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.printf("Converted %d files in %.1f s%n", updateStreams.size() + parameters.size(),
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    private static List<Path> list(Path dir, Pattern pattern) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (dir == null) {
+            return files;
+        }
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(dir)) {
+            for (Path path : paths) {
+                if (pattern.matcher(path.getFileName().toString()).matches()) {
+                    files.add(path);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IllegalStateException("No input files in " + dir);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    static String binaryName(Path input) {
+        String name = input.getFileName().toString();
+        return name.substring(0, name.lastIndexOf('.')) + ".bin";
+    }
+
+    static void convertUpdateStream(Path input, Path output) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BinaryOperationWriter writer = new BinaryOperationWriter(output, BinaryOperationFormat.KIND_UPDATE_STREAM)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    writer.addUpdate(line.split("\\|", -1));
+                }
+            }
+            writer.finish();
+        }
+        System.out.println(input.getFileName() + " -> " + output.getFileName());
+    }
+
+    static void convertParameters(Path input, Path output) throws IOException {
+        Matcher matcher = PARAMETERS.matcher(input.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a parameter file: " + input);
+        }
+        Schema schema = BinaryOperationFormat.query(Integer.parseInt(matcher.group(1)));
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BinaryOperationWriter writer = new BinaryOperationWriter(output, BinaryOperationFormat.KIND_PARAMETERS)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Empty parameter file: " + input);
+            }
+            // the columns of the files are not always in the order of the operation's constructor
+            List<String> columnNames = Arrays.asList(header.split("\\|"));
+            int[] columns = new int[schema.fieldCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = columnNames.indexOf(schema.names[i]);
+                if (columns[i] < 0) {
+                    throw new IllegalArgumentException("Column " + schema.names[i] + " missing in " + input);
+                }
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    String[] fields = line.split("\\|", -1);
+                    if (fields.length != columnNames.size()) {
+                        throw new IllegalArgumentException("Expected " + columnNames.size() + " columns in " + input
+                                + ", got " + fields.length + ": " + line);
+                    }
+                    writer.addParameters(schema, fields, columns);
+                }
+            }
+            writer.finish();
+        }
+        System.out.println(input.getFileName() + " -> " + output.getFileName());
+    }
+
+}
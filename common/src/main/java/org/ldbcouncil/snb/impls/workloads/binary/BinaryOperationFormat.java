@@ -0,0 +1,313 @@
+package org.ldbcouncil.snb.impls.workloads.binary;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery10;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery3;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery4;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery5;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery6;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery9;
+
+import java.util.Date;
+
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.DATE;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.INT;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.LONG;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.LONG_LIST;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.ORGANISATION_LIST;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.STRING;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.STRING_LIST;
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType.TEXT;
+
+/**
+ * Layout of the binary operation files written by BinaryOperationWriter and read by BinaryOperationReader.
+ *
+ * A file holds the operations of an update stream (updateStream_*_{person,forum}.csv) or of a substitution
+ * parameter file (interactive_N_param.txt). All numbers are little-endian.
+ *
+ * Header: magic, version, kind, table count (4 bytes each), operation count (8 bytes),
+ * then the offset and length (8 bytes each) of the sections ORDER, STRING_OFFSETS, STRING_DATA, LONGS and INTS,
+ * then per table: operation type, row width (4 bytes each), row count and offset (8 bytes each).
+ * The sections and tables follow, each aligned to 8 bytes.
+ *
+ * Every operation type has a table of fixed-width rows, one per operation. Strings are stored as an id into
+ * STRING_OFFSETS, which points to the UTF-8 bytes in STRING_DATA (id 0 is the empty string); the strings of
+ * low-cardinality fields (e.g. names, browsers) are stored once per file. Lists are stored as the offset and the
+ * length of their elements in LONGS (ids, or organisation id and year pairs) or INTS (string ids).
+ * ORDER holds the table and the row of every operation of an update stream in the order of the stream;
+ * a parameter file has a single table in the order of the file and no ORDER section.
+ *
+ * Every section is mapped separately, so it must be smaller than 2 GB; larger update streams have to be split
+ * into more partitions (ldbc.snb.datagen.serializer.numUpdatePartitions).
+ *
+ * The schemas of the complex reads are also used to create the operations from the text parameter files
+ * (parameterColumns and complexRead), e.g. by the warm-up of BaseDb.
+ */
+public final class BinaryOperationFormat {
+
+    static final int MAGIC = 0x42424e53; // "SNBB"
+    static final int VERSION = 1;
+
+    static final int KIND_UPDATE_STREAM = 1;
+    static final int KIND_PARAMETERS = 2;
+
+    static final int SECTION_ORDER = 0;
+    static final int SECTION_STRING_OFFSETS = 1;
+    static final int SECTION_STRING_DATA = 2;
+    static final int SECTION_LONGS = 3;
+    static final int SECTION_INTS = 4;
+    static final int SECTIONS = 5;
+
+    static final int HEADER_SIZE = 4 * 4 + 8 + SECTIONS * 16;
+    static final int TABLE_ENTRY_SIZE = 4 + 4 + 8 + 8;
+
+    /**
+     * Width of the scheduled start time and the dependency time preceding the fields of an update.
+     */
+    static final int UPDATE_TIMES_WIDTH = 16;
+
+    /**
+     * The limits of the complex reads in the specification, which are not part of the parameter files.
+     */
+    private static final int[] QUERY_LIMITS = {0, 20, 20, 20, 10, 20, 10, 20, 20, 20, 10, 10, 20, 0, 0};
+
+    enum FieldType {
+        LONG(8),
+        INT(4),
+        /** epoch milliseconds */
+        DATE(8),
+        /** a string stored once per file */
+        STRING(4),
+        /** a string that is (almost) unique, e.g. the content of a message, which is not looked up when writing */
+        TEXT(4),
+        /** ';'-separated longs */
+        LONG_LIST(8),
+        /** ';'-separated strings */
+        STRING_LIST(8),
+        /** ';'-separated "organisation id,year" pairs */
+        ORGANISATION_LIST(8);
+
+        final int width;
+
+        FieldType(int width) {
+            this.width = width;
+        }
+    }
+
+    /**
+     * Fields of an operation type, in the order of the text files and of the constructor of the operation.
+     */
+    static final class Schema {
+        final int type;
+        final String[] names;
+        final FieldType[] types;
+        final int[] offsets;
+        final int width;
+
+        private Schema(int type, int start, Object... namesAndTypes) {
+            this.type = type;
+            int count = namesAndTypes.length / 2;
+            this.names = new String[count];
+            this.types = new FieldType[count];
+            this.offsets = new int[count];
+            int offset = start;
+            for (int i = 0; i < count; i++) {
+                names[i] = (String) namesAndTypes[2 * i];
+                types[i] = (FieldType) namesAndTypes[2 * i + 1];
+                offsets[i] = offset;
+                offset += types[i].width;
+            }
+            this.width = offset;
+        }
+
+        int fieldCount() {
+            return names.length;
+        }
+    }
+
+    /**
+     * Typed access to the fields of an operation, by their index in its schema.
+     */
+    interface Fields {
+        long getLong(int field);
+
+        int getInt(int field);
+
+        Date getDate(int field);
+
+        String getString(int field);
+    }
+
+    /**
+     * The fields of a line of a text file, in the order of the schema.
+     */
+    private static final class TextFields implements Fields {
+        private final String[] values;
+
+        TextFields(String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public long getLong(int field) {
+            return Long.parseLong(values[field]);
+        }
+
+        @Override
+        public int getInt(int field) {
+            return Integer.parseInt(values[field]);
+        }
+
+        @Override
+        public Date getDate(int field) {
+            return new Date(getLong(field));
+        }
+
+        @Override
+        public String getString(int field) {
+            return values[field];
+        }
+    }
+
+    private static final Schema[] UPDATES = new Schema[9];
+    private static final Schema[] QUERIES = new Schema[15];
+
+    static {
+        int start = UPDATE_TIMES_WIDTH;
+
+        UPDATES[1] = new Schema(1, start, "personId", LONG, "personFirstName", STRING, "personLastName", STRING,
+                "gender", STRING, "birthday", DATE, "creationDate", DATE, "locationIP", TEXT, "browserUsed", STRING,
+                "cityId", LONG, "languages", STRING_LIST, "emails", STRING_LIST, "tagIds", LONG_LIST,
+                "studyAt", ORGANISATION_LIST, "workAt", ORGANISATION_LIST);
+        UPDATES[2] = new Schema(2, start, "personId", LONG, "postId", LONG, "creationDate", DATE);
+        UPDATES[3] = new Schema(3, start, "personId", LONG, "commentId", LONG, "creationDate", DATE);
+        UPDATES[4] = new Schema(4, start, "forumId", LONG, "forumTitle", TEXT, "creationDate", DATE,
+                "moderatorPersonId", LONG, "tagIds", LONG_LIST);
+        UPDATES[5] = new Schema(5, start, "forumId", LONG, "personId", LONG, "joinDate", DATE);
+        UPDATES[6] = new Schema(6, start, "postId", LONG, "imageFile", TEXT, "creationDate", DATE,
+                "locationIP", TEXT, "browserUsed", STRING, "language", STRING, "content", TEXT, "length", INT,
+                "authorPersonId", LONG, "forumId", LONG, "countryId", LONG, "tagIds", LONG_LIST);
+        UPDATES[7] = new Schema(7, start, "commentId", LONG, "creationDate", DATE, "locationIP", TEXT,
+                "browserUsed", STRING, "content", TEXT, "length", INT, "authorPersonId", LONG, "countryId", LONG,
+                "replyToPostId", LONG, "replyToCommentId", LONG, "tagIds", LONG_LIST);
+        UPDATES[8] = new Schema(8, start, "person1Id", LONG, "person2Id", LONG, "creationDate", DATE);
+
+        // the names are the columns of the parameter files
+        QUERIES[1] = new Schema(1, 0, "personId", LONG, "firstName", STRING);
+        QUERIES[2] = new Schema(2, 0, "personId", LONG, "maxDate", DATE);
+        QUERIES[3] = new Schema(3, 0, "personId", LONG, "countryXName", STRING, "countryYName", STRING,
+                "startDate", DATE, "durationDays", INT);
+        QUERIES[4] = new Schema(4, 0, "personId", LONG, "startDate", DATE, "durationDays", INT);
+        QUERIES[5] = new Schema(5, 0, "personId", LONG, "minDate", DATE);
+        QUERIES[6] = new Schema(6, 0, "personId", LONG, "tagName", STRING);
+        QUERIES[7] = new Schema(7, 0, "personId", LONG);
+        QUERIES[8] = new Schema(8, 0, "personId", LONG);
+        QUERIES[9] = new Schema(9, 0, "personId", LONG, "maxDate", DATE);
+        QUERIES[10] = new Schema(10, 0, "personId", LONG, "month", INT);
+        QUERIES[11] = new Schema(11, 0, "personId", LONG, "countryName", STRING, "workFromYear", INT);
+        QUERIES[12] = new Schema(12, 0, "personId", LONG, "tagClassName", STRING);
+        QUERIES[13] = new Schema(13, 0, "person1Id", LONG, "person2Id", LONG);
+        QUERIES[14] = new Schema(14, 0, "person1Id", LONG, "person2Id", LONG);
+    }
+
+    private BinaryOperationFormat() {
+    }
+
+    /**
+     * @param type the event type of the update stream (1 to 8)
+     */
+    static Schema update(int type) {
+        if (type < 1 || type >= UPDATES.length) {
+            throw new IllegalArgumentException("Unknown update type: " + type);
+        }
+        return UPDATES[type];
+    }
+
+    /**
+     * @param query the number of the complex read (1 to 14)
+     */
+    static Schema query(int query) {
+        if (query < 1 || query >= QUERIES.length) {
+            throw new IllegalArgumentException("Unknown complex read: " + query);
+        }
+        return QUERIES[query];
+    }
+
+    static int queryLimit(int query) {
+        return QUERY_LIMITS[query];
+    }
+
+    /**
+     * @param query the number of the complex read (1 to 14)
+     * @return the columns of its parameter file (interactive_N_param.txt), in the order of the operation's constructor
+     */
+    public static String[] parameterColumns(int query) {
+        return query(query).names.clone();
+    }
+
+    /**
+     * Creates a complex read, with the limit of the specification, from the values of a line of its parameter file.
+     *
+     * @param values the values of the parameterColumns of the query, in this order
+     */
+    public static Operation<?> complexRead(int query, String[] values) {
+        if (values.length != query(query).fieldCount()) {
+            throw new IllegalArgumentException("Expected " + query(query).fieldCount() + " values for complex read "
+                    + query + ", got " + values.length);
+        }
+        return complexRead(query, new TextFields(values));
+    }
+
+    static Operation<?> complexRead(int query, Fields f) {
+        int limit = queryLimit(query);
+        switch (query) {
+            case 1:
+                return new LdbcQuery1(f.getLong(0), f.getString(1), limit);
+            case 2:
+                return new LdbcQuery2(f.getLong(0), f.getDate(1), limit);
+            case 3:
+                return new LdbcQuery3(f.getLong(0), f.getString(1), f.getString(2), f.getDate(3), f.getInt(4), limit);
+            case 4:
+                return new LdbcQuery4(f.getLong(0), f.getDate(1), f.getInt(2), limit);
+            case 5:
+                return new LdbcQuery5(f.getLong(0), f.getDate(1), limit);
+            case 6:
+                return new LdbcQuery6(f.getLong(0), f.getString(1), limit);
+            case 7:
+                return new LdbcQuery7(f.getLong(0), limit);
+            case 8:
+                return new LdbcQuery8(f.getLong(0), limit);
+            case 9:
+                return new LdbcQuery9(f.getLong(0), f.getDate(1), limit);
+            case 10:
+                return new LdbcQuery10(f.getLong(0), f.getInt(1), limit);
+            case 11:
+                return new LdbcQuery11(f.getLong(0), f.getString(1), f.getInt(2), limit);
+            case 12:
+                return new LdbcQuery12(f.getLong(0), f.getString(1), limit);
+            case 13:
+                return new LdbcQuery13(f.getLong(0), f.getLong(1));
+            case 14:
+                return new LdbcQuery14(f.getLong(0), f.getLong(1));
+            default:
+                throw new IllegalStateException("Unknown complex read: " + query);
+        }
+    }
+
+    static Schema schema(int kind, int type) {
+        return kind == KIND_UPDATE_STREAM ? update(type) : query(type);
+    }
+
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+}
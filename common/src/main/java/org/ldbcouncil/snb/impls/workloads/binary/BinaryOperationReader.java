@@ -0,0 +1,360 @@
+package org.ldbcouncil.snb.impls.workloads.binary;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate2AddPostLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate3AddCommentLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate4AddForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate5AddForumMembership;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate6AddPost;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate7AddComment;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate8AddFriendship;
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType;
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.Schema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.*;
+
+/**
+ * Reads the operations of a file written by BinaryOperationConverter, e.g. to replay an update stream or to load
+ * the parameters of the complex reads, without parsing text.
+ *
+ * The file is memory-mapped. The fields of the i-th operation can be read directly from the mapped file with
+ * getLong(i, field), getString(i, field), ... (the field indexes follow the columns of the text file, without the
+ * times of the updates), or the operation can be created with operation(i), which is equal to the operation
+ * the driver creates from the text file. The complex reads get the limits of the specification.
+ *
+ * The reader does not modify the mapped buffers, so it can be used by several threads concurrently.
+ */
+public class BinaryOperationReader implements Iterable<Operation<?>>, Closeable {
+
+    private final FileChannel channel;
+    private final int kind;
+    private final int size;
+    private final ByteBuffer order;
+    private final ByteBuffer stringOffsets;
+    private final ByteBuffer stringData;
+    private final ByteBuffer longs;
+    private final ByteBuffer ints;
+    // indexed by the operation type
+    private final ByteBuffer[] tables;
+    // the complex read of a parameter file
+    private final int query;
+
+    private BinaryOperationReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = map(0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary operation file");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of the binary operation file: " + header.getInt(4));
+        }
+        this.kind = header.getInt(8);
+        if (kind != KIND_UPDATE_STREAM && kind != KIND_PARAMETERS) {
+            throw new IllegalArgumentException("Unknown kind of binary operation file: " + kind);
+        }
+        int tableCount = header.getInt(12);
+        this.size = checkedInt(header.getLong(16));
+
+        ByteBuffer[] sections = new ByteBuffer[SECTIONS];
+        for (int i = 0; i < SECTIONS; i++) {
+            sections[i] = map(header.getLong(24 + 16 * i), header.getLong(24 + 16 * i + 8));
+        }
+        this.order = sections[SECTION_ORDER];
+        this.stringOffsets = sections[SECTION_STRING_OFFSETS];
+        this.stringData = sections[SECTION_STRING_DATA];
+        this.longs = sections[SECTION_LONGS];
+        this.ints = sections[SECTION_INTS];
+
+        this.tables = new ByteBuffer[kind == KIND_UPDATE_STREAM ? 9 : 15];
+        ByteBuffer tableEntries = map(HEADER_SIZE, (long) tableCount * TABLE_ENTRY_SIZE);
+        for (int i = 0; i < tableCount; i++) {
+            int entry = i * TABLE_ENTRY_SIZE;
+            int type = tableEntries.getInt(entry);
+            Schema schema = schema(kind, type);
+            if (tableEntries.getInt(entry + 4) != schema.width) {
+                throw new IllegalArgumentException("Unexpected row width of operation type " + type);
+            }
+            long rows = tableEntries.getLong(entry + 8);
+            tables[type] = map(tableEntries.getLong(entry + 16), rows * schema.width);
+        }
+        this.query = kind == KIND_PARAMETERS && tableCount == 1 ? tableEntries.getInt(0) : 0;
+    }
+
+    public static BinaryOperationReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new BinaryOperationReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer map(long position, long length) throws IOException {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("A section exceeds 2 GB");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int checkedInt(long value) {
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many operations in a binary operation file: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * @return whether the file holds an update stream (otherwise the parameters of a complex read)
+     */
+    public boolean isUpdateStream() {
+        return kind == KIND_UPDATE_STREAM;
+    }
+
+    /**
+     * @return the number of operations
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the event type of the update (1 to 8), or the number of the complex read (1 to 14)
+     */
+    public int operationType(int index) {
+        return isUpdateStream() ? order.getInt(checkIndex(index) * 8) : query;
+    }
+
+    private int row(int index) {
+        return isUpdateStream() ? order.getInt(checkIndex(index) * 8 + 4) : checkIndex(index);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Operation " + index + " of " + size);
+        }
+        return index;
+    }
+
+    /**
+     * @return the position of the field of the operation in its table
+     */
+    private int position(int index, int type, int field, FieldType expected) {
+        Schema schema = schema(kind, type);
+        if (schema.types[field] != expected
+                && !(expected == FieldType.LONG && schema.types[field] == FieldType.DATE)
+                && !(expected == FieldType.STRING && schema.types[field] == FieldType.TEXT)) {
+            throw new IllegalArgumentException("Field " + schema.names[field] + " of operation type " + type
+                    + " is a " + schema.types[field]);
+        }
+        return row(index) * schema.width + schema.offsets[field];
+    }
+
+    /**
+     * @return the scheduled start time of an update
+     */
+    public long scheduledStartTime(int index) {
+        return table(index).getLong(row(index) * schema(kind, operationType(index)).width);
+    }
+
+    /**
+     * @return the dependency time of an update
+     */
+    public long dependencyTime(int index) {
+        return table(index).getLong(row(index) * schema(kind, operationType(index)).width + 8);
+    }
+
+    private ByteBuffer table(int index) {
+        if (!isUpdateStream()) {
+            throw new IllegalStateException("The parameters of complex reads have no times");
+        }
+        return tables[operationType(index)];
+    }
+
+    /**
+     * @return a LONG or DATE (epoch milliseconds) field
+     */
+    public long getLong(int index, int field) {
+        int type = operationType(index);
+        return tables[type].getLong(position(index, type, field, FieldType.LONG));
+    }
+
+    public int getInt(int index, int field) {
+        int type = operationType(index);
+        return tables[type].getInt(position(index, type, field, FieldType.INT));
+    }
+
+    public Date getDate(int index, int field) {
+        return new Date(getLong(index, field));
+    }
+
+    public String getString(int index, int field) {
+        int type = operationType(index);
+        return string(tables[type].getInt(position(index, type, field, FieldType.STRING)));
+    }
+
+    public List<Long> getLongList(int index, int field) {
+        int type = operationType(index);
+        int position = position(index, type, field, FieldType.LONG_LIST);
+        int offset = tables[type].getInt(position);
+        int count = tables[type].getInt(position + 4);
+        List<Long> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(longs.getLong((offset + i) * 8));
+        }
+        return list;
+    }
+
+    public List<String> getStringList(int index, int field) {
+        int type = operationType(index);
+        int position = position(index, type, field, FieldType.STRING_LIST);
+        int offset = tables[type].getInt(position);
+        int count = tables[type].getInt(position + 4);
+        List<String> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(string(ints.getInt((offset + i) * 4)));
+        }
+        return list;
+    }
+
+    public List<LdbcUpdate1AddPerson.Organization> getOrganisationList(int index, int field) {
+        int type = operationType(index);
+        int position = position(index, type, field, FieldType.ORGANISATION_LIST);
+        int offset = tables[type].getInt(position);
+        int count = tables[type].getInt(position + 4);
+        List<LdbcUpdate1AddPerson.Organization> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int pair = (offset + 2 * i) * 8;
+            list.add(new LdbcUpdate1AddPerson.Organization(longs.getLong(pair), (int) longs.getLong(pair + 8)));
+        }
+        return list;
+    }
+
+    private String string(int id) {
+        int start = stringOffsets.getInt(id * 4);
+        int end = stringOffsets.getInt(id * 4 + 4);
+        if (start == end) {
+            return "";
+        }
+        byte[] bytes = new byte[end - start];
+        ByteBuffer data = stringData.duplicate();
+        data.position(start);
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the operation, with the scheduled start time and dependency time of the stream for updates
+     */
+    public Operation<?> operation(int index) {
+        int type = operationType(index);
+        if (isUpdateStream()) {
+            Operation<?> operation = update(index, type);
+            long scheduledStartTime = scheduledStartTime(index);
+            operation.setScheduledStartTimeAsMilli(scheduledStartTime);
+            operation.setTimeStamp(scheduledStartTime);
+            operation.setDependencyTimeStamp(dependencyTime(index));
+            return operation;
+        }
+        return query(index, type);
+    }
+
+    private Operation<?> update(int i, int type) {
+        switch (type) {
+            case 1:
+                return new LdbcUpdate1AddPerson(getLong(i, 0), getString(i, 1), getString(i, 2), getString(i, 3),
+                        getDate(i, 4), getDate(i, 5), getString(i, 6), getString(i, 7), getLong(i, 8),
+                        getStringList(i, 9), getStringList(i, 10), getLongList(i, 11), getOrganisationList(i, 12),
+                        getOrganisationList(i, 13));
+            case 2:
+                return new LdbcUpdate2AddPostLike(getLong(i, 0), getLong(i, 1), getDate(i, 2));
+            case 3:
+                return new LdbcUpdate3AddCommentLike(getLong(i, 0), getLong(i, 1), getDate(i, 2));
+            case 4:
+                return new LdbcUpdate4AddForum(getLong(i, 0), getString(i, 1), getDate(i, 2), getLong(i, 3),
+                        getLongList(i, 4));
+            case 5:
+                return new LdbcUpdate5AddForumMembership(getLong(i, 0), getLong(i, 1), getDate(i, 2));
+            case 6:
+                return new LdbcUpdate6AddPost(getLong(i, 0), getString(i, 1), getDate(i, 2), getString(i, 3),
+                        getString(i, 4), getString(i, 5), getString(i, 6), getInt(i, 7), getLong(i, 8),
+                        getLong(i, 9), getLong(i, 10), getLongList(i, 11));
+            case 7:
+                return new LdbcUpdate7AddComment(getLong(i, 0), getDate(i, 1), getString(i, 2), getString(i, 3),
+                        getString(i, 4), getInt(i, 5), getLong(i, 6), getLong(i, 7), getLong(i, 8), getLong(i, 9),
+                        getLongList(i, 10));
+            case 8:
+                return new LdbcUpdate8AddFriendship(getLong(i, 0), getLong(i, 1), getDate(i, 2));
+            default:
+                throw new IllegalStateException("Unknown update type: " + type);
+        }
+    }
+
+    private Operation<?> query(int i, int type) {
+        return complexRead(type, new Fields() {
+            @Override
+            public long getLong(int field) {
+                return BinaryOperationReader.this.getLong(i, field);
+            }
+
+            @Override
+            public int getInt(int field) {
+                return BinaryOperationReader.this.getInt(i, field);
+            }
+
+            @Override
+            public Date getDate(int field) {
+                return BinaryOperationReader.this.getDate(i, field);
+            }
+
+            @Override
+            public String getString(int field) {
+                return BinaryOperationReader.this.getString(i, field);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<Operation<?>> iterator() {
+        return new Iterator<Operation<?>>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Operation<?> next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return operation(next++);
+            }
+        };
+    }
+
+    /**
+     * Closes the file. The mapping is released when the reader is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,319 @@
+package org.ldbcouncil.snb.impls.workloads.binary;
+
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.FieldType;
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.Schema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.*;
+
+/**
+ * Writes the operations of an update stream or a parameter file in the binary format (see BinaryOperationFormat).
+ *
+ * The rows are parsed from the fields of the text files. Every section and table is buffered in a temporary file
+ * while the input is streamed, so only the strings of the low-cardinality fields are kept in memory; finish()
+ * assembles the output file.
+ */
+class BinaryOperationWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path output;
+    private final int kind;
+    private final Path tempDir;
+    private final SectionWriter[] sections = new SectionWriter[SECTIONS];
+    private final SectionWriter[] tables;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int stringCount;
+    private long operationCount;
+
+    BinaryOperationWriter(Path output, int kind) throws IOException {
+        this.output = output;
+        this.kind = kind;
+        this.tempDir = Files.createTempDirectory(output.toAbsolutePath().getParent(), ".snb-binary");
+        this.tables = new SectionWriter[kind == KIND_UPDATE_STREAM ? 9 : 15];
+        for (int i = 0; i < SECTIONS; i++) {
+            sections[i] = new SectionWriter(tempDir.resolve("section-" + i));
+        }
+        // string i spans from offset i to offset i + 1, and string 0 is the empty string
+        sections[SECTION_STRING_OFFSETS].putInt(0);
+        sections[SECTION_STRING_OFFSETS].putInt(0);
+        strings.put("", 0);
+        stringCount = 1;
+    }
+
+    /**
+     * Adds an update of a stream.
+     *
+     * @param fields the fields of a line of the stream: scheduled start time, dependency time, event type, values
+     */
+    void addUpdate(String[] fields) throws IOException {
+        int type = Integer.parseInt(fields[2]);
+        Schema schema = BinaryOperationFormat.update(type);
+        SectionWriter table = table(schema);
+        sections[SECTION_ORDER].putInt(type);
+        sections[SECTION_ORDER].putInt(checkedInt(table.length() / schema.width));
+        table.putLong(Long.parseLong(fields[0]));
+        table.putLong(Long.parseLong(fields[1]));
+        addRow(table, schema, fields, 3, null);
+    }
+
+    /**
+     * Adds the parameters of a complex read.
+     *
+     * @param columns the column of each field of the schema in the line
+     */
+    void addParameters(Schema schema, String[] fields, int[] columns) throws IOException {
+        addRow(table(schema), schema, fields, 0, columns);
+    }
+
+    private SectionWriter table(Schema schema) throws IOException {
+        if (tables[schema.type] == null) {
+            tables[schema.type] = new SectionWriter(tempDir.resolve("table-" + schema.type));
+        }
+        return tables[schema.type];
+    }
+
+    private void addRow(SectionWriter table, Schema schema, String[] fields, int first, int[] columns)
+            throws IOException {
+        if (columns == null && fields.length < first + schema.fieldCount()) {
+            throw new IllegalArgumentException("Expected " + schema.fieldCount() + " fields of operation type "
+                    + schema.type + ", got " + (fields.length - first) + ": " + String.join("|", fields));
+        }
+        for (int i = 0; i < schema.fieldCount(); i++) {
+            String value = fields[columns == null ? first + i : columns[i]];
+            switch (schema.types[i]) {
+                case LONG:
+                case DATE:
+                    table.putLong(Long.parseLong(value));
+                    break;
+                case INT:
+                    table.putInt(Integer.parseInt(value));
+                    break;
+                case STRING:
+                    table.putInt(string(value, true));
+                    break;
+                case TEXT:
+                    table.putInt(string(value, false));
+                    break;
+                case LONG_LIST:
+                    addList(table, value, FieldType.LONG_LIST);
+                    break;
+                case STRING_LIST:
+                    addList(table, value, FieldType.STRING_LIST);
+                    break;
+                case ORGANISATION_LIST:
+                    addList(table, value, FieldType.ORGANISATION_LIST);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown field type: " + schema.types[i]);
+            }
+        }
+        operationCount++;
+    }
+
+    private void addList(SectionWriter table, String value, FieldType type) throws IOException {
+        SectionWriter pool = sections[type == FieldType.STRING_LIST ? SECTION_INTS : SECTION_LONGS];
+        int offset = checkedInt(pool.length() / (type == FieldType.STRING_LIST ? 4 : 8));
+        int count = 0;
+        if (!value.isEmpty()) {
+            for (String item : value.split(";")) {
+                switch (type) {
+                    case LONG_LIST:
+                        pool.putLong(Long.parseLong(item));
+                        break;
+                    case STRING_LIST:
+                        pool.putInt(string(item, true));
+                        break;
+                    default:
+                        int comma = item.indexOf(',');
+                        pool.putLong(Long.parseLong(item.substring(0, comma)));
+                        pool.putLong(Integer.parseInt(item.substring(comma + 1)));
+                        break;
+                }
+                count++;
+            }
+        }
+        table.putInt(offset);
+        table.putInt(count);
+    }
+
+    /**
+     * @param shared whether an equal string added before is reused
+     * @return the id of the string
+     */
+    private int string(String value, boolean shared) throws IOException {
+        if (value.isEmpty()) {
+            return 0;
+        }
+        if (shared) {
+            Integer id = strings.get(value);
+            if (id != null) {
+                return id;
+            }
+        }
+        SectionWriter data = sections[SECTION_STRING_DATA];
+        data.put(value.getBytes(StandardCharsets.UTF_8));
+        sections[SECTION_STRING_OFFSETS].putInt(checkedInt(data.length()));
+        int id = stringCount++;
+        if (shared) {
+            strings.put(value, id);
+        }
+        return id;
+    }
+
+    /**
+     * Writes the output file.
+     */
+    void finish() throws IOException {
+        int tableCount = 0;
+        for (SectionWriter table : tables) {
+            if (table != null) {
+                tableCount++;
+            }
+        }
+        ByteBuffer header = ByteBuffer.allocate((int) align(HEADER_SIZE + tableCount * TABLE_ENTRY_SIZE))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(kind).putInt(tableCount).putLong(operationCount);
+        long position = align(header.capacity());
+        for (SectionWriter section : sections) {
+            section.flush();
+            header.putLong(position).putLong(section.length());
+            position = align(position + section.length());
+        }
+        for (int type = 0; type < tables.length; type++) {
+            if (tables[type] != null) {
+                Schema schema = BinaryOperationFormat.schema(kind, type);
+                tables[type].flush();
+                header.putInt(type).putInt(schema.width).putLong(tables[type].length() / schema.width)
+                        .putLong(position);
+                position = align(position + tables[type].length());
+            }
+        }
+        header.clear();
+
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            for (SectionWriter section : sections) {
+                section.transferTo(out);
+            }
+            for (SectionWriter table : tables) {
+                if (table != null) {
+                    table.transferTo(out);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the temporary files.
+     */
+    @Override
+    public void close() throws IOException {
+        for (SectionWriter section : sections) {
+            section.delete();
+        }
+        for (SectionWriter table : tables) {
+            if (table != null) {
+                table.delete();
+            }
+        }
+        Files.deleteIfExists(tempDir);
+    }
+
+    private static int checkedInt(long value) {
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("A section exceeds 2 GB, split the input into more partitions");
+        }
+        return (int) value;
+    }
+
+    /**
+     * A buffered, little-endian temporary file.
+     */
+    private static class SectionWriter {
+        private final Path file;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private long flushed;
+
+        SectionWriter(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+
+        long length() {
+            return flushed + buffer.position();
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(8);
+            buffer.putLong(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(4);
+            buffer.putInt(value);
+        }
+
+        void put(byte[] bytes) throws IOException {
+            for (int offset = 0; offset < bytes.length; ) {
+                ensureRemaining(1);
+                int count = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, count);
+                offset += count;
+            }
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Appends the content to the output at its current position, padded to 8 bytes.
+         */
+        void transferTo(FileChannel out) throws IOException {
+            long position = 0;
+            while (position < flushed) {
+                position += channel.transferTo(position, flushed - position, out);
+            }
+            long padding = align(out.position()) - out.position();
+            if (padding > 0) {
+                ByteBuffer zeros = ByteBuffer.allocate((int) padding);
+                while (zeros.hasRemaining()) {
+                    out.write(zeros);
+                }
+            }
+        }
+
+        void delete() throws IOException {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -1,126 +1,251 @@
 package org.ldbcouncil.snb.impls.workloads.converter;
 
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.TimeZone;
-import java.util.stream.Collectors;
 
+/**
+ * Renders operation parameters as query literals.
+ *
+ * The rendering is implemented by the append* methods, which write into a caller-supplied StringBuilder,
+ * so a query can be assembled without intermediate strings. The convert* methods are convenience wrappers
+ * returning a new string. Implementations customize the rendering by overriding the append* methods.
+ * Converters are stateless and can be shared between threads.
+ */
 public class Converter {
 
-    final static String DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSS'+0000'";
-    final static String DATE_FORMAT = "yyyy-MM-dd";
+    protected final static DateTimeFormatter DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'+0000'").withZone(ZoneOffset.UTC);
+    protected final static DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
 
-    public String convertDateTime(Date date) {
-        final SimpleDateFormat sdf = new SimpleDateFormat(DATETIME_FORMAT);
-        sdf.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
-        return "'" + sdf.format(date) + "'";
+    public StringBuilder appendDateTime(StringBuilder sb, Date date) {
+        sb.append('\'');
+        DATETIME_FORMATTER.formatTo(date.toInstant(), sb);
+        return sb.append('\'');
     }
 
-    public String convertDate(Date date) {
-        final SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
-        sdf.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
-        return "'" + sdf.format(date) + "'";
+    public StringBuilder appendDate(StringBuilder sb, Date date) {
+        sb.append('\'');
+        DATE_FORMATTER.formatTo(date.toInstant(), sb);
+        return sb.append('\'');
     }
 
     /**
      * Surrounds a string in single quotes and escape single quotes in the string itself.
-     *
-     * @param value
-     * @return
      */
-    public String convertString(String value) {
-        return "'" + value.replace("'", "\\'") + "'";
+    public StringBuilder appendString(StringBuilder sb, String value) {
+        sb.append('\'');
+        appendEscaped(sb, value, '\'', "\\'");
+        return sb.append('\'');
     }
 
-    public String convertInteger(int value) {
-        return Integer.toString(value);
+    public StringBuilder appendInteger(StringBuilder sb, int value) {
+        return sb.append(value);
     }
 
     /**
-     * Convert strings to a comma-separated list between square brackets.
-     *
-     * @param values
-     * @return
+     * Appends strings as a comma-separated list between square brackets.
      */
-    public String convertStringList(List<String> values) {
-        String res = "[";
-        res += values
-                .stream()
-                .map(v -> "'" + v + "'")
-                .collect(Collectors.joining(", "));
-        res += "]";
-        return res;
+    public StringBuilder appendStringList(StringBuilder sb, List<String> values) {
+        sb.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('\'').append(values.get(i)).append('\'');
+        }
+        return sb.append(']');
     }
 
     /**
-     * Convert a list of longs to a comma-separated list between square brackets.
-     *
-     * @param values
-     * @return
+     * Appends longs as a comma-separated list between square brackets.
      */
-    public String convertLongList(List<Long> values) {
-        String res = "[";
-        res += values
-                .stream()
-                .map(v -> v.toString())
-                .collect(Collectors.joining(", "));
-        res += "]";
-        return res;
+    public StringBuilder appendLongList(StringBuilder sb, List<Long> values) {
+        sb.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values.get(i).longValue());
+        }
+        return sb.append(']');
     }
 
     /**
-     * Convert a list of longs to a comma-separated list between square brackets.
-     *
-     * @param values
-     * @return
+     * Appends organisations as a comma-separated list between square brackets.
      */
-    public String convertOrganisations(List<LdbcUpdate1AddPerson.Organization> values) {
-        String res = "[";
-        res += values
-                .stream()
-                .map(v -> v.toString())
-                .collect(Collectors.joining(", "));
-        res += "]";
-        return res;
+    public StringBuilder appendOrganisations(StringBuilder sb, List<LdbcUpdate1AddPerson.Organization> values) {
+        sb.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(values.get(i));
+        }
+        return sb.append(']');
     }
 
     /**
      * Some implementations, e.g. the (deprecated) SPARQL one, will not work with a simple toString and require some tinkering,
      * e.g. padding the id with '0' characters.
-     *
-     * @param value
-     * @return
      */
-    public String convertId(long value) {
-        return Long.toString(value);
+    public StringBuilder appendId(StringBuilder sb, long value) {
+        return sb.append(value);
+    }
+
+    public StringBuilder appendLong(StringBuilder sb, long value) {
+        return sb.append(value);
     }
 
     /**
-     * Some implementations, e.g. the (deprecated) SPARQL one, will not work with a simple toString and require some tinkering,
-     * e.g. padding the id with '0' characters.
-     *
-     * @param value
-     * @return
+     * Some implementation, e.g. the (deprecated) SPARQL one, require a different id for updates:
+     * while SparqlConverter#appendId() wraps the value with `"00000..."^^xsd:long`,
+     * updates require plain `00000...` format.
      */
+    public StringBuilder appendIdForInsertion(StringBuilder sb, long value) {
+        return appendId(sb, value);
+    }
+
+    public String convertDateTime(Date date) {
+        return appendDateTime(new StringBuilder(48), date).toString();
+    }
+
+    public String convertDate(Date date) {
+        return appendDate(new StringBuilder(24), date).toString();
+    }
+
+    public String convertString(String value) {
+        return appendString(new StringBuilder(value.length() + 8), value).toString();
+    }
+
+    public String convertInteger(int value) {
+        return appendInteger(new StringBuilder(12), value).toString();
+    }
+
+    public String convertStringList(List<String> values) {
+        return appendStringList(new StringBuilder(values.size() * 16 + 16), values).toString();
+    }
+
+    public String convertLongList(List<Long> values) {
+        return appendLongList(new StringBuilder(values.size() * 16 + 2), values).toString();
+    }
+
+    public String convertOrganisations(List<LdbcUpdate1AddPerson.Organization> values) {
+        return appendOrganisations(new StringBuilder(values.size() * 32 + 2), values).toString();
+    }
+
+    public String convertId(long value) {
+        return appendId(new StringBuilder(24), value).toString();
+    }
+
     public String convertLong(long value) {
-        return Long.toString(value);
+        return appendLong(new StringBuilder(24), value).toString();
     }
 
+    public String convertIdForInsertion(long value) {
+        return appendIdForInsertion(new StringBuilder(24), value).toString();
+    }
 
     /**
-     * Some implementation, e.g. the (deprecated) SPARQL one, require a different id for updates:
-     * while SparqlConverter#convertId() wraps the value with `"00000..."^^xsd:long`,
-     * updates require plain `00000...` format.
-     *
-     * @param value
-     * @return
+     * Appends the value with every occurrence of the given character replaced by the replacement.
      */
-    public String convertIdForInsertion(long value) {
-        return convertId(value);
+    protected static StringBuilder appendEscaped(StringBuilder sb, String value, char character, String replacement) {
+        int start = 0;
+        for (int i = value.indexOf(character); i >= 0; i = value.indexOf(character, start)) {
+            sb.append(value, start, i).append(replacement);
+            start = i + 1;
+        }
+        return sb.append(value, start, value.length());
+    }
+
+    /**
+     * Splits the value at the separator like String.split (trailing empty strings are dropped), into a list backed
+     * by the array of the parts, so that result conversion does not copy the parts into another list.
+     */
+    protected static List<String> split(String value, char separator) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) == separator) {
+            end--;
+        }
+        if (end == 0) {
+            return value.isEmpty() ? Collections.singletonList(value) : Collections.emptyList();
+        }
+        int count = 1;
+        for (int i = value.indexOf(separator); i >= 0 && i < end; i = value.indexOf(separator, i + 1)) {
+            count++;
+        }
+        String[] parts = new String[count];
+        int from = 0;
+        for (int i = 0; i < count - 1; i++) {
+            int to = value.indexOf(separator, from);
+            parts[i] = value.substring(from, to);
+            from = to + 1;
+        }
+        parts[count - 1] = value.substring(from, end);
+        return Arrays.asList(parts);
+    }
+
+    /**
+     * Parses the numbers between from (inclusive) and to (exclusive), separated by the separator, into a list backed
+     * by an array of the numbers.
+     */
+    protected static List<Long> splitLongs(String value, int from, int to, char separator) {
+        int count = 1;
+        for (int i = value.indexOf(separator, from); i >= 0 && i < to; i = value.indexOf(separator, i + 1)) {
+            count++;
+        }
+        Long[] numbers = new Long[count];
+        for (int i = 0; i < count; i++) {
+            int end = value.indexOf(separator, from);
+            if (end < 0 || end > to) {
+                end = to;
+            }
+            numbers[i] = parseLong(value, from, end);
+            from = end + 1;
+        }
+        return Arrays.asList(numbers);
+    }
+
+    /**
+     * Parses organisations rendered as "name|year|place" and separated by the separator, as in the results of IC1
+     * of the SQL implementations that aggregate them into a string.
+     */
+    protected static List<LdbcQuery1Result.Organization> splitOrganizations(String value, char separator) {
+        List<String> parts = split(value, separator);
+        LdbcQuery1Result.Organization[] organizations = new LdbcQuery1Result.Organization[parts.size()];
+        for (int i = 0; i < organizations.length; i++) {
+            String part = parts.get(i);
+            int nameEnd = part.indexOf('|');
+            int yearEnd = part.indexOf('|', nameEnd + 1);
+            int placeEnd = part.indexOf('|', yearEnd + 1);
+            organizations[i] = new LdbcQuery1Result.Organization(part.substring(0, nameEnd),
+                    (int) parseLong(part, nameEnd + 1, yearEnd),
+                    part.substring(yearEnd + 1, placeEnd < 0 ? part.length() : placeEnd));
+        }
+        return Arrays.asList(organizations);
+    }
+
+    /**
+     * Parses the decimal number between from (inclusive) and to (exclusive) without creating a substring.
+     */
+    protected static long parseLong(String value, int from, int to) {
+        boolean negative = from < to && value.charAt(from) == '-';
+        long result = 0;
+        for (int i = negative ? from + 1 : from; i < to; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + value.substring(from, to) + "\"");
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
     }
 
 }
@@ -0,0 +1,62 @@
+package org.ldbcouncil.snb.impls.workloads.converter;
+
+/**
+ * Date arithmetic on the proleptic Gregorian calendar (the one of java.time), shared by the converters which
+ * parse dates straight from the characters of a result instead of going through a formatter.
+ * Equivalent to LocalDate.of(year, month, day).toEpochDay() for valid dates, without the allocation.
+ */
+public final class EpochDays {
+
+    // days from 0000-03-01 to 1970-01-01
+    private static final int DAYS_0000_03_01_TO_EPOCH = 719_468;
+    private static final int DAYS_PER_ERA = 146_097;
+
+    private EpochDays() {
+    }
+
+    /**
+     * @return whether month and day are in range, e.g. false for 2011-02-30
+     */
+    public static boolean isValid(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month);
+    }
+
+    /**
+     * @param month 1 to 12
+     */
+    public static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    /**
+     * Days since 1970-01-01 of a date, counting years from March, so that the leap day is the last day of a year.
+     *
+     * @throws IllegalArgumentException if the date is not valid
+     */
+    public static long epochDay(int year, int month, int day) {
+        if (!isValid(year, month, day)) {
+            throw new IllegalArgumentException("Invalid date: " + year + "-" + month + "-" + day);
+        }
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * DAYS_PER_ERA + dayOfEra - DAYS_0000_03_01_TO_EPOCH;
+    }
+
+}
@@ -0,0 +1,337 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Affiliation;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Forum;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Knows;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Like;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Membership;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Message;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Person;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Organisation;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Place;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Tag;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.TagClass;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the bulk-loaded part of a SocialNetwork (the entities created before the cutoff) as the static and
+ * dynamic CSV files of Datagen, in one of its two serializer layouts:
+ * - MERGE_FOREIGN (CsvMergeForeign): the one-to-many relationships are foreign key columns of the entity files,
+ *   as loaded by PostgreSQL, Umbra, DuckDB and the in-memory implementation;
+ * - COMPOSITE (CsvComposite): every relationship has a file of its own and the languages and emails are
+ *   ';'-separated columns of the person file, as loaded by Neo4j and TigerGraph.
+ * The dates are formatted as strings or as epoch milliseconds (LongDateFormatter).
+ */
+final class CsvSerializer {
+
+    enum Layout {
+        MERGE_FOREIGN,
+        COMPOSITE
+    }
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'+0000'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd").withZone(ZoneOffset.UTC);
+
+    private final SocialNetwork network;
+    private final Layout layout;
+    private final boolean longDates;
+
+    CsvSerializer(SocialNetwork network, Layout layout, boolean longDates) {
+        this.network = network;
+        this.layout = layout;
+        this.longDates = longDates;
+    }
+
+    void write(Path outputDir) throws IOException {
+        try (CsvDirectory files = new CsvDirectory(outputDir.resolve("static"))) {
+            writeStatic(files);
+        }
+        try (CsvDirectory files = new CsvDirectory(outputDir.resolve("dynamic"))) {
+            writeDynamic(files);
+        }
+    }
+
+    private void writeStatic(CsvDirectory files) throws IOException {
+        StaticWorld world = network.world;
+        boolean composite = layout == Layout.COMPOSITE;
+        for (Place place : world.places) {
+            String url = StaticWorld.DBPEDIA_RESOURCE + place.name;
+            String isPartOf = place.isPartOf < 0 ? "" : Long.toString(place.isPartOf);
+            if (composite) {
+                files.get("place", "id|name|url|type").row(place.id, place.name, url, place.type);
+                if (place.isPartOf >= 0) {
+                    files.get("place_isPartOf_place", "Place.id|Place.id").row(place.id, isPartOf);
+                }
+            } else {
+                files.get("place", "id|name|url|type|isPartOf").row(place.id, place.name, url, place.type, isPartOf);
+            }
+        }
+        for (Organisation organisation : world.organisations) {
+            String url = StaticWorld.DBPEDIA_RESOURCE + organisation.name;
+            if (composite) {
+                files.get("organisation", "id|type|name|url")
+                        .row(organisation.id, organisation.type, organisation.name, url);
+                files.get("organisation_isLocatedIn_place", "Organisation.id|Place.id")
+                        .row(organisation.id, organisation.place);
+            } else {
+                files.get("organisation", "id|type|name|url|place")
+                        .row(organisation.id, organisation.type, organisation.name, url, organisation.place);
+            }
+        }
+        for (TagClass tagClass : world.tagClasses) {
+            String isSubclassOf = tagClass.isSubclassOf < 0 ? "" : Long.toString(tagClass.isSubclassOf);
+            if (composite) {
+                files.get("tagclass", "id|name|url").row(tagClass.id, tagClass.name, tagClass.url);
+                if (tagClass.isSubclassOf >= 0) {
+                    files.get("tagclass_isSubclassOf_tagclass", "TagClass.id|TagClass.id")
+                            .row(tagClass.id, isSubclassOf);
+                }
+            } else {
+                files.get("tagclass", "id|name|url|isSubclassOf")
+                        .row(tagClass.id, tagClass.name, tagClass.url, isSubclassOf);
+            }
+        }
+        for (Tag tag : world.tags) {
+            String url = StaticWorld.DBPEDIA_RESOURCE + tag.name;
+            if (composite) {
+                files.get("tag", "id|name|url").row(tag.id, tag.name, url);
+                files.get("tag_hasType_tagclass", "Tag.id|TagClass.id").row(tag.id, tag.hasType);
+            } else {
+                files.get("tag", "id|name|url|hasType").row(tag.id, tag.name, url, tag.hasType);
+            }
+        }
+    }
+
+    private void writeDynamic(CsvDirectory files) throws IOException {
+        boolean composite = layout == Layout.COMPOSITE;
+        // create the files in a fixed order, so they exist even if they stay empty
+        if (composite) {
+            files.get("person", "id|firstName|lastName|gender|birthday|creationDate|locationIP|browserUsed|language|email");
+            files.get("person_isLocatedIn_place", "Person.id|Place.id");
+        } else {
+            files.get("person", "id|firstName|lastName|gender|birthday|creationDate|locationIP|browserUsed|place");
+            files.get("person_email_emailaddress", "Person.id|email");
+            files.get("person_speaks_language", "Person.id|language");
+        }
+        files.get("person_hasInterest_tag", "Person.id|Tag.id");
+        files.get("person_studyAt_organisation", "Person.id|Organisation.id|classYear");
+        files.get("person_workAt_organisation", "Person.id|Organisation.id|workFrom");
+        files.get("person_knows_person", "Person.id|Person.id|creationDate");
+        if (composite) {
+            files.get("forum", "id|title|creationDate");
+            files.get("forum_hasModerator_person", "Forum.id|Person.id");
+        } else {
+            files.get("forum", "id|title|creationDate|moderator");
+        }
+        files.get("forum_hasTag_tag", "Forum.id|Tag.id");
+        files.get("forum_hasMember_person", "Forum.id|Person.id|joinDate");
+        if (composite) {
+            files.get("post", "id|imageFile|creationDate|locationIP|browserUsed|language|content|length");
+            files.get("post_hasCreator_person", "Post.id|Person.id");
+            files.get("forum_containerOf_post", "Forum.id|Post.id");
+            files.get("post_isLocatedIn_place", "Post.id|Place.id");
+            files.get("comment", "id|creationDate|locationIP|browserUsed|content|length");
+            files.get("comment_hasCreator_person", "Comment.id|Person.id");
+            files.get("comment_isLocatedIn_place", "Comment.id|Place.id");
+            files.get("comment_replyOf_post", "Comment.id|Post.id");
+            files.get("comment_replyOf_comment", "Comment.id|Comment.id");
+        } else {
+            files.get("post", "id|imageFile|creationDate|locationIP|browserUsed|language|content|length|creator|Forum.id|place");
+            files.get("comment", "id|creationDate|locationIP|browserUsed|content|length|creator|place|replyOfPost|replyOfComment");
+        }
+        files.get("post_hasTag_tag", "Post.id|Tag.id");
+        files.get("comment_hasTag_tag", "Comment.id|Tag.id");
+        files.get("person_likes_post", "Person.id|Post.id|creationDate");
+        files.get("person_likes_comment", "Person.id|Comment.id|creationDate");
+
+        for (Person person : network.persons) {
+            if (!network.isBulk(person.creationDate)) {
+                continue;
+            }
+            if (composite) {
+                files.get("person").row(person.id, person.firstName, person.lastName, person.gender,
+                        date(person.birthday), dateTime(person.creationDate), person.locationIP, person.browserUsed,
+                        String.join(";", person.languages), String.join(";", person.emails));
+                files.get("person_isLocatedIn_place").row(person.id, person.city.id);
+            } else {
+                files.get("person").row(person.id, person.firstName, person.lastName, person.gender,
+                        date(person.birthday), dateTime(person.creationDate), person.locationIP, person.browserUsed,
+                        person.city.id);
+                for (String email : person.emails) {
+                    files.get("person_email_emailaddress").row(person.id, email);
+                }
+                for (String language : person.languages) {
+                    files.get("person_speaks_language").row(person.id, language);
+                }
+            }
+            for (long tag : person.interests) {
+                files.get("person_hasInterest_tag").row(person.id, tag);
+            }
+            for (Affiliation studyAt : person.studyAt) {
+                files.get("person_studyAt_organisation").row(person.id, studyAt.organisation.id, studyAt.year);
+            }
+            for (Affiliation workAt : person.workAt) {
+                files.get("person_workAt_organisation").row(person.id, workAt.organisation.id, workAt.year);
+            }
+        }
+        for (Knows knows : network.knows) {
+            if (network.isBulk(knows.creationDate)) {
+                files.get("person_knows_person").row(knows.person1.id, knows.person2.id,
+                        dateTime(knows.creationDate));
+            }
+        }
+
+        for (Forum forum : network.forums) {
+            if (!network.isBulk(forum.creationDate)) {
+                continue;
+            }
+            if (composite) {
+                files.get("forum").row(forum.id, forum.title, dateTime(forum.creationDate));
+                files.get("forum_hasModerator_person").row(forum.id, forum.moderator.id);
+            } else {
+                files.get("forum").row(forum.id, forum.title, dateTime(forum.creationDate), forum.moderator.id);
+            }
+            for (long tag : forum.tags) {
+                files.get("forum_hasTag_tag").row(forum.id, tag);
+            }
+        }
+        for (Membership membership : network.memberships) {
+            if (network.isBulk(membership.joinDate)) {
+                files.get("forum_hasMember_person").row(membership.forum.id, membership.person.id,
+                        dateTime(membership.joinDate));
+            }
+        }
+
+        for (Message message : network.messages) {
+            if (!network.isBulk(message.creationDate)) {
+                continue;
+            }
+            Person creator = message.creator;
+            if (message.isPost()) {
+                if (composite) {
+                    files.get("post").row(message.id, message.imageFile, dateTime(message.creationDate),
+                            creator.locationIP, creator.browserUsed, message.language, message.content,
+                            message.content.length());
+                    files.get("post_hasCreator_person").row(message.id, creator.id);
+                    files.get("forum_containerOf_post").row(message.forum.id, message.id);
+                    files.get("post_isLocatedIn_place").row(message.id, message.country);
+                } else {
+                    files.get("post").row(message.id, message.imageFile, dateTime(message.creationDate),
+                            creator.locationIP, creator.browserUsed, message.language, message.content,
+                            message.content.length(), creator.id, message.forum.id, message.country);
+                }
+                for (long tag : message.tags) {
+                    files.get("post_hasTag_tag").row(message.id, tag);
+                }
+            } else {
+                boolean replyOfPost = message.replyOf.isPost();
+                if (composite) {
+                    files.get("comment").row(message.id, dateTime(message.creationDate), creator.locationIP,
+                            creator.browserUsed, message.content, message.content.length());
+                    files.get("comment_hasCreator_person").row(message.id, creator.id);
+                    files.get("comment_isLocatedIn_place").row(message.id, message.country);
+                    files.get(replyOfPost ? "comment_replyOf_post" : "comment_replyOf_comment")
+                            .row(message.id, message.replyOf.id);
+                } else {
+                    files.get("comment").row(message.id, dateTime(message.creationDate), creator.locationIP,
+                            creator.browserUsed, message.content, message.content.length(), creator.id,
+                            message.country, replyOfPost ? message.replyOf.id : "",
+                            replyOfPost ? "" : message.replyOf.id);
+                }
+                for (long tag : message.tags) {
+                    files.get("comment_hasTag_tag").row(message.id, tag);
+                }
+            }
+        }
+        for (Like like : network.likes) {
+            if (network.isBulk(like.creationDate)) {
+                files.get(like.message.isPost() ? "person_likes_post" : "person_likes_comment")
+                        .row(like.person.id, like.message.id, dateTime(like.creationDate));
+            }
+        }
+    }
+
+    private String dateTime(long millis) {
+        return longDates ? Long.toString(millis) : DATE_TIME_FORMATTER.format(Instant.ofEpochMilli(millis));
+    }
+
+    private String date(long millis) {
+        return longDates ? Long.toString(millis) : DATE_FORMATTER.format(Instant.ofEpochMilli(millis));
+    }
+
+    /**
+     * The CSV files of a directory, named like the files of Datagen's first partition.
+     */
+    private static final class CsvDirectory implements Closeable {
+        private final Path dir;
+        private final Map<String, CsvFile> files = new LinkedHashMap<>();
+
+        CsvDirectory(Path dir) throws IOException {
+            this.dir = Files.createDirectories(dir);
+        }
+
+        CsvFile get(String name, String header) throws IOException {
+            CsvFile file = files.get(name);
+            if (file == null) {
+                file = new CsvFile(Files.newBufferedWriter(dir.resolve(name + "_0_0.csv"), StandardCharsets.UTF_8));
+                file.writer.write(header);
+                file.writer.write('\n');
+                files.put(name, file);
+            }
+            return file;
+        }
+
+        CsvFile get(String name) {
+            return files.get(name);
+        }
+
+        @Override
+        public void close() throws IOException {
+            IOException failure = null;
+            for (CsvFile file : files.values()) {
+                try {
+                    file.writer.close();
+                } catch (IOException e) {
+                    failure = failure == null ? e : failure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private static final class CsvFile {
+        private final BufferedWriter writer;
+        private final StringBuilder line = new StringBuilder();
+
+        CsvFile(BufferedWriter writer) {
+            this.writer = writer;
+        }
+
+        void row(Object... fields) throws IOException {
+            line.setLength(0);
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    line.append('|');
+                }
+                line.append(fields[i]);
+            }
+            writer.append(line).append('\n');
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.CsvSerializer.Layout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Generates a small data set of the Interactive workload: the static and dynamic CSV files in the layout of
+ * Datagen, the update streams and the substitution parameters of the complex reads. The output is determined by
+ * the seed and the scale, so a data set can be regenerated instead of downloaded (see NetworkGenerator for the
+ * distributions).
+ *
+ * The output directory gets the same structure as the test-data directories:
+ * static, dynamic, update_streams and substitution_parameters.
+ *
+ * Usage:
+ * java -cp target/[implementation]-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.datagen.MiniDatagen
+ * --output [output dir] [--persons N] [--years N] [--seed N] [--layout merge-foreign|composite]
+ * [--date-format string|long] [--parameters N] [--update-partitions N]
+ */
+public class MiniDatagen {
+
+    public static void main(String[] args) throws IOException {
+        Path outputDir = null;
+        int persons = 1000;
+        int years = 3;
+        long seed = 0;
+        Layout layout = Layout.MERGE_FOREIGN;
+        String dateFormat = null;
+        int parameters = 20;
+        int updatePartitions = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--output":
+                    outputDir = Paths.get(args[++i]);
+                    break;
+                case "--persons":
+                    persons = Integer.parseInt(args[++i]);
+                    break;
+                case "--years":
+                    years = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--layout":
+                    layout = Layout.valueOf(args[++i].toUpperCase().replace('-', '_'));
+                    break;
+                case "--date-format":
+                    dateFormat = args[++i];
+                    break;
+                case "--parameters":
+                    parameters = Integer.parseInt(args[++i]);
+                    break;
+                case "--update-partitions":
+                    updatePartitions = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (outputDir == null) {
+            throw new IllegalArgumentException("--output is required");
+        }
+        // the loaders of the composite layout (Neo4j, TigerGraph) expect epoch milliseconds
+        boolean longDates;
+        if (dateFormat == null) {
+            longDates = layout == Layout.COMPOSITE;
+        } else if (dateFormat.equals("string") || dateFormat.equals("long")) {
+            longDates = dateFormat.equals("long");
+        } else {
+            throw new IllegalArgumentException("Unknown date format: " + dateFormat);
+        }
+
+        long start = System.nanoTime();
+        SocialNetwork network = new NetworkGenerator(seed, persons, years).generate();
+        new CsvSerializer(network, layout, longDates).write(outputDir);
+        new UpdateStreamSerializer(network, updatePartitions).write(outputDir.resolve("update_streams"));
+        new ParameterGenerator(network, parameters, new Random(seed)).write(
+                outputDir.resolve("substitution_parameters"));
+        System.out.printf("Generated %d persons, %d knows, %d forums and %d messages in %.1f s%n",
+                network.persons.size(), network.knows.size(), network.forums.size(), network.messages.size(),
+                (System.nanoTime() - start) / 1e9);
+    }
+
+}
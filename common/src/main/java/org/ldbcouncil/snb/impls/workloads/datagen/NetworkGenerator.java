@@ -0,0 +1,546 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Affiliation;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Forum;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Knows;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Like;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Membership;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Message;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Person;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Organisation;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Place;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates the dynamic part of the data set.
+ *
+ * The generation is deterministic: the output only depends on the seed, the number of persons and the number of
+ * years. Every phase (persons, knows, forums, messages) draws from its own Random derived from the seed.
+ *
+ * The distributions follow Datagen in spirit, not in detail:
+ * - knows is a Chung-Lu graph: every person gets a power-law distributed expected degree, whose mean grows with
+ *   the number of persons as in Datagen, and half of the edges connect persons of the same country;
+ * - the number of comments of a post is power-law distributed, and every comment replies to the post or to an
+ *   earlier comment of the thread with a probability proportional to its replies so far (preferential
+ *   attachment), so a few messages get most of the replies;
+ * - the posting activity of the persons and the popularity of countries, names and tags are skewed, too.
+ */
+final class NetworkGenerator {
+
+    static final long START = LocalDate.of(2010, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+    /** the fraction of the time span that is bulk-loaded, the rest is in the update streams */
+    private static final double BULK_FRACTION = 0.9;
+
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY = 24 * HOUR;
+
+    private static final double SAME_COUNTRY_KNOWS = 0.5;
+    private static final double WALL_POSTS = 12;
+    private static final double GROUP_POSTS = 3;
+    private static final double GROUP_SIZE = 15;
+    private static final double REPLIES = 2;
+    private static final int MAX_REPLIES = 200;
+    private static final int MAX_LIKES = 100;
+    private static final double TRAVEL = 0.05;
+
+    private static final String[] FIRST_NAMES = {
+            "Jose", "Wei", "Ali", "Maria", "Ahmed", "Anna", "John", "Yang", "Mohammed", "Chen", "Carlos", "Olga",
+            "Ivan", "Hans", "Akira", "Fatima", "David", "Sofia", "Rahul", "Priya", "Luis", "Emma", "Lucas", "Yuki",
+            "Pedro", "Laura", "Ken", "Aisha", "Peter", "Jun", "Omar", "Eva", "Abdul", "Lin", "Paul", "Marta",
+            "Bruno", "Nina", "Hiroshi", "Ana",
+    };
+    private static final String[] LAST_NAMES = {
+            "Wang", "Li", "Zhang", "Smith", "Kumar", "Garcia", "Muller", "Ito", "Khan", "Silva", "Ivanov", "Nguyen",
+            "Rossi", "Martin", "Santos", "Kowalski", "Hernandez", "Sato", "Singh", "Lopez", "Brown", "Chen", "Yang",
+            "Alonso", "Rodriguez", "Jansen", "Nagy", "Ali", "Okafor", "Mwangi", "Andersson", "Dubois", "Fernandez",
+            "Tanaka", "Schmidt", "Popescu", "Perez", "Costa", "Novak", "Zhu",
+    };
+    private static final String[] BROWSERS = {"Firefox", "Chrome", "Internet Explorer", "Safari", "Opera"};
+    private static final double[] BROWSER_SHARES = {0.4, 0.3, 0.18, 0.08, 0.04};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "hotmail.com", "gmx.com", "zoho.com"};
+    private static final String[] SHORT_COMMENTS = {
+            "yes", "no", "ok", "LOL", "thx", "thanks", "great", "cool", "right", "maybe", "I see", "good", "fine",
+            "roflol", "duh", "no way!", "not that I know of",
+    };
+    private static final String[] WORDS = {
+            "the", "of", "and", "a", "in", "was", "his", "first", "new", "world", "after", "war", "city", "music",
+            "album", "released", "during", "known", "became", "people", "state", "film", "season", "team", "won",
+            "against", "early", "life", "government", "country", "time", "history", "culture", "rise", "family",
+            "work", "years", "century", "empire", "published", "series", "band", "record", "club", "league",
+    };
+
+    private final long seed;
+    private final int personCount;
+    private final long end;
+
+    private final List<Forum> walls = new ArrayList<>();
+    private final List<Forum> groups = new ArrayList<>();
+    private final List<Forum> albums = new ArrayList<>();
+
+    NetworkGenerator(long seed, int personCount, int years) {
+        if (personCount < 2) {
+            throw new IllegalArgumentException("At least 2 persons are required, got " + personCount);
+        }
+        if (years < 1) {
+            throw new IllegalArgumentException("At least 1 year is required, got " + years);
+        }
+        this.seed = seed;
+        this.personCount = personCount;
+        this.end = LocalDate.of(2010 + years, 1, 1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+    SocialNetwork generate() {
+        StaticWorld world = new StaticWorld();
+        long cutoff = START + (long) ((end - START) * BULK_FRACTION);
+        SocialNetwork network = new SocialNetwork(world, START, end, cutoff);
+        generatePersons(network, random(1));
+        generateKnows(network, random(2));
+        generateForums(network, random(3));
+        generateMessages(network, random(4));
+        return network;
+    }
+
+    private Random random(int phase) {
+        return new Random(seed * 1_000_003L + phase);
+    }
+
+    private void generatePersons(SocialNetwork network, Random random) {
+        StaticWorld world = network.world;
+        Sampler countries = Sampler.zipf(world.countryCount(), 1.0);
+        Sampler firstNames = Sampler.zipf(FIRST_NAMES.length, 1.0);
+        Sampler lastNames = Sampler.zipf(LAST_NAMES.length, 1.0);
+        Sampler browsers = new Sampler(BROWSER_SHARES);
+        Sampler tags = Sampler.zipf(world.tags.size(), 1.0);
+        long firstBirthday = LocalDate.of(1980, 1, 1).toEpochDay();
+        long lastBirthday = LocalDate.of(1995, 12, 31).toEpochDay();
+        int lastYear = LocalDate.ofEpochDay(end / DAY - 1).getYear();
+
+        long[] creationDates = new long[personCount];
+        for (int i = 0; i < personCount; i++) {
+            creationDates[i] = between(random, START, end);
+        }
+        Arrays.sort(creationDates);
+
+        for (int i = 0; i < personCount; i++) {
+            int country = countries.sample(random);
+            Place[] cities = world.cities[country];
+            long birthday = firstBirthday + (long) (random.nextDouble() * (lastBirthday - firstBirthday + 1));
+            Person person = new Person(i, FIRST_NAMES[firstNames.sample(random)],
+                    LAST_NAMES[lastNames.sample(random)], random.nextBoolean() ? "male" : "female", birthday * DAY,
+                    creationDates[i], ip(random, country), BROWSERS[browsers.sample(random)], country,
+                    cities[random.nextInt(cities.length)], Math.min(20, pareto(random, 2.0)));
+
+            person.languages.add(world.languages[country]);
+            if (!"en".equals(world.languages[country]) && random.nextDouble() < 0.5) {
+                person.languages.add("en");
+            }
+            List<String> domains = new ArrayList<>(Arrays.asList(EMAIL_DOMAINS));
+            Collections.shuffle(domains, random);
+            for (String domain : domains.subList(0, 1 + random.nextInt(3))) {
+                person.emails.add(person.firstName + person.id + "@" + domain);
+            }
+            int interestCount = (int) Math.min(40, 1 + pareto(random, 1.5) * 4);
+            Set<Long> interests = new HashSet<>();
+            while (interests.size() < interestCount) {
+                interests.add((long) tags.sample(random));
+            }
+            person.interests.addAll(interests);
+            Collections.sort(person.interests);
+
+            int birthYear = LocalDate.ofEpochDay(birthday).getYear();
+            if (random.nextDouble() < 0.8) {
+                Place city = random.nextDouble() < 0.8 ? person.city : cities[random.nextInt(cities.length)];
+                person.studyAt.add(new Affiliation(world.universityOfCity[(int) city.id],
+                        Math.min(lastYear, birthYear + 21 + random.nextInt(4))));
+            }
+            int companies = random.nextInt(3);
+            for (int j = 0; j < companies; j++) {
+                int companyCountry = random.nextDouble() < 0.9 ? country : random.nextInt(world.countryCount());
+                Organisation company = world.companies[companyCountry][random.nextInt(
+                        world.companies[companyCountry].length)];
+                boolean known = false;
+                for (Affiliation workAt : person.workAt) {
+                    known |= workAt.organisation == company;
+                }
+                if (!known) {
+                    person.workAt.add(new Affiliation(company,
+                            Math.min(lastYear, birthYear + 22 + random.nextInt(8))));
+                }
+            }
+            network.persons.add(person);
+        }
+    }
+
+    private void generateKnows(SocialNetwork network, Random random) {
+        List<Person> persons = network.persons;
+        int n = persons.size();
+        // the average degree of Datagen for this number of persons
+        double averageDegree = Math.min(n - 1, Math.pow(n, 0.512 - 0.028 * Math.log10(n)));
+        double[] weights = new double[n];
+        double totalWeight = 0;
+        for (int i = 0; i < n; i++) {
+            weights[i] = Math.min(n - 1, averageDegree * pareto(random, 1.5));
+            totalWeight += weights[i];
+        }
+        Sampler everyone = new Sampler(weights);
+        List<List<Person>> byCountry = new ArrayList<>();
+        for (int i = 0; i < network.world.countryCount(); i++) {
+            byCountry.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            byCountry.get(person.country).add(person);
+        }
+        Sampler[] countrySamplers = new Sampler[byCountry.size()];
+        for (int i = 0; i < countrySamplers.length; i++) {
+            List<Person> countryPersons = byCountry.get(i);
+            double[] countryWeights = new double[countryPersons.size()];
+            for (int j = 0; j < countryWeights.length; j++) {
+                countryWeights[j] = weights[countryPersons.get(j).index];
+            }
+            countrySamplers[i] = countryWeights.length == 0 ? null : new Sampler(countryWeights);
+        }
+
+        long edges = Math.round(totalWeight / 2);
+        Set<Long> existing = new HashSet<>();
+        for (long attempt = 0; network.knows.size() < edges && attempt < 4 * edges; attempt++) {
+            Person person1 = persons.get(everyone.sample(random));
+            Person person2 = random.nextDouble() < SAME_COUNTRY_KNOWS
+                    ? byCountry.get(person1.country).get(countrySamplers[person1.country].sample(random))
+                    : persons.get(everyone.sample(random));
+            if (person1 == person2) {
+                continue;
+            }
+            if (person1.index > person2.index) {
+                Person swap = person1;
+                person1 = person2;
+                person2 = swap;
+            }
+            if (!existing.add((long) person1.index * n + person2.index)) {
+                continue;
+            }
+            // person2 is created after person1
+            Knows knows = new Knows(person1, person2, after(random, person2.creationDate, 60 * DAY));
+            network.knows.add(knows);
+            person1.knows.add(knows);
+            person2.knows.add(knows);
+        }
+    }
+
+    private void generateForums(SocialNetwork network, Random random) {
+        List<Person> persons = network.persons;
+        StaticWorld world = network.world;
+        for (Person person : persons) {
+            Forum wall = addForum(network, "Wall of " + person.firstName + " " + person.lastName,
+                    after(random, person.creationDate, HOUR), person);
+            wall.tags.addAll(person.interests);
+            addFriends(network, random, wall);
+            walls.add(wall);
+        }
+
+        List<List<Person>> interested = new ArrayList<>();
+        for (int i = 0; i < world.tags.size(); i++) {
+            interested.add(new ArrayList<>());
+        }
+        double[] activities = new double[persons.size()];
+        for (Person person : persons) {
+            for (long tag : person.interests) {
+                interested.get((int) tag).add(person);
+            }
+            activities[person.index] = person.activity;
+        }
+        Sampler moderators = new Sampler(activities);
+        int groupCount = Math.max(1, persons.size() / 5);
+        for (int i = 0; i < groupCount; i++) {
+            Person moderator = persons.get(moderators.sample(random));
+            long tag = moderator.interests.get(random.nextInt(moderator.interests.size()));
+            long creationDate = after(random, moderator.creationDate, (end - moderator.creationDate) / 2);
+            Forum group = addForum(network, "Group for " + world.tags.get((int) tag).name.replace('_', ' ')
+                    + " in " + moderator.city.name, creationDate, moderator);
+            group.tags.add(tag);
+            addMember(network, group, moderator, creationDate);
+            Set<Person> members = new HashSet<>();
+            members.add(moderator);
+            int size = (int) Math.min(persons.size() - 1, Math.round(pareto(random, 1.5) * GROUP_SIZE));
+            for (int attempt = 0; members.size() <= size && attempt < 3 * size; attempt++) {
+                double choice = random.nextDouble();
+                Person member;
+                if (choice < 0.4 && !moderator.knows.isEmpty()) {
+                    member = moderator.knows.get(random.nextInt(moderator.knows.size())).other(moderator);
+                } else if (choice < 0.8) {
+                    List<Person> candidates = interested.get((int) tag);
+                    member = candidates.get(random.nextInt(candidates.size()));
+                } else {
+                    member = persons.get(random.nextInt(persons.size()));
+                }
+                if (members.add(member)) {
+                    addMember(network, group, member,
+                            after(random, Math.max(creationDate, member.creationDate), 180 * DAY));
+                }
+            }
+            groups.add(group);
+        }
+
+        for (Person person : persons) {
+            int count = (int) (person.activity * random.nextDouble() * 1.5);
+            for (int i = 0; i < count; i++) {
+                Forum album = addForum(network, "Album " + i + " of " + person.firstName + " " + person.lastName,
+                        between(random, person.creationDate, end), person);
+                addFriends(network, random, album);
+                albums.add(album);
+            }
+        }
+    }
+
+    private Forum addForum(SocialNetwork network, String title, long creationDate, Person moderator) {
+        Forum forum = new Forum(network.forums.size() + 1, title, creationDate, moderator);
+        network.forums.add(forum);
+        return forum;
+    }
+
+    /**
+     * Adds the friends of the moderator to a wall or an album.
+     */
+    private void addFriends(SocialNetwork network, Random random, Forum forum) {
+        for (Knows knows : forum.moderator.knows) {
+            addMember(network, forum, knows.other(forum.moderator),
+                    after(random, Math.max(knows.creationDate, forum.creationDate), DAY));
+        }
+    }
+
+    private static void addMember(SocialNetwork network, Forum forum, Person person, long joinDate) {
+        Membership membership = new Membership(forum, person, joinDate);
+        forum.members.add(membership);
+        network.memberships.add(membership);
+    }
+
+    private void generateMessages(SocialNetwork network, Random random) {
+        for (Forum wall : walls) {
+            Person owner = wall.moderator;
+            int count = count(random, owner.activity * WALL_POSTS * share(wall.creationDate));
+            for (int i = 0; i < count; i++) {
+                Message post = addPost(network, random, wall, owner, between(random, wall.creationDate, end), false);
+                addThread(network, random, post);
+            }
+        }
+        for (Forum group : groups) {
+            for (int m = 0; m < group.members.size(); m++) {
+                Membership member = group.members.get(m);
+                int count = count(random, member.person.activity * GROUP_POSTS * share(member.joinDate));
+                for (int i = 0; i < count; i++) {
+                    Message post = addPost(network, random, group, member.person,
+                            between(random, member.joinDate, end), false);
+                    addThread(network, random, post);
+                }
+            }
+        }
+        for (Forum album : albums) {
+            int count = 1 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                Message photo = addPost(network, random, album, album.moderator,
+                        after(random, album.creationDate, 7 * DAY), true);
+                addLikes(network, random, album, photo);
+            }
+        }
+    }
+
+    private Message addPost(SocialNetwork network, Random random, Forum forum, Person creator, long creationDate,
+                            boolean photo) {
+        long id = network.messages.size() + 1;
+        long country = country(network, random, creator);
+        Message post;
+        if (photo) {
+            post = new Message(id, creationDate, creator, forum, null, "photo" + id + ".jpg", "", "", country);
+            if (random.nextBoolean()) {
+                post.tags.add(creator.interests.get(random.nextInt(creator.interests.size())));
+            }
+        } else {
+            List<Long> topics = !forum.tags.isEmpty() && random.nextBoolean() ? forum.tags : creator.interests;
+            long tag = topics.get(random.nextInt(topics.size()));
+            post = new Message(id, creationDate, creator, forum, null, "",
+                    creator.languages.get(random.nextInt(creator.languages.size())),
+                    text(random, network.world.tags.get((int) tag).name), country);
+            post.tags.add(tag);
+            long other = creator.interests.get(random.nextInt(creator.interests.size()));
+            if (other != tag && random.nextDouble() < 0.3) {
+                post.tags.add(other);
+            }
+        }
+        network.messages.add(post);
+        return post;
+    }
+
+    /**
+     * Adds the comments and the likes of a post and its comments.
+     */
+    private void addThread(SocialNetwork network, Random random, Message post) {
+        List<Message> thread = new ArrayList<>();
+        thread.add(post);
+        int count = (int) Math.min(MAX_REPLIES, pareto(random, 1.3) * REPLIES);
+        long replies = 0;
+        for (int i = 0; i < count; i++) {
+            // preferential attachment: every message is weighted by its replies plus one
+            long target = (long) (random.nextDouble() * (thread.size() + replies));
+            Message parent = null;
+            for (Message message : thread) {
+                target -= message.replyCount + 1;
+                if (target < 0) {
+                    parent = message;
+                    break;
+                }
+            }
+            if (parent == null || parent.creationDate + 1 >= end) {
+                continue;
+            }
+            long creationDate = after(random, parent.creationDate + 1, 6 * HOUR);
+            Person creator = participant(random, post.forum, creationDate);
+            String content;
+            long tag = -1;
+            if (random.nextBoolean()) {
+                content = SHORT_COMMENTS[random.nextInt(SHORT_COMMENTS.length)];
+            } else {
+                List<Long> topics = !parent.tags.isEmpty() && random.nextBoolean() ? parent.tags : creator.interests;
+                tag = topics.get(random.nextInt(topics.size()));
+                content = text(random, network.world.tags.get((int) tag).name);
+            }
+            Message comment = new Message(network.messages.size() + 1, creationDate, creator, null, parent, "", "",
+                    content, country(network, random, creator));
+            if (tag >= 0) {
+                comment.tags.add(tag);
+            }
+            network.messages.add(comment);
+            parent.replyCount++;
+            replies++;
+            thread.add(comment);
+        }
+        for (Message message : thread) {
+            addLikes(network, random, post.forum, message);
+        }
+    }
+
+    private void addLikes(SocialNetwork network, Random random, Forum forum, Message message) {
+        int count = (int) Math.min(MAX_LIKES, pareto(random, 1.5) * (message.isPost() ? 2 : 0.5));
+        Set<Person> likers = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            int index = random.nextInt(forum.members.size() + 1);
+            Person person = index == forum.members.size() ? forum.moderator : forum.members.get(index).person;
+            long joinDate = index == forum.members.size() ? forum.creationDate : forum.members.get(index).joinDate;
+            long from = Math.max(message.creationDate, joinDate);
+            if (person == message.creator || from >= end || !likers.add(person)) {
+                continue;
+            }
+            network.likes.add(new Like(person, message, after(random, from, 30 * DAY)));
+        }
+    }
+
+    /**
+     * @return a moderator or a member of the forum, who joined before the date if possible
+     */
+    private static Person participant(Random random, Forum forum, long date) {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            int index = random.nextInt(forum.members.size() + 1);
+            if (index == forum.members.size()) {
+                break;
+            }
+            if (forum.members.get(index).joinDate <= date) {
+                return forum.members.get(index).person;
+            }
+        }
+        return forum.moderator;
+    }
+
+    private static long country(SocialNetwork network, Random random, Person person) {
+        StaticWorld world = network.world;
+        int country = random.nextDouble() < TRAVEL ? random.nextInt(world.countryCount()) : person.country;
+        return world.countries[country].id;
+    }
+
+    private static String ip(Random random, int country) {
+        return (1 + country * 7) + "." + random.nextInt(256) + "." + random.nextInt(256) + "."
+                + random.nextInt(256);
+    }
+
+    private static String text(Random random, String topic) {
+        StringBuilder text = new StringBuilder("About ").append(topic.replace('_', ' ')).append(',');
+        int words = 3 + (int) Math.min(60, pareto(random, 1.5) * 8);
+        for (int i = 0; i < words; i++) {
+            text.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    /**
+     * @return the share of the time span that is left after the date
+     */
+    private double share(long date) {
+        return (double) (end - date) / (end - START);
+    }
+
+    private long between(Random random, long from, long to) {
+        return from + (long) (random.nextDouble() * (to - from));
+    }
+
+    /**
+     * @return a date after the given one, at most maxDelay later and before the end of the time span
+     */
+    private long after(Random random, long from, long maxDelay) {
+        return between(random, from, from + Math.min(maxDelay, end - from));
+    }
+
+    /**
+     * @return an integer with the given mean, the fraction is rounded up with its probability
+     */
+    private static int count(Random random, double mean) {
+        int count = (int) mean;
+        return count + (random.nextDouble() < mean - count ? 1 : 0);
+    }
+
+    /**
+     * @return a Pareto distributed value with mean 1
+     */
+    static double pareto(Random random, double shape) {
+        double scale = (shape - 1) / shape;
+        return scale * Math.pow(1 - random.nextDouble(), -1 / shape);
+    }
+
+    /**
+     * Draws indexes with probabilities proportional to positive weights.
+     */
+    static final class Sampler {
+        private final double[] cumulative;
+
+        Sampler(double[] weights) {
+            cumulative = new double[weights.length];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                cumulative[i] = total;
+            }
+        }
+
+        static Sampler zipf(int size, double exponent) {
+            double[] weights = new double[size];
+            for (int i = 0; i < size; i++) {
+                weights[i] = 1 / Math.pow(i + 1, exponent);
+            }
+            return new Sampler(weights);
+        }
+
+        int sample(Random random) {
+            double value = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, value);
+            // the first index whose cumulative weight exceeds the value
+            return Math.min(cumulative.length - 1, index >= 0 ? index + 1 : -index - 1);
+        }
+    }
+
+}
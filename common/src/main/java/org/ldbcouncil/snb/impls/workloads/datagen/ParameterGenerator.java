@@ -0,0 +1,307 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Affiliation;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Knows;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Message;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Person;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Tag;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.TagClass;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Writes the substitution parameters of the complex reads (interactive_N_param.txt) for the bulk-loaded part of
+ * a SocialNetwork.
+ *
+ * Like Datagen's parameter curation, the persons are chosen among the persons whose number of friends is close to
+ * the median, so that the runtimes of the operations of a query type are comparable. The other parameters are
+ * derived from the neighbourhood of the person where the query needs a match (e.g. the first name of IC1 is the
+ * name of a person within three hops, the countries of IC3 are where a friend posted while abroad). Dates are epoch milliseconds at midnight.
+ */
+final class ParameterGenerator {
+
+    private static final long DAY = 24 * 3_600_000L;
+
+    private final SocialNetwork network;
+    private final int rows;
+    private final Random random;
+    /** the bulk-loaded friends of every person */
+    private final List<List<Person>> friends = new ArrayList<>();
+    /** the bulk-loaded messages of every person that are located in another country than the person */
+    private final List<List<Message>> messagesAbroad = new ArrayList<>();
+
+    ParameterGenerator(SocialNetwork network, int rows, Random random) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("At least 1 parameter per query is required, got " + rows);
+        }
+        this.network = network;
+        this.rows = rows;
+        this.random = random;
+        for (int i = 0; i < network.persons.size(); i++) {
+            friends.add(new ArrayList<>());
+            messagesAbroad.add(new ArrayList<>());
+        }
+        for (Knows knows : network.knows) {
+            if (network.isBulk(knows.creationDate)) {
+                friends.get(knows.person1.index).add(knows.person2);
+                friends.get(knows.person2.index).add(knows.person1);
+            }
+        }
+        for (Message message : network.messages) {
+            Person creator = message.creator;
+            if (network.isBulk(message.creationDate)
+                    && message.country != network.world.countries[creator.country].id) {
+                messagesAbroad.get(creator.index).add(message);
+            }
+        }
+    }
+
+    void write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Person> persons = persons();
+        long start = network.start;
+        long cutoff = network.cutoff;
+        long middle = start + (cutoff - start) / 2;
+
+        for (int query = 1; query <= 14; query++) {
+            Collections.shuffle(persons, random);
+            try (BufferedWriter writer = Files.newBufferedWriter(
+                    outputDir.resolve("interactive_" + query + "_param.txt"), StandardCharsets.UTF_8)) {
+                writer.write(header(query));
+                writer.write('\n');
+                for (int row = 0; row < rows; row++) {
+                    Person person = persons.get(row % persons.size());
+                    String parameters;
+                    switch (query) {
+                        case 1:
+                            parameters = person.id + "|" + within(person, 1, 3).firstName;
+                            break;
+                        case 2:
+                        case 9:
+                            parameters = person.id + "|" + day(between(middle, cutoff));
+                            break;
+                        case 3:
+                            parameters = person.id + "|" + trip(person);
+                            break;
+                        case 4:
+                            parameters = person.id + "|" + day(between(start, cutoff - 31 * DAY)) + "|"
+                                    + (28 + random.nextInt(4));
+                            break;
+                        case 5:
+                            parameters = person.id + "|" + day(between(start, middle));
+                            break;
+                        case 6:
+                            parameters = person.id + "|" + interest(friend(person)).name;
+                            break;
+                        case 7:
+                        case 8:
+                            parameters = Long.toString(person.id);
+                            break;
+                        case 10:
+                            parameters = person.id + "|" + (1 + random.nextInt(12));
+                            break;
+                        case 11:
+                            Person friend = friend(person);
+                            parameters = person.id + "|" + country(friend) + "|" + workFromYear(friend);
+                            break;
+                        case 12:
+                            parameters = person.id + "|" + tagClass(interest(friend(person))).name;
+                            break;
+                        default:
+                            parameters = person.id + "|" + within(person, 2, 4).id;
+                            break;
+                    }
+                    writer.write(parameters);
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+
+    private static String header(int query) {
+        switch (query) {
+            case 1:
+                return "personId|firstName";
+            case 2:
+            case 9:
+                return "personId|maxDate";
+            case 3:
+                return "personId|startDate|durationDays|countryXName|countryYName";
+            case 4:
+                return "personId|startDate|durationDays";
+            case 5:
+                return "personId|minDate";
+            case 6:
+                return "personId|tagName";
+            case 7:
+            case 8:
+                return "personId";
+            case 10:
+                return "personId|month";
+            case 11:
+                return "personId|countryName|workFromYear";
+            case 12:
+                return "personId|tagClassName";
+            default:
+                return "person1Id|person2Id";
+        }
+    }
+
+    /**
+     * @return the bulk-loaded persons with friends, the ones with a number of friends closest to the median first
+     */
+    private List<Person> persons() {
+        List<Person> candidates = new ArrayList<>();
+        for (Person person : network.persons) {
+            if (network.isBulk(person.creationDate) && !friends.get(person.index).isEmpty()) {
+                candidates.add(person);
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("No bulk-loaded person has friends, generate more persons");
+        }
+        List<Integer> degrees = new ArrayList<>();
+        for (Person person : candidates) {
+            degrees.add(friends.get(person.index).size());
+        }
+        Collections.sort(degrees);
+        int median = degrees.get(degrees.size() / 2);
+        candidates.sort(Comparator.comparingInt(person -> Math.abs(friends.get(person.index).size() - median)));
+        return new ArrayList<>(candidates.subList(0,
+                Math.max(Math.min(rows, candidates.size()), candidates.size() / 2)));
+    }
+
+    private Person friend(Person person) {
+        List<Person> personFriends = friends.get(person.index);
+        return personFriends.get(random.nextInt(personFriends.size()));
+    }
+
+    /**
+     * @return the start date, the duration and the two countries of IC3: the countries of two messages that a
+     * friend or a friend of a friend posted abroad, preferably within a month, and a time span that contains both
+     */
+    private String trip(Person person) {
+        List<Person> candidates = neighbourhood(person, 1, 2);
+        Collections.shuffle(candidates, random);
+        Message bestFirst = null;
+        Message bestSecond = null;
+        for (Person candidate : candidates) {
+            List<Message> messages = messagesAbroad.get(candidate.index);
+            for (Message first : messages) {
+                for (Message second : messages) {
+                    if (first.country != second.country && first.creationDate <= second.creationDate
+                            && (bestFirst == null || second.creationDate - first.creationDate
+                            < bestSecond.creationDate - bestFirst.creationDate)) {
+                        bestFirst = first;
+                        bestSecond = second;
+                    }
+                }
+            }
+            if (bestFirst != null && bestSecond.creationDate - bestFirst.creationDate < 21 * DAY) {
+                break;
+            }
+        }
+        if (bestFirst != null) {
+            long startDate = day(bestFirst.creationDate) - random.nextInt(7) * DAY;
+            int durationDays = Math.max(28, (int) ((bestSecond.creationDate - startDate) / DAY) + 1);
+            return startDate + "|" + durationDays + "|" + place(bestFirst.country) + "|"
+                    + place(bestSecond.country);
+        }
+        StaticWorld world = network.world;
+        String countryX = world.countries[random.nextInt(world.countryCount())].name;
+        String countryY = world.countries[random.nextInt(world.countryCount())].name;
+        while (countryY.equals(countryX)) {
+            countryY = world.countries[random.nextInt(world.countryCount())].name;
+        }
+        return day(between(network.start, network.cutoff - 31 * DAY)) + "|" + (28 + random.nextInt(4)) + "|"
+                + countryX + "|" + countryY;
+    }
+
+    /**
+     * @return a random person at a distance between min and max hops, or a friend if there is none
+     */
+    private Person within(Person person, int min, int max) {
+        List<Person> found = neighbourhood(person, min, max);
+        return found.isEmpty() ? friend(person) : found.get(random.nextInt(found.size()));
+    }
+
+    /**
+     * @return the persons at a distance between min and max hops, ordered by distance
+     */
+    private List<Person> neighbourhood(Person person, int min, int max) {
+        Map<Person, Integer> distances = new HashMap<>();
+        List<Person> frontier = Collections.singletonList(person);
+        List<Person> found = new ArrayList<>();
+        distances.put(person, 0);
+        for (int distance = 1; distance <= max && !frontier.isEmpty(); distance++) {
+            List<Person> next = new ArrayList<>();
+            for (Person current : frontier) {
+                for (Person friend : friends.get(current.index)) {
+                    if (!distances.containsKey(friend)) {
+                        distances.put(friend, distance);
+                        next.add(friend);
+                        if (distance >= min) {
+                            found.add(friend);
+                        }
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return found;
+    }
+
+    private String country(Person person) {
+        return network.world.countries[person.country].name;
+    }
+
+    private String place(long id) {
+        return network.world.places.get((int) id).name;
+    }
+
+    private Tag interest(Person person) {
+        return network.world.tags.get((int) (long) person.interests.get(random.nextInt(person.interests.size())));
+    }
+
+    /**
+     * @return the class of the tag or, for half of the tags, its superclass
+     */
+    private TagClass tagClass(Tag tag) {
+        TagClass tagClass = network.world.tagClasses.get((int) tag.hasType);
+        if (random.nextBoolean() && tagClass.isSubclassOf >= 0) {
+            tagClass = network.world.tagClasses.get((int) tagClass.isSubclassOf);
+        }
+        return tagClass;
+    }
+
+    /**
+     * @return a year after the first year of a job of the person, so that IC11 has a match
+     */
+    private int workFromYear(Person person) {
+        if (person.workAt.isEmpty()) {
+            return 2000 + random.nextInt(13);
+        }
+        Affiliation workAt = person.workAt.get(random.nextInt(person.workAt.size()));
+        return workAt.year + 1;
+    }
+
+    private long between(long from, long to) {
+        return from + (long) (random.nextDouble() * (to - from));
+    }
+
+    private static long day(long millis) {
+        return millis - millis % DAY;
+    }
+
+}
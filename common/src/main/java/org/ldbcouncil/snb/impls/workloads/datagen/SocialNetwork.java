@@ -0,0 +1,184 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Organisation;
+import org.ldbcouncil.snb.impls.workloads.datagen.StaticWorld.Place;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The dynamic part of the data set, as generated by NetworkGenerator.
+ *
+ * Every entity has a creation date in [start, end). The entities created before the cutoff form the
+ * bulk-loaded data set, the rest are the inserts of the update streams. An entity is never created before
+ * the entities it refers to, so the bulk data set is closed under references.
+ */
+final class SocialNetwork {
+
+    static final class Person {
+        final int index;
+        final long id;
+        final String firstName;
+        final String lastName;
+        final String gender;
+        final long birthday;
+        final long creationDate;
+        final String locationIP;
+        final String browserUsed;
+        final int country;
+        final Place city;
+        final List<String> languages = new ArrayList<>();
+        final List<String> emails = new ArrayList<>();
+        final List<Long> interests = new ArrayList<>();
+        final List<Affiliation> studyAt = new ArrayList<>();
+        final List<Affiliation> workAt = new ArrayList<>();
+        final List<Knows> knows = new ArrayList<>();
+        /** relative posting activity, 1 on average */
+        final double activity;
+
+        Person(int index, String firstName, String lastName, String gender, long birthday, long creationDate,
+               String locationIP, String browserUsed, int country, Place city, double activity) {
+            this.index = index;
+            this.id = index + 1;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.gender = gender;
+            this.birthday = birthday;
+            this.creationDate = creationDate;
+            this.locationIP = locationIP;
+            this.browserUsed = browserUsed;
+            this.country = country;
+            this.city = city;
+            this.activity = activity;
+        }
+    }
+
+    /**
+     * A studyAt (with the class year) or workAt (with the first year) relationship.
+     */
+    static final class Affiliation {
+        final Organisation organisation;
+        final int year;
+
+        Affiliation(Organisation organisation, int year) {
+            this.organisation = organisation;
+            this.year = year;
+        }
+    }
+
+    static final class Knows {
+        final Person person1;
+        final Person person2;
+        final long creationDate;
+
+        Knows(Person person1, Person person2, long creationDate) {
+            this.person1 = person1;
+            this.person2 = person2;
+            this.creationDate = creationDate;
+        }
+
+        Person other(Person person) {
+            return person == person1 ? person2 : person1;
+        }
+    }
+
+    static final class Forum {
+        final long id;
+        final String title;
+        final long creationDate;
+        final Person moderator;
+        final List<Long> tags = new ArrayList<>();
+        final List<Membership> members = new ArrayList<>();
+
+        Forum(long id, String title, long creationDate, Person moderator) {
+            this.id = id;
+            this.title = title;
+            this.creationDate = creationDate;
+            this.moderator = moderator;
+        }
+    }
+
+    static final class Membership {
+        final Forum forum;
+        final Person person;
+        final long joinDate;
+
+        Membership(Forum forum, Person person, long joinDate) {
+            this.forum = forum;
+            this.person = person;
+            this.joinDate = joinDate;
+        }
+    }
+
+    /**
+     * A post (replyOf is null) or a comment (forum is null). Posts and comments share the id space.
+     */
+    static final class Message {
+        final long id;
+        final long creationDate;
+        final Person creator;
+        final Forum forum;
+        final Message replyOf;
+        final String imageFile;
+        final String language;
+        final String content;
+        final long country;
+        final List<Long> tags = new ArrayList<>();
+        int replyCount;
+
+        Message(long id, long creationDate, Person creator, Forum forum, Message replyOf, String imageFile,
+                String language, String content, long country) {
+            this.id = id;
+            this.creationDate = creationDate;
+            this.creator = creator;
+            this.forum = forum;
+            this.replyOf = replyOf;
+            this.imageFile = imageFile;
+            this.language = language;
+            this.content = content;
+            this.country = country;
+        }
+
+        boolean isPost() {
+            return replyOf == null;
+        }
+    }
+
+    static final class Like {
+        final Person person;
+        final Message message;
+        final long creationDate;
+
+        Like(Person person, Message message, long creationDate) {
+            this.person = person;
+            this.message = message;
+            this.creationDate = creationDate;
+        }
+    }
+
+    final StaticWorld world;
+    final long start;
+    final long end;
+    final long cutoff;
+
+    /** ordered by creation date */
+    final List<Person> persons = new ArrayList<>();
+    final List<Knows> knows = new ArrayList<>();
+    final List<Forum> forums = new ArrayList<>();
+    final List<Membership> memberships = new ArrayList<>();
+    /** posts and comments */
+    final List<Message> messages = new ArrayList<>();
+    final List<Like> likes = new ArrayList<>();
+
+    SocialNetwork(StaticWorld world, long start, long end, long cutoff) {
+        this.world = world;
+        this.start = start;
+        this.end = end;
+        this.cutoff = cutoff;
+    }
+
+    boolean isBulk(long creationDate) {
+        return creationDate < cutoff;
+    }
+
+}
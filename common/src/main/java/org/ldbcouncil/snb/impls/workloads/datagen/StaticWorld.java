@@ -0,0 +1,232 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The static part of the data set: places, organisations, tag classes and tags.
+ *
+ * Unlike the dynamic part it does not depend on the scale. It is a small, fixed excerpt of the real world
+ * (continents, countries with three cities each, a university per city and a few companies per country)
+ * and a tag class hierarchy modelled after the DBpedia ontology used by Datagen.
+ * Every entity type has its own id space, starting at 0.
+ */
+final class StaticWorld {
+
+    static final String DBPEDIA_RESOURCE = "http://dbpedia.org/resource/";
+    private static final String DBPEDIA_ONTOLOGY = "http://dbpedia.org/ontology/";
+    private static final String OWL_THING = "http://www.w3.org/2002/07/owl#Thing";
+
+    // continent, country, language, cities
+    private static final String[][] COUNTRIES = {
+            {"Asia", "China", "zh", "Beijing", "Shanghai", "Guangzhou"},
+            {"Asia", "India", "en", "Mumbai", "Delhi", "Bangalore"},
+            {"Europe", "Germany", "de", "Berlin", "Hamburg", "Munich"},
+            {"North_America", "United_States", "en", "New_York_City", "Chicago", "Seattle"},
+            {"Asia", "Japan", "ja", "Tokyo", "Osaka", "Kyoto"},
+            {"South_America", "Brazil", "pt", "Sao_Paulo", "Rio_de_Janeiro", "Brasilia"},
+            {"Europe", "United_Kingdom", "en", "London", "Manchester", "Edinburgh"},
+            {"Europe", "France", "fr", "Paris", "Lyon", "Marseille"},
+            {"Asia", "Indonesia", "id", "Jakarta", "Surabaya", "Bandung"},
+            {"Europe", "Russia", "ru", "Moscow", "Saint_Petersburg", "Kazan"},
+            {"Europe", "Spain", "es", "Madrid", "Barcelona", "Valencia"},
+            {"North_America", "Mexico", "es", "Mexico_City", "Guadalajara", "Monterrey"},
+            {"Asia", "Vietnam", "vi", "Hanoi", "Ho_Chi_Minh_City", "Da_Nang"},
+            {"Europe", "Italy", "it", "Rome", "Milan", "Naples"},
+            {"Africa", "Nigeria", "en", "Lagos", "Abuja", "Kano"},
+            {"Asia", "Pakistan", "ur", "Karachi", "Lahore", "Islamabad"},
+            {"North_America", "Canada", "en", "Toronto", "Montreal", "Vancouver"},
+            {"South_America", "Argentina", "es", "Buenos_Aires", "Cordoba", "Rosario"},
+            {"Africa", "Egypt", "ar", "Cairo", "Alexandria", "Giza"},
+            {"Europe", "Poland", "pl", "Warsaw", "Krakow", "Gdansk"},
+            {"Oceania", "Australia", "en", "Sydney", "Melbourne", "Perth"},
+            {"Europe", "Netherlands", "nl", "Amsterdam", "Rotterdam", "Utrecht"},
+            {"Europe", "Sweden", "sv", "Stockholm", "Gothenburg", "Malmo"},
+            {"Asia", "Kazakhstan", "kk", "Almaty", "Astana", "Shymkent"},
+            {"Africa", "Kenya", "sw", "Nairobi", "Mombasa", "Kisumu"},
+            {"South_America", "Chile", "es", "Santiago", "Valparaiso", "Concepcion"},
+            {"Oceania", "New_Zealand", "en", "Auckland", "Wellington", "Christchurch"},
+            {"Europe", "Hungary", "hu", "Budapest", "Debrecen", "Szeged"},
+    };
+
+    private static final String[] COMPANY_SUFFIXES = {"Airlines", "Telecom", "Bank", "Motors"};
+
+    // tag class, parent; the order is the order of the ids
+    private static final String[][] TAG_CLASSES = {
+            {"Thing", null},
+            {"Agent", "Thing"},
+            {"Person", "Agent"},
+            {"Artist", "Person"},
+            {"MusicalArtist", "Artist"},
+            {"Writer", "Artist"},
+            {"Athlete", "Person"},
+            {"BasketballPlayer", "Athlete"},
+            {"SoccerPlayer", "Athlete"},
+            {"Politician", "Person"},
+            {"OfficeHolder", "Person"},
+            {"Monarch", "Person"},
+            {"Organisation", "Agent"},
+            {"Company", "Organisation"},
+            {"Band", "Organisation"},
+            {"Place", "Thing"},
+            {"Country", "Place"},
+            {"City", "Place"},
+            {"Work", "Thing"},
+            {"Album", "Work"},
+            {"Single", "Work"},
+            {"Film", "Work"},
+            {"Book", "Work"},
+    };
+
+    private static final int TAGS_PER_CLASS = 30;
+
+    static final class Place {
+        final long id;
+        final String name;
+        final String type;
+        final long isPartOf;
+
+        Place(long id, String name, String type, long isPartOf) {
+            this.id = id;
+            this.name = name;
+            this.type = type;
+            this.isPartOf = isPartOf;
+        }
+    }
+
+    static final class Organisation {
+        final long id;
+        final String type;
+        final String name;
+        final long place;
+
+        Organisation(long id, String type, String name, long place) {
+            this.id = id;
+            this.type = type;
+            this.name = name;
+            this.place = place;
+        }
+    }
+
+    static final class TagClass {
+        final long id;
+        final String name;
+        final String url;
+        final long isSubclassOf;
+
+        TagClass(long id, String name, String url, long isSubclassOf) {
+            this.id = id;
+            this.name = name;
+            this.url = url;
+            this.isSubclassOf = isSubclassOf;
+        }
+    }
+
+    static final class Tag {
+        final long id;
+        final String name;
+        final long hasType;
+
+        Tag(long id, String name, long hasType) {
+            this.id = id;
+            this.name = name;
+            this.hasType = hasType;
+        }
+    }
+
+    final List<Place> places = new ArrayList<>();
+    final List<Organisation> organisations = new ArrayList<>();
+    final List<TagClass> tagClasses = new ArrayList<>();
+    final List<Tag> tags = new ArrayList<>();
+
+    /** place of each country, in the order of COUNTRIES */
+    final Place[] countries = new Place[COUNTRIES.length];
+    /** places of the cities of each country */
+    final Place[][] cities = new Place[COUNTRIES.length][];
+    /** language spoken in each country */
+    final String[] languages = new String[COUNTRIES.length];
+    /** university of each city, by city id */
+    final Organisation[] universityOfCity;
+    /** companies of each country */
+    final Organisation[][] companies = new Organisation[COUNTRIES.length][];
+
+    StaticWorld() {
+        List<String> continents = new ArrayList<>();
+        for (String[] country : COUNTRIES) {
+            if (!continents.contains(country[0])) {
+                continents.add(country[0]);
+            }
+        }
+        for (String continent : continents) {
+            places.add(new Place(places.size(), continent, "continent", -1));
+        }
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            countries[i] = new Place(places.size(), COUNTRIES[i][1], "country", continents.indexOf(COUNTRIES[i][0]));
+            places.add(countries[i]);
+            languages[i] = COUNTRIES[i][2];
+        }
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            cities[i] = new Place[COUNTRIES[i].length - 3];
+            for (int j = 0; j < cities[i].length; j++) {
+                cities[i][j] = new Place(places.size(), COUNTRIES[i][j + 3], "city", countries[i].id);
+                places.add(cities[i][j]);
+            }
+        }
+
+        universityOfCity = new Organisation[places.size()];
+        for (Place[] countryCities : cities) {
+            for (Place city : countryCities) {
+                Organisation university = new Organisation(organisations.size(), "university",
+                        "University_of_" + city.name, city.id);
+                universityOfCity[(int) city.id] = university;
+                organisations.add(university);
+            }
+        }
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            companies[i] = new Organisation[COMPANY_SUFFIXES.length];
+            for (int j = 0; j < COMPANY_SUFFIXES.length; j++) {
+                companies[i][j] = new Organisation(organisations.size(), "company",
+                        countries[i].name + "_" + COMPANY_SUFFIXES[j], countries[i].id);
+                organisations.add(companies[i][j]);
+            }
+        }
+
+        List<String> tagClassNames = new ArrayList<>();
+        for (String[] tagClass : TAG_CLASSES) {
+            tagClassNames.add(tagClass[0]);
+        }
+        for (String[] tagClass : TAG_CLASSES) {
+            boolean root = tagClass[1] == null;
+            tagClasses.add(new TagClass(tagClasses.size(), tagClass[0],
+                    root ? OWL_THING : DBPEDIA_ONTOLOGY + tagClass[0],
+                    root ? -1 : tagClassNames.indexOf(tagClass[1])));
+        }
+        // the tags belong to the leaves of the hierarchy, interleaved so that the popular tags
+        // (the lowest ids, see NetworkGenerator) are spread over the classes
+        List<TagClass> leaves = new ArrayList<>();
+        for (TagClass tagClass : tagClasses) {
+            if (!hasSubclass(tagClass)) {
+                leaves.add(tagClass);
+            }
+        }
+        for (int i = 0; i < TAGS_PER_CLASS; i++) {
+            for (TagClass leaf : leaves) {
+                tags.add(new Tag(tags.size(), leaf.name + "_" + (i + 1), leaf.id));
+            }
+        }
+    }
+
+    private boolean hasSubclass(TagClass tagClass) {
+        for (TagClass other : tagClasses) {
+            if (other.isSubclassOf == tagClass.id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int countryCount() {
+        return COUNTRIES.length;
+    }
+
+}
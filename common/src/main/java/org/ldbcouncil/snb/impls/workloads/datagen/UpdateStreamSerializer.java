@@ -0,0 +1,205 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Affiliation;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Forum;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Knows;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Like;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Membership;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Message;
+import org.ldbcouncil.snb.impls.workloads.datagen.SocialNetwork.Person;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes the entities of a SocialNetwork created after the cutoff as the update streams of the Interactive
+ * workload: updateStream_0_N_person.csv with the new persons (IU1) and updateStream_0_N_forum.csv with the other
+ * inserts (IU2 to IU8), ordered by their scheduled start time, and updateStream.properties for the driver.
+ *
+ * Every line is "scheduled start time|dependency time|event type|fields of the operation". The scheduled start
+ * time is the creation date of the entity and the dependency time is the latest creation date of the entities it
+ * refers to. Dates are epoch milliseconds.
+ */
+final class UpdateStreamSerializer {
+
+    private static final long GCT_DELTA_DURATION = 10000;
+
+    private static final class Event {
+        final long scheduledStartTime;
+        final String line;
+
+        Event(long scheduledStartTime, long dependencyTime, int type, Object... fields) {
+            this.scheduledStartTime = scheduledStartTime;
+            StringBuilder line = new StringBuilder();
+            line.append(scheduledStartTime).append('|').append(dependencyTime).append('|').append(type);
+            for (Object field : fields) {
+                line.append('|').append(field);
+            }
+            this.line = line.toString();
+        }
+    }
+
+    private final SocialNetwork network;
+    private final int partitions;
+
+    UpdateStreamSerializer(SocialNetwork network, int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("At least 1 update partition is required, got " + partitions);
+        }
+        this.network = network;
+        this.partitions = partitions;
+    }
+
+    void write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        List<Event> personEvents = personEvents();
+        List<Event> forumEvents = forumEvents();
+        Comparator<Event> byTime = Comparator.comparingLong(event -> event.scheduledStartTime);
+        personEvents.sort(byTime);
+        forumEvents.sort(byTime);
+        write(outputDir, "person", personEvents);
+        write(outputDir, "forum", forumEvents);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (List<Event> events : Arrays.asList(personEvents, forumEvents)) {
+            if (!events.isEmpty()) {
+                min = Math.min(min, events.get(0).scheduledStartTime);
+                max = Math.max(max, events.get(events.size() - 1).scheduledStartTime);
+            }
+        }
+        long count = personEvents.size() + forumEvents.size();
+        if (count == 0) {
+            min = max = network.cutoff;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDir.resolve("updateStream.properties"),
+                StandardCharsets.UTF_8)) {
+            writer.write("ldbc.snb.interactive.gct_delta_duration:" + GCT_DELTA_DURATION + "\n");
+            writer.write("ldbc.snb.interactive.min_write_event_start_time:" + min + "\n");
+            writer.write("ldbc.snb.interactive.max_write_event_start_time:" + max + "\n");
+            writer.write("ldbc.snb.interactive.update_interleave:" + (max - min) / Math.max(1, count) + "\n");
+            writer.write("ldbc.snb.interactive.num_events:" + count + "\n");
+        }
+    }
+
+    private void write(Path outputDir, String stream, List<Event> events) throws IOException {
+        BufferedWriter[] writers = new BufferedWriter[partitions];
+        try {
+            for (int i = 0; i < partitions; i++) {
+                writers[i] = Files.newBufferedWriter(
+                        outputDir.resolve("updateStream_0_" + i + "_" + stream + ".csv"), StandardCharsets.UTF_8);
+            }
+            for (int i = 0; i < events.size(); i++) {
+                writers[i % partitions].append(events.get(i).line).append('\n');
+            }
+        } finally {
+            for (BufferedWriter writer : writers) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+    }
+
+    private List<Event> personEvents() {
+        List<Event> events = new ArrayList<>();
+        for (Person person : network.persons) {
+            if (network.isBulk(person.creationDate)) {
+                continue;
+            }
+            // persons only refer to the static part of the data set
+            events.add(new Event(person.creationDate, 0, 1, person.id, person.firstName, person.lastName,
+                    person.gender, person.birthday, person.creationDate, person.locationIP, person.browserUsed,
+                    person.city.id, String.join(";", person.languages), String.join(";", person.emails),
+                    join(person.interests), affiliations(person.studyAt), affiliations(person.workAt)));
+        }
+        return events;
+    }
+
+    /**
+     * @return the events in an order in which an entity follows the entities it refers to, which the stable sort
+     * keeps for events at the same time
+     */
+    private List<Event> forumEvents() {
+        List<Event> events = new ArrayList<>();
+        for (Forum forum : network.forums) {
+            if (!network.isBulk(forum.creationDate)) {
+                events.add(new Event(forum.creationDate, forum.moderator.creationDate, 4, forum.id, forum.title,
+                        forum.creationDate, forum.moderator.id, join(forum.tags)));
+            }
+        }
+        for (Membership membership : network.memberships) {
+            if (!network.isBulk(membership.joinDate)) {
+                events.add(new Event(membership.joinDate,
+                        Math.max(membership.forum.creationDate, membership.person.creationDate), 5,
+                        membership.forum.id, membership.person.id, membership.joinDate));
+            }
+        }
+        for (Message message : network.messages) {
+            if (network.isBulk(message.creationDate)) {
+                continue;
+            }
+            Person creator = message.creator;
+            if (message.isPost()) {
+                events.add(new Event(message.creationDate,
+                        Math.max(creator.creationDate, message.forum.creationDate), 6, message.id,
+                        message.imageFile, message.creationDate, creator.locationIP, creator.browserUsed,
+                        message.language, message.content, message.content.length(), creator.id,
+                        message.forum.id, message.country, join(message.tags)));
+            } else {
+                boolean replyOfPost = message.replyOf.isPost();
+                events.add(new Event(message.creationDate,
+                        Math.max(creator.creationDate, message.replyOf.creationDate), 7, message.id,
+                        message.creationDate, creator.locationIP, creator.browserUsed, message.content,
+                        message.content.length(), creator.id, message.country,
+                        replyOfPost ? message.replyOf.id : -1, replyOfPost ? -1 : message.replyOf.id,
+                        join(message.tags)));
+            }
+        }
+        for (Like like : network.likes) {
+            if (!network.isBulk(like.creationDate)) {
+                events.add(new Event(like.creationDate,
+                        Math.max(like.person.creationDate, like.message.creationDate),
+                        like.message.isPost() ? 2 : 3, like.person.id, like.message.id, like.creationDate));
+            }
+        }
+        for (Knows knows : network.knows) {
+            if (!network.isBulk(knows.creationDate)) {
+                events.add(new Event(knows.creationDate,
+                        Math.max(knows.person1.creationDate, knows.person2.creationDate), 8, knows.person1.id,
+                        knows.person2.id, knows.creationDate));
+            }
+        }
+        return events;
+    }
+
+    private static String join(List<Long> ids) {
+        StringBuilder joined = new StringBuilder();
+        for (long id : ids) {
+            if (joined.length() > 0) {
+                joined.append(';');
+            }
+            joined.append(id);
+        }
+        return joined.toString();
+    }
+
+    private static String affiliations(List<Affiliation> affiliations) {
+        StringBuilder joined = new StringBuilder();
+        for (Affiliation affiliation : affiliations) {
+            if (joined.length() > 0) {
+                joined.append(';');
+            }
+            joined.append(affiliation.organisation.id).append(',').append(affiliation.year);
+        }
+        return joined.toString();
+    }
+
+}
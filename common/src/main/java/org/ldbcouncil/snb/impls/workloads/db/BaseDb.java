@@ -1,23 +1,95 @@
 package org.ldbcouncil.snb.impls.workloads.db;
 
 import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandler;
+import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.impls.workloads.BaseDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.QueryStore;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultMode;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 public abstract class BaseDb<TQueryStore extends QueryStore> extends Db {
 
     protected BaseDbConnectionState<TQueryStore> dcs;
 
+    /**
+     * the handler types registered with registerHandler, which the warm-up instantiates
+     */
+    private final Map<Class<? extends Operation>, Class<? extends OperationHandler>> handlerTypes = new HashMap<>();
+
+    /**
+     * Initialises the Db, then warms it up. The warm-up runs here, once the handlers are registered, so that no
+     * implementation can skip it.
+     */
+    @Override
+    protected final void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+        initialize(properties, loggingService);
+        warmUp(properties);
+    }
+
+    /**
+     * Creates the connection state and registers the handlers with registerHandler. Called once by onInit.
+     */
+    protected abstract void initialize(Map<String, String> properties, LoggingService loggingService)
+            throws DbException;
+
+    /**
+     * Registers the handler of an operation type with the driver, and for the warm-up.
+     */
+    protected final <A extends Operation, H extends OperationHandler<A, ?>> void registerHandler(
+            Class<A> operationType, Class<H> operationHandlerType) throws DbException {
+        registerOperationHandler(operationType, operationHandlerType);
+        handlerTypes.put(operationType, operationHandlerType);
+    }
+
+    /**
+     * Executes the read operations with a sample of the substitution parameters until their latencies are stable,
+     * if warmupRounds is set (see WarmUp).
+     */
+    private void warmUp(Map<String, String> properties) throws DbException {
+        Map<Class<? extends Operation>, OperationHandler> handlers = new HashMap<>();
+        WarmUp warmUp = new WarmUp(handlers, dcs, properties);
+        if (!warmUp.isEnabled()) {
+            return;
+        }
+        for (Map.Entry<Class<? extends Operation>, Class<? extends OperationHandler>> entry : handlerTypes.entrySet()) {
+            try {
+                handlers.put(entry.getKey(), entry.getValue().getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new DbException("Cannot instantiate the handler " + entry.getValue().getName(), e);
+            }
+        }
+        // the warm-up samples the message ids of IS4-7 from the results of other queries, and its operations
+        // are not part of the result checksums, the live metrics, the JFR events and the slow query log
+        ResultMode resultMode = dcs.getResultMode();
+        dcs.setResultMode(ResultMode.MATERIALIZE);
+        dcs.setWarmingUp(true);
+        try {
+            warmUp.run();
+        } finally {
+            dcs.setWarmingUp(false);
+            dcs.setResultMode(resultMode);
+        }
+    }
+
     @Override
     protected void onClose() throws IOException {
-        dcs.close();
+        try {
+            dcs.close();
+        } finally {
+            dcs.closeMetrics();
+            dcs.printResultChecksums();
+        }
     }
 
     @Override
     protected BaseDbConnectionState getConnectionState() {
         return dcs;
     }
-    
+
 }
@@ -0,0 +1,312 @@
+package org.ldbcouncil.snb.impls.workloads.db;
+
+import org.ldbcouncil.snb.driver.DbConnectionState;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandler;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery9Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfile;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPosts;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPostsResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriends;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContent;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreator;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageReplies;
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Warms up a Db before the driver takes over: the connection pools, the plan caches of the database, the JIT of the
+ * client and the buffer cache of the data the parameters touch.
+ *
+ * Every round executes a sample of the substitution parameters of each complex read and short reads with the
+ * persons of the sample and the messages returned by IC2, IC9 and IS2, on as many threads as the connection pool has
+ * connections (poolSize) so that every connection is used. A query type is stable when its median latency differs
+ * from the previous round by less than warmupTolerance (relative, 0.1 by default). The warm-up ends when all query
+ * types are stable or after warmupRounds rounds. It is disabled unless warmupRounds is set. A query type whose
+ * operations all failed in a round has no median, so it is left out of the stability check of that round; if the
+ * operations of every query type failed, the warm-up fails instead of ending as if it had converged.
+ * BaseDb runs it at the end of its initialisation, with the handlers registered by the implementation.
+ *
+ * The operations are neither recorded in the live metrics and JFR events nor in the slow query log
+ * (see BaseDbConnectionState#isWarmingUp).
+ *
+ * The operations are executed by new instances of the registered handlers, as the driver's handler contexts are
+ * only created after the initialisation. Updates are never executed, so the warm-up does not change the data.
+ */
+final class WarmUp {
+
+    private static final int SHORT_QUERY_LIMIT = 10;
+    /** latency changes below this are noise, e.g. for the short reads of an in-memory store */
+    private static final double MIN_CHANGE_NANOS = 100_000;
+
+    private static final class Latencies {
+        final List<Long> nanos = Collections.synchronizedList(new ArrayList<>());
+        int failed;
+        double previousMedian = -1;
+        double firstMedian = -1;
+        int stableSince = -1;
+
+        boolean isStable() {
+            return stableSince >= 0;
+        }
+    }
+
+    private final Map<Class<? extends Operation>, OperationHandler> handlers;
+    private final DbConnectionState dcs;
+    private final int rounds;
+    private final int sampleSize;
+    private final int threads;
+    private final double tolerance;
+    private final Path parametersDir;
+    private final Set<Long> messageIds = Collections.synchronizedSet(new LinkedHashSet<>());
+
+    WarmUp(Map<Class<? extends Operation>, OperationHandler> handlers, DbConnectionState dcs,
+           Map<String, String> properties) {
+        this.handlers = handlers;
+        this.dcs = dcs;
+        this.rounds = Integer.parseInt(properties.getOrDefault("warmupRounds", "0"));
+        this.sampleSize = Integer.parseInt(properties.getOrDefault("warmupSampleSize", "10"));
+        this.threads = Integer.parseInt(properties.getOrDefault("warmupThreads",
+                properties.getOrDefault("poolSize", Integer.toString(Runtime.getRuntime().availableProcessors()))));
+        this.tolerance = Double.parseDouble(properties.getOrDefault("warmupTolerance", "0.1"));
+        String parametersDir = properties.getOrDefault("warmupParametersDir",
+                properties.get("ldbc.snb.interactive.parameters_dir"));
+        this.parametersDir = parametersDir == null ? null : Paths.get(parametersDir);
+    }
+
+    boolean isEnabled() {
+        return rounds > 0;
+    }
+
+    void run() throws DbException {
+        if (parametersDir == null) {
+            throw new DbException("The warm-up requires warmupParametersDir or ldbc.snb.interactive.parameters_dir");
+        }
+        List<Operation<?>> complexReads = new ArrayList<>();
+        Set<Long> personIds = new LinkedHashSet<>();
+        for (int query = 1; query <= 14; query++) {
+            Path file = parametersDir.resolve("interactive_" + query + "_param.txt");
+            try {
+                for (String[] row : sample(file, BinaryOperationFormat.parameterColumns(query))) {
+                    Operation<?> operation = BinaryOperationFormat.complexRead(query, row);
+                    if (handlers.containsKey(operation.getClass())) {
+                        complexReads.add(operation);
+                    }
+                    personIds.add(Long.parseLong(row[0]));
+                }
+            } catch (IOException e) {
+                throw new DbException("Cannot read the warm-up parameters " + file, e);
+            }
+        }
+
+        Map<String, Latencies> latencies = new LinkedHashMap<>();
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int round = 1;
+            for (; round <= rounds; round++) {
+                List<Operation<?>> operations = new ArrayList<>(complexReads);
+                for (long personId : personIds) {
+                    addIfHandled(operations, new LdbcShortQuery1PersonProfile(personId));
+                    addIfHandled(operations, new LdbcShortQuery2PersonPosts(personId, SHORT_QUERY_LIMIT));
+                    addIfHandled(operations, new LdbcShortQuery3PersonFriends(personId));
+                }
+                execute(executor, operations, latencies);
+                // the message ids are only known from the results of the operations above
+                List<Operation<?>> messageReads = new ArrayList<>();
+                for (long messageId : messages()) {
+                    addIfHandled(messageReads, new LdbcShortQuery4MessageContent(messageId));
+                    addIfHandled(messageReads, new LdbcShortQuery5MessageCreator(messageId));
+                    addIfHandled(messageReads, new LdbcShortQuery6MessageForum(messageId));
+                    addIfHandled(messageReads, new LdbcShortQuery7MessageReplies(messageId));
+                }
+                execute(executor, messageReads, latencies);
+
+                int stable = 0;
+                int measured = 0;
+                for (Latencies typeLatencies : latencies.values()) {
+                    if (typeLatencies.nanos.isEmpty()) {
+                        // no successful operation, so there is no latency to compare
+                        continue;
+                    }
+                    measured++;
+                    double median = median(typeLatencies.nanos);
+                    typeLatencies.nanos.clear();
+                    if (typeLatencies.firstMedian < 0) {
+                        typeLatencies.firstMedian = median;
+                    } else if (Math.abs(median - typeLatencies.previousMedian)
+                            <= Math.max(tolerance * typeLatencies.previousMedian, MIN_CHANGE_NANOS)) {
+                        if (!typeLatencies.isStable()) {
+                            typeLatencies.stableSince = round;
+                        }
+                    } else {
+                        typeLatencies.stableSince = -1;
+                    }
+                    typeLatencies.previousMedian = median;
+                    if (typeLatencies.isStable()) {
+                        stable++;
+                    }
+                }
+                int executed = operations.size() + messageReads.size();
+                if (executed == 0) {
+                    System.out.println("Warm-up skipped: no read of the parameters has a registered handler");
+                    return;
+                }
+                if (measured == 0) {
+                    throw new DbException("All " + executed + " operations of warm-up round " + round + " failed");
+                }
+                System.out.printf("Warm-up round %d: %d operations, %d of %d measured query types stable%n",
+                        round, executed, stable, measured);
+                if (stable == measured) {
+                    break;
+                }
+            }
+
+            System.out.printf("Warm-up finished after %d rounds in %.1f s on %d threads%n",
+                    Math.min(round, rounds), (System.nanoTime() - start) / 1e9, threads);
+            for (Map.Entry<String, Latencies> entry : latencies.entrySet()) {
+                Latencies typeLatencies = entry.getValue();
+                if (typeLatencies.firstMedian < 0) {
+                    System.out.printf("%-40s no successful operations, failed=%d%n", entry.getKey(), typeLatencies.failed);
+                    continue;
+                }
+                System.out.printf("%-40s first=%.3f ms last=%.3f ms %s%s%n", entry.getKey(),
+                        typeLatencies.firstMedian / 1e6, typeLatencies.previousMedian / 1e6,
+                        typeLatencies.isStable() ? "stable since round " + typeLatencies.stableSince : "not stable",
+                        typeLatencies.failed > 0 ? " failed=" + typeLatencies.failed : "");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DbException("The warm-up was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void addIfHandled(List<Operation<?>> operations, Operation<?> operation) {
+        if (handlers.containsKey(operation.getClass())) {
+            operations.add(operation);
+        }
+    }
+
+    private List<Long> messages() {
+        synchronized (messageIds) {
+            return new ArrayList<>(messageIds);
+        }
+    }
+
+    private void execute(ExecutorService executor, List<Operation<?>> operations, Map<String, Latencies> latencies)
+            throws InterruptedException {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (Operation<?> operation : operations) {
+            Latencies typeLatencies = latencies.computeIfAbsent(operation.getClass().getSimpleName(),
+                    type -> new Latencies());
+            tasks.add(() -> {
+                long start = System.nanoTime();
+                execute(operation);
+                typeLatencies.nanos.add(System.nanoTime() - start);
+                return true;
+            });
+        }
+        List<Future<Boolean>> futures = executor.invokeAll(tasks);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                latencies.get(operations.get(i).getClass().getSimpleName()).failed++;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void execute(Operation<?> operation) throws DbException {
+        ResultReporter reporter = new ResultReporter.SimpleResultReporter(null);
+        handlers.get(operation.getClass()).executeOperation(operation, dcs, reporter);
+        Object result = reporter.result();
+        // as many messages as persons are enough for the short reads of the messages
+        if (!(result instanceof List) || messageIds.size() >= 14 * sampleSize) {
+            return;
+        }
+        for (Object row : (List<Object>) result) {
+            if (row instanceof LdbcQuery2Result) {
+                messageIds.add(((LdbcQuery2Result) row).getMessageId());
+            } else if (row instanceof LdbcQuery9Result) {
+                messageIds.add(((LdbcQuery9Result) row).getMessageId());
+            } else if (row instanceof LdbcShortQuery2PersonPostsResult) {
+                messageIds.add(((LdbcShortQuery2PersonPostsResult) row).getMessageId());
+            }
+        }
+    }
+
+    /**
+     * @return evenly spaced rows of a parameter file, with the given columns in their order
+     */
+    private List<String[]> sample(Path file, String[] columns) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String[] header;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return Collections.emptyList();
+            }
+            header = headerLine.split("\\|");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = Arrays.asList(header).indexOf(columns[i]);
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Column " + columns[i] + " missing in " + file);
+            }
+        }
+        List<String[]> rows = new ArrayList<>();
+        int count = Math.min(sampleSize, lines.size());
+        for (int i = 0; i < count; i++) {
+            String[] fields = lines.get((int) ((long) i * lines.size() / count)).split("\\|", -1);
+            String[] row = new String[indexes.length];
+            for (int j = 0; j < indexes.length; j++) {
+                row[j] = fields[indexes[j]];
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static double median(List<Long> nanos) {
+        if (nanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.ldbcouncil.snb.impls.workloads.execution;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The kind of threads the concurrent operations are executed on.
+ *
+ * Virtual threads (Java 21 and newer) are cheap to block, so every in-flight operation can have its own thread
+ * and the connection pools of the connection states become the only bound on the concurrency.
+ * They are obtained reflectively, so this class still compiles and runs (in platform mode) on Java 8.
+ */
+public enum ExecutionMode {
+
+    PLATFORM,
+    VIRTUAL;
+
+    public static ExecutionMode fromString(String mode) {
+        return valueOf(mode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return an executor which starts a new thread for every submitted task
+     */
+    public ExecutorService newThreadPerTaskExecutor() {
+        if (this == PLATFORM) {
+            return Executors.newCachedThreadPool();
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Virtual threads require Java 21 or newer, running on Java "
+                    + System.getProperty("java.version"));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create a virtual thread executor", e);
+        }
+    }
+
+}
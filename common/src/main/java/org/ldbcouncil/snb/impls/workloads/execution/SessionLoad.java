@@ -0,0 +1,167 @@
+package org.ldbcouncil.snb.impls.workloads.execution;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfile;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPosts;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriends;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContent;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreator;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageReplies;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs many concurrent sessions against a Db implementation, without the driver's scheduler,
+ * to test how a connector behaves under a given concurrency, e.g. thousands of sessions on virtual threads.
+ *
+ * Every session runs on its own thread and executes randomly picked read operations back-to-back.
+ * The operations use the parameters of InteractiveTest, i.e. they match the test data sets of the repository.
+ * The concurrency reaching the database is bounded by the connection state (e.g. the poolSize of the JDBC backends),
+ * the remaining sessions wait for a connection.
+ *
+ * Usage (from an implementation's directory, with its shaded jar on the classpath):
+ * java -cp target/[implementation]-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.execution.SessionLoad
+ * [benchmark properties file] [--sessions 1000] [--duration 60] [--mode virtual|platform]
+ */
+public class SessionLoad {
+
+    private static final int LIMIT = 100;
+
+    private final Db db;
+    private final List<Operation<?>> operations;
+    // successful operations, the throughput and the mean latency only count these
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder latencySumNanos = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    SessionLoad(Db db, List<Operation<?>> operations) {
+        this.db = db;
+        this.operations = operations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String propertiesFile = "driver/benchmark.properties";
+        int sessions = 1000;
+        int durationSeconds = 60;
+        ExecutionMode mode = ExecutionMode.VIRTUAL;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--sessions":
+                    sessions = Integer.parseInt(args[++i]);
+                    break;
+                case "--duration":
+                    durationSeconds = Integer.parseInt(args[++i]);
+                    break;
+                case "--mode":
+                    mode = ExecutionMode.fromString(args[++i]);
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    propertiesFile = args[i];
+            }
+        }
+
+        Properties loaded = new Properties();
+        try (InputStream in = Files.newInputStream(Paths.get(propertiesFile))) {
+            loaded.load(in);
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (String name : loaded.stringPropertyNames()) {
+            properties.put(name, loaded.getProperty(name));
+        }
+
+        Db db = (Db) Class.forName(properties.get("db")).getDeclaredConstructor().newInstance();
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        db.init(properties, null, workload.operationTypeToClassMapping());
+        try {
+            new SessionLoad(db, readOperations()).run(mode, sessions, durationSeconds);
+        } finally {
+            db.close();
+            workload.close();
+        }
+    }
+
+    void run(ExecutionMode mode, int sessions, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executor = mode.newThreadPerTaskExecutor();
+        for (int i = 0; i < sessions; i++) {
+            executor.execute(() -> session(deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 600, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long count = completed.sum();
+        System.out.printf("mode=%s sessions=%d duration=%.1fs%n", mode, sessions, elapsedSeconds);
+        System.out.printf("completed=%d failed=%d throughput=%.1f ops/s mean latency=%.3f ms%n",
+                count, failed.sum(), count / elapsedSeconds, count == 0 ? 0.0 : latencySumNanos.sum() / 1e6 / count);
+    }
+
+    private void session(long deadline) {
+        ResultReporter reporter = new ResultReporter.SimpleResultReporter(null);
+        while (System.nanoTime() < deadline) {
+            Operation<?> operation = operations.get(ThreadLocalRandom.current().nextInt(operations.size()));
+            long start = System.nanoTime();
+            try {
+                OperationHandlerRunnableContext context = db.getOperationHandlerRunnableContext(operation);
+                try {
+                    context.operationHandler().executeOperation(operation, context.dbConnectionState(), reporter);
+                } finally {
+                    context.cleanup();
+                }
+                completed.increment();
+                latencySumNanos.add(System.nanoTime() - start);
+            } catch (Exception e) {
+                failed.increment();
+            }
+        }
+    }
+
+    /**
+     * @return read operations with the parameters of InteractiveTest
+     */
+    static List<Operation<?>> readOperations() {
+        return Arrays.asList(
+                new LdbcQuery1(30786325579101L, "Ian", LIMIT),
+                new LdbcQuery2(19791209300143L, new Date(1354060800000L), LIMIT),
+                new LdbcQuery7(26388279067534L, LIMIT),
+                new LdbcQuery8(2199023256816L, LIMIT),
+                new LdbcQuery11(30786325579101L, "Puerto_Rico", 2004, LIMIT),
+                new LdbcQuery12(19791209300143L, "BasketballPlayer", LIMIT),
+                new LdbcShortQuery1PersonProfile(32985348833679L),
+                new LdbcShortQuery2PersonPosts(32985348833679L, LIMIT),
+                new LdbcShortQuery3PersonFriends(32985348833679L),
+                new LdbcShortQuery4MessageContent(2061584476422L),
+                new LdbcShortQuery5MessageCreator(2061584476422L),
+                new LdbcShortQuery6MessageForum(2061584476422L),
+                new LdbcShortQuery7MessageReplies(2061584476422L));
+    }
+
+}
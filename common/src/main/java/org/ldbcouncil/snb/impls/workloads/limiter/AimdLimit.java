@@ -0,0 +1,37 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+/**
+ * Additive increase, multiplicative decrease: the limit grows by one while the latency gradient stays below the
+ * tolerance, and is multiplied by the backoff ratio when the gradient exceeds it or an operation fails.
+ * Simple and robust, but the limit oscillates around the knee point.
+ */
+public class AimdLimit implements LimitAlgorithm {
+
+    private final double tolerance;
+    private final double backoffRatio;
+
+    /**
+     * @param tolerance    gradient above which the backend counts as overloaded, e.g. 1.5
+     * @param backoffRatio factor applied to the limit on overload, in (0, 1)
+     */
+    public AimdLimit(double tolerance, double backoffRatio) {
+        if (tolerance <= 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("Expected tolerance > 1 and 0 < backoff ratio < 1");
+        }
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+    }
+
+    @Override
+    public int update(int limit, double gradient, int inFlight, boolean error) {
+        if (error || gradient > tolerance) {
+            return (int) (limit * backoffRatio);
+        }
+        // only grow a limit which is actually used, otherwise it drifts to the maximum at low load
+        if (inFlight * 2 >= limit) {
+            return limit + 1;
+        }
+        return limit;
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+import org.ldbcouncil.snb.driver.DbException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the number of operations a connection state executes concurrently, adapting the cap to the latency of
+ * the backend. Operations exceeding the limit wait in a FIFO queue on the client side, so a saturated backend
+ * sees a stable load (and stable latencies) instead of an ever-growing pile of operations.
+ *
+ * After each successful operation, its latency is compared to the no-load latency of its operation type,
+ * estimated by the minimum latency of the type so far, as the latencies of the query types differ by orders of magnitude.
+ * The geometric mean of these ratios, smoothed exponentially, is the latency gradient from which
+ * the LimitAlgorithm derives the new limit. The limit is decreased at most once per round trip: operations which
+ * started before the last decrease cannot decrease it again, as they do not reflect the decreased load yet.
+ *
+ * Configuration properties:
+ * concurrencyLimiter (aimd, vegas or none, default: none),
+ * concurrencyLimitInitial (default: 10), concurrencyLimitMin (default: 1), concurrencyLimitMax (default: thread_count, or 1000),
+ * concurrencyLimitTolerance (AIMD only, default: 1.5), concurrencyLimitBackoff (AIMD only, default: 0.9).
+ */
+public class ConcurrencyLimiter {
+
+    // weight of a new sample in the smoothed gradient
+    private static final double SMOOTHING = 0.05;
+
+    private final LimitAlgorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    // fair, so that the queued operations are admitted in arrival order
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final Map<Class<?>, Long> noLoadLatencyNanos = new HashMap<>();
+
+    // guarded by lock, volatile for the metrics
+    private volatile int limit;
+    private volatile int inFlight;
+    private volatile int queued;
+    private double logGradient;
+    private long lastDecreaseNanos = System.nanoTime();
+    private volatile double gradient = 1.0;
+
+    public ConcurrencyLimiter(LimitAlgorithm algorithm, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Expected 1 <= minimum limit <= maximum limit");
+        }
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * @return the limiter configured by the concurrencyLimiter property, or null if it is not set or none
+     */
+    public static ConcurrencyLimiter fromProperties(Map<String, String> properties) {
+        String name = properties.getOrDefault("concurrencyLimiter", "none");
+        LimitAlgorithm algorithm;
+        switch (name) {
+            case "none":
+                return null;
+            case "aimd":
+                algorithm = new AimdLimit(
+                        Double.parseDouble(properties.getOrDefault("concurrencyLimitTolerance", "1.5")),
+                        Double.parseDouble(properties.getOrDefault("concurrencyLimitBackoff", "0.9")));
+                break;
+            case "vegas":
+                algorithm = new VegasLimit();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid concurrencyLimiter: " + name + ", expected aimd, vegas or none");
+        }
+        return new ConcurrencyLimiter(algorithm,
+                Integer.parseInt(properties.getOrDefault("concurrencyLimitInitial", "10")),
+                Integer.parseInt(properties.getOrDefault("concurrencyLimitMin", "1")),
+                Integer.parseInt(properties.getOrDefault("concurrencyLimitMax", properties.getOrDefault("thread_count", "1000"))));
+    }
+
+    /**
+     * Waits until the operation can be executed within the limit. Every acquire must be followed by a release.
+     *
+     * @return the time spent in the queue in nanoseconds
+     * @throws DbException if the thread is interrupted while waiting; the operation is then not admitted
+     */
+    public long acquire() throws DbException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (inFlight >= limit) {
+                queued++;
+                try {
+                    while (inFlight >= limit) {
+                        available.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new DbException("Interrupted while waiting for admission by the concurrency limiter", e);
+                } finally {
+                    queued--;
+                }
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Ends an operation admitted by acquire and adapts the limit to its latency.
+     *
+     * @param operationType class of the operation, whose no-load latency the latency is compared to
+     * @param latencyNanos  execution time of the operation, excluding the time spent in the queue
+     * @param error         whether the operation failed; failures do not affect the latency estimates
+     */
+    public void release(Class<?> operationType, long latencyNanos, boolean error) {
+        lock.lock();
+        try {
+            if (!error) {
+                long latency = Math.max(1, latencyNanos);
+                Long noLoadLatency = noLoadLatencyNanos.merge(operationType, latency, Math::min);
+                logGradient = (1 - SMOOTHING) * logGradient + SMOOTHING * Math.log((double) latency / noLoadLatency);
+                gradient = Math.exp(logGradient);
+            }
+            long now = System.nanoTime();
+            int newLimit = Math.max(minLimit, Math.min(maxLimit, algorithm.update(limit, gradient, inFlight, error)));
+            if (newLimit < limit) {
+                if (now - latencyNanos < lastDecreaseNanos) {
+                    newLimit = limit;
+                } else {
+                    lastDecreaseNanos = now;
+                }
+            }
+            inFlight--;
+            limit = newLimit;
+            for (int free = newLimit - inFlight, waiting = queued; free > 0 && waiting > 0; free--, waiting--) {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the number of operations waiting for admission
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    /**
+     * @return the smoothed ratio of the recent latencies to the no-load latencies
+     */
+    public double getGradient() {
+        return gradient;
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+/**
+ * Adjusts the concurrency limit of a ConcurrencyLimiter after each completed operation.
+ * Implementations are called while the limiter holds its lock, so they need not be thread-safe.
+ */
+public interface LimitAlgorithm {
+
+    /**
+     * @param limit    the current limit
+     * @param gradient the smoothed ratio of the recent latencies to the no-load latencies of the operations,
+     *                 i.e. 1.0 if the backend is not loaded and growing with the time operations spend queued in it
+     * @param inFlight the number of operations being executed when the operation completed (including it)
+     * @param error    whether the operation failed
+     * @return the new limit, which the limiter bounds by its minimum and maximum
+     */
+    int update(int limit, double gradient, int inFlight, boolean error);
+
+}
@@ -0,0 +1,29 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+/**
+ * TCP Vegas-style limit: the number of operations queued in the backend is estimated as
+ * limit * (1 - 1 / gradient), i.e. the share of the latency which exceeds the no-load latency.
+ * The limit grows while the estimate is below alpha and shrinks when it is above beta, with alpha and beta
+ * growing logarithmically with the limit. Unlike AIMD, the limit settles near the knee point instead of oscillating.
+ */
+public class VegasLimit implements LimitAlgorithm {
+
+    @Override
+    public int update(int limit, double gradient, int inFlight, boolean error) {
+        int log = Math.max(1, (int) Math.log10(limit));
+        if (error) {
+            return limit - log;
+        }
+        double queued = limit * (1.0 - 1.0 / Math.max(gradient, 1.0));
+        int alpha = 3 * log;
+        int beta = 6 * log;
+        if (queued > beta) {
+            return limit - log;
+        }
+        if (queued < alpha && inFlight * 2 >= limit) {
+            return limit + (queued < 1 ? beta : log);
+        }
+        return limit;
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.ldbcouncil.snb.impls.workloads.monitoring;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes OperationMetrics without external services: over an embedded HTTP endpoint (GET /metrics)
+ * that Prometheus can scrape, and/or by periodically rewriting a text file (e.g. for the node_exporter
+ * textfile collector or a simple watch/cat). The file is replaced atomically, so readers never see a partial write.
+ */
+public class MetricsExporter implements AutoCloseable {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final OperationMetrics metrics;
+    private final HttpServer server;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param port            port of the HTTP endpoint, or -1 to disable it
+     * @param file            file to write the metrics to, or null to disable it
+     * @param intervalSeconds interval of the throughput measurement and of the file updates
+     */
+    public MetricsExporter(OperationMetrics metrics, int port, Path file, int intervalSeconds) throws IOException {
+        this.metrics = metrics;
+        this.file = file;
+        if (port >= 0) {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+            server.createContext("/metrics", this::handle);
+            server.start();
+        } else {
+            server = null;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ldbc-snb-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        byte[] body = metrics.writeTo(new StringBuilder(8192)).toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void tick() {
+        metrics.tick();
+        if (file != null) {
+            try {
+                writeFile();
+            } catch (IOException e) {
+                // keep the scheduler alive, the next tick may succeed
+                System.err.println("Cannot write metrics file " + file + ": " + e);
+            }
+        }
+    }
+
+    private void writeFile() throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, metrics.writeTo(new StringBuilder(8192)).toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Stops the endpoint and the periodic updates, writing the file a last time.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+        }
+        if (file != null) {
+            try {
+                writeFile();
+            } catch (IOException e) {
+                System.err.println("Cannot write metrics file " + file + ": " + e);
+            }
+        }
+    }
+
+}
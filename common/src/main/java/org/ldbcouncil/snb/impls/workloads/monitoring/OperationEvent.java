@@ -0,0 +1,62 @@
+package org.ldbcouncil.snb.impls.workloads.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event covering the execution of one operation by an operation handler,
+ * from the start of the handler to the reporting of its results.
+ *
+ * The event is disabled unless a recording enables it, e.g.
+ * {@code -XX:StartFlightRecording:settings=profile,+org.ldbcouncil.snb.Operation#enabled=true}
+ * or through a custom .jfc file.
+ */
+@Name("org.ldbcouncil.snb.Operation")
+@Label("SNB Operation")
+@Category({"LDBC SNB", "Operations"})
+@Description("Execution of a benchmark operation by an operation handler")
+@StackTrace(false)
+public class OperationEvent extends Event {
+
+    @Label("Query Type")
+    public String queryType;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Backend")
+    public String backend;
+
+    @Label("Queue Wait")
+    @Description("Time spent in the queue of the concurrency limiter before the operation started")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+
+    @Label("Connection Wait")
+    @Description("Time spent waiting for a connection or session")
+    @Timespan(Timespan.NANOSECONDS)
+    public long connectionWait;
+
+    @Label("Execution Time")
+    @Description("Time spent after the connection was acquired")
+    @Timespan(Timespan.NANOSECONDS)
+    public long executionTime;
+
+    @Label("Row Count")
+    public int rowCount;
+
+    @Label("Bytes Rendered")
+    @Description("Length of the query text sent to the backend")
+    @DataAmount(DataAmount.BYTES)
+    public long bytesRendered;
+
+    @Label("Error")
+    public boolean error;
+
+}
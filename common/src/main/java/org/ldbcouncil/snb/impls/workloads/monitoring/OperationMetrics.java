@@ -0,0 +1,321 @@
+package org.ldbcouncil.snb.impls.workloads.monitoring;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.QueryType;
+import org.ldbcouncil.snb.impls.workloads.limiter.ConcurrencyLimiter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Live counters of the operations executed by a connection state, rendered in the Prometheus text exposition format.
+ *
+ * Per operation type, it keeps the number of completed and failed operations, the number of operations in flight,
+ * and a latency histogram with logarithmic buckets (10 per decade from 10 us to 1000 s), from which the quantiles
+ * are interpolated, so their error is bounded by the bucket width (26%).
+ * Per connection pool, it keeps the utilisation of the pool and a histogram of the time spent waiting for a connection.
+ * With a ConcurrencyLimiter, it keeps its current limit and queue, and per operation type a histogram of the time
+ * spent in its queue (which the latency histogram does not include).
+ * Recording is lock-free; rendering takes a (non-atomic) snapshot.
+ */
+public class OperationMetrics {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 0.999};
+    private static final int BUCKETS_PER_DECADE = 10;
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = new long[8 * BUCKETS_PER_DECADE + 1];
+
+    static {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_NANOS.length; i++) {
+            BUCKET_UPPER_BOUNDS_NANOS[i] = Math.round(10_000 * Math.pow(10, (double) i / BUCKETS_PER_DECADE));
+        }
+    }
+
+    private final ConcurrentMap<Class<?>, Stats> stats = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private final List<Pool> pools = new CopyOnWriteArrayList<>();
+    private volatile ConcurrencyLimiter limiter;
+
+    // throughput over the last completed interval, maintained by tick()
+    private long lastTickNanos = startNanos;
+    private long lastTickCount;
+    private volatile double throughput;
+
+    Stats started(Operation<?> operation) {
+        Stats s = stats.computeIfAbsent(operation.getClass(), Stats::new);
+        s.inFlight.increment();
+        return s;
+    }
+
+    /**
+     * Registers a connection pool of the connection state, e.g. with the HikariPoolMXBean getters.
+     *
+     * @param name name of the pool, e.g. "read" or "write"
+     * @return the pool, which records the time spent waiting for connections
+     */
+    public Pool registerPool(String name, IntSupplier active, IntSupplier idle, IntSupplier total, IntSupplier awaiting) {
+        Pool pool = new Pool(name, active, idle, total, awaiting);
+        pools.add(pool);
+        return pool;
+    }
+
+    /**
+     * Exposes the state of the concurrency limiter of the connection state and the time operations spent in its queue.
+     */
+    public void registerLimiter(ConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * Closes the current throughput interval. Called periodically by the exporter.
+     */
+    public synchronized void tick() {
+        long now = System.nanoTime();
+        long count = completed();
+        if (now > lastTickNanos) {
+            throughput = (count - lastTickCount) * 1e9 / (now - lastTickNanos);
+        }
+        lastTickNanos = now;
+        lastTickCount = count;
+    }
+
+    private long completed() {
+        long count = 0;
+        for (Stats s : stats.values()) {
+            count += s.count.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Appends all metrics in the Prometheus text exposition format (version 0.0.4).
+     */
+    public StringBuilder writeTo(StringBuilder sb) {
+        List<Stats> sorted = new ArrayList<>(stats.values());
+        sorted.sort(Comparator.comparing(s -> s.operation));
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        header(sb, "ldbc_snb_uptime_seconds", "gauge", "Time since the connection state was created");
+        sb.append("ldbc_snb_uptime_seconds ").append(elapsedNanos / 1e9).append('\n');
+
+        header(sb, "ldbc_snb_throughput_operations_per_second", "gauge", "Completed operations per second over the last export interval");
+        sb.append("ldbc_snb_throughput_operations_per_second ").append(throughput).append('\n');
+
+        header(sb, "ldbc_snb_operations_total", "counter", "Completed operations, including failed ones");
+        for (Stats s : sorted) {
+            s.labels(sb.append("ldbc_snb_operations_total")).append(' ').append(s.count.sum()).append('\n');
+        }
+
+        header(sb, "ldbc_snb_operation_errors_total", "counter", "Failed operations");
+        for (Stats s : sorted) {
+            s.labels(sb.append("ldbc_snb_operation_errors_total")).append(' ').append(s.errors.sum()).append('\n');
+        }
+
+        header(sb, "ldbc_snb_operations_in_flight", "gauge", "Operations currently being executed");
+        for (Stats s : sorted) {
+            s.labels(sb.append("ldbc_snb_operations_in_flight")).append(' ').append(s.inFlight.sum()).append('\n');
+        }
+
+        header(sb, "ldbc_snb_operation_latency_seconds", "summary", "Operation latency since the start of the run");
+        for (Stats s : sorted) {
+            s.latency.writeTo(sb, "ldbc_snb_operation_latency_seconds", s.labels);
+        }
+
+        ConcurrencyLimiter limiter = this.limiter;
+        if (limiter != null) {
+            header(sb, "ldbc_snb_operation_queue_wait_seconds", "summary", "Time spent in the queue of the concurrency limiter since the start of the run");
+            for (Stats s : sorted) {
+                s.queueWait.writeTo(sb, "ldbc_snb_operation_queue_wait_seconds", s.labels);
+            }
+            header(sb, "ldbc_snb_limiter_limit", "gauge", "Current limit of concurrently executed operations");
+            sb.append("ldbc_snb_limiter_limit ").append(limiter.getLimit()).append('\n');
+            header(sb, "ldbc_snb_limiter_in_flight", "gauge", "Operations admitted by the concurrency limiter");
+            sb.append("ldbc_snb_limiter_in_flight ").append(limiter.getInFlight()).append('\n');
+            header(sb, "ldbc_snb_limiter_queued", "gauge", "Operations waiting in the queue of the concurrency limiter");
+            sb.append("ldbc_snb_limiter_queued ").append(limiter.getQueued()).append('\n');
+            header(sb, "ldbc_snb_limiter_latency_gradient", "gauge", "Smoothed ratio of the recent latencies to the no-load latencies");
+            sb.append("ldbc_snb_limiter_latency_gradient ").append(limiter.getGradient()).append('\n');
+        }
+
+        if (!pools.isEmpty()) {
+            header(sb, "ldbc_snb_pool_connections", "gauge", "Connections in the pool by state");
+            for (Pool p : pools) {
+                sb.append("ldbc_snb_pool_connections{").append(p.labels).append(",state=\"active\"} ").append(p.active.getAsInt()).append('\n');
+                sb.append("ldbc_snb_pool_connections{").append(p.labels).append(",state=\"idle\"} ").append(p.idle.getAsInt()).append('\n');
+                sb.append("ldbc_snb_pool_connections{").append(p.labels).append(",state=\"total\"} ").append(p.total.getAsInt()).append('\n');
+            }
+            header(sb, "ldbc_snb_pool_threads_awaiting", "gauge", "Threads waiting for a connection");
+            for (Pool p : pools) {
+                sb.append("ldbc_snb_pool_threads_awaiting").append('{').append(p.labels).append("} ").append(p.awaiting.getAsInt()).append('\n');
+            }
+            header(sb, "ldbc_snb_pool_utilization_ratio", "gauge", "Active connections divided by the pool size");
+            for (Pool p : pools) {
+                int active = p.active.getAsInt();
+                int total = p.total.getAsInt();
+                sb.append("ldbc_snb_pool_utilization_ratio").append('{').append(p.labels).append("} ").append(total == 0 ? 0.0 : (double) active / total).append('\n');
+            }
+            header(sb, "ldbc_snb_pool_wait_seconds", "summary", "Time spent waiting for a connection since the start of the run");
+            for (Pool p : pools) {
+                p.wait.writeTo(sb, "ldbc_snb_pool_wait_seconds", p.labels);
+            }
+            header(sb, "ldbc_snb_pool_timeouts_total", "counter", "Connection requests which timed out");
+            for (Pool p : pools) {
+                sb.append("ldbc_snb_pool_timeouts_total").append('{').append(p.labels).append("} ").append(p.timeouts.sum()).append('\n');
+            }
+        }
+        return sb;
+    }
+
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Estimates a quantile by linear interpolation within the bucket which contains it.
+     */
+    private static double quantile(long[] counts, long total, double q) {
+        if (total == 0) {
+            return Double.NaN;
+        }
+        double rank = q * total;
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && cumulative + counts[i] >= rank) {
+                double lower = i == 0 ? 0 : BUCKET_UPPER_BOUNDS_NANOS[i - 1];
+                if (i == BUCKET_UPPER_BOUNDS_NANOS.length) {
+                    return lower;
+                }
+                double upper = BUCKET_UPPER_BOUNDS_NANOS[i];
+                return lower + (upper - lower) * (rank - cumulative) / counts[i];
+            }
+            cumulative += counts[i];
+        }
+        return BUCKET_UPPER_BOUNDS_NANOS[BUCKET_UPPER_BOUNDS_NANOS.length - 1];
+    }
+
+    private static int bucket(long nanos) {
+        int low = 0;
+        int high = BUCKET_UPPER_BOUNDS_NANOS.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (BUCKET_UPPER_BOUNDS_NANOS[mid] < nanos) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static class Stats {
+
+        final String operation;
+        final String queryType;
+        final LongAdder count = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder inFlight = new LongAdder();
+        final Histogram latency = new Histogram();
+        final Histogram queueWait = new Histogram();
+        final String labels;
+
+        Stats(Class<?> operationClass) {
+            this.operation = operationClass.getSimpleName();
+            QueryType type = QueryType.forOperationClass(operationClass);
+            this.queryType = type != null ? type.getName() : "";
+            this.labels = "operation=\"" + operation + "\",query_type=\"" + queryType + "\"";
+        }
+
+        void queued(long queueWaitNanos) {
+            queueWait.record(queueWaitNanos);
+        }
+
+        void finished(long latencyNanos, boolean error) {
+            inFlight.decrement();
+            count.increment();
+            if (error) {
+                errors.increment();
+            }
+            latency.record(latencyNanos);
+        }
+
+        StringBuilder labels(StringBuilder sb) {
+            return sb.append('{').append(labels).append('}');
+        }
+    }
+
+    /**
+     * A connection pool of the connection state.
+     */
+    public static class Pool {
+
+        final String name;
+        final IntSupplier active;
+        final IntSupplier idle;
+        final IntSupplier total;
+        final IntSupplier awaiting;
+        final Histogram wait = new Histogram();
+        final LongAdder timeouts = new LongAdder();
+        final String labels;
+
+        Pool(String name, IntSupplier active, IntSupplier idle, IntSupplier total, IntSupplier awaiting) {
+            this.name = name;
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.awaiting = awaiting;
+            this.labels = "pool=\"" + name + "\"";
+        }
+
+        /**
+         * Records the time a thread waited for a connection.
+         */
+        public void connectionAcquired(long waitNanos) {
+            wait.record(waitNanos);
+        }
+
+        public void connectionTimedOut() {
+            timeouts.increment();
+        }
+    }
+
+    /**
+     * Durations in logarithmic buckets, rendered as a summary with interpolated quantiles.
+     */
+    static class Histogram {
+
+        final LongAdder sumNanos = new LongAdder();
+        final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_BOUNDS_NANOS.length + 1);
+
+        void record(long nanos) {
+            sumNanos.add(nanos);
+            buckets.incrementAndGet(bucket(nanos));
+        }
+
+        /**
+         * @param labels the labels of the series, without braces
+         */
+        void writeTo(StringBuilder sb, String name, String labels) {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            String separator = labels.isEmpty() ? "" : ",";
+            for (double q : QUANTILES) {
+                sb.append(name).append('{').append(labels).append(separator).append("quantile=\"").append(q).append("\"} ")
+                        .append(quantile(counts, total, q) / 1e9).append('\n');
+            }
+            sb.append(name).append("_sum{").append(labels).append("} ").append(sumNanos.sum() / 1e9).append('\n');
+            sb.append(name).append("_count{").append(labels).append("} ").append(total).append('\n');
+        }
+    }
+
+}
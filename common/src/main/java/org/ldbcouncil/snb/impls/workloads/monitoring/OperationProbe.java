@@ -0,0 +1,172 @@
+package org.ldbcouncil.snb.impls.workloads.monitoring;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.QueryType;
+import org.ldbcouncil.snb.impls.workloads.limiter.ConcurrencyLimiter;
+
+import jdk.jfr.EventType;
+
+/**
+ * Measures the execution of a single operation by an operation handler, feeding the JFR OperationEvent
+ * and the live OperationMetrics.
+ * Handlers obtain a probe from BaseDbConnectionState#startOperation in a try-with-resources block and
+ * mark the phases of the execution: acquiring the connection, rendering the query and reporting the results.
+ * An operation which is closed without being marked as succeeded is recorded as an error.
+ * If the connection state has a ConcurrencyLimiter, the probe is started once the operation is admitted by it,
+ * so the time spent in the limiter's queue is recorded separately from the execution time.
+ *
+ * Probes are not thread-safe: each belongs to the handler invocation which started it.
+ */
+public class OperationProbe implements AutoCloseable {
+
+    /**
+     * Probe returned when no measurement is enabled. It is shared by all threads, so its methods do nothing
+     * and never write its fields.
+     */
+    public static final OperationProbe DISABLED = new OperationProbe(null, null, null, null, null, 0);
+
+    // enabled while a running recording enables the event, so the event is only allocated when it is recorded
+    private static final EventType EVENT_TYPE = EventType.getEventType(OperationEvent.class);
+
+    private final Operation<?> operation;
+    private final String backend;
+    private final OperationEvent event;
+    private final OperationMetrics.Stats stats;
+    private final ConcurrencyLimiter limiter;
+    private final long queueWait;
+    private final long start;
+    private long connectionAcquired = -1;
+    private long bytesRendered;
+    private int rowCount;
+    private boolean succeeded;
+
+    OperationProbe(Operation<?> operation, String backend, OperationEvent event, OperationMetrics.Stats stats,
+                   ConcurrencyLimiter limiter, long queueWait) {
+        this.operation = operation;
+        this.backend = backend;
+        this.event = event;
+        this.stats = stats;
+        this.limiter = limiter;
+        this.queueWait = queueWait;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Starts probing an operation, emitting an OperationEvent if the event is enabled in a running JFR recording.
+     *
+     * @param metrics live metrics to update, or null
+     * @return a new probe, or DISABLED if no measurement is enabled
+     */
+    public static OperationProbe start(Operation<?> operation, String backend, OperationMetrics metrics)
+            throws DbException {
+        return start(operation, backend, metrics, null);
+    }
+
+    /**
+     * Waits for the admission of the operation by the limiter (if any), then starts probing it.
+     * Closing the probe releases the operation from the limiter.
+     *
+     * @param limiter concurrency limiter of the connection state, or null
+     * @throws DbException if the thread is interrupted while waiting for the admission
+     */
+    public static OperationProbe start(Operation<?> operation, String backend, OperationMetrics metrics,
+                                       ConcurrencyLimiter limiter) throws DbException {
+        long queueWait = limiter != null ? limiter.acquire() : 0;
+        boolean eventEnabled = EVENT_TYPE.isEnabled();
+        if (!eventEnabled && metrics == null && limiter == null) {
+            return DISABLED;
+        }
+        OperationEvent event = null;
+        if (eventEnabled) {
+            event = new OperationEvent();
+            event.begin();
+        }
+        OperationMetrics.Stats stats = metrics != null ? metrics.started(operation) : null;
+        if (stats != null && limiter != null) {
+            stats.queued(queueWait);
+        }
+        return new OperationProbe(operation, backend, event, stats, limiter, queueWait);
+    }
+
+    /**
+     * Waits for the admission of the operation by the limiter (if any), without measuring it,
+     * e.g. for the operations of the warm-up. Closing the probe releases the operation from the limiter.
+     *
+     * @param limiter concurrency limiter of the connection state, or null
+     * @return a probe which only releases the operation, or DISABLED if there is no limiter
+     * @throws DbException if the thread is interrupted while waiting for the admission
+     */
+    public static OperationProbe startUnmeasured(Operation<?> operation, ConcurrencyLimiter limiter)
+            throws DbException {
+        if (limiter == null) {
+            return DISABLED;
+        }
+        long queueWait = limiter.acquire();
+        return new OperationProbe(operation, null, null, null, limiter, queueWait);
+    }
+
+    /**
+     * Marks the point where the handler obtained its connection (or session). Only the first call counts.
+     */
+    public void connectionAcquired() {
+        if (this != DISABLED && connectionAcquired < 0) {
+            connectionAcquired = System.nanoTime();
+        }
+    }
+
+    /**
+     * Accounts for a query text sent to the backend. Can be called multiple times for multi-statement operations.
+     */
+    public void rendered(CharSequence query) {
+        if (this != DISABLED) {
+            bytesRendered += query.length();
+        }
+    }
+
+    /**
+     * Marks the operation as successfully executed.
+     *
+     * @param rowCount number of result rows, 0 for updates
+     */
+    public void succeeded(int rowCount) {
+        if (this == DISABLED) {
+            return;
+        }
+        this.rowCount = rowCount;
+        this.succeeded = true;
+    }
+
+    @Override
+    public void close() {
+        if (this == DISABLED) {
+            return;
+        }
+        long end = System.nanoTime();
+        if (limiter != null) {
+            limiter.release(operation.getClass(), end - start, !succeeded);
+        }
+        if (stats != null) {
+            stats.finished(end - start, !succeeded);
+        }
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            long acquired = connectionAcquired < 0 ? start : connectionAcquired;
+            QueryType queryType = QueryType.forOperation(operation);
+            event.queryType = queryType != null ? queryType.getName() : null;
+            event.operation = operation.getClass().getSimpleName();
+            event.backend = backend;
+            event.queueWait = queueWait;
+            event.connectionWait = acquired - start;
+            event.executionTime = end - acquired;
+            event.rowCount = rowCount;
+            event.bytesRendered = bytesRendered;
+            event.error = !succeeded;
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,243 @@
+package org.ldbcouncil.snb.impls.workloads.monitoring;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.QueryType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the JDBC queries which exceed a latency threshold, with their query type, bound parameters and latency.
+ * Optionally, the query is re-run with EXPLAIN ANALYZE on a separate connection (not taken from the benchmark's pool)
+ * to the endpoint which executed it, and the plan is saved along with the entry.
+ *
+ * The entries are written by a background thread, so the benchmark threads only pay for the threshold check.
+ * If the background thread falls behind (e.g. because of long EXPLAIN ANALYZE runs), further slow queries are
+ * dropped and counted.
+ *
+ * Configuration properties:
+ * slowQueryThreshold (in milliseconds, enables the recorder),
+ * slowQueryThreshold.[query type name] (per query type override, e.g. slowQueryThreshold.interactive-complex-9),
+ * slowQueryLog (default: slow-queries.log),
+ * slowQueryExplain (re-run read queries with EXPLAIN ANALYZE, default: false).
+ */
+public class SlowQueryRecorder implements AutoCloseable {
+
+    /**
+     * Prepares the statement which explains the slow query, with its parameters bound.
+     */
+    @FunctionalInterface
+    public interface ExplainStatement {
+        PreparedStatement prepare(Connection conn, String explainPrefix) throws SQLException;
+    }
+
+    /**
+     * Opens the separate connection used for explaining the queries executed on an endpoint.
+     */
+    @FunctionalInterface
+    public interface ExplainConnectionFactory {
+        Connection connect(String endPoint) throws SQLException;
+    }
+
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final long thresholdNanos;
+    private final Map<QueryType, Long> thresholdNanosByQueryType;
+    private final String explainPrefix;
+    private final String defaultEndPoint;
+    private final ExplainConnectionFactory explainConnectionFactory;
+    private final BufferedWriter writer;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped = new LongAdder();
+    // explain connection per endpoint, owned by the background thread
+    private final Map<String, Connection> explainConnections = new HashMap<>();
+
+    SlowQueryRecorder(long thresholdNanos, Map<QueryType, Long> thresholdNanosByQueryType, Path log,
+                      String explainPrefix, String defaultEndPoint,
+                      ExplainConnectionFactory explainConnectionFactory) throws IOException {
+        this.thresholdNanos = thresholdNanos;
+        this.thresholdNanosByQueryType = thresholdNanosByQueryType;
+        this.explainPrefix = explainPrefix;
+        this.defaultEndPoint = defaultEndPoint;
+        this.explainConnectionFactory = explainConnectionFactory;
+        this.writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ldbc-snb-slow-queries");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Creates a recorder from the slowQuery* properties.
+     *
+     * @param explainPrefix            e.g. "EXPLAIN (ANALYZE, BUFFERS) "
+     * @param defaultEndPoint          endpoint of the queries recorded without one
+     * @param explainConnectionFactory opens the separate connections used for explaining the queries
+     * @return the recorder, or null if slowQueryThreshold is not set
+     */
+    public static SlowQueryRecorder fromProperties(Map<String, String> properties, String explainPrefix,
+                                                   String defaultEndPoint,
+                                                   ExplainConnectionFactory explainConnectionFactory) {
+        String threshold = properties.get("slowQueryThreshold");
+        if (threshold == null) {
+            return null;
+        }
+        Map<QueryType, Long> thresholdNanosByQueryType = new HashMap<>();
+        for (QueryType queryType : QueryType.values()) {
+            String override = properties.get("slowQueryThreshold." + queryType.getName());
+            if (override != null) {
+                thresholdNanosByQueryType.put(queryType, TimeUnit.MILLISECONDS.toNanos(Long.parseLong(override)));
+            }
+        }
+        boolean explain = Boolean.parseBoolean(properties.get("slowQueryExplain"));
+        try {
+            return new SlowQueryRecorder(
+                    TimeUnit.MILLISECONDS.toNanos(Long.parseLong(threshold)),
+                    thresholdNanosByQueryType,
+                    Paths.get(properties.getOrDefault("slowQueryLog", "slow-queries.log")),
+                    explainPrefix,
+                    defaultEndPoint,
+                    explain ? explainConnectionFactory : null);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot open the slow query log", e);
+        }
+    }
+
+    /**
+     * @return whether the latency exceeds the threshold of the query type of the operation
+     */
+    public boolean isSlow(Operation<?> operation, long latencyNanos) {
+        QueryType queryType = QueryType.forOperation(operation);
+        Long threshold = queryType != null ? thresholdNanosByQueryType.get(queryType) : null;
+        return latencyNanos >= (threshold != null ? threshold : thresholdNanos);
+    }
+
+    /**
+     * Records the query if its latency exceeds the threshold of its query type.
+     *
+     * @param explain prepares the explain statement, or null if the query must not be re-run (e.g. updates)
+     */
+    public void record(Operation<?> operation, String query, long latencyNanos, ExplainStatement explain) {
+        record(operation, query, latencyNanos, defaultEndPoint, explain);
+    }
+
+    /**
+     * Records the query if its latency exceeds the threshold of its query type.
+     *
+     * @param endPoint endpoint which executed the query, where it is explained (e.g. a read replica)
+     * @param explain  prepares the explain statement, or null if the query must not be re-run (e.g. updates)
+     */
+    public void record(Operation<?> operation, String query, long latencyNanos, String endPoint,
+                       ExplainStatement explain) {
+        if (!isSlow(operation, latencyNanos)) {
+            return;
+        }
+        QueryType queryType = QueryType.forOperation(operation);
+        Instant timestamp = Instant.now();
+        String parameters = operation.parameterMap().toString();
+        String queryEndPoint = endPoint != null ? endPoint : defaultEndPoint;
+        try {
+            executor.execute(() -> write(timestamp, operation, queryType, parameters, query, latencyNanos,
+                    queryEndPoint, explain));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void write(Instant timestamp, Operation<?> operation, QueryType queryType, String parameters,
+                       String query, long latencyNanos, String endPoint, ExplainStatement explain) {
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append("# ").append(timestamp)
+                .append(' ').append(queryType != null ? queryType.getName() : operation.getClass().getSimpleName())
+                .append(" latency_ms=").append(latencyNanos / 1_000_000.0);
+        if (endPoint != null && !endPoint.equals(defaultEndPoint)) {
+            sb.append(" endpoint=").append(endPoint);
+        }
+        sb.append('\n');
+        sb.append("# parameters: ").append(parameters).append('\n');
+        sb.append(query.trim()).append('\n');
+        if (explain != null && explainConnectionFactory != null) {
+            appendPlan(sb, endPoint, explain);
+        }
+        sb.append('\n');
+        try {
+            writer.write(sb.toString());
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Cannot write the slow query log: " + e);
+        }
+    }
+
+    private void appendPlan(StringBuilder sb, String endPoint, ExplainStatement explain) {
+        sb.append("# plan:\n");
+        try {
+            Connection explainConnection = explainConnections.get(endPoint);
+            if (explainConnection == null || explainConnection.isClosed()) {
+                explainConnection = explainConnectionFactory.connect(endPoint);
+                explainConnections.put(endPoint, explainConnection);
+            }
+            try (PreparedStatement stmt = explain.prepare(explainConnection, explainPrefix);
+                 ResultSet result = stmt.executeQuery()) {
+                while (result.next()) {
+                    sb.append(result.getString(1)).append('\n');
+                }
+            }
+        } catch (Exception e) {
+            sb.append("# explain failed: ").append(e).append('\n');
+            closeExplainConnection(explainConnections.remove(endPoint));
+        }
+    }
+
+    private static void closeExplainConnection(Connection explainConnection) {
+        if (explainConnection != null) {
+            try {
+                explainConnection.close();
+            } catch (SQLException e) {
+                // the connection is discarded anyway
+            }
+        }
+    }
+
+    /**
+     * Waits for the pending entries to be written and closes the log and the explain connections.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        explainConnections.values().forEach(SlowQueryRecorder::closeExplainConnection);
+        explainConnections.clear();
+        try {
+            if (dropped.sum() > 0) {
+                writer.write("# " + dropped.sum() + " slow queries were dropped because the recorder fell behind\n");
+            }
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Cannot close the slow query log: " + e);
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.OperationHandler;
 import org.ldbcouncil.snb.driver.ResultReporter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface ListOperationHandler<
@@ -19,4 +20,34 @@ public interface ListOperationHandler<
 
     String getQueryString(TDbConnectionState state, TOperation operation);
 
+    /**
+     * Name of the parameter holding the maximum number of results (e.g. LdbcQuery1.LIMIT).
+     */
+    String LIMIT_PARAMETER = "limit";
+
+    /**
+     * Upper bound for presizing result lists, so that an unusually large limit does not allocate upfront.
+     */
+    int MAX_PRESIZED_RESULTS = 1000;
+
+    /**
+     * The JDBC handlers pass the limit to Statement#setMaxRows, so the rows beyond it are not converted
+     * (with pgjdbc, the server does not even send them).
+     *
+     * @param operation the operation to execute
+     * @return the maximum number of results requested by the operation, or 0 if it has no limit
+     */
+    default int getResultLimit(TOperation operation) {
+        Object limit = operation.parameterMap().get(LIMIT_PARAMETER);
+        return limit instanceof Integer && (Integer) limit > 0 ? (Integer) limit : 0;
+    }
+
+    /**
+     * @param limit the result limit of the operation, or 0 if it has no limit
+     * @return an empty result list sized for the expected number of results
+     */
+    static <T> List<T> newResultList(int limit) {
+        return limit > 0 ? new ArrayList<>(Math.min(limit, MAX_PRESIZED_RESULTS)) : new ArrayList<>();
+    }
+
 }
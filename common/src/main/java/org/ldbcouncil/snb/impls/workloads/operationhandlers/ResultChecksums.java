@@ -0,0 +1,42 @@
+package org.ldbcouncil.snb.impls.workloads.operationhandlers;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The number of operations and rows and the checksum of the results per query type, in the checksum result mode.
+ * The checksums of the operations are summed, so they do not depend on the order the operations are executed in.
+ */
+public final class ResultChecksums {
+
+    private static final class Totals {
+        final LongAdder operations = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder checksum = new LongAdder();
+    }
+
+    private final Map<String, Totals> totals = new ConcurrentHashMap<>();
+
+    void record(String queryType, int rows, long checksum) {
+        Totals queryTotals = totals.computeIfAbsent(queryType, type -> new Totals());
+        queryTotals.operations.increment();
+        queryTotals.rows.add(rows);
+        queryTotals.checksum.add(checksum);
+    }
+
+    public void print(PrintStream out) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        out.println("Result checksums:");
+        for (Map.Entry<String, Totals> entry : new TreeMap<>(totals).entrySet()) {
+            Totals queryTotals = entry.getValue();
+            out.printf("%-40s operations=%d rows=%d checksum=%016x%n", entry.getKey(),
+                    queryTotals.operations.sum(), queryTotals.rows.sum(), queryTotals.checksum.sum());
+        }
+    }
+
+}
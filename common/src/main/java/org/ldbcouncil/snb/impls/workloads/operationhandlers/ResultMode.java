@@ -0,0 +1,60 @@
+package org.ldbcouncil.snb.impls.workloads.operationhandlers;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * What the list handlers do with the rows returned by the database (resultMode property).
+ *
+ * The driver only compares the results when creating or validating the validation parameters; in a benchmark run it
+ * only counts them. Without materialisation, the latencies of a run exclude the conversion of the rows into result
+ * objects, so comparing them with a materialising run separates the client's conversion cost from the database's.
+ *
+ * The driver does read the results in one place: it takes the person and message ids of the complex reads and of
+ * IS2 from their results to schedule the walks of short reads. Without materialisation, these walks would be
+ * silently dropped and the workload mix would change, so checksum and discard require the short reads to be disabled.
+ */
+public enum ResultMode {
+
+    /**
+     * Every row is converted into a result object and the list is reported. Required for validation.
+     */
+    MATERIALIZE,
+    /**
+     * The rows are only counted and their values are hashed into a checksum per query type, which is printed when
+     * the database is closed, e.g. to compare the results of two benchmark runs. An empty list is reported.
+     */
+    CHECKSUM,
+    /**
+     * The rows are only counted. An empty list is reported.
+     */
+    DISCARD;
+
+    private static final String SHORT_READ_PREFIX = "ldbc.snb.interactive.LdbcShortQuery";
+    private static final String ENABLE_SUFFIX = "_enable";
+
+    public static ResultMode fromString(String mode) {
+        return valueOf(mode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * @return the mode of the resultMode property, materialize by default
+     * @throws IllegalArgumentException if the mode does not materialize the results while a short read is enabled
+     */
+    public static ResultMode fromProperties(Map<String, String> properties) {
+        ResultMode mode = fromString(properties.getOrDefault("resultMode", "materialize"));
+        if (mode != MATERIALIZE) {
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                String key = property.getKey();
+                if (key.startsWith(SHORT_READ_PREFIX) && key.endsWith(ENABLE_SUFFIX)
+                        && Boolean.parseBoolean(property.getValue())) {
+                    throw new IllegalArgumentException("resultMode=" + mode.name().toLowerCase(Locale.ROOT)
+                            + " reports empty results, so the driver cannot schedule the short reads from them:"
+                            + " disable every short read (e.g. " + key + "=false) or use resultMode=materialize");
+                }
+            }
+        }
+        return mode;
+    }
+
+}
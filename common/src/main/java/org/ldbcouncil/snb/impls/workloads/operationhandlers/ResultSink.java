@@ -0,0 +1,98 @@
+package org.ldbcouncil.snb.impls.workloads.operationhandlers;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.ResultReporter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Collects the rows of a list operation according to the result mode. Handlers create one per execution
+ * (BaseDbConnectionState.newResultSink) and stream the rows into it:
+ *
+ * <pre>
+ * while (rows.next()) {
+ *     if (sink.isMaterialized()) {
+ *         sink.add(convertSingleResult(rows));
+ *     } else {
+ *         sink.addRow();
+ *         if (sink.isChecksummed()) {
+ *             // sink.addValue(...) for every value of the row
+ *         }
+ *     }
+ * }
+ * sink.report(resultReporter, operation);
+ * </pre>
+ */
+public final class ResultSink<TOperationResult> {
+
+    private final ResultMode mode;
+    private final ResultChecksums checksums;
+    private final List<TOperationResult> results;
+    private int count;
+    private long checksum = 1;
+
+    public ResultSink(ResultMode mode, ResultChecksums checksums, int limit) {
+        this.mode = mode;
+        this.checksums = checksums;
+        this.results = mode == ResultMode.MATERIALIZE ? ListOperationHandler.newResultList(limit) : null;
+    }
+
+    /**
+     * @return whether the rows are converted into result objects and passed to add
+     */
+    public boolean isMaterialized() {
+        return mode == ResultMode.MATERIALIZE;
+    }
+
+    /**
+     * @return whether the values of the rows are passed to addValue
+     */
+    public boolean isChecksummed() {
+        return mode == ResultMode.CHECKSUM;
+    }
+
+    /**
+     * Adds a result object, if the results are materialized.
+     */
+    public void add(TOperationResult result) {
+        count++;
+        results.add(result);
+    }
+
+    /**
+     * Counts a row which is not materialized.
+     */
+    public void addRow() {
+        count++;
+    }
+
+    /**
+     * Hashes a value of the current row into the checksum of the operation, in the order of the rows and values.
+     */
+    public void addValue(Object value) {
+        checksum = 31 * checksum + Objects.hashCode(value);
+    }
+
+    /**
+     * @return the number of rows added so far
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Reports the results (or an empty list, if they are not materialized) with their count.
+     * The driver schedules the short reads from the reported results, which is why ResultMode.fromProperties
+     * only allows the modes without materialisation if the short reads are disabled.
+     */
+    public void report(ResultReporter resultReporter, Operation<List<TOperationResult>> operation) throws DbException {
+        if (mode == ResultMode.CHECKSUM) {
+            checksums.record(operation.getClass().getSimpleName(), count, checksum);
+        }
+        resultReporter.report(count, results != null ? results : Collections.emptyList(), operation);
+    }
+
+}
@@ -0,0 +1,196 @@
+package org.ldbcouncil.snb.impls.workloads.tcr;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * A short benchmark run with a given time compression ratio.
+ *
+ * The driver is started in a child JVM with the classpath of the current one (i.e. the implementation's shaded jar),
+ * using a copy of the benchmark properties with the TCR, the run length and the results directory overridden.
+ * The outcome is read from the driver's schedule audit, and the per-operation latencies from the results summary
+ * the driver writes for the benchmark run, which excludes the warm-up operations (they have a separate summary).
+ *
+ * Every probe is a separate driver run, as the driver initialises and closes the Db itself, so the connection state
+ * cannot be kept warm across probes; with --no-restore, the database at least keeps its caches.
+ */
+class TcrProbe {
+
+    private static final String DRIVER_CLASS = "org.ldbcouncil.snb.driver.Client";
+    private static final String RESULTS_SUFFIX = "-results.json";
+    private static final String WARMUP_MARKER = "WARMUP";
+    private static final String PERCENTILE_SUFFIX = "th_percentile";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    enum Outcome {
+        PASSED,
+        FAILED,
+        ERROR
+    }
+
+    /**
+     * Latency summary of an operation type in the benchmark run, with the quantiles (e.g. "0.95") in seconds.
+     */
+    static class Latency {
+        long count;
+        final Map<String, Double> quantiles = new TreeMap<>();
+    }
+
+    final double tcr;
+    final Outcome outcome;
+    final Map<String, Latency> latencies;
+
+    private TcrProbe(double tcr, Outcome outcome, Map<String, Latency> latencies) {
+        this.tcr = tcr;
+        this.outcome = outcome;
+        this.latencies = latencies;
+    }
+
+    /**
+     * Runs the driver and waits for it to finish. The driver output is forwarded to stdout and to the probe's log.
+     *
+     * @param overrides properties replacing the ones of the benchmark properties file
+     */
+    static TcrProbe run(Properties benchmarkProperties, Map<String, String> overrides, double tcr, Path workDir, int index)
+            throws IOException, InterruptedException {
+        String name = String.format(Locale.ROOT, "probe-%d-%.4f", index, tcr);
+        Path propertiesFile = workDir.resolve(name + ".properties");
+        Path logFile = workDir.resolve(name + ".log");
+        Path resultsDir = workDir.resolve(name + "-results");
+        Files.createDirectories(resultsDir);
+        deleteResults(resultsDir);
+
+        Properties properties = new Properties();
+        properties.putAll(benchmarkProperties);
+        properties.putAll(overrides);
+        properties.setProperty("time_compression_ratio", format(tcr));
+        properties.setProperty("results_dir", resultsDir.toString());
+        try (OutputStream out = Files.newOutputStream(propertiesFile)) {
+            properties.store(out, "TCR probe " + index);
+        }
+
+        Process driver = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                DRIVER_CLASS,
+                "-P", propertiesFile.toString())
+                .redirectErrorStream(true)
+                .start();
+
+        List<String> auditLines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(driver.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter log = new PrintWriter(Files.newBufferedWriter(logFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                System.out.println(line);
+                log.println(line);
+                if (line.contains("SCHEDULE AUDIT")) {
+                    auditLines.add(line);
+                }
+            }
+        }
+        int exitCode = driver.waitFor();
+
+        // the driver reports the audit of the warmup and of the benchmark run, the second one decides
+        Outcome outcome;
+        if (exitCode != 0 || auditLines.size() != 2) {
+            outcome = Outcome.ERROR;
+        } else if (auditLines.get(1).contains("PASSED SCHEDULE AUDIT")) {
+            outcome = Outcome.PASSED;
+        } else {
+            outcome = Outcome.FAILED;
+        }
+        return new TcrProbe(tcr, outcome, readLatencies(resultsDir));
+    }
+
+    private static void deleteResults(Path resultsDir) throws IOException {
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            for (Iterator<Path> it = files.iterator(); it.hasNext(); ) {
+                Files.delete(it.next());
+            }
+        }
+    }
+
+    /**
+     * Reads the latency summaries of the benchmark run from the results summary (*-results.json) written by the
+     * driver, ignoring the one of the warm-up (*-WARMUP-results.json).
+     *
+     * @return the latencies by operation type, empty if there is no summary, e.g. because the driver failed
+     */
+    static Map<String, Latency> readLatencies(Path resultsDir) throws IOException {
+        Map<String, Latency> latencies = new TreeMap<>();
+        Path summary = null;
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            for (Iterator<Path> it = files.iterator(); it.hasNext(); ) {
+                Path file = it.next();
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(RESULTS_SUFFIX) && !fileName.toUpperCase(Locale.ROOT).contains(WARMUP_MARKER)) {
+                    summary = file;
+                }
+            }
+        }
+        if (summary == null) {
+            return latencies;
+        }
+        JsonNode results = MAPPER.readTree(summary.toFile());
+        for (JsonNode metrics : results.path("all_metrics")) {
+            JsonNode runTime = metrics.path("run_time");
+            double secondsPerUnit = secondsPerUnit(summary, runTime, metrics, results);
+            Latency latency = new Latency();
+            latency.count = metrics.path("count").asLong();
+            for (Iterator<Map.Entry<String, JsonNode>> it = runTime.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = it.next();
+                if (field.getKey().endsWith(PERCENTILE_SUFFIX) && field.getValue().isNumber()) {
+                    latency.quantiles.put(quantile(field.getKey()), field.getValue().asDouble() * secondsPerUnit);
+                }
+            }
+            latencies.put(metrics.path("name").asText(), latency);
+        }
+        return latencies;
+    }
+
+    /**
+     * @return the quantile of a percentile field of the summary, e.g. "0.999" for "99.9th_percentile"
+     */
+    private static String quantile(String percentileField) {
+        String percent = percentileField.substring(0, percentileField.length() - PERCENTILE_SUFFIX.length());
+        return new BigDecimal(percent).movePointLeft(2).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * @return the seconds per unit of the latencies, given by the innermost of the nodes with a unit
+     */
+    private static double secondsPerUnit(Path summary, JsonNode... nodes) throws IOException {
+        for (JsonNode node : nodes) {
+            if (node.hasNonNull("unit")) {
+                return TimeUnit.valueOf(node.get("unit").asText()).toNanos(1) / 1e9;
+            }
+        }
+        throw new IOException("No time unit in " + summary);
+    }
+
+    static String format(double tcr) {
+        return String.format(Locale.ROOT, "%.4f", tcr);
+    }
+
+}
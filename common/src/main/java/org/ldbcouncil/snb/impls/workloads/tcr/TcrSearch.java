@@ -0,0 +1,211 @@
+package org.ldbcouncil.snb.impls.workloads.tcr;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Determines the lowest (i.e. best) time compression ratio for which a benchmark run passes the schedule audit.
+ *
+ * The TCR is binary-searched between a minimum and a maximum value by running short benchmark probes
+ * (see TcrProbe) against the Db implementation configured in the benchmark properties file.
+ * Finally, the chosen TCR and the per-operation latencies of its probe are printed and written to tcr.log.
+ * These latencies come from the driver's results summary of the probe's benchmark run, without its warm-up.
+ *
+ * Usage (from an implementation's directory, with its shaded jar on the classpath):
+ * java -cp target/[implementation]-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.tcr.TcrSearch
+ * [benchmark properties file] [--min 0.05] [--max 0.30] [--steps 4]
+ * [--operation-count N] [--warmup N] [--restore command | --no-restore]
+ *
+ * By default, the database is restored with scripts/restore-database.sh before each probe (if the script exists).
+ * With --no-restore, the database is not restarted between the probes, so its caches stay warm;
+ * this is faster, but the probes then run on a database modified by the updates of the previous probes.
+ */
+public class TcrSearch {
+
+    private static final String DEFAULT_RESTORE_SCRIPT = "scripts/restore-database.sh";
+    private static final String LOG_FILE = "tcr.log";
+    private static final String[] REPORTED_QUANTILES = {"0.5", "0.95", "0.99"};
+    private static final String[] REPORTED_QUANTILE_NAMES = {"p50 [ms]", "p95 [ms]", "p99 [ms]"};
+
+    private final Properties benchmarkProperties;
+    private final Map<String, String> overrides;
+    private final String restoreCommand;
+    private final Path workDir;
+    private final PrintWriter log;
+    private int probes;
+
+    TcrSearch(Properties benchmarkProperties, Map<String, String> overrides, String restoreCommand, Path workDir,
+              PrintWriter log) {
+        this.benchmarkProperties = benchmarkProperties;
+        this.overrides = overrides;
+        this.restoreCommand = restoreCommand;
+        this.workDir = workDir;
+        this.log = log;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String propertiesFile = "driver/benchmark.properties";
+        double min = 0.05;
+        double max = 0.30;
+        int steps = 4;
+        Map<String, String> overrides = new HashMap<>();
+        String restoreCommand = Files.exists(Paths.get(DEFAULT_RESTORE_SCRIPT)) ? DEFAULT_RESTORE_SCRIPT : null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--min":
+                    min = Double.parseDouble(args[++i]);
+                    break;
+                case "--max":
+                    max = Double.parseDouble(args[++i]);
+                    break;
+                case "--steps":
+                    steps = Integer.parseInt(args[++i]);
+                    break;
+                case "--operation-count":
+                    overrides.put("operation_count", args[++i]);
+                    break;
+                case "--warmup":
+                    overrides.put("warmup", args[++i]);
+                    break;
+                case "--restore":
+                    restoreCommand = args[++i];
+                    break;
+                case "--no-restore":
+                    restoreCommand = null;
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    propertiesFile = args[i];
+            }
+        }
+        if (min <= 0 || max < min || steps < 1) {
+            throw new IllegalArgumentException("Expected 0 < min <= max and steps >= 1");
+        }
+
+        Properties benchmarkProperties = new Properties();
+        try (InputStream in = Files.newInputStream(Paths.get(propertiesFile))) {
+            benchmarkProperties.load(in);
+        }
+        Path workDir = Files.createDirectories(Paths.get("tcr"));
+        TcrProbe best;
+        try (PrintWriter log = new PrintWriter(Files.newBufferedWriter(Paths.get(LOG_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING), true)) {
+            best = new TcrSearch(benchmarkProperties, overrides, restoreCommand, workDir, log).search(min, max, steps);
+        }
+        if (best == null) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Searches the lowest passing TCR in [min, max] with at most the given number of probes.
+     *
+     * @return the probe of the chosen TCR, or null if no probe passed
+     */
+    TcrProbe search(double min, double max, int steps) throws IOException, InterruptedException {
+        // the minimum is tried first, as a system which keeps up with it needs no further probes
+        TcrProbe probe = probe(min);
+        if (probe.outcome == TcrProbe.Outcome.PASSED) {
+            return report(probe);
+        }
+        if (probe.outcome == TcrProbe.Outcome.ERROR || steps == 1 || max == min) {
+            return report(null);
+        }
+        TcrProbe best = probe(max);
+        if (best.outcome != TcrProbe.Outcome.PASSED) {
+            return report(null);
+        }
+
+        // invariant: low fails, high passes
+        double low = min;
+        double high = max;
+        for (int step = 3; step <= steps; step++) {
+            double mid = Math.round((low + high) / 2 * 10_000) / 10_000.0;
+            if (mid <= low || mid >= high) {
+                break;
+            }
+            probe = probe(mid);
+            if (probe.outcome == TcrProbe.Outcome.ERROR) {
+                break;
+            }
+            if (probe.outcome == TcrProbe.Outcome.PASSED) {
+                high = mid;
+                best = probe;
+            } else {
+                low = mid;
+            }
+        }
+        return report(best);
+    }
+
+    private TcrProbe probe(double tcr) throws IOException, InterruptedException {
+        probes++;
+        log("Step " + probes);
+        log("- Current TCR value: " + TcrProbe.format(tcr));
+        if (restoreCommand != null) {
+            int exitCode = new ProcessBuilder("bash", "-c", restoreCommand).inheritIO().start().waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("Restoring the database failed with exit code " + exitCode);
+            }
+        }
+        TcrProbe probe = TcrProbe.run(benchmarkProperties, overrides, tcr, workDir, probes);
+        switch (probe.outcome) {
+            case PASSED:
+                log("Passed schedule audit for TCR value: " + TcrProbe.format(tcr));
+                break;
+            case FAILED:
+                log("Failed schedule audit for TCR value: " + TcrProbe.format(tcr));
+                break;
+            default:
+                log("Error: the driver failed or its output does not contain two lines with SCHEDULE AUDIT, see "
+                        + workDir.toAbsolutePath());
+        }
+        return probe;
+    }
+
+    private TcrProbe report(TcrProbe best) {
+        if (best == null) {
+            log("No TCR value passed the schedule audit, consider a higher maximum TCR");
+            return null;
+        }
+        log("Best TCR value: " + TcrProbe.format(best.tcr));
+        if (best.latencies.isEmpty()) {
+            return best;
+        }
+        log("Latencies of the probe's benchmark run (without its warm-up):");
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%-40s %10s", "operation", "count"));
+        for (String name : REPORTED_QUANTILE_NAMES) {
+            sb.append(String.format(Locale.ROOT, " %10s", name));
+        }
+        log(sb.toString());
+        for (Map.Entry<String, TcrProbe.Latency> entry : best.latencies.entrySet()) {
+            sb.setLength(0);
+            sb.append(String.format(Locale.ROOT, "%-40s %10d", entry.getKey(), entry.getValue().count));
+            for (String quantile : REPORTED_QUANTILES) {
+                Double seconds = entry.getValue().quantiles.get(quantile);
+                sb.append(String.format(Locale.ROOT, " %10.3f", seconds != null ? seconds * 1000 : Double.NaN));
+            }
+            log(sb.toString());
+        }
+        return best;
+    }
+
+    private void log(String message) {
+        System.out.println("[TcrSearch] " + message);
+        log.println(message);
+    }
+
+}
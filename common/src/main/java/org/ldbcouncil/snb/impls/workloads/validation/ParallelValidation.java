@@ -0,0 +1,302 @@
+package org.ldbcouncil.snb.impls.workloads.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Validates a Db implementation against a validation parameters file of the driver (validation_params.csv),
+ * like the driver's validate mode, but with the read operations executed on a thread pool.
+ *
+ * Every line of the file is an operation and its expected result, as JSON, separated by a '|'. The updates are
+ * executed one at a time, in the order of the file, and the reads between two updates are executed in parallel,
+ * so every read sees the same state of the database as in a serial run.
+ * The results are compared field by field (see ResultDiff) and the first mismatches of every query type are
+ * written to a report, with the path of the differing fields.
+ *
+ * Usage (from an implementation's directory, with its shaded jar on the classpath):
+ * java -cp target/[implementation]-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.validation.ParallelValidation
+ * [validate properties file] [--validation-params validation_params.csv] [--threads N] [--max-mismatches 10]
+ * [--report validation_params-diff.txt]
+ */
+public class ParallelValidation {
+
+    private static final int MAX_DIFFERENCES_PER_MISMATCH = 10;
+
+    static final class Entry {
+        final int line;
+        final Operation<?> operation;
+        final String serializedOperation;
+        final Object expected;
+
+        Entry(int line, Operation<?> operation, String serializedOperation, Object expected) {
+            this.line = line;
+            this.operation = operation;
+            this.serializedOperation = serializedOperation;
+            this.expected = expected;
+        }
+
+        boolean isUpdate() {
+            return expected instanceof LdbcNoResult;
+        }
+
+        String queryType() {
+            return operation.getClass().getSimpleName();
+        }
+    }
+
+    private static final class Stats {
+        int validated;
+        int failed;
+        final List<String> mismatches = new ArrayList<>();
+    }
+
+    private final Db db;
+    private final ObjectMapper mapper;
+    private final ResultDiff resultDiff = new ResultDiff(MAX_DIFFERENCES_PER_MISMATCH);
+
+    ParallelValidation(Db db, ObjectMapper mapper) {
+        this.db = db;
+        this.mapper = mapper;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String propertiesFile = "driver/validate.properties";
+        String validationParams = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxMismatches = 10;
+        String report = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--validation-params":
+                    validationParams = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--max-mismatches":
+                    maxMismatches = Integer.parseInt(args[++i]);
+                    break;
+                case "--report":
+                    report = args[++i];
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    propertiesFile = args[i];
+            }
+        }
+
+        Properties loaded = new Properties();
+        try (InputStream in = Files.newInputStream(Paths.get(propertiesFile))) {
+            loaded.load(in);
+        }
+        Map<String, String> properties = new HashMap<>();
+        for (String name : loaded.stringPropertyNames()) {
+            properties.put(name, loaded.getProperty(name));
+        }
+        // the results are compared, so they have to be materialized whatever the properties say
+        properties.put("resultMode", "materialize");
+        if (validationParams == null) {
+            validationParams = properties.getOrDefault("validate_database", "validation_params.csv");
+        }
+        if (report == null) {
+            report = validationParams.replaceFirst("\\.csv$", "") + "-diff.txt";
+        }
+
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<Entry> entries = read(Paths.get(validationParams), mapper);
+
+        Db db = (Db) Class.forName(properties.get("db")).getDeclaredConstructor().newInstance();
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        db.init(properties, null, workload.operationTypeToClassMapping());
+        try {
+            boolean passed = new ParallelValidation(db, mapper).run(entries, threads, maxMismatches, Paths.get(report));
+            System.out.println(passed ? "Validation passed" : "Validation failed, see " + report);
+        } finally {
+            db.close();
+            workload.close();
+        }
+    }
+
+    /**
+     * @return the operations and the expected results of a validation parameters file
+     */
+    static List<Entry> read(Path file, ObjectMapper mapper) throws IOException, ClassNotFoundException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                // the operation may contain '|' in its strings, so it is delimited by parsing it
+                JsonNode serializedOperation;
+                int end;
+                try (JsonParser parser = mapper.getFactory().createParser(line)) {
+                    serializedOperation = mapper.readTree(parser);
+                    end = (int) parser.getCurrentLocation().getCharOffset();
+                }
+                int separator = line.indexOf('|', end);
+                if (serializedOperation == null || separator < 0) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " of " + file
+                            + " is not an operation and a result separated by '|'");
+                }
+                JsonNode className = serializedOperation.get("@class");
+                Class<?> operationClass = className == null ? Operation.class : Class.forName(className.asText());
+                Operation<?> operation = (Operation<?>) mapper.treeToValue(serializedOperation, operationClass);
+                Object expected = operation.deserializeResult(line.substring(separator + 1));
+                entries.add(new Entry(lineNumber, operation, serializedOperation.toString(), expected));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * @return true if every operation returned its expected result
+     */
+    boolean run(List<Entry> entries, int threads, int maxMismatches, Path report)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        List<List<String>> differences = new ArrayList<>(Collections.nCopies(entries.size(), null));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> reads = new ArrayList<>();
+            List<Integer> readIndexes = new ArrayList<>();
+            for (int i = 0; i <= entries.size(); i++) {
+                if (i < entries.size() && !entries.get(i).isUpdate()) {
+                    Entry entry = entries.get(i);
+                    reads.add(executor.submit((Callable<List<String>>) () -> validate(entry)));
+                    readIndexes.add(i);
+                    continue;
+                }
+                // the reads before an update are completed before the update starts
+                for (int j = 0; j < reads.size(); j++) {
+                    differences.set(readIndexes.get(j), result(reads.get(j)));
+                }
+                reads.clear();
+                readIndexes.clear();
+                if (i < entries.size()) {
+                    differences.set(i, validate(entries.get(i)));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Stats> statsByType = new TreeMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            Stats stats = statsByType.computeIfAbsent(entry.queryType(), type -> new Stats());
+            stats.validated++;
+            List<String> entryDifferences = differences.get(i);
+            if (!entryDifferences.isEmpty()) {
+                stats.failed++;
+                if (stats.mismatches.size() < maxMismatches) {
+                    StringBuilder mismatch = new StringBuilder();
+                    mismatch.append(entry.queryType()).append(" (line ").append(entry.line).append("): ")
+                            .append(entry.serializedOperation).append('\n');
+                    for (String difference : entryDifferences) {
+                        mismatch.append("    ").append(difference).append('\n');
+                    }
+                    stats.mismatches.add(mismatch.toString());
+                }
+            }
+        }
+
+        int failed = 0;
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, Stats> typeStats : statsByType.entrySet()) {
+                Stats stats = typeStats.getValue();
+                String summary = String.format("%-40s validated=%d passed=%d failed=%d", typeStats.getKey(),
+                        stats.validated, stats.validated - stats.failed, stats.failed);
+                System.out.println(summary);
+                writer.println(summary);
+                failed += stats.failed;
+            }
+            for (Stats stats : statsByType.values()) {
+                for (String mismatch : stats.mismatches) {
+                    writer.println();
+                    writer.print(mismatch);
+                }
+            }
+        }
+        System.out.printf("validated=%d failed=%d threads=%d duration=%.1fs%n",
+                entries.size(), failed, threads, elapsedSeconds);
+        return failed == 0;
+    }
+
+    private static List<String> result(Future<List<String>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return Collections.singletonList("error: " + e.getCause());
+        }
+    }
+
+    /**
+     * @return the differences between the result of the operation and its expected result
+     */
+    private List<String> validate(Entry entry) {
+        Object actual;
+        try {
+            actual = execute(entry.operation);
+        } catch (DbException | RuntimeException e) {
+            return Collections.singletonList("error: " + e);
+        }
+        if (entry.isUpdate()) {
+            return Collections.emptyList();
+        }
+        if (actual == null) {
+            return Collections.singletonList("result: expected " + mapper.valueToTree(entry.expected)
+                    + ", actual no result reported");
+        }
+        return resultDiff.diff(entry.queryType(), mapper.valueToTree(entry.expected), mapper.valueToTree(actual));
+    }
+
+    private Object execute(Operation<?> operation) throws DbException {
+        ResultReporter reporter = new ResultReporter.SimpleResultReporter(null);
+        OperationHandlerRunnableContext context = db.getOperationHandlerRunnableContext(operation);
+        try {
+            context.operationHandler().executeOperation(operation, context.dbConnectionState(), reporter);
+        } finally {
+            context.cleanup();
+        }
+        return reporter.result();
+    }
+
+}
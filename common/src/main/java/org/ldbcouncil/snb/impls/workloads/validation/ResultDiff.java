@@ -0,0 +1,172 @@
+package org.ldbcouncil.snb.impls.workloads.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares an expected and an actual operation result field by field, both in the JSON form of the driver's
+ * result classes, and describes the differences by their path (e.g. "[3].friendLastName").
+ *
+ * The rows of a list result are compared in order, as the specification sorts them on a unique key, except for
+ * the query types that are only sorted on a non-unique attribute (IC14 on the path weight): there the rows with
+ * the same sort value may come in any order. Nested lists (e.g. the emails of IC1 or the tags of IC12) are sets,
+ * except for the paths of IC14.
+ */
+final class ResultDiff {
+
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * the attribute that the rows of a query type are sorted on if it does not determine the order of the rows
+     */
+    private static final Map<String, String> PARTIAL_SORT_KEYS = new HashMap<>();
+    private static final Set<String> ORDERED_FIELDS = new LinkedHashSet<>(Arrays.asList("personIdsInPath"));
+
+    static {
+        PARTIAL_SORT_KEYS.put("LdbcQuery14", "pathWeight");
+    }
+
+    private final int maxDifferences;
+
+    ResultDiff(int maxDifferences) {
+        this.maxDifferences = maxDifferences;
+    }
+
+    /**
+     * @return the differences between the results, at most maxDifferences of them, or an empty list if they match
+     */
+    List<String> diff(String queryType, JsonNode expected, JsonNode actual) {
+        List<String> differences = new ArrayList<>();
+        String sortKey = PARTIAL_SORT_KEYS.get(queryType);
+        if (sortKey != null && expected.isArray() && actual.isArray()) {
+            expected = normalize(expected, sortKey);
+            actual = normalize(actual, sortKey);
+        }
+        compare("", null, expected, actual, differences);
+        return differences;
+    }
+
+    private void compare(String path, String field, JsonNode expected, JsonNode actual, List<String> differences) {
+        if (differences.size() >= maxDifferences) {
+            return;
+        }
+        if (expected.isNumber() && actual.isNumber()) {
+            if (!numbersEqual(expected, actual)) {
+                add(differences, path, expected, actual);
+            }
+        } else if (expected.isObject() && actual.isObject()) {
+            Set<String> names = new LinkedHashSet<>();
+            expected.fieldNames().forEachRemaining(names::add);
+            actual.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                JsonNode expectedValue = expected.path(name);
+                JsonNode actualValue = actual.path(name);
+                compare(path.isEmpty() ? name : path + "." + name, name, expectedValue, actualValue, differences);
+            }
+        } else if (expected.isArray() && actual.isArray()) {
+            if (field == null || ORDERED_FIELDS.contains(field)) {
+                compareOrdered(path, expected, actual, differences);
+            } else if (!sorted(expected).equals(sorted(actual))) {
+                // the elements of a set have no position to point at, so the whole set is reported
+                add(differences, path, expected, actual);
+            }
+        } else if (!expected.equals(actual)) {
+            add(differences, path, expected, actual);
+        }
+    }
+
+    private void compareOrdered(String path, JsonNode expected, JsonNode actual, List<String> differences) {
+        if (expected.size() != actual.size()) {
+            addLine(differences, (path.isEmpty() ? "size" : path + ".size") + ": expected " + expected.size()
+                    + ", actual " + actual.size());
+        }
+        int common = Math.min(expected.size(), actual.size());
+        for (int i = 0; i < common; i++) {
+            compare(path + "[" + i + "]", null, expected.get(i), actual.get(i), differences);
+        }
+    }
+
+    private static boolean numbersEqual(JsonNode expected, JsonNode actual) {
+        if (expected.isIntegralNumber() && actual.isIntegralNumber()) {
+            return expected.longValue() == actual.longValue();
+        }
+        double difference = Math.abs(expected.doubleValue() - actual.doubleValue());
+        return difference <= EPSILON * Math.max(1.0, Math.abs(expected.doubleValue()));
+    }
+
+    /**
+     * @return the rows in their order, with the rows of the same sort value ordered canonically
+     */
+    private static JsonNode normalize(JsonNode rows, String sortKey) {
+        ArrayNode normalized = JsonNodeFactory.instance.arrayNode();
+        List<JsonNode> group = new ArrayList<>();
+        JsonNode groupKey = null;
+        for (Iterator<JsonNode> it = rows.elements(); it.hasNext(); ) {
+            JsonNode row = it.next();
+            JsonNode key = row.path(sortKey);
+            if (groupKey != null && !sameValue(key, groupKey)) {
+                sortCanonically(group, sortKey);
+                normalized.addAll(group);
+                group.clear();
+            }
+            groupKey = key;
+            group.add(row);
+        }
+        sortCanonically(group, sortKey);
+        normalized.addAll(group);
+        return normalized;
+    }
+
+    private static boolean sameValue(JsonNode key, JsonNode other) {
+        return key.isNumber() && other.isNumber() ? numbersEqual(key, other) : key.equals(other);
+    }
+
+    /**
+     * Sorts rows on their other attributes, as the sort values of a group may differ by a rounding error.
+     */
+    private static void sortCanonically(List<JsonNode> group, String sortKey) {
+        group.sort(Comparator.comparing(row -> {
+            JsonNode withoutKey = row.deepCopy();
+            if (withoutKey.isObject()) {
+                ((ObjectNode) withoutKey).remove(sortKey);
+            }
+            return withoutKey.toString();
+        }));
+    }
+
+    private static List<String> sorted(JsonNode elements) {
+        List<String> sorted = new ArrayList<>();
+        elements.elements().forEachRemaining(element -> sorted.add(element.toString()));
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private void add(List<String> differences, String path, JsonNode expected, JsonNode actual) {
+        addLine(differences, (path.isEmpty() ? "result" : path) + ": expected " + describe(expected)
+                + ", actual " + describe(actual));
+    }
+
+    private void addLine(List<String> differences, String difference) {
+        if (differences.size() < maxDifferences) {
+            differences.add(difference);
+        }
+    }
+
+    private static String describe(JsonNode node) {
+        return node.isMissingNode() ? "<missing>" : node.toString();
+    }
+
+}
@@ -0,0 +1,314 @@
+package org.ldbcouncil.snb.impls.workloads.binary;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery3;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate6AddPost;
+import org.ldbcouncil.snb.impls.workloads.binary.BinaryOperationFormat.Schema;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryOperationRoundTripTest {
+
+    /**
+     * Lines of an update stream with every update type, empty lists and strings, non-ASCII strings and the
+     * boundaries of the dates.
+     */
+    private static final String[] UPDATES = {
+            "1000|900|1|933|Mahinda|Perera|male|-946771200000|1266161530447|119.235.7.103|Firefox|1353|si;en"
+                    + "|Mahinda933@boarderzone.com;Mahinda933@hotmail.com|6;17;1005|2213,2001|911,1998;912,2010",
+            "1001|0|1|934|Zo\u00eb|\u00c5ngstr\u00f6m||0|0||Chrome|1353|||||",
+            "1002|1000|2|933|1236219|1266191530447",
+            "1003|1000|3|933|1236220|9223372036854775807",
+            "1004|1000|4|1236221|Group for Mahinda|1266191530447|933|6;17",
+            "1005|0|4|1236222||0|933|",
+            "1006|1004|5|1236221|934|-9223372036854775808",
+            "1007|1005|6|1236223||1266191530447|119.235.7.103|Firefox|si"
+                    + "|About 'Mahinda', \"quoted\" \ud83d\ude42|120|933|1236221|50|",
+            "1008|1005|6|1236224|photo1236224.jpg|1266191530448|119.235.7.103|Firefox|||0|933|1236221|50|1;2;3",
+            "1009|1007|7|1236225|1266191530449|119.235.7.103|Chrome|yes|3|934|50|1236223|-1|17",
+            "1010|1009|7|1236226|1266191530450|119.235.7.103|Chrome||0|933|50|-1|1236225|",
+            "1011|1000|8|933|934|0",
+    };
+
+    private Path dir;
+
+    @Before
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("binary-operations");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private BinaryOperationReader convertUpdateStream(String... lines) throws IOException {
+        Path input = dir.resolve("updateStream_0_0_forum.csv");
+        Files.write(input, Arrays.asList(lines), StandardCharsets.UTF_8);
+        Path output = dir.resolve(BinaryOperationConverter.binaryName(input));
+        BinaryOperationConverter.convertUpdateStream(input, output);
+        return BinaryOperationReader.open(output);
+    }
+
+    private BinaryOperationReader convertParameters(int query, List<String> lines) throws IOException {
+        Path input = dir.resolve("interactive_" + query + "_param.txt");
+        Files.write(input, lines, StandardCharsets.UTF_8);
+        Path output = dir.resolve(BinaryOperationConverter.binaryName(input));
+        BinaryOperationConverter.convertParameters(input, output);
+        return BinaryOperationReader.open(output);
+    }
+
+    /**
+     * Renders a field read from the binary file as in the text file.
+     */
+    private static String field(BinaryOperationReader reader, Schema schema, int index, int field) {
+        switch (schema.types[field]) {
+            case LONG:
+                return Long.toString(reader.getLong(index, field));
+            case DATE:
+                assertEquals(new Date(reader.getLong(index, field)), reader.getDate(index, field));
+                return Long.toString(reader.getLong(index, field));
+            case INT:
+                return Integer.toString(reader.getInt(index, field));
+            case STRING:
+            case TEXT:
+                String value = reader.getString(index, field);
+                assertNotNull(value);
+                return value;
+            case LONG_LIST:
+                return reader.getLongList(index, field).stream().map(String::valueOf).collect(Collectors.joining(";"));
+            case STRING_LIST:
+                return String.join(";", reader.getStringList(index, field));
+            default:
+                return reader.getOrganisationList(index, field).stream()
+                        .map(organization -> organization.getOrganizationId() + "," + organization.getYear())
+                        .collect(Collectors.joining(";"));
+        }
+    }
+
+    @Test
+    public void testUpdateStreamRoundTrip() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream(UPDATES)) {
+            assertTrue(reader.isUpdateStream());
+            assertEquals(UPDATES.length, reader.size());
+            for (int i = 0; i < UPDATES.length; i++) {
+                String[] fields = UPDATES[i].split("\\|", -1);
+                int type = Integer.parseInt(fields[2]);
+                assertEquals(type, reader.operationType(i));
+                assertEquals(Long.parseLong(fields[0]), reader.scheduledStartTime(i));
+                assertEquals(Long.parseLong(fields[1]), reader.dependencyTime(i));
+
+                Schema schema = BinaryOperationFormat.update(type);
+                List<String> read = new ArrayList<>(Arrays.asList(fields[0], fields[1], fields[2]));
+                for (int field = 0; field < schema.fieldCount(); field++) {
+                    read.add(field(reader, schema, i, field));
+                }
+                assertEquals(UPDATES[i], String.join("|", read));
+
+                Operation<?> operation = reader.operation(i);
+                assertTrue(operation.getClass().getSimpleName().startsWith("LdbcUpdate" + type));
+                assertEquals(Long.parseLong(fields[0]), operation.scheduledStartTimeAsMilli());
+                assertEquals(Long.parseLong(fields[0]), operation.timeStamp());
+                assertEquals(Long.parseLong(fields[1]), operation.dependencyTimeStamp());
+            }
+        }
+    }
+
+    @Test
+    public void testUpdateOperations() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream(UPDATES)) {
+            LdbcUpdate1AddPerson person = (LdbcUpdate1AddPerson) reader.operation(0);
+            assertEquals(933, person.getPersonId());
+            assertEquals(new Date(-946771200000L), person.getBirthday());
+            assertEquals(Arrays.asList("si", "en"), person.getLanguages());
+            assertEquals(Arrays.asList("Mahinda933@boarderzone.com", "Mahinda933@hotmail.com"), person.getEmails());
+            assertEquals(Arrays.asList(6L, 17L, 1005L), person.getTagIds());
+            assertEquals(1, person.getStudyAt().size());
+            assertEquals(2213, person.getStudyAt().get(0).getOrganizationId());
+            assertEquals(2001, person.getStudyAt().get(0).getYear());
+            assertEquals(2, person.getWorkAt().size());
+
+            LdbcUpdate1AddPerson empty = (LdbcUpdate1AddPerson) reader.operation(1);
+            assertEquals("Zo\u00eb", empty.getPersonFirstName());
+            assertEquals("", empty.getGender());
+            assertEquals(new Date(0), empty.getBirthday());
+            assertEquals(Collections.emptyList(), empty.getLanguages());
+            assertEquals(Collections.emptyList(), empty.getEmails());
+            assertEquals(Collections.emptyList(), empty.getTagIds());
+            assertEquals(Collections.emptyList(), empty.getStudyAt());
+            assertEquals(Collections.emptyList(), empty.getWorkAt());
+
+            LdbcUpdate6AddPost post = (LdbcUpdate6AddPost) reader.operation(7);
+            assertEquals("", post.getImageFile());
+            assertEquals("About 'Mahinda', \"quoted\" \ud83d\ude42", post.getContent());
+            assertEquals(Collections.emptyList(), post.getTagIds());
+
+            assertEquals(Long.MAX_VALUE, reader.getLong(3, 2));
+            assertEquals(Long.MIN_VALUE, reader.getLong(6, 2));
+        }
+    }
+
+    @Test
+    public void testSharedStrings() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream(UPDATES)) {
+            // browsers are stored once per file, the content of messages once per message
+            assertEquals("Firefox", reader.getString(0, 7));
+            assertEquals("Firefox", reader.getString(8, 4));
+            assertEquals("Chrome", reader.getString(9, 3));
+            assertEquals("", reader.getString(10, 4));
+        }
+    }
+
+    @Test
+    public void testIterator() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream(UPDATES)) {
+            int count = 0;
+            for (Operation<?> operation : reader) {
+                assertTrue(operation.getClass().getSimpleName().startsWith("LdbcUpdate" + reader.operationType(count)));
+                count++;
+            }
+            assertEquals(UPDATES.length, count);
+        }
+    }
+
+    @Test
+    public void testEmptyUpdateStream() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream()) {
+            assertTrue(reader.isUpdateStream());
+            assertEquals(0, reader.size());
+            assertFalse(reader.iterator().hasNext());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() throws IOException {
+        try (BinaryOperationReader reader = convertUpdateStream(UPDATES)) {
+            reader.operation(UPDATES.length);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingFields() throws IOException {
+        convertUpdateStream("1000|900|2|933|1236219");
+    }
+
+    /**
+     * Parameter values of the given row: regular values in row 0, empty strings, zero and negative numbers and
+     * the epoch in row 1.
+     */
+    private static String value(Schema schema, int field, int row) {
+        switch (schema.types[field]) {
+            case LONG:
+                return row == 0 ? Long.toString(933 + field) : "-1";
+            case DATE:
+                return row == 0 ? "1275350400000" : "0";
+            case INT:
+                return row == 0 ? "30" : "-5";
+            default:
+                return row == 0 ? "Zo\u00eb 's " + field : "";
+        }
+    }
+
+    @Test
+    public void testParametersRoundTrip() throws IOException {
+        for (int query = 1; query <= 14; query++) {
+            Schema schema = BinaryOperationFormat.query(query);
+            // the columns of the files are not in the order of the schema, and may include other columns
+            List<String> columns = new ArrayList<>(Arrays.asList(schema.names));
+            Collections.reverse(columns);
+            columns.add("unused");
+            List<String> lines = new ArrayList<>();
+            lines.add(String.join("|", columns));
+            for (int row = 0; row < 2; row++) {
+                List<String> values = new ArrayList<>();
+                for (String column : columns) {
+                    int field = Arrays.asList(schema.names).indexOf(column);
+                    values.add(field < 0 ? "x" : value(schema, field, row));
+                }
+                lines.add(String.join("|", values));
+            }
+
+            try (BinaryOperationReader reader = convertParameters(query, lines)) {
+                assertFalse(reader.isUpdateStream());
+                assertEquals(2, reader.size());
+                for (int row = 0; row < 2; row++) {
+                    assertEquals(query, reader.operationType(row));
+                    for (int field = 0; field < schema.fieldCount(); field++) {
+                        assertEquals("field " + schema.names[field] + " of query " + query,
+                                value(schema, field, row), field(reader, schema, row, field));
+                    }
+                    Operation<?> operation = reader.operation(row);
+                    assertEquals("LdbcQuery" + query, operation.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParameterOperations() throws IOException {
+        List<String> lines = Arrays.asList(
+                "personId|countryXName|countryYName|startDate|durationDays",
+                "933|India|China|1275350400000|28");
+        try (BinaryOperationReader reader = convertParameters(3, lines)) {
+            LdbcQuery3 operation = (LdbcQuery3) reader.operation(0);
+            assertEquals(933, operation.getPersonIdQ3());
+            assertEquals("India", operation.getCountryXName());
+            assertEquals("China", operation.getCountryYName());
+            assertEquals(new Date(1275350400000L), operation.getStartDate());
+            assertEquals(28, operation.getDurationDays());
+            assertEquals(20, operation.getLimit());
+        }
+        try (BinaryOperationReader reader = convertParameters(1, Arrays.asList("firstName|personId", "|933"))) {
+            LdbcQuery1 operation = (LdbcQuery1) reader.operation(0);
+            assertEquals(933, operation.getPersonIdQ1());
+            assertEquals("", operation.getFirstName());
+        }
+        try (BinaryOperationReader reader = convertParameters(14, Arrays.asList("person1Id|person2Id", "933|-1"))) {
+            LdbcQuery14 operation = (LdbcQuery14) reader.operation(0);
+            assertEquals(933, operation.getPerson1IdQ14StartNode());
+            assertEquals(-1, operation.getPerson2IdQ14EndNode());
+        }
+    }
+
+    @Test
+    public void testEmptyParameterFile() throws IOException {
+        try (BinaryOperationReader reader = convertParameters(7, Collections.singletonList("personId"))) {
+            assertEquals(0, reader.size());
+            Iterator<Operation<?>> operations = reader.iterator();
+            assertFalse(operations.hasNext());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingColumn() throws IOException {
+        convertParameters(2, Arrays.asList("personId", "933"));
+    }
+
+}
@@ -0,0 +1,60 @@
+package org.ldbcouncil.snb.impls.workloads.converter;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EpochDaysTest {
+
+    @Test
+    public void testEpochDayMatchesLocalDate() {
+        // every day from 0000-01-01 to 2400-12-31, covering all leap year rules
+        for (LocalDate date = LocalDate.of(0, 1, 1); date.getYear() <= 2400; date = date.plusDays(1)) {
+            assertEquals(date.toString(), date.toEpochDay(),
+                    EpochDays.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+        }
+    }
+
+    @Test
+    public void testNegativeYears() {
+        for (int year = -1200; year < 0; year++) {
+            for (int month = 1; month <= 12; month++) {
+                LocalDate date = LocalDate.of(year, month, EpochDays.daysInMonth(year, month));
+                assertEquals(date.toString(), date.toEpochDay(), EpochDays.epochDay(year, month, date.getDayOfMonth()));
+            }
+        }
+    }
+
+    @Test
+    public void testDaysInMonth() {
+        assertEquals(31, EpochDays.daysInMonth(2011, 1));
+        assertEquals(28, EpochDays.daysInMonth(2011, 2));
+        assertEquals(29, EpochDays.daysInMonth(2012, 2));
+        assertEquals(28, EpochDays.daysInMonth(1900, 2));
+        assertEquals(29, EpochDays.daysInMonth(2000, 2));
+        assertEquals(30, EpochDays.daysInMonth(2011, 4));
+        assertEquals(31, EpochDays.daysInMonth(2011, 12));
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(EpochDays.isValid(2012, 2, 29));
+        assertFalse(EpochDays.isValid(2011, 2, 29));
+        assertFalse(EpochDays.isValid(2011, 2, 30));
+        assertFalse(EpochDays.isValid(2011, 4, 31));
+        assertFalse(EpochDays.isValid(2011, 0, 1));
+        assertFalse(EpochDays.isValid(2011, 13, 1));
+        assertFalse(EpochDays.isValid(2011, 1, 0));
+        assertFalse(EpochDays.isValid(2011, 1, 32));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDate() {
+        EpochDays.epochDay(2011, 2, 30);
+    }
+
+}
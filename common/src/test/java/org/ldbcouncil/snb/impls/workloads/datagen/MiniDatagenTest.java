@@ -0,0 +1,343 @@
+package org.ldbcouncil.snb.impls.workloads.datagen;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MiniDatagenTest {
+
+    /**
+     * The entity referenced by the foreign key columns of the merge-foreign layout; the relationship files and
+     * the composite layout name the entity in the column (e.g. Person.id).
+     */
+    private static final Map<String, String> FOREIGN_KEYS = new HashMap<>();
+
+    static {
+        FOREIGN_KEYS.put("isPartOf", "place");
+        FOREIGN_KEYS.put("place", "place");
+        FOREIGN_KEYS.put("isSubclassOf", "tagclass");
+        FOREIGN_KEYS.put("hasType", "tagclass");
+        FOREIGN_KEYS.put("moderator", "person");
+        FOREIGN_KEYS.put("creator", "person");
+        FOREIGN_KEYS.put("replyOfPost", "post");
+        FOREIGN_KEYS.put("replyOfComment", "comment");
+    }
+
+    private Path dir;
+
+    @Before
+    public void createDirectory() throws IOException {
+        dir = Files.createTempDirectory("mini-datagen");
+    }
+
+    @After
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path generate(String name, long seed, String layout) throws IOException {
+        Path output = dir.resolve(name);
+        MiniDatagen.main(new String[]{"--output", output.toString(), "--persons", "300", "--years", "1",
+                "--seed", Long.toString(seed), "--layout", layout, "--parameters", "10"});
+        return output;
+    }
+
+    private static List<Path> files(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile).map(root::relativize).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void testSameSeedGivesIdenticalOutput() throws IOException {
+        for (String layout : new String[]{"merge-foreign", "composite"}) {
+            Path first = generate(layout + "-1", 42, layout);
+            Path second = generate(layout + "-2", 42, layout);
+            List<Path> files = files(first);
+            assertFalse(files.isEmpty());
+            assertEquals(files, files(second));
+            for (Path file : files) {
+                assertArrayEquals(layout + " " + file, Files.readAllBytes(first.resolve(file)),
+                        Files.readAllBytes(second.resolve(file)));
+            }
+        }
+    }
+
+    @Test
+    public void testOtherSeedGivesOtherOutput() throws IOException {
+        Path first = generate("seed-1", 1, "merge-foreign");
+        Path second = generate("seed-2", 2, "merge-foreign");
+        Path persons = Paths.get("dynamic", "person_0_0.csv");
+        assertFalse(Arrays.equals(Files.readAllBytes(first.resolve(persons)),
+                Files.readAllBytes(second.resolve(persons))));
+    }
+
+    @Test
+    public void testReferentialIntegrityMergeForeign() throws IOException {
+        checkReferentialIntegrity(generate("merge-foreign", 7, "merge-foreign"));
+    }
+
+    @Test
+    public void testReferentialIntegrityComposite() throws IOException {
+        checkReferentialIntegrity(generate("composite", 7, "composite"));
+    }
+
+    private static List<String[]> rows(Path file) throws IOException {
+        return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isEmpty())
+                .map(line -> line.split("\\|", -1))
+                .collect(Collectors.toList());
+    }
+
+    private static String entity(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.length() - "_0_0.csv".length());
+    }
+
+    /**
+     * @return the entity referenced by the column, or null if the column is not a reference
+     */
+    private static String referencedEntity(String column) {
+        if (column.endsWith(".id")) {
+            return column.substring(0, column.length() - ".id".length()).toLowerCase();
+        }
+        return FOREIGN_KEYS.get(column);
+    }
+
+    private void checkReferentialIntegrity(Path output) throws IOException {
+        List<Path> csvFiles = files(output).stream()
+                .filter(file -> file.startsWith("static") || file.startsWith("dynamic"))
+                .map(output::resolve)
+                .collect(Collectors.toList());
+
+        // the ids of the entity files, which have an id column
+        Map<String, Set<String>> ids = new HashMap<>();
+        for (Path file : csvFiles) {
+            List<String[]> rows = rows(file);
+            if (rows.get(0)[0].equals("id")) {
+                Set<String> entityIds = new HashSet<>();
+                for (String[] row : rows.subList(1, rows.size())) {
+                    assertTrue("duplicate id " + row[0] + " in " + file, entityIds.add(row[0]));
+                }
+                ids.put(entity(file), entityIds);
+            }
+        }
+        for (String entity : new String[]{"place", "organisation", "tagclass", "tag", "person", "forum", "post",
+                "comment"}) {
+            assertNotNull("no ids of " + entity, ids.get(entity));
+            assertFalse("no ids of " + entity, ids.get(entity).isEmpty());
+        }
+
+        int references = 0;
+        for (Path file : csvFiles) {
+            List<String[]> rows = rows(file);
+            String[] header = rows.get(0);
+            for (int column = 0; column < header.length; column++) {
+                String entity = referencedEntity(header[column]);
+                if (entity == null || (column == 0 && header[column].equals("id"))) {
+                    continue;
+                }
+                Set<String> entityIds = ids.get(entity);
+                assertNotNull("unknown entity " + entity + " of column " + header[column] + " in " + file,
+                        entityIds);
+                for (String[] row : rows.subList(1, rows.size())) {
+                    String value = row[column];
+                    // the optional references of the merge-foreign layout are empty
+                    if (value.isEmpty() && !header[column].endsWith(".id")) {
+                        continue;
+                    }
+                    assertTrue(header[column] + " " + value + " of " + file.getFileName() + " does not exist",
+                            entityIds.contains(value));
+                    references++;
+                }
+            }
+            if (entity(file).equals("comment") && header.length > 8) {
+                for (String[] row : rows.subList(1, rows.size())) {
+                    assertTrue("comment " + row[0] + " must reply to either a post or a comment",
+                            row[8].isEmpty() != row[9].isEmpty());
+                }
+            }
+        }
+        assertTrue(references > 0);
+
+        checkUpdateStreams(output.resolve("update_streams"), ids);
+        checkParameters(output.resolve("substitution_parameters"), ids.get("person"));
+    }
+
+    /**
+     * Checks that the updates refer to entities of the bulk-loaded data or created by an earlier update, no later
+     * than the dependency time of the update.
+     */
+    private void checkUpdateStreams(Path streams, Map<String, Set<String>> bulkIds) throws IOException {
+        List<String[]> updates = rows(streams.resolve("updateStream_0_0_person.csv"));
+        updates.addAll(rows(streams.resolve("updateStream_0_0_forum.csv")));
+        assertFalse(updates.isEmpty());
+
+        // the creation time of the entities inserted by the updates
+        Map<String, Map<String, Long>> created = new HashMap<>();
+        for (String[] update : updates) {
+            long time = Long.parseLong(update[0]);
+            switch (update[2]) {
+                case "1":
+                    create(created, bulkIds, "person", update[3], time);
+                    break;
+                case "4":
+                    create(created, bulkIds, "forum", update[3], time);
+                    break;
+                case "6":
+                    create(created, bulkIds, "post", update[3], time);
+                    break;
+                case "7":
+                    create(created, bulkIds, "comment", update[3], time);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        for (String[] update : updates) {
+            long scheduledStartTime = Long.parseLong(update[0]);
+            long dependencyTime = Long.parseLong(update[1]);
+            assertTrue("dependency time after the start of " + String.join("|", update),
+                    dependencyTime <= scheduledStartTime);
+            Reference reference = new Reference(bulkIds, created, dependencyTime, update);
+            switch (update[2]) {
+                case "1":
+                    reference.check("place", update[11]);
+                    reference.checkList("tag", update[14]);
+                    for (String organisations : new String[]{update[15], update[16]}) {
+                        for (String organisation : organisations.isEmpty() ? new String[0] : organisations.split(";")) {
+                            reference.check("organisation", organisation.substring(0, organisation.indexOf(',')));
+                        }
+                    }
+                    break;
+                case "2":
+                    reference.check("person", update[3]);
+                    reference.check("post", update[4]);
+                    break;
+                case "3":
+                    reference.check("person", update[3]);
+                    reference.check("comment", update[4]);
+                    break;
+                case "4":
+                    reference.check("person", update[6]);
+                    reference.checkList("tag", update[7]);
+                    break;
+                case "5":
+                    reference.check("forum", update[3]);
+                    reference.check("person", update[4]);
+                    break;
+                case "6":
+                    reference.check("person", update[11]);
+                    reference.check("forum", update[12]);
+                    reference.check("place", update[13]);
+                    reference.checkList("tag", update[14]);
+                    break;
+                case "7":
+                    reference.check("person", update[9]);
+                    reference.check("place", update[10]);
+                    assertTrue("comment " + update[3] + " must reply to either a post or a comment",
+                            update[11].equals("-1") != update[12].equals("-1"));
+                    if (!update[11].equals("-1")) {
+                        reference.check("post", update[11]);
+                    } else {
+                        reference.check("comment", update[12]);
+                    }
+                    reference.checkList("tag", update[13]);
+                    break;
+                case "8":
+                    reference.check("person", update[3]);
+                    reference.check("person", update[4]);
+                    break;
+                default:
+                    fail("unknown update type " + update[2]);
+            }
+        }
+    }
+
+    private static void create(Map<String, Map<String, Long>> created, Map<String, Set<String>> bulkIds,
+                               String entity, String id, long time) {
+        assertFalse(entity + " " + id + " is inserted but bulk-loaded", bulkIds.get(entity).contains(id));
+        assertEquals(entity + " " + id + " is inserted twice", null,
+                created.computeIfAbsent(entity, e -> new HashMap<>()).put(id, time));
+    }
+
+    private static final class Reference {
+        private final Map<String, Set<String>> bulkIds;
+        private final Map<String, Map<String, Long>> created;
+        private final long dependencyTime;
+        private final String[] update;
+
+        Reference(Map<String, Set<String>> bulkIds, Map<String, Map<String, Long>> created, long dependencyTime,
+                  String[] update) {
+            this.bulkIds = bulkIds;
+            this.created = created;
+            this.dependencyTime = dependencyTime;
+            this.update = update;
+        }
+
+        void check(String entity, String id) {
+            if (bulkIds.get(entity).contains(id)) {
+                return;
+            }
+            Long time = created.getOrDefault(entity, new HashMap<>()).get(id);
+            assertNotNull(entity + " " + id + " of " + String.join("|", update) + " does not exist", time);
+            assertTrue(entity + " " + id + " of " + String.join("|", update) + " is created after the dependency time",
+                    time <= dependencyTime);
+        }
+
+        void checkList(String entity, String ids) {
+            if (!ids.isEmpty()) {
+                for (String id : ids.split(";")) {
+                    check(entity, id);
+                }
+            }
+        }
+    }
+
+    private void checkParameters(Path parameters, Set<String> persons) throws IOException {
+        List<Path> files = files(parameters);
+        assertEquals(14, files.size());
+        for (Path file : files) {
+            List<String[]> rows = rows(parameters.resolve(file));
+            assertTrue("no parameters in " + file, rows.size() > 1);
+            List<String> header = Arrays.asList(rows.get(0));
+            for (String column : new String[]{"personId", "person1Id", "person2Id"}) {
+                int index = header.indexOf(column);
+                if (index >= 0) {
+                    for (String[] row : rows.subList(1, rows.size())) {
+                        assertTrue(column + " " + row[index] + " of " + file + " is not bulk-loaded",
+                                persons.contains(row[index]));
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,233 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+import org.junit.Test;
+import org.ldbcouncil.snb.driver.DbException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrencyLimiterTest {
+
+    private static final LimitAlgorithm FIXED = (limit, gradient, inFlight, error) -> limit;
+
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static void awaitQueued(ConcurrencyLimiter limiter, int queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (limiter.getQueued() != queued) {
+            assertTrue("expected " + queued + " queued operations", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Thread acquireInThread(ConcurrencyLimiter limiter, AtomicReference<Throwable> failure) {
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void testInitialLimitIsBounded() {
+        assertEquals(5, new ConcurrencyLimiter(FIXED, 10, 1, 5).getLimit());
+        assertEquals(2, new ConcurrencyLimiter(FIXED, 1, 2, 5).getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBounds() {
+        new ConcurrencyLimiter(FIXED, 10, 5, 4);
+    }
+
+    @Test
+    public void testAdmissionWithinLimit() throws DbException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(FIXED, 2, 1, 2);
+        limiter.acquire();
+        limiter.acquire();
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+        limiter.release(String.class, 1000, false);
+        assertEquals(1, limiter.getInFlight());
+        limiter.release(String.class, 1000, true);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testQueueAboveLimit() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(FIXED, 1, 1, 1);
+        limiter.acquire();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread first = acquireInThread(limiter, failure);
+        awaitQueued(limiter, 1);
+        Thread second = acquireInThread(limiter, failure);
+        awaitQueued(limiter, 2);
+        assertEquals(1, limiter.getInFlight());
+
+        limiter.release(String.class, 1000, false);
+        awaitQueued(limiter, 1);
+        assertEquals(1, limiter.getInFlight());
+
+        limiter.release(String.class, 1000, false);
+        awaitQueued(limiter, 0);
+        first.join(TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+        second.join(TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+        assertFalse(first.isAlive() || second.isAlive());
+        assertNull(failure.get());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void testIncreasedLimitAdmitsQueuedOperations() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter((limit, gradient, inFlight, error) -> limit + 2, 1, 1, 10);
+        limiter.acquire();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            threads.add(acquireInThread(limiter, failure));
+            awaitQueued(limiter, i + 1);
+        }
+        // the limit grows to 3, so all of the queued operations are admitted
+        limiter.release(String.class, 1000, false);
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+            assertFalse(thread.isAlive());
+        }
+        assertNull(failure.get());
+        assertEquals(3, limiter.getLimit());
+        assertEquals(3, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    public void testInterruptedAcquire() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(FIXED, 1, 1, 1);
+        limiter.acquire();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread thread = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (Throwable e) {
+                failure.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        thread.start();
+        awaitQueued(limiter, 1);
+        thread.interrupt();
+        thread.join(TimeUnit.NANOSECONDS.toMillis(TIMEOUT_NANOS));
+        assertFalse(thread.isAlive());
+        assertTrue(failure.get() instanceof DbException);
+        assertTrue(interrupted.get());
+        assertEquals(0, limiter.getQueued());
+        assertEquals(1, limiter.getInFlight());
+
+        limiter.release(String.class, 1000, false);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testLimitIsBoundedOnRelease() throws DbException {
+        ConcurrencyLimiter growing = new ConcurrencyLimiter((limit, gradient, inFlight, error) -> 1000, 5, 2, 8);
+        growing.acquire();
+        growing.release(String.class, 1000, false);
+        assertEquals(8, growing.getLimit());
+
+        ConcurrencyLimiter shrinking = new ConcurrencyLimiter((limit, gradient, inFlight, error) -> 0, 5, 2, 8);
+        shrinking.acquire();
+        shrinking.release(String.class, 1000, false);
+        assertEquals(2, shrinking.getLimit());
+    }
+
+    @Test
+    public void testAlgorithmInput() throws DbException {
+        Map<String, Object> input = new HashMap<>();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter((limit, gradient, inFlight, error) -> {
+            input.put("inFlight", inFlight);
+            input.put("error", error);
+            return limit;
+        }, 5, 1, 10);
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.release(String.class, 1000, true);
+        // the in-flight count includes the released operation
+        assertEquals(3, input.get("inFlight"));
+        assertEquals(true, input.get("error"));
+        limiter.release(String.class, 1000, false);
+        assertEquals(2, input.get("inFlight"));
+        assertEquals(false, input.get("error"));
+    }
+
+    @Test
+    public void testGradient() throws DbException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(FIXED, 10, 1, 10);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+        // the first latency of a type is its no-load latency
+        limiter.release(String.class, 100, false);
+        assertEquals(1.0, limiter.getGradient(), 1e-9);
+        limiter.release(String.class, 200, false);
+        assertEquals(Math.pow(2.0, 0.05), limiter.getGradient(), 1e-9);
+        // failures do not change the gradient
+        limiter.release(String.class, 100_000, true);
+        assertEquals(Math.pow(2.0, 0.05), limiter.getGradient(), 1e-9);
+        // the latencies are compared to the no-load latency of their own type
+        limiter.release(Integer.class, 10_000, false);
+        assertEquals(Math.pow(2.0, 0.05 * 0.95), limiter.getGradient(), 1e-9);
+        // a new minimum is the no-load latency
+        limiter.release(String.class, 50, false);
+        assertEquals(Math.pow(2.0, 0.05 * 0.95 * 0.95), limiter.getGradient(), 1e-9);
+    }
+
+    @Test
+    public void testDecreaseOncePerRoundTrip() throws DbException {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter((limit, gradient, inFlight, error) -> limit - 1, 5, 1, 10);
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+        }
+        limiter.release(String.class, 0, false);
+        assertEquals(4, limiter.getLimit());
+        // started before the decrease, so it does not reflect the decreased load yet
+        limiter.release(String.class, TimeUnit.SECONDS.toNanos(10), false);
+        assertEquals(4, limiter.getLimit());
+        limiter.release(String.class, 0, false);
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    public void testFromProperties() {
+        Map<String, String> properties = new HashMap<>();
+        assertNull(ConcurrencyLimiter.fromProperties(properties));
+        properties.put("concurrencyLimiter", "vegas");
+        properties.put("thread_count", "4");
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.fromProperties(properties);
+        assertEquals(4, limiter.getLimit());
+        properties.put("concurrencyLimiter", "aimd");
+        properties.put("concurrencyLimitInitial", "3");
+        assertEquals(3, ConcurrencyLimiter.fromProperties(properties).getLimit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidAlgorithm() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("concurrencyLimiter", "gradient2");
+        ConcurrencyLimiter.fromProperties(properties);
+    }
+
+}
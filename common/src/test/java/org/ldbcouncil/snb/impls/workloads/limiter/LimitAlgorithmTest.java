@@ -0,0 +1,72 @@
+package org.ldbcouncil.snb.impls.workloads.limiter;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LimitAlgorithmTest {
+
+    @Test
+    public void testAimdIncrease() {
+        AimdLimit aimd = new AimdLimit(1.5, 0.9);
+        assertEquals(11, aimd.update(10, 1.0, 5, false));
+        // the tolerance itself is no overload
+        assertEquals(11, aimd.update(10, 1.5, 10, false));
+    }
+
+    @Test
+    public void testAimdUnusedLimitDoesNotGrow() {
+        assertEquals(10, new AimdLimit(1.5, 0.9).update(10, 1.0, 4, false));
+    }
+
+    @Test
+    public void testAimdDecrease() {
+        AimdLimit aimd = new AimdLimit(1.5, 0.9);
+        assertEquals(9, aimd.update(10, 1.6, 10, false));
+        assertEquals(90, aimd.update(100, 3.0, 1, false));
+        assertEquals(9, aimd.update(10, 1.0, 10, true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAimdInvalidTolerance() {
+        new AimdLimit(1.0, 0.9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAimdInvalidBackoff() {
+        new AimdLimit(1.5, 1.0);
+    }
+
+    @Test
+    public void testVegasIncrease() {
+        VegasLimit vegas = new VegasLimit();
+        // no queueing in the backend: grow by beta
+        assertEquals(16, vegas.update(10, 1.0, 5, false));
+        assertEquals(112, vegas.update(100, 0.5, 50, false));
+        // 10 * (1 - 1 / 1.25) = 2 operations queued, below alpha = 3: grow by log10(limit)
+        assertEquals(11, vegas.update(10, 1.25, 5, false));
+    }
+
+    @Test
+    public void testVegasUnusedLimitDoesNotGrow() {
+        assertEquals(10, new VegasLimit().update(10, 1.0, 4, false));
+    }
+
+    @Test
+    public void testVegasStable() {
+        // 10 * (1 - 1 / 2) = 5 operations queued, between alpha = 3 and beta = 6
+        assertEquals(10, new VegasLimit().update(10, 2.0, 10, false));
+    }
+
+    @Test
+    public void testVegasDecrease() {
+        VegasLimit vegas = new VegasLimit();
+        // 10 * (1 - 1 / 10) = 9 operations queued, above beta = 6
+        assertEquals(9, vegas.update(10, 10.0, 10, false));
+        // 50 operations queued, above beta = 12
+        assertEquals(98, vegas.update(100, 2.0, 100, false));
+        assertEquals(9, vegas.update(10, 1.0, 5, true));
+        assertEquals(98, vegas.update(100, 1.0, 50, true));
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.ldbcouncil.snb.impls.workloads.operationhandlers;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResultModeTest {
+
+    private static Map<String, String> properties(String resultMode, String shortReadEnabled) {
+        Map<String, String> properties = new HashMap<>();
+        if (resultMode != null) {
+            properties.put("resultMode", resultMode);
+        }
+        properties.put("ldbc.snb.interactive.LdbcShortQuery1PersonProfile_enable", shortReadEnabled);
+        properties.put("ldbc.snb.interactive.LdbcShortQuery2PersonPosts_enable", "false");
+        properties.put("ldbc.snb.interactive.short_read_dissipation", "0.2");
+        return properties;
+    }
+
+    @Test
+    public void testDefaultMaterializes() {
+        assertEquals(ResultMode.MATERIALIZE, ResultMode.fromProperties(new HashMap<>()));
+        assertEquals(ResultMode.MATERIALIZE, ResultMode.fromProperties(properties(null, "true")));
+    }
+
+    @Test
+    public void testModesWithoutShortReads() {
+        assertEquals(ResultMode.MATERIALIZE, ResultMode.fromProperties(properties("materialize", "false")));
+        assertEquals(ResultMode.CHECKSUM, ResultMode.fromProperties(properties("checksum", "false")));
+        assertEquals(ResultMode.DISCARD, ResultMode.fromProperties(properties("Discard", "false")));
+    }
+
+    @Test
+    public void testMaterializeWithShortReads() {
+        assertEquals(ResultMode.MATERIALIZE, ResultMode.fromProperties(properties("materialize", "true")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChecksumWithShortReads() {
+        ResultMode.fromProperties(properties("checksum", "true"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDiscardWithShortReads() {
+        ResultMode.fromProperties(properties("discard", "TRUE"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMode() {
+        ResultMode.fromProperties(properties("stream", "false"));
+    }
+
+}
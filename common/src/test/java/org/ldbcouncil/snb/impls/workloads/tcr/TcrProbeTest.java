@@ -0,0 +1,100 @@
+package org.ldbcouncil.snb.impls.workloads.tcr;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TcrProbeTest {
+
+    private Path resultsDir;
+
+    @Before
+    public void createDir() throws IOException {
+        resultsDir = Files.createTempDirectory("tcr-probe");
+    }
+
+    @After
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(resultsDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    private void write(String fileName, String json) throws IOException {
+        Files.write(resultsDir.resolve(fileName), json.replace('\'', '"').getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String metrics(String name, long count, String unit, long p50, long p95, long p99) {
+        return "{'name':'" + name + "','unit':'" + unit + "','count':" + count + ",'run_time':{'name':'" + name
+                + "','unit':'" + unit + "','count':" + count + ",'mean':" + p50 + ",'min':1,'max':" + p99
+                + ",'50th_percentile':" + p50 + ",'95th_percentile':" + p95 + ",'99th_percentile':" + p99
+                + ",'99.9th_percentile':" + p99 + ",'std_dev':1.5}}";
+    }
+
+    @Test
+    public void testReadLatencies() throws IOException {
+        write("LDBC-SNB-results.json", "{'unit':'MILLISECONDS','total_count':45,'all_metrics':["
+                + metrics("LdbcQuery1", 42, "MILLISECONDS", 12, 200, 250) + ","
+                + metrics("LdbcUpdate1AddPerson", 3, "MICROSECONDS", 1000, 1500, 2000) + "]}");
+        Map<String, TcrProbe.Latency> latencies = TcrProbe.readLatencies(resultsDir);
+        assertEquals(Arrays.asList("LdbcQuery1", "LdbcUpdate1AddPerson"), Arrays.asList(latencies.keySet().toArray()));
+
+        TcrProbe.Latency query1 = latencies.get("LdbcQuery1");
+        assertEquals(42, query1.count);
+        assertEquals(Arrays.asList("0.5", "0.95", "0.99", "0.999"), Arrays.asList(query1.quantiles.keySet().toArray()));
+        assertEquals(0.012, query1.quantiles.get("0.5"), 1e-12);
+        assertEquals(0.2, query1.quantiles.get("0.95"), 1e-12);
+        assertEquals(0.25, query1.quantiles.get("0.99"), 1e-12);
+
+        TcrProbe.Latency update1 = latencies.get("LdbcUpdate1AddPerson");
+        assertEquals(3, update1.count);
+        assertEquals(0.001, update1.quantiles.get("0.5"), 1e-12);
+    }
+
+    @Test
+    public void testIgnoresWarmupResults() throws IOException {
+        write("LDBC-SNB-WARMUP-results.json", "{'unit':'MILLISECONDS','all_metrics':["
+                + metrics("LdbcQuery1", 100, "MILLISECONDS", 900, 900, 900) + "]}");
+        write("LDBC-SNB-results_log.csv", "operation_type|scheduled_start_time");
+        assertTrue(TcrProbe.readLatencies(resultsDir).isEmpty());
+
+        write("LDBC-SNB-results.json", "{'unit':'MILLISECONDS','all_metrics':["
+                + metrics("LdbcQuery1", 10, "MILLISECONDS", 5, 6, 7) + "]}");
+        Map<String, TcrProbe.Latency> latencies = TcrProbe.readLatencies(resultsDir);
+        assertEquals(10, latencies.get("LdbcQuery1").count);
+        assertEquals(0.005, latencies.get("LdbcQuery1").quantiles.get("0.5"), 1e-12);
+    }
+
+    @Test
+    public void testUnitOfTheSummary() throws IOException {
+        write("LDBC-SNB-results.json", "{'unit':'NANOSECONDS','all_metrics':[{'name':'LdbcQuery2','count':1,"
+                + "'run_time':{'count':1,'50th_percentile':2000000}}]}");
+        assertEquals(0.002, TcrProbe.readLatencies(resultsDir).get("LdbcQuery2").quantiles.get("0.5"), 1e-12);
+    }
+
+    @Test(expected = IOException.class)
+    public void testMissingUnit() throws IOException {
+        write("LDBC-SNB-results.json", "{'all_metrics':[{'name':'LdbcQuery2','count':1,"
+                + "'run_time':{'count':1,'50th_percentile':2}}]}");
+        TcrProbe.readLatencies(resultsDir);
+    }
+
+    @Test
+    public void testNoOperations() throws IOException {
+        write("LDBC-SNB-results.json", "{'unit':'MILLISECONDS','all_metrics':[]}");
+        assertTrue(TcrProbe.readLatencies(resultsDir).isEmpty());
+    }
+
+}
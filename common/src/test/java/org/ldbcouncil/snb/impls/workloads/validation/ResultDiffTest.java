@@ -0,0 +1,201 @@
+package org.ldbcouncil.snb.impls.workloads.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ResultDiffTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ResultDiff resultDiff = new ResultDiff(10);
+
+    /**
+     * Parses JSON written with single quotes, to keep the test data readable.
+     */
+    private static JsonNode json(String value) throws IOException {
+        return MAPPER.readTree(value.replace('\'', '"'));
+    }
+
+    private List<String> diff(String queryType, String expected, String actual) throws IOException {
+        return resultDiff.diff(queryType, json(expected), json(actual));
+    }
+
+    @Test
+    public void testEqualResults() throws IOException {
+        String rows = "[{'friendId':1,'friendLastName':'Perera','friendEmails':['a@x.com','b@x.com']},"
+                + "{'friendId':2,'friendLastName':'Costa','friendEmails':[]}]";
+        assertEquals(Collections.emptyList(), diff("LdbcQuery1", rows, rows));
+    }
+
+    @Test
+    public void testSingleResult() throws IOException {
+        assertEquals(Collections.emptyList(),
+                diff("LdbcShortQuery4MessageContent", "{'messageContent':'hi'}", "{'messageContent':'hi'}"));
+        assertEquals(Collections.singletonList("messageContent: expected \"hi\", actual \"ho\""),
+                diff("LdbcShortQuery4MessageContent", "{'messageContent':'hi'}", "{'messageContent':'ho'}"));
+    }
+
+    @Test
+    public void testRowOrder() throws IOException {
+        // the rows of IC1 are sorted on a unique key, so their order matters
+        assertEquals(Arrays.asList(
+                "[0].friendId: expected 1, actual 2",
+                "[0].friendLastName: expected \"Perera\", actual \"Costa\"",
+                "[1].friendId: expected 2, actual 1",
+                "[1].friendLastName: expected \"Costa\", actual \"Perera\""),
+                diff("LdbcQuery1",
+                        "[{'friendId':1,'friendLastName':'Perera'},{'friendId':2,'friendLastName':'Costa'}]",
+                        "[{'friendId':2,'friendLastName':'Costa'},{'friendId':1,'friendLastName':'Perera'}]"));
+    }
+
+    @Test
+    public void testNestedListsAreSets() throws IOException {
+        assertEquals(Collections.emptyList(), diff("LdbcQuery1",
+                "[{'friendId':1,'friendEmails':['a@x.com','b@x.com']}]",
+                "[{'friendId':1,'friendEmails':['b@x.com','a@x.com']}]"));
+        assertEquals(Collections.singletonList(
+                "[0].friendEmails: expected [\"a@x.com\",\"b@x.com\"], actual [\"a@x.com\"]"),
+                diff("LdbcQuery1",
+                        "[{'friendId':1,'friendEmails':['a@x.com','b@x.com']}]",
+                        "[{'friendId':1,'friendEmails':['a@x.com']}]"));
+    }
+
+    @Test
+    public void testPathsAreOrdered() throws IOException {
+        assertEquals(Arrays.asList(
+                "[0].personIdsInPath[0]: expected 1, actual 3",
+                "[0].personIdsInPath[2]: expected 3, actual 1"),
+                diff("LdbcQuery14",
+                        "[{'personIdsInPath':[1,2,3],'pathWeight':1.5}]",
+                        "[{'personIdsInPath':[3,2,1],'pathWeight':1.5}]"));
+    }
+
+    @Test
+    public void testTieGroupsInAnyOrder() throws IOException {
+        // IC14 is only sorted on the path weight, so the paths of the same weight may come in any order
+        String expected = "[{'personIdsInPath':[1,2,4],'pathWeight':3.0},{'personIdsInPath':[1,3,4],'pathWeight':3.0},"
+                + "{'personIdsInPath':[1,5,4],'pathWeight':1.0}]";
+        String actual = "[{'personIdsInPath':[1,3,4],'pathWeight':3.0},{'personIdsInPath':[1,2,4],'pathWeight':3.0},"
+                + "{'personIdsInPath':[1,5,4],'pathWeight':1.0}]";
+        assertEquals(Collections.emptyList(), diff("LdbcQuery14", expected, actual));
+    }
+
+    @Test
+    public void testTieGroupsWithRoundingErrors() throws IOException {
+        String expected = "[{'personIdsInPath':[1,2,4],'pathWeight':3.0},{'personIdsInPath':[1,3,4],'pathWeight':3.0}]";
+        String actual = "[{'personIdsInPath':[1,3,4],'pathWeight':3.0000000001},"
+                + "{'personIdsInPath':[1,2,4],'pathWeight':2.9999999999}]";
+        assertEquals(Collections.emptyList(), diff("LdbcQuery14", expected, actual));
+    }
+
+    @Test
+    public void testOrderAcrossTieGroups() throws IOException {
+        // rows of different weights may not be swapped
+        List<String> differences = diff("LdbcQuery14",
+                "[{'personIdsInPath':[1,2,4],'pathWeight':3.0},{'personIdsInPath':[1,5,4],'pathWeight':1.0}]",
+                "[{'personIdsInPath':[1,5,4],'pathWeight':1.0},{'personIdsInPath':[1,2,4],'pathWeight':3.0}]");
+        assertEquals(Arrays.asList(
+                "[0].personIdsInPath[1]: expected 2, actual 5",
+                "[0].pathWeight: expected 3.0, actual 1.0",
+                "[1].personIdsInPath[1]: expected 5, actual 2",
+                "[1].pathWeight: expected 1.0, actual 3.0"), differences);
+    }
+
+    @Test
+    public void testTieGroupsOnlyForPartiallySortedQueries() throws IOException {
+        // the rows of IC10 are not reordered, even with equal values
+        List<String> differences = diff("LdbcQuery10",
+                "[{'personId':1,'commonInterestScore':3},{'personId':2,'commonInterestScore':3}]",
+                "[{'personId':2,'commonInterestScore':3},{'personId':1,'commonInterestScore':3}]");
+        assertEquals(Arrays.asList(
+                "[0].personId: expected 1, actual 2",
+                "[1].personId: expected 2, actual 1"), differences);
+    }
+
+    @Test
+    public void testFloatTolerance() throws IOException {
+        assertEquals(Collections.emptyList(),
+                diff("LdbcQuery14", "[{'pathWeight':1.0}]", "[{'pathWeight':1.0000001}]"));
+        // relative to the expected value
+        assertEquals(Collections.emptyList(),
+                diff("LdbcQuery14", "[{'pathWeight':1000000.0}]", "[{'pathWeight':1000000.5}]"));
+        assertEquals(Collections.emptyList(),
+                diff("LdbcQuery14", "[{'pathWeight':0.0}]", "[{'pathWeight':1.0E-7}]"));
+        assertEquals(Collections.singletonList("[0].pathWeight: expected 1.0, actual 1.001"),
+                diff("LdbcQuery14", "[{'pathWeight':1.0}]", "[{'pathWeight':1.001}]"));
+        // an integral and a floating point value of the same number
+        assertEquals(Collections.emptyList(),
+                diff("LdbcQuery14", "[{'pathWeight':2}]", "[{'pathWeight':2.0}]"));
+    }
+
+    @Test
+    public void testIntegersAreExact() throws IOException {
+        assertEquals(Collections.singletonList("[0].personId: expected 9007199254740993, actual 9007199254740992"),
+                diff("LdbcQuery7", "[{'personId':9007199254740993}]", "[{'personId':9007199254740992}]"));
+    }
+
+    @Test
+    public void testMissingRows() throws IOException {
+        assertEquals(Collections.singletonList("size: expected 3, actual 2"),
+                diff("LdbcQuery8", "[{'personId':1},{'personId':2},{'personId':3}]",
+                        "[{'personId':1},{'personId':2}]"));
+        assertEquals(Arrays.asList("size: expected 2, actual 0"),
+                diff("LdbcQuery8", "[{'personId':1},{'personId':2}]", "[]"));
+    }
+
+    @Test
+    public void testExtraRows() throws IOException {
+        assertEquals(Collections.singletonList("size: expected 1, actual 2"),
+                diff("LdbcQuery8", "[{'personId':1}]", "[{'personId':1},{'personId':2}]"));
+        assertEquals(Arrays.asList("size: expected 1, actual 2", "[0].personId: expected 1, actual 2"),
+                diff("LdbcQuery8", "[{'personId':1}]", "[{'personId':2},{'personId':1}]"));
+    }
+
+    @Test
+    public void testMissingAndExtraFields() throws IOException {
+        assertEquals(Arrays.asList("[0].personLastName: expected \"Perera\", actual <missing>",
+                "[0].personFirstName: expected <missing>, actual \"Mahinda\""),
+                diff("LdbcQuery8", "[{'personId':1,'personLastName':'Perera'}]",
+                        "[{'personId':1,'personFirstName':'Mahinda'}]"));
+    }
+
+    @Test
+    public void testNullFields() throws IOException {
+        assertEquals(Collections.emptyList(),
+                diff("LdbcQuery9", "[{'personId':1,'commentContent':null}]", "[{'personId':1,'commentContent':null}]"));
+        assertEquals(Collections.singletonList("[0].commentContent: expected null, actual \"\""),
+                diff("LdbcQuery9", "[{'personId':1,'commentContent':null}]", "[{'personId':1,'commentContent':''}]"));
+        assertEquals(Collections.singletonList("[0].commentContent: expected \"x\", actual null"),
+                diff("LdbcQuery9", "[{'personId':1,'commentContent':'x'}]", "[{'personId':1,'commentContent':null}]"));
+        assertEquals(Collections.singletonList("[0].commentContent: expected null, actual <missing>"),
+                diff("LdbcQuery9", "[{'personId':1,'commentContent':null}]", "[{'personId':1}]"));
+        assertEquals(Collections.singletonList("result: expected [{\"personId\":1}], actual null"),
+                diff("LdbcQuery9", "[{'personId':1}]", "null"));
+    }
+
+    @Test
+    public void testMaxDifferences() throws IOException {
+        List<String> differences = new ResultDiff(2).diff("LdbcQuery8",
+                json("[{'personId':1},{'personId':2},{'personId':3}]"),
+                json("[{'personId':4},{'personId':5},{'personId':6}]"));
+        assertEquals(Arrays.asList("[0].personId: expected 1, actual 4", "[1].personId: expected 2, actual 5"),
+                differences);
+    }
+
+    @Test
+    public void testMaxDifferencesWithSizeMismatch() throws IOException {
+        assertEquals(Collections.singletonList("size: expected 2, actual 3"), new ResultDiff(1).diff("LdbcQuery8",
+                json("[{'personId':1},{'personId':2}]"), json("[{'personId':4},{'personId':5},{'personId':6}]")));
+        assertEquals(Collections.emptyList(), new ResultDiff(0).diff("LdbcQuery8",
+                json("[{'personId':1}]"), json("[]")));
+    }
+
+}
@@ -10,38 +10,25 @@ cd ..
 
 . scripts/vars.sh
 
-# provide progressbar is available
-if command -v pv > /dev/null 2>&1; then
-  SNB_CAT=pv
-else
-  SNB_CAT=cat
+if [ ! -f target/cypher-1.2.0-SNAPSHOT.jar ]; then
+  echo "target/cypher-1.2.0-SNAPSHOT.jar does not exist, build it with scripts/build.sh"
+  exit 1
 fi
 
 # create converted directory / cleanup if it exists
 rm -rf ${NEO4J_CONVERTED_CSV_DIR}/*
 mkdir -p ${NEO4J_CONVERTED_CSV_DIR}/{static,dynamic}/
 
-# replace headers
-while read line; do
-  IFS=' ' read -r -a array <<< $line
-  FILENAME=${array[0]}
-  HEADER=${array[1]}
-
-  echo ${FILENAME}: ${HEADER}
-  # replace header (no point using sed to save space as it creates a temporary file as well)
-  if [ ! -f ${NEO4J_VANILLA_CSV_DIR}/${FILENAME}${NEO4J_CSV_POSTFIX} ]; then
-    echo "${NEO4J_VANILLA_CSV_DIR}/${FILENAME}${NEO4J_CSV_POSTFIX} does not exist"
-    exit 1
-  fi
-  echo ${HEADER} | ${SNB_CAT} - <(tail -n +2 ${NEO4J_VANILLA_CSV_DIR}/${FILENAME}${NEO4J_CSV_POSTFIX}) > ${NEO4J_CONVERTED_CSV_DIR}/${FILENAME}${NEO4J_CSV_POSTFIX}
-done < scripts/headers.txt
-
-# replace labels with one starting with an uppercase letter
-sed -i.bkp "s/|city$/|City/" "${NEO4J_CONVERTED_CSV_DIR}/static/place${NEO4J_CSV_POSTFIX}"
-sed -i.bkp "s/|country$/|Country/" "${NEO4J_CONVERTED_CSV_DIR}/static/place${NEO4J_CSV_POSTFIX}"
-sed -i.bkp "s/|continent$/|Continent/" "${NEO4J_CONVERTED_CSV_DIR}/static/place${NEO4J_CSV_POSTFIX}"
-sed -i.bkp "s/|company|/|Company|/" "${NEO4J_CONVERTED_CSV_DIR}/static/organisation${NEO4J_CSV_POSTFIX}"
-sed -i.bkp "s/|university|/|University|/" "${NEO4J_CONVERTED_CSV_DIR}/static/organisation${NEO4J_CSV_POSTFIX}"
-rm ${NEO4J_CONVERTED_CSV_DIR}/*/*.bkp
+# replace the headers and capitalise the labels, streaming each file once (in parallel)
+CONVERTER_ARGS=""
+if [ "${NEO4J_CSV_COMPRESS}" = "true" ]; then
+  CONVERTER_ARGS="--compress"
+fi
+java -cp target/cypher-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.cypher.importer.ImportCsvConverter \
+  --input ${NEO4J_VANILLA_CSV_DIR} \
+  --output ${NEO4J_CONVERTED_CSV_DIR} \
+  --headers scripts/headers.txt \
+  --postfix ${NEO4J_CSV_POSTFIX} \
+  ${CONVERTER_ARGS}
 
 echo "Finished preprocessing CSV files"
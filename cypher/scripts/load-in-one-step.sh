@@ -23,6 +23,7 @@ echo "  ${NEO4J_CONVERTED_CSV_DIR}"
 echo "NEO4J_DATA_DIR (on the host machine):"
 echo "  ${NEO4J_DATA_DIR}"
 echo "NEO4J_CSV_POSTFIX: ${NEO4J_CSV_POSTFIX}"
+echo "NEO4J_CSV_COMPRESS: ${NEO4J_CSV_COMPRESS}"
 echo "==============================================================================="
 
 scripts/convert-csvs.sh
@@ -3,7 +3,15 @@ cd ..
 
 export NEO4J_CONTAINER_NAME=snb-interactive-neo4j
 export NEO4J_CONTAINER_ROOT=`pwd`/scratch
+# use a postfix ending in .gz (e.g. _0_0.csv.gz) for gzip-compressed input CSVs
 export NEO4J_CSV_POSTFIX=_0_0.csv
+# set to true to gzip the converted CSVs, which neo4j-admin import reads directly
+export NEO4J_CSV_COMPRESS=${NEO4J_CSV_COMPRESS:-false}
+if [[ "${NEO4J_CSV_COMPRESS}" == "true" ]]; then
+    export NEO4J_CONVERTED_CSV_POSTFIX=${NEO4J_CSV_POSTFIX%.gz}.gz
+else
+    export NEO4J_CONVERTED_CSV_POSTFIX=${NEO4J_CSV_POSTFIX%.gz}
+fi
 export NEO4J_DATA_DIR=${NEO4J_CONTAINER_ROOT}/data
 export NEO4J_ENV_VARS=""
 export NEO4J_DRIVER_VERSION=4.4.11
@@ -0,0 +1,32 @@
+package cypher;
+
+import org.ldbcouncil.snb.impls.workloads.cypher.embedded.EmbeddedNeo4j;
+import org.ldbcouncil.snb.impls.workloads.cypher.interactive.CypherInteractiveDb;
+import org.ldbcouncil.snb.impls.workloads.interactive.InteractiveTest;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class CypherInteractiveTest extends InteractiveTest {
+
+    public CypherInteractiveTest() {
+        super(new CypherInteractiveDb());
+    }
+
+    public Map<String, String> getProperties() {
+        Map<String, String> properties;
+        try {
+            properties = EmbeddedNeo4j.shared().getProperties();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start the embedded Neo4j database", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the embedded Neo4j database", e);
+        }
+        properties.put("printQueryNames", "true");
+        properties.put("printQueryStrings", "false");
+        properties.put("printQueryResults", "true");
+        return properties;
+    }
+
+}
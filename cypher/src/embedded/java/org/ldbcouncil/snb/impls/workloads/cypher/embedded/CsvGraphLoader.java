@@ -0,0 +1,267 @@
+package org.ldbcouncil.snb.impls.workloads.cypher.embedded;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+
+/**
+ * Loads the converted CSVs (see ImportCsvConverter) into an embedded database through the core API,
+ * with the same graph as scripts/import-to-neo4j.sh creates with neo4j-admin import:
+ * the node labels are the ID groups of the headers (plus Message for comments and posts) and the :LABEL column,
+ * the relationship types are derived from the file names (e.g. person_hasInterest_tag: HAS_INTEREST).
+ *
+ * Meant for the small test data sets only, as the id mapping is kept in memory.
+ */
+class CsvGraphLoader {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final Map<String, String> EXTRA_LABELS = new HashMap<>();
+
+    static {
+        EXTRA_LABELS.put("Comment", "Message");
+        EXTRA_LABELS.put("Post", "Message");
+    }
+
+    private final GraphDatabaseService db;
+    // ID group -> id in the CSV -> internal node id
+    private final Map<String, Map<Long, Long>> nodeIds = new HashMap<>();
+
+    CsvGraphLoader(GraphDatabaseService db) {
+        this.db = db;
+    }
+
+    /**
+     * @param files [file name without postfix, header] pairs, as in scripts/headers.txt
+     */
+    void load(Path csvDir, String postfix, List<String[]> files) throws IOException {
+        // nodes first, so that the relationships can look up their endpoints
+        for (String[] file : files) {
+            if (file[1].contains(":ID(")) {
+                loadNodes(csvDir.resolve(file[0] + postfix), Column.parseHeader(file[1]));
+            }
+        }
+        for (String[] file : files) {
+            if (!file[1].contains(":ID(")) {
+                loadRelationships(csvDir.resolve(file[0] + postfix), Column.parseHeader(file[1]), relationshipType(file[0]));
+            }
+        }
+    }
+
+    /**
+     * Executes the schema statements (separated by semicolons) and waits until the indexes are online.
+     */
+    void createIndexes(Path indicesFile) throws IOException {
+        String statements = new String(Files.readAllBytes(indicesFile), StandardCharsets.UTF_8);
+        for (String statement : statements.split(";")) {
+            if (!statement.trim().isEmpty()) {
+                try (Transaction tx = db.beginTx()) {
+                    tx.execute(statement.trim()).close();
+                    tx.commit();
+                }
+            }
+        }
+        try (Transaction tx = db.beginTx()) {
+            tx.schema().awaitIndexesOnline(5, TimeUnit.MINUTES);
+        }
+    }
+
+    private void loadNodes(Path file, List<Column> columns) throws IOException {
+        String group = null;
+        for (Column column : columns) {
+            if (column.kind == Column.Kind.ID) {
+                group = column.group;
+            }
+        }
+        Map<Long, Long> ids = nodeIds.computeIfAbsent(group, g -> new HashMap<>());
+        List<Label> labels = new ArrayList<>();
+        labels.add(Label.label(group));
+        if (EXTRA_LABELS.containsKey(group)) {
+            labels.add(Label.label(EXTRA_LABELS.get(group)));
+        }
+
+        try (Batch batch = new Batch(); BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split("\\|", -1);
+                List<Label> nodeLabels = new ArrayList<>(labels);
+                for (int i = 0; i < columns.size(); i++) {
+                    if (columns.get(i).kind == Column.Kind.LABEL && !values[i].isEmpty()) {
+                        nodeLabels.add(Label.label(values[i]));
+                    }
+                }
+                Node node = batch.tx().createNode(nodeLabels.toArray(new Label[0]));
+                for (int i = 0; i < columns.size(); i++) {
+                    Column column = columns.get(i);
+                    if (column.kind == Column.Kind.ID) {
+                        long id = Long.parseLong(values[i]);
+                        node.setProperty(column.name, id);
+                        ids.put(id, node.getId());
+                    } else if (column.kind == Column.Kind.PROPERTY && !values[i].isEmpty()) {
+                        node.setProperty(column.name, column.parse(values[i]));
+                    }
+                }
+                batch.added();
+            }
+            batch.commit();
+        }
+    }
+
+    private void loadRelationships(Path file, List<Column> columns, RelationshipType type) throws IOException {
+        try (Batch batch = new Batch(); BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split("\\|", -1);
+                Node start = null;
+                Node end = null;
+                for (int i = 0; i < columns.size(); i++) {
+                    Column column = columns.get(i);
+                    if (column.kind == Column.Kind.START_ID) {
+                        start = batch.tx().getNodeById(lookup(column.group, values[i], file));
+                    } else if (column.kind == Column.Kind.END_ID) {
+                        end = batch.tx().getNodeById(lookup(column.group, values[i], file));
+                    }
+                }
+                Relationship relationship = start.createRelationshipTo(end, type);
+                for (int i = 0; i < columns.size(); i++) {
+                    Column column = columns.get(i);
+                    if (column.kind == Column.Kind.PROPERTY && !values[i].isEmpty()) {
+                        relationship.setProperty(column.name, column.parse(values[i]));
+                    }
+                }
+                batch.added();
+            }
+            batch.commit();
+        }
+    }
+
+    private long lookup(String group, String id, Path file) {
+        Long nodeId = nodeIds.getOrDefault(group, new HashMap<>()).get(Long.parseLong(id));
+        if (nodeId == null) {
+            throw new IllegalStateException("Unknown " + group + " " + id + " in " + file);
+        }
+        return nodeId;
+    }
+
+    /**
+     * @param name file name without postfix, e.g. dynamic/person_hasInterest_tag
+     * @return the relationship type, e.g. HAS_INTEREST
+     */
+    static RelationshipType relationshipType(String name) {
+        String[] parts = name.substring(name.lastIndexOf('/') + 1).split("_");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Cannot derive the relationship type of " + name);
+        }
+        return RelationshipType.withName(parts[1].replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase());
+    }
+
+    /**
+     * Transactions committed every BATCH_SIZE entities. Closing it without a commit rolls back the current batch.
+     */
+    private class Batch implements AutoCloseable {
+        private Transaction tx = db.beginTx();
+        private int size;
+
+        Transaction tx() {
+            return tx;
+        }
+
+        void added() {
+            if (++size == BATCH_SIZE) {
+                tx.commit();
+                tx.close();
+                tx = db.beginTx();
+                size = 0;
+            }
+        }
+
+        void commit() {
+            tx.commit();
+        }
+
+        @Override
+        public void close() {
+            tx.close();
+        }
+    }
+
+    /**
+     * A column of a neo4j-admin import header, e.g. id:ID(Person), :LABEL, :START_ID(Person) or birthday:LONG.
+     */
+    static class Column {
+
+        enum Kind {
+            ID,
+            START_ID,
+            END_ID,
+            LABEL,
+            PROPERTY
+        }
+
+        final Kind kind;
+        final String name;
+        // ID group, or the property type
+        final String group;
+
+        Column(Kind kind, String name, String group) {
+            this.kind = kind;
+            this.name = name;
+            this.group = group;
+        }
+
+        static List<Column> parseHeader(String header) {
+            List<Column> columns = new ArrayList<>();
+            for (String field : header.split("\\|")) {
+                int colon = field.lastIndexOf(':');
+                String name = field.substring(0, colon);
+                String type = field.substring(colon + 1);
+                if (type.startsWith("ID(")) {
+                    columns.add(new Column(Kind.ID, name, type.substring(3, type.length() - 1)));
+                } else if (type.startsWith("START_ID(")) {
+                    columns.add(new Column(Kind.START_ID, name, type.substring(9, type.length() - 1)));
+                } else if (type.startsWith("END_ID(")) {
+                    columns.add(new Column(Kind.END_ID, name, type.substring(7, type.length() - 1)));
+                } else if (type.equals("LABEL")) {
+                    columns.add(new Column(Kind.LABEL, name, null));
+                } else {
+                    columns.add(new Column(Kind.PROPERTY, name, type));
+                }
+            }
+            return columns;
+        }
+
+        /**
+         * Converts a value like neo4j-admin import does, with ';' as the array delimiter.
+         */
+        Object parse(String value) {
+            switch (group) {
+                case "STRING":
+                    return value;
+                case "LONG":
+                    return Long.parseLong(value);
+                case "INT":
+                    return Integer.parseInt(value);
+                case "STRING[]":
+                    return value.split(";");
+                default:
+                    throw new IllegalArgumentException("Unsupported type: " + group);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+package org.ldbcouncil.snb.impls.workloads.cypher.embedded;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandler;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfile;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPosts;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriends;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContent;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreator;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageReplies;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
+import org.ldbcouncil.snb.impls.workloads.cypher.CypherDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.cypher.interactive.CypherInteractiveDb;
+import org.ldbcouncil.snb.impls.workloads.cypher.operationhandlers.CypherListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.cypher.operationhandlers.CypherSingletonOperationHandler;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the read operations of the Cypher implementation against an EmbeddedNeo4j server.
+ *
+ * The handler benchmark executes an operation through CypherInteractiveDb, like the driver does: handler lookup,
+ * parameter conversion, session, query and result conversion. The session benchmark runs the same query with the
+ * same parameters directly on a Neo4j driver session, so the difference between the two is the overhead of the
+ * handler. The operations use the parameters of InteractiveTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CypherHandlerBenchmark {
+
+    private static final int LIMIT = 100;
+    private static final Map<String, Operation<?>> OPERATIONS = new HashMap<>();
+
+    static {
+        OPERATIONS.put("IC1", new LdbcQuery1(30786325579101L, "Ian", LIMIT));
+        OPERATIONS.put("IC2", new LdbcQuery2(19791209300143L, new Date(1354060800000L), LIMIT));
+        OPERATIONS.put("IC7", new LdbcQuery7(26388279067534L, LIMIT));
+        OPERATIONS.put("IC8", new LdbcQuery8(2199023256816L, LIMIT));
+        OPERATIONS.put("IC11", new LdbcQuery11(30786325579101L, "Puerto_Rico", 2004, LIMIT));
+        OPERATIONS.put("IC12", new LdbcQuery12(19791209300143L, "BasketballPlayer", LIMIT));
+        OPERATIONS.put("IS1", new LdbcShortQuery1PersonProfile(32985348833679L));
+        OPERATIONS.put("IS2", new LdbcShortQuery2PersonPosts(32985348833679L, LIMIT));
+        OPERATIONS.put("IS3", new LdbcShortQuery3PersonFriends(32985348833679L));
+        OPERATIONS.put("IS4", new LdbcShortQuery4MessageContent(2061584476422L));
+        OPERATIONS.put("IS5", new LdbcShortQuery5MessageCreator(2061584476422L));
+        OPERATIONS.put("IS6", new LdbcShortQuery6MessageForum(2061584476422L));
+        OPERATIONS.put("IS7", new LdbcShortQuery7MessageReplies(2061584476422L));
+    }
+
+    @Param({"IS1", "IS2", "IS3", "IS4", "IS5", "IS6", "IS7", "IC1", "IC2", "IC7", "IC8", "IC11", "IC12"})
+    public String operationName;
+
+    private EmbeddedNeo4j neo4j;
+    private CypherInteractiveDb db;
+    private Workload workload;
+    private Driver driver;
+    private Operation<?> operation;
+    private String query;
+    private Map<String, Object> parameters;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() throws Exception {
+        neo4j = EmbeddedNeo4j.start();
+        workload = new LdbcSnbInteractiveWorkload();
+        db = new CypherInteractiveDb();
+        db.init(neo4j.getProperties(), null, workload.operationTypeToClassMapping());
+        driver = GraphDatabase.driver(neo4j.boltUri(), AuthTokens.none());
+
+        operation = OPERATIONS.get(operationName);
+        OperationHandlerRunnableContext context = db.getOperationHandlerRunnableContext(operation);
+        try {
+            OperationHandler handler = context.operationHandler();
+            CypherDbConnectionState state = (CypherDbConnectionState) context.dbConnectionState();
+            if (handler instanceof CypherListOperationHandler) {
+                query = ((CypherListOperationHandler) handler).getQueryString(state, operation);
+                parameters = ((CypherListOperationHandler) handler).getParameters(state, operation);
+            } else {
+                query = ((CypherSingletonOperationHandler) handler).getQueryString(state, operation);
+                parameters = ((CypherSingletonOperationHandler) handler).getParameters(state, operation);
+            }
+        } finally {
+            context.cleanup();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        driver.close();
+        db.close();
+        workload.close();
+        neo4j.close();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object handler() throws DbException {
+        OperationHandlerRunnableContext context = db.getOperationHandlerRunnableContext(operation);
+        try {
+            ResultReporter reporter = new ResultReporter.SimpleResultReporter(null);
+            context.operationHandler().executeOperation(operation, context.dbConnectionState(), reporter);
+            return reporter.result();
+        } finally {
+            context.cleanup();
+        }
+    }
+
+    @Benchmark
+    public List<Record> session() {
+        SessionConfig config = SessionConfig.builder().withDefaultAccessMode(AccessMode.READ).build();
+        try (Session session = driver.session(config)) {
+            return session.run(query, parameters).list();
+        }
+    }
+
+}
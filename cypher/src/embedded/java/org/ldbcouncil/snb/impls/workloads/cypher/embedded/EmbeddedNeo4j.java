@@ -0,0 +1,107 @@
+package org.ldbcouncil.snb.impls.workloads.cypher.embedded;
+
+import org.ldbcouncil.snb.impls.workloads.cypher.importer.ImportCsvConverter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.neo4j.harness.Neo4j;
+import org.neo4j.harness.Neo4jBuilders;
+
+/**
+ * An in-process Neo4j server (test harness) loaded with a data set of the test-data directory, for running
+ * the Cypher implementation without Docker, e.g. in CypherInteractiveTest and CypherHandlerBenchmark.
+ * The server accepts Bolt connections on a random local port, without authentication.
+ *
+ * The CSVs are converted with ImportCsvConverter and loaded with CsvGraphLoader, and the indexes of
+ * scripts/indices.cypher are created. Paths are relative to the cypher directory.
+ */
+public class EmbeddedNeo4j implements AutoCloseable {
+
+    private static final String POSTFIX = "_0_0.csv";
+
+    private static EmbeddedNeo4j shared;
+
+    private final Neo4j neo4j;
+
+    private EmbeddedNeo4j(Neo4j neo4j) {
+        this.neo4j = neo4j;
+    }
+
+    /**
+     * Starts a server with the CSVs of test-data/vanilla.
+     */
+    public static EmbeddedNeo4j start() throws IOException, InterruptedException {
+        return start(Paths.get("test-data/vanilla"), Paths.get("scripts/headers.txt"), Paths.get("scripts/indices.cypher"));
+    }
+
+    public static EmbeddedNeo4j start(Path vanillaCsvDir, Path headersFile, Path indicesFile)
+            throws IOException, InterruptedException {
+        Path convertedCsvDir = Files.createTempDirectory("snb-neo4j-csv");
+        try {
+            ImportCsvConverter.main(new String[]{
+                    "--input", vanillaCsvDir.toString(),
+                    "--output", convertedCsvDir.toString(),
+                    "--headers", headersFile.toString(),
+                    "--postfix", POSTFIX});
+
+            Neo4j neo4j = Neo4jBuilders.newInProcessBuilder().withDisabledServer().build();
+            try {
+                long start = System.nanoTime();
+                CsvGraphLoader loader = new CsvGraphLoader(neo4j.defaultDatabaseService());
+                loader.load(convertedCsvDir, POSTFIX, ImportCsvConverter.readHeaders(headersFile));
+                loader.createIndexes(indicesFile);
+                System.out.printf("Loaded the embedded Neo4j database in %.1f s%n", (System.nanoTime() - start) / 1e9);
+            } catch (IOException | RuntimeException e) {
+                neo4j.close();
+                throw e;
+            }
+            return new EmbeddedNeo4j(neo4j);
+        } finally {
+            try (Stream<Path> paths = Files.walk(convertedCsvDir)) {
+                paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * @return a server started on first use and shared within the JVM, e.g. by all tests of a run
+     */
+    public static synchronized EmbeddedNeo4j shared() throws IOException, InterruptedException {
+        if (shared == null) {
+            EmbeddedNeo4j neo4j = start();
+            Runtime.getRuntime().addShutdownHook(new Thread(neo4j::close));
+            shared = neo4j;
+        }
+        return shared;
+    }
+
+    public URI boltUri() {
+        return neo4j.boltURI();
+    }
+
+    /**
+     * @return the properties of a CypherDb connecting to this server
+     */
+    public Map<String, String> getProperties() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("endpoint", boltUri().toString());
+        properties.put("user", "neo4j");
+        properties.put("password", "admin");
+        properties.put("queryDir", "queries/");
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        neo4j.close();
+    }
+
+}
@@ -16,6 +16,7 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,7 @@ public class CypherDb extends BaseDb<CypherQueryStore>
     CypherQueryStore queryStore;
 
     @Override
-    protected void onInit( Map<String, String> properties, LoggingService loggingService ) throws DbException
+    protected void initialize( Map<String, String> properties, LoggingService loggingService ) throws DbException
     {
 
         dcs = new CypherDbConnectionState<>(properties, new CypherQueryStore(properties.get("queryDir")));
@@ -64,7 +65,7 @@ public class CypherDb extends BaseDb<CypherQueryStore>
             }
             else
             {
-                emails = new ArrayList<>();
+                emails = Collections.emptyList();
             }
 
             List<String> languages;
@@ -74,27 +75,27 @@ public class CypherDb extends BaseDb<CypherQueryStore>
             }
             else
             {
-                languages = new ArrayList<>();
+                languages = Collections.emptyList();
             }
 
             List<LdbcQuery1Result.Organization> universities;
             if ( !record.get( 11 ).isNull() )
             {
-                universities = CypherConverter.asOrganization(record.get( 11 ).asList( Value::asList ));
+                universities = CypherConverter.asOrganization( record.get( 11 ) );
             }
             else
             {
-                universities = new ArrayList<>();
+                universities = Collections.emptyList();
             }
 
             List<LdbcQuery1Result.Organization> companies;
             if ( !record.get( 12 ).isNull() )
             {
-                companies = CypherConverter.asOrganization(record.get( 12 ).asList( Value::asList ));
+                companies = CypherConverter.asOrganization( record.get( 12 ) );
             }
             else
             {
-                companies = new ArrayList<>();
+                companies = Collections.emptyList();
             }
 
             long friendId = record.get( 0 ).asLong();
@@ -1,9 +1,7 @@
 package org.ldbcouncil.snb.impls.workloads.cypher;
 
-import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
-import java.util.TimeZone;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -15,6 +13,8 @@ import org.ldbcouncil.snb.impls.workloads.cypher.converter.CypherConverter;
 
 public class CypherQueryStore extends QueryStore
 {
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
     public CypherQueryStore( String path )  throws DbException
     {
         super(path, ".cypher");
@@ -24,12 +24,13 @@ public class CypherQueryStore extends QueryStore
         return new CypherConverter();
     }
 
-    static protected Date addDays( Date startDate, int days )
+    /**
+     * Adds days to a date. Dates are in GMT, which has no daylight saving time, so every day is 24 hours long.
+     * @return the resulting date in epoch milliseconds
+     */
+    static protected long addDays( Date startDate, int days )
     {
-        final Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
-        cal.setTime( startDate );
-        cal.add( Calendar.DATE, days );
-        return cal.getTime();
+        return startDate.getTime() + days * MILLIS_PER_DAY;
     }
 
     /**
@@ -59,24 +60,24 @@ public class CypherQueryStore extends QueryStore
 
     @Override
     public Map<String, Object> getQuery3Map(LdbcQuery3 operation) {
-        final Date endDate = addDays( operation.getStartDate(), operation.getDurationDays() );
+        final long endDate = addDays( operation.getStartDate(), operation.getDurationDays() );
         return new ImmutableMap.Builder<String, Object>()
         .put( LdbcQuery3.PERSON_ID, operation.getPersonIdQ3() )
         .put( LdbcQuery3.COUNTRY_X_NAME, operation.getCountryXName() )
         .put( LdbcQuery3.COUNTRY_Y_NAME, operation.getCountryYName()) 
         .put( LdbcQuery3.START_DATE, operation.getStartDate().getTime() )
-        .put( "endDate", endDate.getTime() )
+        .put( "endDate", endDate )
         .put( LdbcQuery3.LIMIT, operation.getLimit() )
         .build();
     }
 
     @Override
     public Map<String, Object> getQuery4Map(LdbcQuery4 operation) {
-        final Date endDate = addDays( operation.getStartDate(), operation.getDurationDays() );
+        final long endDate = addDays( operation.getStartDate(), operation.getDurationDays() );
         return new ImmutableMap.Builder<String, Object>()
         .put(LdbcQuery4.PERSON_ID, operation.getPersonIdQ4())
         .put(LdbcQuery4.START_DATE, operation.getStartDate().getTime())
-        .put( "endDate", endDate.getTime() )
+        .put( "endDate", endDate )
         .put( LdbcQuery4.LIMIT, operation.getLimit() )
         .build();
     }
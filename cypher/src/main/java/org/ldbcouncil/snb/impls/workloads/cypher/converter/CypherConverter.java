@@ -3,28 +3,37 @@ package org.ldbcouncil.snb.impls.workloads.cypher.converter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
 import org.ldbcouncil.snb.impls.workloads.converter.Converter;
+import org.neo4j.driver.Value;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class CypherConverter extends Converter {
 
-    public String convertOrganisations(List<LdbcUpdate1AddPerson.Organization> values) {
-        String res = "[";
-        res += values
-                .stream()
-                .map(v -> "[" + v.getOrganizationId() + ", " + v.getYear() + "]")
-                .collect(Collectors.joining(", "));
-        res += "]";
-        return res;
+    @Override
+    public StringBuilder appendOrganisations(StringBuilder sb, List<LdbcUpdate1AddPerson.Organization> values) {
+        sb.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            LdbcUpdate1AddPerson.Organization organization = values.get(i);
+            sb.append('[').append(organization.getOrganizationId()).append(", ").append(organization.getYear()).append(']');
+        }
+        return sb.append(']');
     }
 
-    public static List<LdbcQuery1Result.Organization> asOrganization(List<List<Object>> value){
-        List<LdbcQuery1Result.Organization> orgs = new ArrayList<>();
-        for (List<Object> list : value) {
-            orgs.add(new LdbcQuery1Result.Organization((String)list.get(0), ((Long) list.get(1)).intValue(), (String)list.get(2)));
+    /**
+     * Converts a list of [name, year, place] lists, reading the values directly instead of converting them into
+     * lists of Java objects first.
+     */
+    public static List<LdbcQuery1Result.Organization> asOrganization(Value value) {
+        LdbcQuery1Result.Organization[] organizations = new LdbcQuery1Result.Organization[value.size()];
+        int i = 0;
+        for (Value organization : value.values()) {
+            organizations[i++] = new LdbcQuery1Result.Organization(
+                    organization.get(0).asString(), organization.get(1).asInt(), organization.get(2).asString());
         }
-        return orgs;
+        return Arrays.asList(organizations);
     }
 }
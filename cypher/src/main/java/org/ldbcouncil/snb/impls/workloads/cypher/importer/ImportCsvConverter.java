@@ -0,0 +1,281 @@
+package org.ldbcouncil.snb.impls.workloads.cypher.importer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Converts the CSV files of the data generator to the input of neo4j-admin import.
+ *
+ * Every file listed in the headers file ("[file] [header]" per line) is streamed once: its header is replaced,
+ * and the labels in the :LABEL column (e.g. city, company) are capitalised to match the labels of the schema.
+ * Quoted fields (which may contain the delimiter) are skipped as a whole, as neo4j-admin import does.
+ * Files without a :LABEL column are copied with FileChannel#transferTo after the header.
+ * The files are converted in parallel, largest first. With a postfix ending in .gz, the input is gzip-compressed.
+ * With --compress, the output is gzip-compressed (with a .gz suffix), which neo4j-admin import reads directly.
+ *
+ * Usage:
+ * java -cp target/cypher-1.2.0-SNAPSHOT.jar org.ldbcouncil.snb.impls.workloads.cypher.importer.ImportCsvConverter
+ * --input [vanilla CSV dir] --output [converted CSV dir] [--headers scripts/headers.txt] [--postfix _0_0.csv]
+ * [--threads N] [--compress]
+ */
+public class ImportCsvConverter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final String LABEL_COLUMN = ":LABEL";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final Path inputDir;
+    private final Path outputDir;
+    private final String postfix;
+    private final boolean compress;
+
+    ImportCsvConverter(Path inputDir, Path outputDir, String postfix, boolean compress) {
+        this.inputDir = inputDir;
+        this.outputDir = outputDir;
+        this.postfix = postfix;
+        this.compress = compress;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path inputDir = null;
+        Path outputDir = null;
+        Path headersFile = Paths.get("scripts/headers.txt");
+        String postfix = "_0_0.csv";
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean compress = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--input":
+                    inputDir = Paths.get(args[++i]);
+                    break;
+                case "--output":
+                    outputDir = Paths.get(args[++i]);
+                    break;
+                case "--headers":
+                    headersFile = Paths.get(args[++i]);
+                    break;
+                case "--postfix":
+                    postfix = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--compress":
+                    compress = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (inputDir == null || outputDir == null) {
+            throw new IllegalArgumentException("Both --input and --output are required");
+        }
+
+        ImportCsvConverter converter = new ImportCsvConverter(inputDir, outputDir, postfix, compress);
+        List<String[]> files = readHeaders(headersFile);
+        for (String[] file : files) {
+            if (!Files.isRegularFile(converter.input(file[0]))) {
+                throw new IllegalStateException(converter.input(file[0]) + " does not exist");
+            }
+        }
+        converter.sortLargestFirst(files);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String[] file : files) {
+                futures.add(executor.submit(() -> {
+                    converter.convert(file[0], file[1]);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Converting the CSV files failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.printf("Converted %d files in %.1f s%n", files.size(), (System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * @return the lines of the headers file as [file name without postfix, header] pairs
+     */
+    public static List<String[]> readHeaders(Path headersFile) throws IOException {
+        List<String[]> files = new ArrayList<>();
+        for (String line : Files.readAllLines(headersFile, StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            String[] fields = line.trim().split(" ", 2);
+            if (fields.length != 2) {
+                throw new IllegalArgumentException("Invalid line in " + headersFile + ": " + line);
+            }
+            files.add(fields);
+        }
+        return files;
+    }
+
+    Path input(String name) {
+        return inputDir.resolve(name + postfix);
+    }
+
+    Path output(String name) {
+        String uncompressed = postfix.endsWith(GZIP_SUFFIX)
+                ? postfix.substring(0, postfix.length() - GZIP_SUFFIX.length()) : postfix;
+        return outputDir.resolve(name + uncompressed + (compress ? GZIP_SUFFIX : ""));
+    }
+
+    /**
+     * Sorts the files by the size of their input, the largest first, so that they do not end up last on a single thread.
+     */
+    void sortLargestFirst(List<String[]> files) {
+        files.sort(Comparator.comparingLong((String[] file) -> input(file[0]).toFile().length()).reversed());
+    }
+
+    void convert(String name, String header) throws IOException {
+        Path output = output(name);
+        Files.createDirectories(output.getParent());
+        int labelColumn = columnIndex(header, LABEL_COLUMN);
+        boolean compressedInput = postfix.endsWith(GZIP_SUFFIX);
+        try (FileChannel inFile = FileChannel.open(input(name), StandardOpenOption.READ);
+             ReadableByteChannel in = compressedInput
+                     ? Channels.newChannel(new GZIPInputStream(Channels.newInputStream(inFile), BUFFER_SIZE)) : inFile;
+             FileChannel file = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream gzip = compress ? new FastGzipOutputStream(Channels.newOutputStream(file)) : null;
+            WritableByteChannel out = compress ? Channels.newChannel(gzip) : file;
+            writeFully(out, ByteBuffer.wrap((header + "\n").getBytes(StandardCharsets.UTF_8)));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            skipLine(in, buffer);
+            if (labelColumn < 0 && !compress && !compressedInput) {
+                long position = inFile.position() - buffer.remaining();
+                long size = inFile.size();
+                while (position < size) {
+                    position += inFile.transferTo(position, size - position, out);
+                }
+            } else {
+                copyCapitalisingColumn(in, out, buffer, labelColumn);
+            }
+            if (gzip != null) {
+                gzip.close();
+            }
+        }
+        System.out.println(name + ": " + header);
+    }
+
+    /**
+     * @return the index of the column in a header, or -1 if it does not exist
+     */
+    static int columnIndex(String header, String column) {
+        String[] columns = header.split("\\|");
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equals(column)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the input up to the end of its first line. The buffer is left with the bytes read after the line.
+     */
+    static void skipLine(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (in.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                if (buffer.get() == '\n') {
+                    return;
+                }
+            }
+            buffer.clear();
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Copies the remaining bytes of the buffer and the rest of the input, upper-casing the first (ASCII) character
+     * of the given column in every line. A quoted field is one value, even if it contains the delimiter or a line
+     * break, and its first character is the one after the opening quote.
+     * The state is kept across buffer boundaries, so every byte is visited exactly once.
+     *
+     * @param column index of the column to capitalise, or -1 to copy the input unchanged
+     */
+    static void copyCapitalisingColumn(ReadableByteChannel in, WritableByteChannel out, ByteBuffer buffer, int column)
+            throws IOException {
+        int currentColumn = 0;
+        boolean fieldStart = true;
+        boolean quoted = false;
+        while (true) {
+            if (column >= 0) {
+                for (int i = buffer.position(); i < buffer.limit(); i++) {
+                    byte b = buffer.get(i);
+                    if (b == '"') {
+                        // an opening quote is not part of the value, the other quotes end or escape it ("")
+                        fieldStart = fieldStart && !quoted;
+                        quoted = !quoted;
+                    } else if (b == '\n' && !quoted) {
+                        currentColumn = 0;
+                        fieldStart = true;
+                    } else if (b == '|' && !quoted) {
+                        currentColumn++;
+                        fieldStart = true;
+                    } else {
+                        if (fieldStart && currentColumn == column && b >= 'a' && b <= 'z') {
+                            buffer.put(i, (byte) (b - 'a' + 'A'));
+                        }
+                        fieldStart = false;
+                    }
+                }
+            }
+            writeFully(out, buffer);
+            buffer.clear();
+            if (in.read(buffer) < 0) {
+                return;
+            }
+            buffer.flip();
+        }
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    /**
+     * gzip with the fastest compression level, as the conversion would otherwise be bound by the compression.
+     */
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+}
@@ -11,6 +11,7 @@ import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13Result;
 import org.ldbcouncil.snb.impls.workloads.cypher.CypherDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 
 import java.text.ParseException;
@@ -38,15 +39,20 @@ public abstract class CypherIC13OperationHandler
         final Map<String, Object> parameters = getParameters(state, operation );
 
         final SessionConfig config = SessionConfig.builder().withDefaultAccessMode( AccessMode.READ ).build();
-        try ( final Session session = state.getSession( config ) )
+        try ( final OperationProbe probe = state.startOperation( operation );
+              final Session session = state.getSession( config ) )
         {
+            probe.connectionAcquired();
+            probe.rendered( query );
             final Result result = session.run( query, parameters );
             if ( result.hasNext() )
             {
                 try
                 {
-                    resultReporter.report( 1, toResult( result.next() ), operation );
+                    final LdbcQuery13Result tuple = toResult( result.next() );
                     final ResultSummary summary = result.consume();
+                    probe.succeeded( 1 );
+                    resultReporter.report( 1, tuple, operation );
                 }
                 catch ( ParseException e )
                 {
@@ -55,6 +61,7 @@ public abstract class CypherIC13OperationHandler
             }
             else
             {
+                probe.succeeded( 1 );
                 resultReporter.report( 1, new LdbcQuery13Result( -1 ), operation );
             }
         }
@@ -4,10 +4,11 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.impls.workloads.cypher.CypherDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,7 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.Value;
 
 public abstract class CypherListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
         implements ListOperationHandler<TOperationResult,TOperation,CypherDbConnectionState>
@@ -33,23 +35,43 @@ public abstract class CypherListOperationHandler<TOperation extends Operation<Li
         final Map<String, Object> parameters = getParameters(state, operation );
 
         final SessionConfig config = SessionConfig.builder().withDefaultAccessMode( AccessMode.READ ).build();
-        try ( final Session session = state.getSession( config ) )
+        try ( final OperationProbe probe = state.startOperation( operation );
+              final Session session = state.getSession( config ) )
         {
-            final List<TOperationResult> results = new ArrayList<>();
+            probe.connectionAcquired();
+            probe.rendered( query );
+            final ResultSink<TOperationResult> sink = state.newResultSink( getResultLimit( operation ) );
             final Result result = session.run( query, parameters );
-            for ( Record record : result.list() )
+            // the records are converted as they are streamed, instead of buffering them in a list first
+            while ( result.hasNext() )
             {
-                try
+                Record record = result.next();
+                if ( sink.isMaterialized() )
                 {
-                    results.add( toResult( record ) );
+                    try
+                    {
+                        sink.add( toResult( record ) );
+                    }
+                    catch ( ParseException e )
+                    {
+                        throw new DbException( e );
+                    }
                 }
-                catch ( ParseException e )
+                else
                 {
-                    throw new DbException( e );
+                    sink.addRow();
+                    if ( sink.isChecksummed() )
+                    {
+                        for ( Value value : record.values() )
+                        {
+                            sink.addValue( value );
+                        }
+                    }
                 }
             }
             result.consume();
-            resultReporter.report( results.size(), results, operation );
+            probe.succeeded( sink.getCount() );
+            sink.report( resultReporter, operation );
         }
     }
 }
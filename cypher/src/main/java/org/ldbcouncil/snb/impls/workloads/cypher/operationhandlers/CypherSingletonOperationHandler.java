@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.impls.workloads.cypher.CypherDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 
 import java.text.ParseException;
@@ -31,15 +32,20 @@ public abstract class CypherSingletonOperationHandler<TOperation extends Operati
         final Map<String, Object> parameters = getParameters(state, operation );
 
         final SessionConfig config = SessionConfig.builder().withDefaultAccessMode( AccessMode.READ ).build();
-        try ( final Session session = state.getSession( config ) )
+        try ( final OperationProbe probe = state.startOperation( operation );
+              final Session session = state.getSession( config ) )
         {
+            probe.connectionAcquired();
+            probe.rendered( query );
             final Result result = session.run( query, parameters );
             if ( result.hasNext() )
             {
                 try
                 {
-                    resultReporter.report( 1, toResult( result.next() ), operation );
+                    final TOperationResult tuple = toResult( result.next() );
                     final ResultSummary summary = result.consume();
+                    probe.succeeded( 1 );
+                    resultReporter.report( 1, tuple, operation );
                 }
                 catch ( ParseException e )
                 {
@@ -48,6 +54,7 @@ public abstract class CypherSingletonOperationHandler<TOperation extends Operati
             }
             else
             {
+                probe.succeeded( 0 );
                 resultReporter.report( 0, null, operation );
             }
         }
@@ -5,6 +5,7 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
 import org.ldbcouncil.snb.impls.workloads.cypher.CypherDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 
 import java.util.Map;
@@ -34,10 +35,14 @@ public abstract class CypherUpdateOperationHandler<TOperation extends Operation<
         final Map<String, Object> parameters = getParameters( operation );
 
         final SessionConfig config = SessionConfig.builder().withDefaultAccessMode( AccessMode.WRITE ).build();
-        try ( final Session session = state.getSession( config ) )
+        try ( final OperationProbe probe = state.startOperation( operation );
+              final Session session = state.getSession( config ) )
         {
+            probe.connectionAcquired();
+            probe.rendered( query );
             final Result result = session.run( query, parameters );
             result.consume();
+            probe.succeeded( 0 );
         }
         catch ( Exception e )
         {
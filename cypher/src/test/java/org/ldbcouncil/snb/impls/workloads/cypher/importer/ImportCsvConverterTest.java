@@ -0,0 +1,208 @@
+package org.ldbcouncil.snb.impls.workloads.cypher.importer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ImportCsvConverterTest {
+
+    private static final String PLACE_HEADER = "id:ID(Place)|name:STRING|url:STRING|:LABEL";
+
+    private Path inputDir;
+    private Path outputDir;
+
+    @Before
+    public void createDirs() throws IOException {
+        inputDir = Files.createTempDirectory("import-csv-input");
+        outputDir = Files.createTempDirectory("import-csv-output");
+    }
+
+    @After
+    public void deleteDirs() throws IOException {
+        for (Path dir : Arrays.asList(inputDir, outputDir)) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    private void writeInput(String file, String content) throws IOException {
+        Path path = inputDir.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeCompressedInput(String file, String content) throws IOException {
+        Path path = inputDir.resolve(file);
+        Files.createDirectories(path.getParent());
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private String readOutput(String file) throws IOException {
+        return new String(Files.readAllBytes(outputDir.resolve(file)), StandardCharsets.UTF_8);
+    }
+
+    private String readCompressedOutput(String file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(outputDir.resolve(file)))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] bytes = new byte[4096];
+            int read;
+            while ((read = in.read(bytes)) > 0) {
+                out.write(bytes, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Runs copyCapitalisingColumn on an in-memory input, with a buffer of the given size.
+     */
+    private static String capitalise(String input, int column, int bufferSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+        buffer.flip();
+        ImportCsvConverter.copyCapitalisingColumn(
+                Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out), buffer, column);
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testColumnIndex() {
+        assertEquals(3, ImportCsvConverter.columnIndex(PLACE_HEADER, ":LABEL"));
+        assertEquals(-1, ImportCsvConverter.columnIndex(":START_ID(TagClass)|:END_ID(TagClass)", ":LABEL"));
+    }
+
+    @Test
+    public void testCapitalisesTheLabels() throws IOException {
+        String input = "1|Kabul|http://dbpedia.org/resource/Kabul|city\n"
+                + "2|Afghanistan|http://dbpedia.org/resource/Afghanistan|country\n"
+                + "3|Asia|http://dbpedia.org/resource/Asia|Continent\n";
+        String expected = "1|Kabul|http://dbpedia.org/resource/Kabul|City\n"
+                + "2|Afghanistan|http://dbpedia.org/resource/Afghanistan|Country\n"
+                + "3|Asia|http://dbpedia.org/resource/Asia|Continent\n";
+        assertEquals(expected, capitalise(input, 3, 1 << 10));
+        // the state is kept across buffer boundaries
+        for (int bufferSize = 1; bufferSize <= 8; bufferSize++) {
+            assertEquals(expected, capitalise(input, 3, bufferSize));
+        }
+        // only the first character of the column
+        assertEquals("1|university|University\n", capitalise("1|university|university\n", 2, 16));
+        // without a column, the input is copied unchanged
+        assertEquals(input, capitalise(input, -1, 16));
+    }
+
+    @Test
+    public void testQuotedFields() throws IOException {
+        // a delimiter in a quoted field does not start a new column
+        assertEquals("1|\"Kabul|Afghanistan\"|url|City\n",
+                capitalise("1|\"Kabul|Afghanistan\"|url|city\n", 3, 1 << 10));
+        // the first character of a quoted label is the one after the quote
+        assertEquals("1|Kabul|url|\"City\"\n", capitalise("1|Kabul|url|\"city\"\n", 3, 1 << 10));
+        // a line break in a quoted field does not start a new line
+        String input = "1|\"first line\nsecond|line\"|url|city\n2|\"escaped \"\"quotes\"\"\"|url|country\n";
+        String expected = "1|\"first line\nsecond|line\"|url|City\n2|\"escaped \"\"quotes\"\"\"|url|Country\n";
+        for (int bufferSize = 1; bufferSize <= 8; bufferSize++) {
+            assertEquals(expected, capitalise(input, 3, bufferSize));
+        }
+    }
+
+    @Test
+    public void testConvert() throws IOException {
+        writeInput("static/place_0_0.csv", "id|name|url|type\n1|Kabul|url|city\n2|Asia|url|continent\n");
+        writeInput("static/tagclass_isSubclassOf_tagclass_0_0.csv", "TagClass.id|TagClass.id\n1|2\n3|4\n");
+        ImportCsvConverter converter = new ImportCsvConverter(inputDir, outputDir, "_0_0.csv", false);
+        converter.convert("static/place", PLACE_HEADER);
+        converter.convert("static/tagclass_isSubclassOf_tagclass", ":START_ID(TagClass)|:END_ID(TagClass)");
+        assertEquals(PLACE_HEADER + "\n1|Kabul|url|City\n2|Asia|url|Continent\n",
+                readOutput("static/place_0_0.csv"));
+        // copied after the header without a label column
+        assertEquals(":START_ID(TagClass)|:END_ID(TagClass)\n1|2\n3|4\n",
+                readOutput("static/tagclass_isSubclassOf_tagclass_0_0.csv"));
+    }
+
+    @Test
+    public void testCompressedInput() throws IOException {
+        writeCompressedInput("static/place_0_0.csv.gz", "id|name|url|type\n1|Kabul|url|city\n");
+        writeCompressedInput("static/tag_0_0.csv.gz", "id|name|url\n1|Mozart|url\n");
+        ImportCsvConverter converter = new ImportCsvConverter(inputDir, outputDir, "_0_0.csv.gz", false);
+        converter.convert("static/place", PLACE_HEADER);
+        converter.convert("static/tag", "id:ID(Tag)|name:STRING|url:STRING");
+        // the output is not compressed, so it does not have the .gz suffix
+        assertFalse(Files.exists(outputDir.resolve("static/place_0_0.csv.gz")));
+        assertEquals(PLACE_HEADER + "\n1|Kabul|url|City\n", readOutput("static/place_0_0.csv"));
+        assertEquals("id:ID(Tag)|name:STRING|url:STRING\n1|Mozart|url\n", readOutput("static/tag_0_0.csv"));
+    }
+
+    @Test
+    public void testCompressedOutput() throws IOException {
+        writeInput("static/place_0_0.csv", "id|name|url|type\n1|Kabul|url|city\n");
+        writeCompressedInput("static/tag_0_0.csv.gz", "id|name|url\n1|Mozart|url\n");
+        new ImportCsvConverter(inputDir, outputDir, "_0_0.csv", true).convert("static/place", PLACE_HEADER);
+        new ImportCsvConverter(inputDir, outputDir, "_0_0.csv.gz", true)
+                .convert("static/tag", "id:ID(Tag)|name:STRING|url:STRING");
+        assertEquals(PLACE_HEADER + "\n1|Kabul|url|City\n", readCompressedOutput("static/place_0_0.csv.gz"));
+        assertEquals("id:ID(Tag)|name:STRING|url:STRING\n1|Mozart|url\n", readCompressedOutput("static/tag_0_0.csv.gz"));
+        assertFalse(Files.exists(outputDir.resolve("static/tag_0_0.csv.gz.gz")));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        writeInput("static/place_0_0.csv", "");
+        writeInput("static/tag_0_0.csv", "id|name|url");
+        ImportCsvConverter converter = new ImportCsvConverter(inputDir, outputDir, "_0_0.csv", false);
+        converter.convert("static/place", PLACE_HEADER);
+        converter.convert("static/tag", "id:ID(Tag)|name:STRING|url:STRING");
+        assertEquals(PLACE_HEADER + "\n", readOutput("static/place_0_0.csv"));
+        assertEquals("id:ID(Tag)|name:STRING|url:STRING\n", readOutput("static/tag_0_0.csv"));
+    }
+
+    @Test
+    public void testLargestFirst() throws IOException {
+        writeInput("static/tag_0_0.csv", "id|name|url\n1|Mozart|url\n");
+        writeInput("dynamic/person_0_0.csv", "id|firstName\n1|Mahinda\n2|Carmen\n3|Chen\n4|Ali\n");
+        writeInput("static/place_0_0.csv", "id\n");
+        List<String[]> files = new ArrayList<>(Arrays.asList(
+                new String[]{"static/place", PLACE_HEADER},
+                new String[]{"static/tag", "id:ID(Tag)|name:STRING|url:STRING"},
+                new String[]{"dynamic/person", "id:ID(Person)|firstName:STRING"}));
+        new ImportCsvConverter(inputDir, outputDir, "_0_0.csv", false).sortLargestFirst(files);
+        assertEquals(Arrays.asList("dynamic/person", "static/tag", "static/place"),
+                files.stream().map(file -> file[0]).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testReadHeaders() throws IOException {
+        writeInput("headers.txt", "static/place " + PLACE_HEADER + "\n\nstatic/tag id:ID(Tag)|name:STRING\n");
+        List<String[]> files = ImportCsvConverter.readHeaders(inputDir.resolve("headers.txt"));
+        assertEquals(2, files.size());
+        assertTrue(Arrays.equals(new String[]{"static/place", PLACE_HEADER}, files.get(0)));
+        assertTrue(Arrays.equals(new String[]{"static/tag", "id:ID(Tag)|name:STRING"}, files.get(1)));
+    }
+
+}
@@ -69,7 +69,7 @@ import java.util.Map;
 public abstract class DuckDbDb extends BaseDb<QueryStore> {
 
     @Override
-    protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
         try {
             dcs = new DuckDbConnectionState<>(properties, new DuckDbQueryStore(properties.get("queryDir")));
         } catch (ClassNotFoundException | SQLException e) {
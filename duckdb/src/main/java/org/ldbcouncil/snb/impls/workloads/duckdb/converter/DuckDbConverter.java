@@ -6,77 +6,62 @@ import org.ldbcouncil.snb.impls.workloads.converter.Converter;
 import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class DuckDbConverter extends Converter {
 
+    private final static DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'+00:00'").withZone(ZoneOffset.UTC);
+
     @Override
-    public String convertDateTime(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'+00:00'");
-        sdf.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
-        return "'" + sdf.format(date) + "'::timestamp";
+    public StringBuilder appendDateTime(StringBuilder sb, Date date) {
+        sb.append('\'');
+        TIMESTAMP_FORMATTER.formatTo(date.toInstant(), sb);
+        return sb.append("'::timestamp");
     }
 
-    public String convertDate(Date date) {
-        return super.convertDate(date) + "::date";
+    @Override
+    public StringBuilder appendDate(StringBuilder sb, Date date) {
+        return super.appendDate(sb, date).append("::date");
     }
 
     @Override
-    public String convertString(String value) {
-        return "'" + value.replace("'", "''") + "'";
+    public StringBuilder appendString(StringBuilder sb, String value) {
+        sb.append('\'');
+        appendEscaped(sb, value, '\'', "''");
+        return sb.append('\'');
     }
 
-    public String convertStringList(List<String> values) {
-        return "'[" +
-                values
-                        .stream()
-                        .map(v -> "\"" + v + "\"")
-                        .collect(Collectors.joining(", ")) +
-                "]'::text[]";
+    @Override
+    public StringBuilder appendStringList(StringBuilder sb, List<String> values) {
+        sb.append("'[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(values.get(i)).append('"');
+        }
+        return sb.append("]'::text[]");
     }
 
 
     public static Iterable<String> arrayToStringArray(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            String[] strs = value.split(";");
-            List<String> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                array.add(strs[i]);
-            }
-            return array;
-        }
+        return value == null ? Collections.emptyList() : split(value, ';');
     }
 
     public static Iterable<LdbcQuery1Result.Organization> arrayToOrganizationArray(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            String[] strs = value.split(";");
-            List<LdbcQuery1Result.Organization> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                String[] s = strs[i].split("\\|");
-                // the corresponding results of Interactive Q1 (field 12: universities, field 13: companies)
-                // both return <string, int32, string> tuples
-                array.add(new LdbcQuery1Result.Organization((String) s[0],Integer.parseInt((String) s[1]), (String) s[2]));
-            }
-            return array;
-        }
+        // the corresponding results of Interactive Q1 (field 12: universities, field 13: companies)
+        // both return <string, int32, string> tuples, rendered as "name|year|place;..."
+        return value == null ? Collections.emptyList() : splitOrganizations(value, ';');
     }
 
     public static Iterable<Long> pathToList(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
-        String[] strs = value.split(";");
-        List<Long> list = new ArrayList<>();
-        for (int i = 0; i < strs.length; i++) {
-            list.add(Long.valueOf(strs[i]));
-        }
-        return list;
+        return splitLongs(value, 0, value.length(), ';');
     }
 
     public static long timestampToEpoch(ResultSet r, int column) throws SQLException {
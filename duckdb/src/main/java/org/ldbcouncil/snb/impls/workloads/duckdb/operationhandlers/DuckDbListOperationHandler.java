@@ -3,14 +3,16 @@ package org.ldbcouncil.snb.impls.workloads.duckdb.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 import org.ldbcouncil.snb.impls.workloads.duckdb.DuckDbConnectionState;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class DuckDbListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
@@ -19,29 +21,47 @@ public abstract class DuckDbListOperationHandler<TOperation extends Operation<Li
     @Override
     public void executeOperation(TOperation operation, DuckDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Connection conn = state.getConnection();
-        List<TOperationResult> results = new ArrayList<>();
-        int resultCount = 0;
-        results.clear();
-
-        String queryString = getQueryString(state, operation);
-        try (final Statement stmt = conn.createStatement()) {
-            state.logQuery(operation.getClass().getSimpleName(), queryString);
-
-            ResultSet result = stmt.executeQuery(queryString);
-            while (result.next()) {
-                resultCount++;
-
-                TOperationResult tuple = convertSingleResult(result);
-                if (state.isPrintResults()) {
-                    System.out.println(tuple.toString());
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getConnection();
+            probe.connectionAcquired();
+            int limit = getResultLimit(operation);
+            ResultSink<TOperationResult> sink = state.newResultSink(limit);
+
+            String queryString = getQueryString(state, operation);
+            try (final Statement stmt = conn.createStatement()) {
+                state.logQuery(operation.getClass().getSimpleName(), queryString);
+                probe.rendered(queryString);
+                if (limit > 0) {
+                    try {
+                        stmt.setMaxRows(limit);
+                    } catch (SQLFeatureNotSupportedException e) {
+                        // older DuckDB JDBC drivers do not support it, the loop below stops at the limit anyway
+                    }
+                }
+
+                ResultSet result = stmt.executeQuery(queryString);
+                int columnCount = sink.isChecksummed() ? result.getMetaData().getColumnCount() : 0;
+                while ((limit == 0 || sink.getCount() < limit) && result.next()) {
+                    if (sink.isMaterialized()) {
+                        TOperationResult tuple = convertSingleResult(result);
+                        if (state.isPrintResults()) {
+                            System.out.println(tuple.toString());
+                        }
+                        sink.add(tuple);
+                    } else {
+                        // the row is not converted, its values are at most read as strings for the checksum
+                        sink.addRow();
+                        for (int i = 1; i <= columnCount; i++) {
+                            sink.addValue(result.getString(i));
+                        }
+                    }
                 }
-                results.add(tuple);
+            } catch (Exception e) {
+                throw new DbException(e);
             }
-        } catch (Exception e) {
-            throw new DbException(e);
+            probe.succeeded(sink.getCount());
+            sink.report(resultReporter, operation);
         }
-        resultReporter.report(resultCount, results, operation);
     }
 
     public abstract TOperationResult convertSingleResult(ResultSet result) throws SQLException;
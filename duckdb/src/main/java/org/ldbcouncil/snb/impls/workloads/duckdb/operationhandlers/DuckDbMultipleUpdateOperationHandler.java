@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.MultipleUpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.duckdb.DuckDbConnectionState;
 
@@ -17,19 +18,24 @@ public abstract class DuckDbMultipleUpdateOperationHandler<TOperation extends Op
     @Override
     public void executeOperation(TOperation operation, DuckDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Connection conn = state.getConnection();
-        try {
-            List<String> queryStrings = getQueryString(state, operation);
-            for (String queryString : queryStrings) {
-                Statement stmt = conn.createStatement();
-                state.logQuery(operation.getClass().getSimpleName(), queryString);
-                stmt.execute(queryString);
-                stmt.close();
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getConnection();
+            probe.connectionAcquired();
+            try {
+                List<String> queryStrings = getQueryString(state, operation);
+                for (String queryString : queryStrings) {
+                    Statement stmt = conn.createStatement();
+                    state.logQuery(operation.getClass().getSimpleName(), queryString);
+                    probe.rendered(queryString);
+                    stmt.execute(queryString);
+                    stmt.close();
+                }
+            } catch (Exception e) {
+                throw new DbException(e);
             }
-        } catch (Exception e) {
-            throw new DbException(e);
+            probe.succeeded(0);
+            resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
-        resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
     }
 
 }
@@ -3,6 +3,7 @@ package org.ldbcouncil.snb.impls.workloads.duckdb.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.duckdb.DuckDbConnectionState;
 
@@ -17,25 +18,30 @@ public abstract class DuckDbSingletonOperationHandler<TOperation extends Operati
     @Override
     public void executeOperation(TOperation operation, DuckDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Connection conn = state.getConnection();
-        TOperationResult tuple = null;
-        int resultCount = 0;
-        String queryString = getQueryString(state, operation);
-        try (final Statement stmt = conn.createStatement()) {
-            state.logQuery(operation.getClass().getSimpleName(), queryString);
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getConnection();
+            probe.connectionAcquired();
+            TOperationResult tuple = null;
+            int resultCount = 0;
+            String queryString = getQueryString(state, operation);
+            try (final Statement stmt = conn.createStatement()) {
+                state.logQuery(operation.getClass().getSimpleName(), queryString);
+                probe.rendered(queryString);
 
-            ResultSet result = stmt.executeQuery(queryString);
-            if (result.next()) {
-                resultCount++;
+                ResultSet result = stmt.executeQuery(queryString);
+                if (result.next()) {
+                    resultCount++;
 
-                tuple = convertSingleResult(result);
-                if (state.isPrintResults())
-                    System.out.println(tuple.toString());
+                    tuple = convertSingleResult(result);
+                    if (state.isPrintResults())
+                        System.out.println(tuple.toString());
+                }
+            } catch (Exception e) {
+                throw new DbException(e);
             }
-        } catch (Exception e) {
-            throw new DbException(e);
+            probe.succeeded(resultCount);
+            resultReporter.report(resultCount, tuple, operation);
         }
-        resultReporter.report(resultCount, tuple, operation);
     }
 
     public abstract TOperationResult convertSingleResult(ResultSet result) throws SQLException;
@@ -5,6 +5,7 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
 import org.ldbcouncil.snb.impls.workloads.duckdb.DuckDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.duckdb.DuckDbConnectionState;
 
@@ -17,15 +18,20 @@ public abstract class DuckDbUpdateOperationHandler<TOperation extends Operation<
     @Override
     public void executeOperation(TOperation operation, DuckDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        Connection conn = state.getConnection();
-        String queryString = getQueryString(state, operation);
-        try (final Statement stmt = conn.createStatement()) {
-            state.logQuery(operation.getClass().getSimpleName(), queryString);
-            stmt.execute(queryString);
-        } catch (Exception e) {
-            throw new DbException(e);
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getConnection();
+            probe.connectionAcquired();
+            String queryString = getQueryString(state, operation);
+            try (final Statement stmt = conn.createStatement()) {
+                state.logQuery(operation.getClass().getSimpleName(), queryString);
+                probe.rendered(queryString);
+                stmt.execute(queryString);
+            } catch (Exception e) {
+                throw new DbException(e);
+            }
+            probe.succeeded(0);
+            resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
-        resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
     }
 
 }
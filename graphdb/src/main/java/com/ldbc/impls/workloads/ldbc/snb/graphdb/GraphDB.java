@@ -21,7 +21,7 @@ public class GraphDB extends BaseDb<GraphDBQueryStore> {
 	private static final GraphDBConverter cnv = new GraphDBConverter();
 
 	@Override
-	protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+	protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
 		dcs = new GraphDBConnectionState(properties, new GraphDBQueryStore(properties.get("queryDir")));
 	}
 
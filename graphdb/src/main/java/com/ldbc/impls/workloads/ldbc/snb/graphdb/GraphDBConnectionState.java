@@ -1,5 +1,6 @@
 package com.ldbc.impls.workloads.ldbc.snb.graphdb;
 
+import org.eclipse.rdf4j.query.resultio.TupleQueryResultFormat;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.http.HTTPRepository;
 import org.ldbcouncil.snb.impls.workloads.BaseDbConnectionState;
@@ -17,6 +18,9 @@ public class GraphDBConnectionState<TDbQueryStore extends QueryStore> extends Ba
 
 		String endpoint = properties.get("endpoint");
 		graphDBHTTPRepository = new HTTPRepository(endpoint);
+		// The binary result format avoids XML/JSON parsing and keeps literal datatypes,
+		// which lets GraphDBConverter decode values without re-parsing strings
+		graphDBHTTPRepository.setPreferredTupleQueryResultFormat(TupleQueryResultFormat.BINARY);
 
 		if (properties.containsKey("user") && properties.containsKey("password")) {
 			String user = properties.get("user");
@@ -68,16 +68,16 @@ public class GraphDBQueryStore extends QueryStore {
 		list.add(prepare(
 				QueryType.InteractiveUpdate1AddPerson,
 				new ImmutableMap.Builder<String, Object>()
-						.put(LdbcUpdate1AddPerson.PERSON_ID, getConverter().convertIdForInsertion(operation.getPersonId()))
-						.put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, getConverter().convertString(operation.getPersonFirstName()))
-						.put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, getConverter().convertString(operation.getPersonLastName()))
-						.put(LdbcUpdate1AddPerson.GENDER, getConverter().convertString(operation.getGender()))
+						.put(LdbcUpdate1AddPerson.PERSON_ID, converter().convertIdForInsertion(operation.getPersonId()))
+						.put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, converter().convertString(operation.getPersonFirstName()))
+						.put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, converter().convertString(operation.getPersonLastName()))
+						.put(LdbcUpdate1AddPerson.GENDER, converter().convertString(operation.getGender()))
 						.put(LdbcUpdate1AddPerson.BIRTHDAY, GraphDBConverter.convertDateBirthday(operation.getBirthday()))
-						.put(LdbcUpdate1AddPerson.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-						.put(LdbcUpdate1AddPerson.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-						.put(LdbcUpdate1AddPerson.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-						.put(LdbcUpdate1AddPerson.CITY_ID, getConverter().convertIdForInsertion(operation.getCityId()))
-						.put(SUBJECT_ID, getConverter().convertId(operation.getPersonId()))
+						.put(LdbcUpdate1AddPerson.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+						.put(LdbcUpdate1AddPerson.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+						.put(LdbcUpdate1AddPerson.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+						.put(LdbcUpdate1AddPerson.CITY_ID, converter().convertIdForInsertion(operation.getCityId()))
+						.put(SUBJECT_ID, converter().convertId(operation.getPersonId()))
 						.build()
 		));
 
@@ -85,9 +85,9 @@ public class GraphDBQueryStore extends QueryStore {
 			list.add(prepare(
 					QueryType.InteractiveUpdate1AddPersonCompanies,
 					ImmutableMap.of(
-							SUBJECT_ID, getConverter().convertId(operation.getPersonId()),
-							"organizationId", getConverter().convertIdForInsertion(organization.getOrganizationId()),
-							"worksFromYear", getConverter().convertInteger(organization.getYear())
+							SUBJECT_ID, converter().convertId(operation.getPersonId()),
+							"organizationId", converter().convertIdForInsertion(organization.getOrganizationId()),
+							"worksFromYear", converter().convertInteger(organization.getYear())
 					)
 			));
 		}
@@ -95,8 +95,8 @@ public class GraphDBQueryStore extends QueryStore {
 			list.add(prepare(
 					QueryType.InteractiveUpdate1AddPersonEmails,
 					ImmutableMap.of(
-							SUBJECT_ID, getConverter().convertId(operation.getPersonId()),
-							"email", getConverter().convertString(email)
+							SUBJECT_ID, converter().convertId(operation.getPersonId()),
+							"email", converter().convertString(email)
 					)
 			));
 		}
@@ -104,8 +104,8 @@ public class GraphDBQueryStore extends QueryStore {
 			list.add(prepare(
 					QueryType.InteractiveUpdate1AddPersonLanguages,
 					ImmutableMap.of(
-							SUBJECT_ID, getConverter().convertId(operation.getPersonId()),
-							"language", getConverter().convertString(language)
+							SUBJECT_ID, converter().convertId(operation.getPersonId()),
+							"language", converter().convertString(language)
 					)
 			));
 		}
@@ -114,9 +114,9 @@ public class GraphDBQueryStore extends QueryStore {
 			list.add(prepare(
 					QueryType.InteractiveUpdate1AddPersonUniversities,
 					ImmutableMap.of(
-							SUBJECT_ID, getConverter().convertId(operation.getPersonId()),
-							"organizationId", getConverter().convertIdForInsertion(organization.getOrganizationId()),
-							"studiesFromYear", getConverter().convertInteger(organization.getYear())
+							SUBJECT_ID, converter().convertId(operation.getPersonId()),
+							"organizationId", converter().convertIdForInsertion(organization.getOrganizationId()),
+							"studiesFromYear", converter().convertInteger(organization.getYear())
 					)
 			));
 		}
@@ -129,11 +129,11 @@ public class GraphDBQueryStore extends QueryStore {
 		list.add(prepare(
 				QueryType.InteractiveUpdate4AddForum,
 				ImmutableMap.of(
-						LdbcUpdate4AddForum.FORUM_ID, getConverter().convertIdForInsertion(operation.getForumId()),
-						LdbcUpdate4AddForum.FORUM_TITLE, getConverter().convertString(operation.getForumTitle()),
-						LdbcUpdate4AddForum.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()),
-						LdbcUpdate4AddForum.MODERATOR_PERSON_ID, getConverter().convertId(operation.getModeratorPersonId()),
-						SUBJECT_ID, getConverter().convertId(operation.getForumId())
+						LdbcUpdate4AddForum.FORUM_ID, converter().convertIdForInsertion(operation.getForumId()),
+						LdbcUpdate4AddForum.FORUM_TITLE, converter().convertString(operation.getForumTitle()),
+						LdbcUpdate4AddForum.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()),
+						LdbcUpdate4AddForum.MODERATOR_PERSON_ID, converter().convertId(operation.getModeratorPersonId()),
+						SUBJECT_ID, converter().convertId(operation.getForumId())
 				)
 		));
 		convertTags(QueryType.InteractiveUpdate4AddForumTags, list, operation.getTagIds(), operation.getForumId());
@@ -145,18 +145,18 @@ public class GraphDBQueryStore extends QueryStore {
 		list.add(prepare(
 						QueryType.InteractiveUpdate6AddPost,
 						new ImmutableMap.Builder<String, Object>()
-								.put(LdbcUpdate6AddPost.POST_ID, getConverter().convertIdForInsertion(operation.getPostId()))
-								.put(LdbcUpdate6AddPost.IMAGE_FILE, getConverter().convertString(operation.getImageFile()))
-								.put(LdbcUpdate6AddPost.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-								.put(LdbcUpdate6AddPost.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-								.put(LdbcUpdate6AddPost.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-								.put(LdbcUpdate6AddPost.LANGUAGE, getConverter().convertString(operation.getLanguage()))
-								.put(LdbcUpdate6AddPost.CONTENT, getConverter().convertString(operation.getContent()))
-								.put(LdbcUpdate6AddPost.LENGTH, getConverter().convertInteger(operation.getLength()))
-								.put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-								.put(LdbcUpdate6AddPost.FORUM_ID, getConverter().convertId(operation.getForumId()))
-								.put(LdbcUpdate6AddPost.COUNTRY_ID, getConverter().convertIdForInsertion(operation.getCountryId()))
-								.put(SUBJECT_ID, getConverter().convertId(operation.getPostId()))
+								.put(LdbcUpdate6AddPost.POST_ID, converter().convertIdForInsertion(operation.getPostId()))
+								.put(LdbcUpdate6AddPost.IMAGE_FILE, converter().convertString(operation.getImageFile()))
+								.put(LdbcUpdate6AddPost.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+								.put(LdbcUpdate6AddPost.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+								.put(LdbcUpdate6AddPost.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+								.put(LdbcUpdate6AddPost.LANGUAGE, converter().convertString(operation.getLanguage()))
+								.put(LdbcUpdate6AddPost.CONTENT, converter().convertString(operation.getContent()))
+								.put(LdbcUpdate6AddPost.LENGTH, converter().convertInteger(operation.getLength()))
+								.put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, converter().convertId(operation.getAuthorPersonId()))
+								.put(LdbcUpdate6AddPost.FORUM_ID, converter().convertId(operation.getForumId()))
+								.put(LdbcUpdate6AddPost.COUNTRY_ID, converter().convertIdForInsertion(operation.getCountryId()))
+								.put(SUBJECT_ID, converter().convertId(operation.getPostId()))
 								.build()
 				)
 		);
@@ -170,17 +170,17 @@ public class GraphDBQueryStore extends QueryStore {
 		list.add(prepare(
 				QueryType.InteractiveUpdate7AddComment,
 				new ImmutableMap.Builder<String, Object>()
-						.put(LdbcUpdate7AddComment.COMMENT_ID, getConverter().convertIdForInsertion(operation.getCommentId()))
-						.put(LdbcUpdate7AddComment.CREATION_DATE, getConverter().convertDateTime(operation.getCreationDate()))
-						.put(LdbcUpdate7AddComment.LOCATION_IP, getConverter().convertString(operation.getLocationIp()))
-						.put(LdbcUpdate7AddComment.BROWSER_USED, getConverter().convertString(operation.getBrowserUsed()))
-						.put(LdbcUpdate7AddComment.CONTENT, getConverter().convertString(operation.getContent()))
-						.put(LdbcUpdate7AddComment.LENGTH, getConverter().convertInteger(operation.getLength()))
-						.put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, getConverter().convertId(operation.getAuthorPersonId()))
-						.put(LdbcUpdate6AddPost.COUNTRY_ID, getConverter().convertIdForInsertion(operation.getCountryId()))
-						.put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, getConverter().convertId(operation.getReplyToPostId()))
-						.put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, getConverter().convertId(operation.getReplyToCommentId()))
-						.put(SUBJECT_ID, getConverter().convertId(operation.getCommentId()))
+						.put(LdbcUpdate7AddComment.COMMENT_ID, converter().convertIdForInsertion(operation.getCommentId()))
+						.put(LdbcUpdate7AddComment.CREATION_DATE, converter().convertDateTime(operation.getCreationDate()))
+						.put(LdbcUpdate7AddComment.LOCATION_IP, converter().convertString(operation.getLocationIp()))
+						.put(LdbcUpdate7AddComment.BROWSER_USED, converter().convertString(operation.getBrowserUsed()))
+						.put(LdbcUpdate7AddComment.CONTENT, converter().convertString(operation.getContent()))
+						.put(LdbcUpdate7AddComment.LENGTH, converter().convertInteger(operation.getLength()))
+						.put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, converter().convertId(operation.getAuthorPersonId()))
+						.put(LdbcUpdate6AddPost.COUNTRY_ID, converter().convertIdForInsertion(operation.getCountryId()))
+						.put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, converter().convertId(operation.getReplyToPostId()))
+						.put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, converter().convertId(operation.getReplyToCommentId()))
+						.put(SUBJECT_ID, converter().convertId(operation.getCommentId()))
 						.build()
 		));
 		convertTags(QueryType.InteractiveUpdate7AddCommentTags, list, operation.getTagIds(), operation.getCommentId());
@@ -192,8 +192,8 @@ public class GraphDBQueryStore extends QueryStore {
 			list.add(prepare(
 							queryType,
 							ImmutableMap.of(
-									SUBJECT_ID, getConverter().convertId(id),
-									"tagId", getConverter().convertIdForInsertion(tagId))
+									SUBJECT_ID, converter().convertId(id),
+									"tagId", converter().convertIdForInsertion(tagId))
 					)
 			);
 		}
@@ -1,21 +1,26 @@
 package com.ldbc.impls.workloads.ldbc.snb.graphdb.converter;
 
-import java.text.SimpleDateFormat;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
-import org.eclipse.rdf4j.model.impl.SimpleIRI;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
 import org.ldbcouncil.snb.impls.workloads.converter.Converter;
+import org.ldbcouncil.snb.impls.workloads.converter.EpochDays;
 
 public class GraphDBConverter extends Converter {
 
 	private final static String COLLECTION_SEPARATOR = ", ";
+	private final static int ID_WIDTH = 20;
+	private final static char[] ZEROS = "00000000000000000000".toCharArray();
+	// dates are formatted in the default time zone of the JVM
+	private final static DateTimeFormatter LOCAL_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+	private final static DateTimeFormatter BIRTHDAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
 	/**
 	 * Converts date of type "2011-08-12T20:17:46.384Z" to milliseconds.
@@ -25,8 +30,7 @@ public class GraphDBConverter extends Converter {
 	 * @return
 	 */
 	public long timestampToEpoch(BindingSet bindingSet, String name) {
-		Instant instant = Instant.parse(bindingSet.getValue(name).stringValue());
-		return instant.toEpochMilli();
+		return parseDateTimeToEpoch(bindingSet.getValue(name).stringValue());
 	}
 
 	/**
@@ -37,27 +41,37 @@ public class GraphDBConverter extends Converter {
 	 * @return
 	 */
 	public long localDateToEpoch(BindingSet bindingSet, String name) {
-		String s = bindingSet.getValue(name).stringValue();
-		return LocalDate.parse(s).atStartOfDay(ZoneId.of("GMT")).toInstant().toEpochMilli();
+		return parseDateToEpoch(bindingSet.getValue(name).stringValue());
 	}
 
 	public Iterable<String> asStringCollection(BindingSet bindingSet, String name) {
 		String stringValue = bindingSet.getValue(name).stringValue();
 		if (stringValue.isEmpty()) {
 			return Collections.emptyList();
-		} else {
-			return Arrays.asList(stringValue.split(COLLECTION_SEPARATOR));
 		}
+		String[] result = new String[countElements(stringValue)];
+		int from = 0;
+		for (int i = 0; i < result.length; i++) {
+			int to = elementEnd(stringValue, from);
+			result[i] = stringValue.substring(from, to);
+			from = to + COLLECTION_SEPARATOR.length();
+		}
+		return Arrays.asList(result);
 	}
 
 	public Iterable<Number> asNumberCollection(BindingSet bindingSet, String name) {
 		String stringValue = bindingSet.getValue(name).stringValue();
 		if (stringValue.isEmpty()) {
 			return Collections.emptyList();
-		} else {
-			List<String> stringList = Arrays.asList(stringValue.split(COLLECTION_SEPARATOR));
-			return stringList.stream().map(Long::parseLong).collect(Collectors.toList());
 		}
+		Number[] result = new Number[countElements(stringValue)];
+		int from = 0;
+		for (int i = 0; i < result.length; i++) {
+			int to = elementEnd(stringValue, from);
+			result[i] = parseLong(stringValue, from, to);
+			from = to + COLLECTION_SEPARATOR.length();
+		}
+		return Arrays.asList(result);
 	}
 
 	public List<LdbcQuery1Result.Organization> asOrganization(BindingSet bindingSet, String name) {
@@ -65,20 +79,47 @@ public class GraphDBConverter extends Converter {
 		if (stringValue.isEmpty()) {
 			return Collections.emptyList();
 		}
-		List<LdbcQuery1Result.Organization> result = new ArrayList<>();
-		String[] organizations = stringValue.split(COLLECTION_SEPARATOR);
-		for (String organization : organizations) {
-			List<String> orgParams = Arrays.asList(organization.split(" "));
-			result.add(new LdbcQuery1Result.Organization(orgParams.get(0), Integer.parseInt(orgParams.get(1)), orgParams.get(2)));
+		LdbcQuery1Result.Organization[] result = new LdbcQuery1Result.Organization[countElements(stringValue)];
+		int from = 0;
+		for (int i = 0; i < result.length; i++) {
+			int to = elementEnd(stringValue, from);
+			// each organization is rendered as "name year country"
+			int nameEnd = stringValue.indexOf(' ', from);
+			int yearEnd = stringValue.indexOf(' ', nameEnd + 1);
+			int countryEnd = stringValue.indexOf(' ', yearEnd + 1);
+			if (countryEnd < 0 || countryEnd > to) {
+				countryEnd = to;
+			}
+			result[i] = new LdbcQuery1Result.Organization(
+					stringValue.substring(from, nameEnd),
+					(int) parseLong(stringValue, nameEnd + 1, yearEnd),
+					stringValue.substring(yearEnd + 1, countryEnd));
+			from = to + COLLECTION_SEPARATOR.length();
 		}
+		return Arrays.asList(result);
+	}
 
-		return result;
+	/**
+	 * Counts the elements of a non-empty collection, so that they are collected into an array of the exact size.
+	 */
+	private static int countElements(String stringValue) {
+		int count = 1;
+		for (int i = stringValue.indexOf(COLLECTION_SEPARATOR); i >= 0;
+			 i = stringValue.indexOf(COLLECTION_SEPARATOR, i + COLLECTION_SEPARATOR.length())) {
+			count++;
+		}
+		return count;
+	}
+
+	private static int elementEnd(String stringValue, int from) {
+		int to = stringValue.indexOf(COLLECTION_SEPARATOR, from);
+		return to < 0 ? stringValue.length() : to;
 	}
 
 	public long asLong(BindingSet bindingSet, String name) {
-		String localName = ((SimpleIRI) bindingSet.getValue(name)).getLocalName();
+		String localName = ((IRI) bindingSet.getValue(name)).getLocalName();
 		int numberIndex = localName.indexOf('0');
-		return Long.parseLong(localName.substring(numberIndex));
+		return parseLong(localName, numberIndex, localName.length());
 	}
 
 	public int asInt(BindingSet bindingSet, String name) {
@@ -100,44 +141,131 @@ public class GraphDBConverter extends Converter {
 	/**
 	 * SPARQL implementation requires some tinkering, e.g. padding the id with '0' characters.
 	 *
+	 * @param sb
 	 * @param value
 	 * @return
 	 */
 	@Override
-	public String convertId(long value) {
-		return String.format("%020d", value);
+	public StringBuilder appendId(StringBuilder sb, long value) {
+		// same as String.format("%020d", value): zero padded to 20 characters, including the sign
+		int start = sb.length();
+		sb.append(value);
+		int padding = ID_WIDTH - (sb.length() - start);
+		if (padding > 0) {
+			sb.insert(value < 0 ? start + 1 : start, ZEROS, 0, padding);
+		}
+		return sb;
 	}
 
 	/**
 	 * Does not need to surround the string parameter with quotes.
 	 *
+	 * @param sb
 	 * @param value
 	 * @return
 	 */
 	@Override
-	public String convertString(String value) {
-		return value;
+	public StringBuilder appendString(StringBuilder sb, String value) {
+		return sb.append(value);
 	}
 
 	@Override
-	public String convertDate(Date date) {
-		return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS")
-				.format(date);
+	public StringBuilder appendDate(StringBuilder sb, Date date) {
+		LOCAL_DATE_TIME_FORMATTER.formatTo(date.toInstant().atZone(ZoneId.systemDefault()), sb);
+		return sb;
 	}
 
 	@Override
-	public String convertDateTime(Date date) {
-		final SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-		return sdf.format(date)	;
+	public StringBuilder appendDateTime(StringBuilder sb, Date date) {
+		LOCAL_DATE_TIME_FORMATTER.formatTo(date.toInstant().atZone(ZoneId.systemDefault()), sb);
+		return sb.append('Z');
 	}
 
 	public static String convertDateBirthday(Date date) {
-		return new SimpleDateFormat("yyyy-MM-dd")
-				.format(date);
+		return BIRTHDAY_FORMATTER.format(date.toInstant().atZone(ZoneId.systemDefault()));
 	}
 
 	@Override
-	public String convertIdForInsertion(long value) {
-		return Long.toString(value);
+	public StringBuilder appendIdForInsertion(StringBuilder sb, long value) {
+		return sb.append(value);
+	}
+
+	/**
+	 * Parses an xsd:dateTime lexical form such as "2011-08-12T20:17:46.384Z" to epoch milliseconds
+	 * straight from the characters. Forms other than UTC with an optional fraction fall back to {@link Instant#parse}.
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static long parseDateTimeToEpoch(String value) {
+		int length = value.length();
+		if (length < 20 || value.charAt(length - 1) != 'Z'
+				|| value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+			return Instant.parse(value).toEpochMilli();
+		}
+		long epochDay = epochDay(value);
+		int hour = digits(value, 11, 13);
+		int minute = digits(value, 14, 16);
+		int second = digits(value, 17, 19);
+		int millis = 0;
+		if (length > 20) {
+			if (value.charAt(19) != '.') {
+				return Instant.parse(value).toEpochMilli();
+			}
+			// keep millisecond precision, right-padding shorter fractions
+			int fractionEnd = Math.min(length - 1, 23);
+			millis = digits(value, 20, fractionEnd);
+			for (int i = fractionEnd - 20; i < 3; i++) {
+				millis *= 10;
+			}
+		}
+		if (epochDay == Long.MIN_VALUE || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+				|| millis < 0) {
+			return Instant.parse(value).toEpochMilli();
+		}
+		return ((epochDay * 24 + hour) * 60 + minute) * 60_000L + second * 1000L + millis;
+	}
+
+	/**
+	 * Parses an xsd:date lexical form such as "2011-08-12" to epoch milliseconds at start of day in GMT.
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static long parseDateToEpoch(String value) {
+		long epochDay = value.length() == 10 ? epochDay(value) : Long.MIN_VALUE;
+		if (epochDay == Long.MIN_VALUE) {
+			return LocalDate.parse(value).atStartOfDay(ZoneId.of("GMT")).toInstant().toEpochMilli();
+		}
+		return epochDay * 86_400_000L;
+	}
+
+	/**
+	 * Computes the epoch day of the "yyyy-MM-dd" prefix of the value, or Long.MIN_VALUE if it is malformed
+	 * or not a valid date (e.g. 2011-02-30), so that the caller falls back to the strict java.time parser.
+	 */
+	private static long epochDay(String value) {
+		int year = digits(value, 0, 4);
+		int month = digits(value, 5, 7);
+		int day = digits(value, 8, 10);
+		if (year < 0 || value.charAt(4) != '-' || value.charAt(7) != '-' || !EpochDays.isValid(year, month, day)) {
+			return Long.MIN_VALUE;
+		}
+		return EpochDays.epochDay(year, month, day);
+	}
+
+	/**
+	 * Parses the decimal digits in [from, to), or returns -1 if a non-digit is found.
+	 */
+	private static int digits(String value, int from, int to) {
+		int result = 0;
+		for (int i = from; i < to; i++) {
+			int digit = value.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			result = result * 10 + digit;
+		}
+		return result;
 	}
 }
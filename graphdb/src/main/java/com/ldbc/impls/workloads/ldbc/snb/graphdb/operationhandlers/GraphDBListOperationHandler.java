@@ -1,6 +1,7 @@
 package com.ldbc.impls.workloads.ldbc.snb.graphdb.operationhandlers;
 
 import com.ldbc.impls.workloads.ldbc.snb.graphdb.GraphDBConnectionState;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.TupleQueryResult;
@@ -8,9 +9,10 @@ import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class GraphDBListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
@@ -19,28 +21,41 @@ public abstract class GraphDBListOperationHandler<TOperation extends Operation<L
 	@Override
 	public void executeOperation(TOperation operation, GraphDBConnectionState dbConnectionState, ResultReporter resultReporter)
 			throws DbException {
-		List<TOperationResult> results = new ArrayList<>();
-		int resultCount = 0;
+		ResultSink<TOperationResult> sink = dbConnectionState.newResultSink(getResultLimit(operation));
 
 		final String queryString = getQueryString(dbConnectionState, operation);
-		try (RepositoryConnection conn = dbConnectionState.getConnection()) {
+		try (OperationProbe probe = dbConnectionState.startOperation(operation);
+			 RepositoryConnection conn = dbConnectionState.getConnection()) {
+			probe.connectionAcquired();
 			dbConnectionState.logQuery(operation.getClass().getSimpleName(), queryString);
+			probe.rendered(queryString);
 
 			try (TupleQueryResult queryResultIter = conn.prepareTupleQuery(QueryLanguage.SPARQL, queryString).evaluate()) {
+				List<String> bindingNames = queryResultIter.getBindingNames();
 				while (queryResultIter.hasNext()) {
 					BindingSet bindingSet = queryResultIter.next();
 
-					TOperationResult tuple = convertSingleResult(queryResultIter.getBindingNames(), bindingSet);
-					if (dbConnectionState.isPrintResults()) {
-						System.out.println(tuple.toString());
+					if (sink.isMaterialized()) {
+						TOperationResult tuple = convertSingleResult(bindingNames, bindingSet);
+						if (dbConnectionState.isPrintResults()) {
+							System.out.println(tuple.toString());
+						}
+						sink.add(tuple);
+					} else {
+						sink.addRow();
+						if (sink.isChecksummed()) {
+							for (String bindingName : bindingNames) {
+								Value value = bindingSet.getValue(bindingName);
+								sink.addValue(value != null ? value.stringValue() : null);
+							}
+						}
 					}
-					results.add(tuple);
-					resultCount++;
 				}
 			}
+			probe.succeeded(sink.getCount());
 		}
 
-		resultReporter.report(resultCount, results, operation);
+		sink.report(resultReporter, operation);
 	}
 
 	public abstract TOperationResult convertSingleResult(List<String> variableNames, BindingSet bindingSet);
@@ -7,6 +7,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.MultipleUpdateOperationHandler;
 
 import java.util.List;
@@ -17,12 +18,16 @@ public abstract class GraphDBMultipleUpdateOperationHandler<TOperation extends O
 	@Override
 	public void executeOperation(TOperation operation, GraphDBConnectionState dbConnectionState, ResultReporter resultReporter) throws DbException {
 		List<String> queryStrings = getQueryString(dbConnectionState, operation);
-		try (RepositoryConnection conn = dbConnectionState.getConnection()) {
+		try (OperationProbe probe = dbConnectionState.startOperation(operation);
+			 RepositoryConnection conn = dbConnectionState.getConnection()) {
+			probe.connectionAcquired();
 			conn.begin();
 			for (String queryString : queryStrings) {
+				probe.rendered(queryString);
 				conn.prepareUpdate(QueryLanguage.SPARQL, queryString).execute();
 			}
 			conn.commit();
+			probe.succeeded(0);
 		} catch (Exception e) {
 			throw new DbException(e);
 		}
@@ -8,6 +8,7 @@ import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 
 import java.util.List;
@@ -22,8 +23,11 @@ public abstract class GraphDBSingletonOperationHandler<TOperation extends Operat
 		int resultCount = 0;
 
 		final String queryString = getQueryString(dbConnectionState, operation);
-		try (RepositoryConnection conn = dbConnectionState.getConnection()) {
+		try (OperationProbe probe = dbConnectionState.startOperation(operation);
+			 RepositoryConnection conn = dbConnectionState.getConnection()) {
+			probe.connectionAcquired();
 			dbConnectionState.logQuery(operation.getClass().getSimpleName(), queryString);
+			probe.rendered(queryString);
 
 			try (TupleQueryResult queryResult = conn.prepareTupleQuery(QueryLanguage.SPARQL, queryString).evaluate()) {
 				if (queryResult.hasNext()) {
@@ -36,6 +40,7 @@ public abstract class GraphDBSingletonOperationHandler<TOperation extends Operat
 					resultCount++;
 				}
 			}
+			probe.succeeded(resultCount);
 		}
 		resultReporter.report(resultCount, tuple, operation);
 	}
@@ -9,6 +9,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 
 public abstract class GraphDBUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
@@ -18,9 +19,13 @@ public abstract class GraphDBUpdateOperationHandler<TOperation extends Operation
 	public void executeOperation(TOperation operation, GraphDBConnectionState dbConnectionState,
 			ResultReporter resultReporter) throws DbException {
 		String updateString = getQueryString(dbConnectionState, operation);
-		try (RepositoryConnection conn = dbConnectionState.getConnection()) {
+		try (OperationProbe probe = dbConnectionState.startOperation(operation);
+			 RepositoryConnection conn = dbConnectionState.getConnection()) {
+			probe.connectionAcquired();
 			Update update = conn.prepareUpdate(QueryLanguage.SPARQL, updateString);
+			probe.rendered(updateString);
 			update.execute();
+			probe.succeeded(0);
 		} catch (Exception e) {
 			throw new DbException(e);
 		}
@@ -0,0 +1,64 @@
+package com.ldbc.impls.workloads.ldbc.snb.graphdb.converter;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GraphDBConverterTest {
+
+	@Test
+	public void testParseDateTimeToEpoch() {
+		String[] values = {
+				"2011-08-12T20:17:46.384Z",
+				"1970-01-01T00:00:00Z",
+				"2012-02-29T23:59:59.9Z",
+				"1989-12-31T12:00:00.000Z",
+		};
+		for (String value : values) {
+			assertEquals(Instant.parse(value).toEpochMilli(), GraphDBConverter.parseDateTimeToEpoch(value));
+		}
+	}
+
+	@Test
+	public void testParseDateToEpoch() {
+		String[] values = {"2011-08-12", "1970-01-01", "1600-02-29", "2000-03-01", "1989-12-31"};
+		for (String value : values) {
+			long expected = LocalDate.parse(value).atStartOfDay(ZoneId.of("GMT")).toInstant().toEpochMilli();
+			assertEquals(expected, GraphDBConverter.parseDateToEpoch(value));
+		}
+	}
+
+	@Test
+	public void testParseInvalidDateTime() {
+		// days out of the month, which a day <= 31 check would roll over into the next month
+		String[] values = {"2011-02-30T00:00:00Z", "2011-02-29T00:00:00.000Z", "2011-04-31T12:00:00Z",
+				"2011-13-01T00:00:00Z", "2011-08-12T25:00:00Z", "2011-08-12T20:60:00Z"};
+		for (String value : values) {
+			try {
+				GraphDBConverter.parseDateTimeToEpoch(value);
+				fail("No exception thrown for " + value);
+			} catch (DateTimeParseException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testParseInvalidDate() {
+		for (String value : new String[]{"2011-02-30", "1900-02-29", "2011-06-31", "2011-00-10"}) {
+			try {
+				GraphDBConverter.parseDateToEpoch(value);
+				fail("No exception thrown for " + value);
+			} catch (DateTimeParseException e) {
+				// expected
+			}
+		}
+	}
+
+}
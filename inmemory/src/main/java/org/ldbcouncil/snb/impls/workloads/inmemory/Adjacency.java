@@ -0,0 +1,139 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Adjacency lists of one edge type. The edges present at load time are kept in
+ * compressed sparse row form (offsets/targets/stamps); edges inserted by updates
+ * are appended to small per-vertex arrays. Every edge carries a long stamp
+ * (creation date, join date or year), unused stamps are 0.
+ *
+ * Mutators are not synchronized, callers hold the write lock of {@link InMemoryGraph}.
+ */
+public class Adjacency {
+
+    private static final int[] NO_TARGETS = new int[0];
+    private static final long[] NO_STAMPS = new long[0];
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] stamps;
+    private final int baseVertices;
+
+    private int[][] appendedTargets;
+    private long[][] appendedStamps;
+    private int[] appendedSize;
+
+    private Adjacency(int[] offsets, int[] targets, long[] stamps, int vertexCount) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.stamps = stamps;
+        this.baseVertices = vertexCount;
+        this.appendedTargets = new int[vertexCount][];
+        this.appendedStamps = new long[vertexCount][];
+        this.appendedSize = new int[vertexCount];
+        Arrays.fill(appendedTargets, NO_TARGETS);
+        Arrays.fill(appendedStamps, NO_STAMPS);
+    }
+
+    public int degree(int vertex) {
+        int degree = vertex < appendedSize.length ? appendedSize[vertex] : 0;
+        if (vertex < baseVertices) {
+            degree += offsets[vertex + 1] - offsets[vertex];
+        }
+        return degree;
+    }
+
+    public int target(int vertex, int i) {
+        int base = baseDegree(vertex);
+        return i < base ? targets[offsets[vertex] + i] : appendedTargets[vertex][i - base];
+    }
+
+    public long stamp(int vertex, int i) {
+        int base = baseDegree(vertex);
+        return i < base ? stamps[offsets[vertex] + i] : appendedStamps[vertex][i - base];
+    }
+
+    public boolean contains(int vertex, int target) {
+        int degree = degree(vertex);
+        for (int i = 0; i < degree; i++) {
+            if (target(vertex, i) == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void append(int vertex, int target, long stamp) {
+        if (vertex >= appendedSize.length) {
+            int capacity = Math.max(vertex + 1, appendedSize.length + (appendedSize.length >> 1) + 16);
+            int oldCapacity = appendedSize.length;
+            appendedTargets = Arrays.copyOf(appendedTargets, capacity);
+            appendedStamps = Arrays.copyOf(appendedStamps, capacity);
+            appendedSize = Arrays.copyOf(appendedSize, capacity);
+            Arrays.fill(appendedTargets, oldCapacity, capacity, NO_TARGETS);
+            Arrays.fill(appendedStamps, oldCapacity, capacity, NO_STAMPS);
+        }
+        int size = appendedSize[vertex];
+        if (size == appendedTargets[vertex].length) {
+            int capacity = Math.max(4, size * 2);
+            appendedTargets[vertex] = Arrays.copyOf(appendedTargets[vertex], capacity);
+            appendedStamps[vertex] = Arrays.copyOf(appendedStamps[vertex], capacity);
+        }
+        appendedTargets[vertex][size] = target;
+        appendedStamps[vertex][size] = stamp;
+        appendedSize[vertex] = size + 1;
+    }
+
+    private int baseDegree(int vertex) {
+        return vertex < baseVertices ? offsets[vertex + 1] - offsets[vertex] : 0;
+    }
+
+    /**
+     * Collects edges in insertion order and sorts them into CSR form with a counting sort.
+     */
+    public static class Builder {
+
+        private int[] sources = new int[1024];
+        private int[] targets = new int[1024];
+        private long[] stamps = new long[1024];
+        private int size;
+
+        public void add(int source, int target, long stamp) {
+            if (source < 0 || target < 0) {
+                return;
+            }
+            if (size == sources.length) {
+                int capacity = size * 2;
+                sources = Arrays.copyOf(sources, capacity);
+                targets = Arrays.copyOf(targets, capacity);
+                stamps = Arrays.copyOf(stamps, capacity);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            stamps[size] = stamp;
+            size++;
+        }
+
+        public Adjacency build(int vertexCount) {
+            int[] offsets = new int[vertexCount + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[sources[i] + 1]++;
+            }
+            for (int v = 0; v < vertexCount; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] cursor = Arrays.copyOf(offsets, vertexCount);
+            int[] csrTargets = new int[size];
+            long[] csrStamps = new long[size];
+            for (int i = 0; i < size; i++) {
+                int position = cursor[sources[i]]++;
+                csrTargets[position] = targets[i];
+                csrStamps[position] = stamps[i];
+            }
+            return new Adjacency(offsets, csrTargets, csrStamps, vertexCount);
+        }
+
+    }
+
+}
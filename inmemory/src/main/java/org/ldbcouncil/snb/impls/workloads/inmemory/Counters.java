@@ -0,0 +1,76 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Sparse per-vertex accumulator with an int and a long slot. Slots are epoch
+ * stamped and the touched vertices are tracked, so {@link #reset(int)} is O(1)
+ * and results can be enumerated without scanning the whole vertex range.
+ */
+public class Counters {
+
+    private int[] values = new int[0];
+    private long[] longValues = new long[0];
+    private int[] epochs = new int[0];
+    private int[] touched = new int[64];
+    private int touchedSize;
+    private int epoch;
+
+    public void reset(int vertexCount) {
+        if (epochs.length < vertexCount) {
+            int capacity = Math.max(vertexCount, epochs.length + (epochs.length >> 1));
+            values = Arrays.copyOf(values, capacity);
+            longValues = Arrays.copyOf(longValues, capacity);
+            epochs = Arrays.copyOf(epochs, capacity);
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(epochs, 0);
+            epoch = 1;
+        }
+        touchedSize = 0;
+    }
+
+    public boolean contains(int vertex) {
+        return epochs[vertex] == epoch;
+    }
+
+    public int get(int vertex) {
+        return contains(vertex) ? values[vertex] : 0;
+    }
+
+    public long getLong(int vertex) {
+        return contains(vertex) ? longValues[vertex] : 0L;
+    }
+
+    public void add(int vertex, int delta) {
+        touch(vertex);
+        values[vertex] += delta;
+    }
+
+    public void set(int vertex, int value, long longValue) {
+        touch(vertex);
+        values[vertex] = value;
+        longValues[vertex] = longValue;
+    }
+
+    public int touchedCount() {
+        return touchedSize;
+    }
+
+    public int touched(int i) {
+        return touched[i];
+    }
+
+    private void touch(int vertex) {
+        if (epochs[vertex] != epoch) {
+            epochs[vertex] = epoch;
+            values[vertex] = 0;
+            longValues[vertex] = 0L;
+            if (touchedSize == touched.length) {
+                touched = Arrays.copyOf(touched, touchedSize * 2);
+            }
+            touched[touchedSize++] = vertex;
+        }
+    }
+
+}
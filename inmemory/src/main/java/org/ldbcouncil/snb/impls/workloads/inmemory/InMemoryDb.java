@@ -0,0 +1,1197 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery10;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery10Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery3;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery3Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery4;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery4Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery5;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery5Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery6;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery6Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery9;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery9Result;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfile;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfileResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPosts;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPostsResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriends;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriendsResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContent;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContentResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreator;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreatorResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForumResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageReplies;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageRepliesResult;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate2AddPostLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate3AddCommentLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate4AddForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate5AddForumMembership;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate6AddPost;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate7AddComment;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate8AddFriendship;
+import org.ldbcouncil.snb.impls.workloads.db.BaseDb;
+import org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers.InMemoryListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers.InMemorySingletonOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers.InMemoryUpdateOperationHandler;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Native evaluation of the Interactive workload over an {@link InMemoryGraph}.
+ * The semantics follow the PostgreSQL queries in {@code postgres/queries}.
+ */
+public abstract class InMemoryDb extends BaseDb<InMemoryQueryStore> {
+
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    @Override
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
+        dcs = new InMemoryDbConnectionState(properties, new InMemoryQueryStore());
+    }
+
+    // Interactive complex reads
+
+    public static class Query1 extends InMemoryListOperationHandler<LdbcQuery1, LdbcQuery1Result> {
+
+        @Override
+        public List<LdbcQuery1Result> execute(InMemoryGraph g, LdbcQuery1 operation) {
+            int person = g.person(operation.getPersonIdQ1());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            Traversal traversal = g.scratch().traversal;
+            int reached = traversal.run(g.knows, g.personCount, person, 3, -1);
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(traversal.distance(a), traversal.distance(b));
+                if (c == 0) {
+                    c = g.personLastName[a].compareTo(g.personLastName[b]);
+                }
+                return c != 0 ? c : Long.compare(g.personId[a], g.personId[b]);
+            });
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                if (operation.getFirstName().equals(g.personFirstName[friend])) {
+                    top.offer(friend);
+                }
+            }
+            List<LdbcQuery1Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int friend = top.get(i);
+                int city = g.personCity[friend];
+                results.add(new LdbcQuery1Result(
+                        g.personId[friend],
+                        g.personLastName[friend],
+                        traversal.distance(friend),
+                        g.personBirthday[friend],
+                        g.personCreationDate[friend],
+                        g.personGender[friend],
+                        g.personBrowserUsed[friend],
+                        g.personLocationIp[friend],
+                        Arrays.asList(g.personEmails[friend]),
+                        Arrays.asList(g.personLanguages[friend]),
+                        city < 0 ? null : g.placeName[city],
+                        organisations(g, g.personStudyAt, friend),
+                        organisations(g, g.personWorkAt, friend)));
+            }
+            return results;
+        }
+
+        private static List<LdbcQuery1Result.Organization> organisations(InMemoryGraph g, Adjacency adjacency, int person) {
+            int degree = adjacency.degree(person);
+            List<LdbcQuery1Result.Organization> organisations = new ArrayList<>(degree);
+            for (int i = 0; i < degree; i++) {
+                int organisation = adjacency.target(person, i);
+                int place = g.organisationPlace[organisation];
+                organisations.add(new LdbcQuery1Result.Organization(
+                        g.organisationName[organisation],
+                        (int) adjacency.stamp(person, i),
+                        place < 0 ? null : g.placeName[place]));
+            }
+            return organisations;
+        }
+
+    }
+
+    public static class Query2 extends InMemoryListOperationHandler<LdbcQuery2, LdbcQuery2Result> {
+
+        @Override
+        public List<LdbcQuery2Result> execute(InMemoryGraph g, LdbcQuery2 operation) {
+            int person = g.person(operation.getPersonIdQ2());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            long maxDate = operation.getMaxDate().getTime();
+            TopK top = new TopK(operation.getLimit(), (a, b) -> recentFirst(g, a, b));
+            int friends = g.knows.degree(person);
+            for (int i = 0; i < friends; i++) {
+                int friend = g.knows.target(person, i);
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    if (g.personMessages.stamp(friend, j) <= maxDate) {
+                        top.offer(g.personMessages.target(friend, j));
+                    }
+                }
+            }
+            List<LdbcQuery2Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int message = top.get(i);
+                int creator = g.messageCreator[message];
+                results.add(new LdbcQuery2Result(
+                        g.personId[creator],
+                        g.personFirstName[creator],
+                        g.personLastName[creator],
+                        g.messageId[message],
+                        g.messageContent[message],
+                        g.messageCreationDate[message]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query3 extends InMemoryListOperationHandler<LdbcQuery3, LdbcQuery3Result> {
+
+        @Override
+        public List<LdbcQuery3Result> execute(InMemoryGraph g, LdbcQuery3 operation) {
+            int person = g.person(operation.getPersonIdQ3());
+            Integer countryX = g.countryByName.get(operation.getCountryXName());
+            Integer countryY = g.countryByName.get(operation.getCountryYName());
+            if (person < 0 || countryX == null || countryY == null) {
+                return Collections.emptyList();
+            }
+            int x = countryX;
+            int y = countryY;
+            long startDate = operation.getStartDate().getTime();
+            long endDate = startDate + operation.getDurationDays() * DAY_MILLIS;
+
+            InMemoryGraph.Scratch scratch = g.scratch();
+            Traversal traversal = scratch.traversal;
+            // int slot: messages in country X, long slot: messages in country Y
+            Counters counts = scratch.first;
+            counts.reset(g.vertexCapacity());
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Long.compare(counts.get(b) + counts.getLong(b), counts.get(a) + counts.getLong(a));
+                return c != 0 ? c : Long.compare(g.personId[a], g.personId[b]);
+            });
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                int home = g.country(g.personCity[friend]);
+                if (home == x || home == y) {
+                    continue;
+                }
+                int xCount = 0;
+                int yCount = 0;
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    long creationDate = g.personMessages.stamp(friend, j);
+                    if (creationDate >= startDate && creationDate < endDate) {
+                        int country = g.messageCountry[g.personMessages.target(friend, j)];
+                        if (country == x) {
+                            xCount++;
+                        } else if (country == y) {
+                            yCount++;
+                        }
+                    }
+                }
+                if (xCount > 0 && yCount > 0) {
+                    counts.set(friend, xCount, yCount);
+                    top.offer(friend);
+                }
+            }
+            List<LdbcQuery3Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int friend = top.get(i);
+                int xCount = counts.get(friend);
+                int yCount = (int) counts.getLong(friend);
+                results.add(new LdbcQuery3Result(
+                        g.personId[friend],
+                        g.personFirstName[friend],
+                        g.personLastName[friend],
+                        xCount,
+                        yCount,
+                        xCount + yCount));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query4 extends InMemoryListOperationHandler<LdbcQuery4, LdbcQuery4Result> {
+
+        @Override
+        public List<LdbcQuery4Result> execute(InMemoryGraph g, LdbcQuery4 operation) {
+            int person = g.person(operation.getPersonIdQ4());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            long startDate = operation.getStartDate().getTime();
+            long endDate = startDate + operation.getDurationDays() * DAY_MILLIS;
+
+            InMemoryGraph.Scratch scratch = g.scratch();
+            Counters recent = scratch.first;
+            Counters old = scratch.second;
+            recent.reset(g.vertexCapacity());
+            old.reset(g.vertexCapacity());
+            int friends = g.knows.degree(person);
+            for (int i = 0; i < friends; i++) {
+                int friend = g.knows.target(person, i);
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    int message = g.personMessages.target(friend, j);
+                    long creationDate = g.personMessages.stamp(friend, j);
+                    if (g.messageReplyOf[message] >= 0 || creationDate >= endDate) {
+                        continue;
+                    }
+                    Counters target = creationDate < startDate ? old : recent;
+                    int tags = g.messageTags.degree(message);
+                    for (int k = 0; k < tags; k++) {
+                        target.add(g.messageTags.target(message, k), 1);
+                    }
+                }
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(recent.get(b), recent.get(a));
+                return c != 0 ? c : g.tagName[a].compareTo(g.tagName[b]);
+            });
+            for (int i = 0; i < recent.touchedCount(); i++) {
+                int tag = recent.touched(i);
+                if (!old.contains(tag)) {
+                    top.offer(tag);
+                }
+            }
+            List<LdbcQuery4Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int tag = top.get(i);
+                results.add(new LdbcQuery4Result(g.tagName[tag], recent.get(tag)));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query5 extends InMemoryListOperationHandler<LdbcQuery5, LdbcQuery5Result> {
+
+        @Override
+        public List<LdbcQuery5Result> execute(InMemoryGraph g, LdbcQuery5 operation) {
+            int person = g.person(operation.getPersonIdQ5());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            long minDate = operation.getMinDate().getTime();
+
+            InMemoryGraph.Scratch scratch = g.scratch();
+            Traversal traversal = scratch.traversal;
+            Counters postCounts = scratch.first;
+            Counters joined = scratch.second;
+            postCounts.reset(g.vertexCapacity());
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                joined.reset(g.vertexCapacity());
+                int memberships = g.personForums.degree(friend);
+                for (int j = 0; j < memberships; j++) {
+                    if (g.personForums.stamp(friend, j) >= minDate) {
+                        int forum = g.personForums.target(friend, j);
+                        joined.add(forum, 1);
+                        postCounts.add(forum, 0);
+                    }
+                }
+                if (joined.touchedCount() == 0) {
+                    continue;
+                }
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    int forum = g.messageForum[g.personMessages.target(friend, j)];
+                    if (forum >= 0 && joined.contains(forum)) {
+                        postCounts.add(forum, 1);
+                    }
+                }
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(postCounts.get(b), postCounts.get(a));
+                return c != 0 ? c : Long.compare(g.forumId[a], g.forumId[b]);
+            });
+            for (int i = 0; i < postCounts.touchedCount(); i++) {
+                top.offer(postCounts.touched(i));
+            }
+            List<LdbcQuery5Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int forum = top.get(i);
+                results.add(new LdbcQuery5Result(g.forumTitle[forum], postCounts.get(forum)));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query6 extends InMemoryListOperationHandler<LdbcQuery6, LdbcQuery6Result> {
+
+        @Override
+        public List<LdbcQuery6Result> execute(InMemoryGraph g, LdbcQuery6 operation) {
+            int person = g.person(operation.getPersonIdQ6());
+            Integer knownTag = g.tagByName.get(operation.getTagName());
+            if (person < 0 || knownTag == null) {
+                return Collections.emptyList();
+            }
+            int tag = knownTag;
+
+            InMemoryGraph.Scratch scratch = g.scratch();
+            Traversal traversal = scratch.traversal;
+            Counters postCounts = scratch.first;
+            postCounts.reset(g.vertexCapacity());
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    int message = g.personMessages.target(friend, j);
+                    if (g.messageReplyOf[message] >= 0 || !g.messageTags.contains(message, tag)) {
+                        continue;
+                    }
+                    int tags = g.messageTags.degree(message);
+                    for (int k = 0; k < tags; k++) {
+                        int other = g.messageTags.target(message, k);
+                        if (other != tag) {
+                            postCounts.add(other, 1);
+                        }
+                    }
+                }
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(postCounts.get(b), postCounts.get(a));
+                return c != 0 ? c : g.tagName[a].compareTo(g.tagName[b]);
+            });
+            for (int i = 0; i < postCounts.touchedCount(); i++) {
+                top.offer(postCounts.touched(i));
+            }
+            List<LdbcQuery6Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int other = top.get(i);
+                results.add(new LdbcQuery6Result(g.tagName[other], postCounts.get(other)));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query7 extends InMemoryListOperationHandler<LdbcQuery7, LdbcQuery7Result> {
+
+        @Override
+        public List<LdbcQuery7Result> execute(InMemoryGraph g, LdbcQuery7 operation) {
+            int person = g.person(operation.getPersonIdQ7());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            // int slot: liked message, long slot: like creation date of the latest like per liker
+            Counters latest = g.scratch().first;
+            latest.reset(g.vertexCapacity());
+            int messages = g.personMessages.degree(person);
+            for (int i = 0; i < messages; i++) {
+                int message = g.personMessages.target(person, i);
+                int likes = g.messageLikes.degree(message);
+                for (int j = 0; j < likes; j++) {
+                    int liker = g.messageLikes.target(message, j);
+                    long likeDate = g.messageLikes.stamp(message, j);
+                    if (!latest.contains(liker)
+                            || likeDate > latest.getLong(liker)
+                            || (likeDate == latest.getLong(liker) && g.messageId[message] < g.messageId[latest.get(liker)])) {
+                        latest.set(liker, message, likeDate);
+                    }
+                }
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Long.compare(latest.getLong(b), latest.getLong(a));
+                return c != 0 ? c : Long.compare(g.personId[a], g.personId[b]);
+            });
+            for (int i = 0; i < latest.touchedCount(); i++) {
+                top.offer(latest.touched(i));
+            }
+            List<LdbcQuery7Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int liker = top.get(i);
+                int message = latest.get(liker);
+                long likeDate = latest.getLong(liker);
+                results.add(new LdbcQuery7Result(
+                        g.personId[liker],
+                        g.personFirstName[liker],
+                        g.personLastName[liker],
+                        likeDate,
+                        g.messageId[message],
+                        g.messageContent[message],
+                        (int) ((likeDate - g.messageCreationDate[message]) / 1000 / 60),
+                        !g.knows.contains(person, liker)));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query8 extends InMemoryListOperationHandler<LdbcQuery8, LdbcQuery8Result> {
+
+        @Override
+        public List<LdbcQuery8Result> execute(InMemoryGraph g, LdbcQuery8 operation) {
+            int person = g.person(operation.getPersonIdQ8());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> recentFirst(g, a, b));
+            int messages = g.personMessages.degree(person);
+            for (int i = 0; i < messages; i++) {
+                int message = g.personMessages.target(person, i);
+                int replies = g.messageReplies.degree(message);
+                for (int j = 0; j < replies; j++) {
+                    top.offer(g.messageReplies.target(message, j));
+                }
+            }
+            List<LdbcQuery8Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int comment = top.get(i);
+                int creator = g.messageCreator[comment];
+                results.add(new LdbcQuery8Result(
+                        g.personId[creator],
+                        g.personFirstName[creator],
+                        g.personLastName[creator],
+                        g.messageCreationDate[comment],
+                        g.messageId[comment],
+                        g.messageContent[comment]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query9 extends InMemoryListOperationHandler<LdbcQuery9, LdbcQuery9Result> {
+
+        @Override
+        public List<LdbcQuery9Result> execute(InMemoryGraph g, LdbcQuery9 operation) {
+            int person = g.person(operation.getPersonIdQ9());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            long maxDate = operation.getMaxDate().getTime();
+            Traversal traversal = g.scratch().traversal;
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            TopK top = new TopK(operation.getLimit(), (a, b) -> recentFirst(g, a, b));
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    if (g.personMessages.stamp(friend, j) < maxDate) {
+                        top.offer(g.personMessages.target(friend, j));
+                    }
+                }
+            }
+            List<LdbcQuery9Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int message = top.get(i);
+                int creator = g.messageCreator[message];
+                results.add(new LdbcQuery9Result(
+                        g.personId[creator],
+                        g.personFirstName[creator],
+                        g.personLastName[creator],
+                        g.messageId[message],
+                        g.messageContent[message],
+                        g.messageCreationDate[message]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query10 extends InMemoryListOperationHandler<LdbcQuery10, LdbcQuery10Result> {
+
+        @Override
+        public List<LdbcQuery10Result> execute(InMemoryGraph g, LdbcQuery10 operation) {
+            int person = g.person(operation.getPersonIdQ10());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            int month = operation.getMonth();
+            int nextMonth = month % 12 + 1;
+
+            InMemoryGraph.Scratch scratch = g.scratch();
+            Traversal traversal = scratch.traversal;
+            Counters interests = scratch.first;
+            Counters scores = scratch.second;
+            interests.reset(g.vertexCapacity());
+            scores.reset(g.vertexCapacity());
+            int tags = g.personInterests.degree(person);
+            for (int i = 0; i < tags; i++) {
+                interests.add(g.personInterests.target(person, i), 1);
+            }
+
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(scores.get(b), scores.get(a));
+                return c != 0 ? c : Long.compare(g.personId[a], g.personId[b]);
+            });
+            for (int i = 1; i < reached; i++) {
+                int candidate = traversal.vertex(i);
+                if (traversal.distance(candidate) != 2) {
+                    continue;
+                }
+                LocalDate birthday = LocalDate.ofEpochDay(Math.floorDiv(g.personBirthday[candidate], DAY_MILLIS));
+                boolean matches = (birthday.getMonthValue() == month && birthday.getDayOfMonth() >= 21)
+                        || (birthday.getMonthValue() == nextMonth && birthday.getDayOfMonth() < 22);
+                if (!matches) {
+                    continue;
+                }
+                int score = 0;
+                int messages = g.personMessages.degree(candidate);
+                for (int j = 0; j < messages; j++) {
+                    int message = g.personMessages.target(candidate, j);
+                    if (g.messageReplyOf[message] >= 0) {
+                        continue;
+                    }
+                    boolean common = false;
+                    int messageTags = g.messageTags.degree(message);
+                    for (int k = 0; k < messageTags && !common; k++) {
+                        common = interests.contains(g.messageTags.target(message, k));
+                    }
+                    score += common ? 1 : -1;
+                }
+                scores.set(candidate, score, 0L);
+                top.offer(candidate);
+            }
+            List<LdbcQuery10Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int candidate = top.get(i);
+                int city = g.personCity[candidate];
+                results.add(new LdbcQuery10Result(
+                        g.personId[candidate],
+                        g.personFirstName[candidate],
+                        g.personLastName[candidate],
+                        scores.get(candidate),
+                        g.personGender[candidate],
+                        city < 0 ? null : g.placeName[city]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query11 extends InMemoryListOperationHandler<LdbcQuery11, LdbcQuery11Result> {
+
+        @Override
+        public List<LdbcQuery11Result> execute(InMemoryGraph g, LdbcQuery11 operation) {
+            int person = g.person(operation.getPersonIdQ11());
+            Integer knownCountry = g.countryByName.get(operation.getCountryName());
+            if (person < 0 || knownCountry == null) {
+                return Collections.emptyList();
+            }
+            int country = knownCountry;
+            int workFromYear = operation.getWorkFromYear();
+
+            Traversal traversal = g.scratch().traversal;
+            int reached = traversal.run(g.knows, g.personCount, person, 2, -1);
+            // (person, organisation, year) triples
+            List<int[]> jobs = new ArrayList<>();
+            for (int i = 1; i < reached; i++) {
+                int friend = traversal.vertex(i);
+                int degree = g.personWorkAt.degree(friend);
+                for (int j = 0; j < degree; j++) {
+                    int organisation = g.personWorkAt.target(friend, j);
+                    int year = (int) g.personWorkAt.stamp(friend, j);
+                    if (year < workFromYear && g.organisationPlace[organisation] == country) {
+                        jobs.add(new int[]{friend, organisation, year});
+                    }
+                }
+            }
+            jobs.sort((a, b) -> {
+                int c = Integer.compare(a[2], b[2]);
+                if (c == 0) {
+                    c = Long.compare(g.personId[a[0]], g.personId[b[0]]);
+                }
+                return c != 0 ? c : g.organisationName[b[1]].compareTo(g.organisationName[a[1]]);
+            });
+            int limit = Math.min(operation.getLimit(), jobs.size());
+            List<LdbcQuery11Result> results = new ArrayList<>(limit);
+            for (int[] job : jobs.subList(0, limit)) {
+                results.add(new LdbcQuery11Result(
+                        g.personId[job[0]],
+                        g.personFirstName[job[0]],
+                        g.personLastName[job[0]],
+                        g.organisationName[job[1]],
+                        job[2]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class Query12 extends InMemoryListOperationHandler<LdbcQuery12, LdbcQuery12Result> {
+
+        @Override
+        public List<LdbcQuery12Result> execute(InMemoryGraph g, LdbcQuery12 operation) {
+            int person = g.person(operation.getPersonIdQ12());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            boolean[] selectedClasses = new boolean[g.tagClassCount];
+            for (int tagClass = 0; tagClass < g.tagClassCount; tagClass++) {
+                for (int c = tagClass; c >= 0 && !selectedClasses[tagClass]; c = g.tagClassParent[c]) {
+                    selectedClasses[tagClass] = operation.getTagClassName().equals(g.tagClassName[c]);
+                }
+            }
+
+            Counters replyCounts = g.scratch().first;
+            replyCounts.reset(g.vertexCapacity());
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Integer.compare(replyCounts.get(b), replyCounts.get(a));
+                return c != 0 ? c : Long.compare(g.personId[a], g.personId[b]);
+            });
+            int friends = g.knows.degree(person);
+            for (int i = 0; i < friends; i++) {
+                int friend = g.knows.target(person, i);
+                int count = 0;
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    if (selectedPost(g, g.personMessages.target(friend, j), selectedClasses, null)) {
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    replyCounts.set(friend, count, 0L);
+                    top.offer(friend);
+                }
+            }
+            List<LdbcQuery12Result> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int friend = top.get(i);
+                TreeSet<String> tagNames = new TreeSet<>();
+                int messages = g.personMessages.degree(friend);
+                for (int j = 0; j < messages; j++) {
+                    selectedPost(g, g.personMessages.target(friend, j), selectedClasses, tagNames);
+                }
+                results.add(new LdbcQuery12Result(
+                        g.personId[friend],
+                        g.personFirstName[friend],
+                        g.personLastName[friend],
+                        new ArrayList<>(tagNames),
+                        replyCounts.get(friend)));
+            }
+            return results;
+        }
+
+        /**
+         * @return true if the message is a direct reply to a post tagged with a tag of the selected classes
+         */
+        private static boolean selectedPost(InMemoryGraph g, int comment, boolean[] selectedClasses, TreeSet<String> tagNames) {
+            int post = g.messageReplyOf[comment];
+            if (post < 0 || g.messageReplyOf[post] >= 0) {
+                return false;
+            }
+            boolean selected = false;
+            int tags = g.messageTags.degree(post);
+            for (int k = 0; k < tags; k++) {
+                int tag = g.messageTags.target(post, k);
+                int tagClass = g.tagClass[tag];
+                if (tagClass >= 0 && selectedClasses[tagClass]) {
+                    selected = true;
+                    if (tagNames == null) {
+                        break;
+                    }
+                    tagNames.add(g.tagName[tag]);
+                }
+            }
+            return selected;
+        }
+
+    }
+
+    public static class Query13 extends InMemorySingletonOperationHandler<LdbcQuery13, LdbcQuery13Result> {
+
+        @Override
+        public LdbcQuery13Result execute(InMemoryGraph g, LdbcQuery13 operation) {
+            int person1 = g.person(operation.getPerson1IdQ13StartNode());
+            int person2 = g.person(operation.getPerson2IdQ13EndNode());
+            if (person1 < 0 || person2 < 0) {
+                return new LdbcQuery13Result(-1);
+            }
+            Traversal traversal = g.scratch().traversal;
+            traversal.run(g.knows, g.personCount, person1, Integer.MAX_VALUE, person2);
+            return new LdbcQuery13Result(traversal.distance(person2));
+        }
+
+    }
+
+    public static class Query14 extends InMemoryListOperationHandler<LdbcQuery14, LdbcQuery14Result> {
+
+        @Override
+        public List<LdbcQuery14Result> execute(InMemoryGraph g, LdbcQuery14 operation) {
+            int person1 = g.person(operation.getPerson1IdQ14StartNode());
+            int person2 = g.person(operation.getPerson2IdQ14EndNode());
+            if (person1 < 0 || person2 < 0) {
+                return Collections.emptyList();
+            }
+            Traversal traversal = g.scratch().traversal;
+            traversal.run(g.knows, g.personCount, person1, Integer.MAX_VALUE, person2);
+            int length = traversal.distance(person2);
+            if (length < 0) {
+                return Collections.emptyList();
+            }
+
+            List<int[]> paths = new ArrayList<>();
+            int[] path = new int[length + 1];
+            path[length] = person2;
+            collectPaths(g, traversal, path, length, paths);
+
+            // edge weights in units of 0.5, keyed by the ordered vertex pair
+            LongIntMap edgeWeights = new LongIntMap(length * 4);
+            double[] weights = new double[paths.size()];
+            for (int p = 0; p < paths.size(); p++) {
+                int[] vertices = paths.get(p);
+                int halves = 0;
+                for (int i = 0; i < length; i++) {
+                    int a = Math.min(vertices[i], vertices[i + 1]);
+                    int b = Math.max(vertices[i], vertices[i + 1]);
+                    long key = ((long) a << 32) | b;
+                    int weight = edgeWeights.get(key);
+                    if (weight == LongIntMap.MISSING) {
+                        weight = interactionHalves(g, a, b) + interactionHalves(g, b, a);
+                        edgeWeights.put(key, weight);
+                    }
+                    halves += weight;
+                }
+                weights[p] = halves / 2.0;
+            }
+
+            Integer[] order = new Integer[paths.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int c = Double.compare(weights[b], weights[a]);
+                for (int i = 0; c == 0 && i <= length; i++) {
+                    c = Long.compare(g.personId[paths.get(a)[i]], g.personId[paths.get(b)[i]]);
+                }
+                return c;
+            });
+            List<LdbcQuery14Result> results = new ArrayList<>(order.length);
+            for (int p : order) {
+                List<Long> personIds = new ArrayList<>(length + 1);
+                for (int vertex : paths.get(p)) {
+                    personIds.add(g.personId[vertex]);
+                }
+                results.add(new LdbcQuery14Result(personIds, weights[p]));
+            }
+            return results;
+        }
+
+        /**
+         * Enumerates all shortest paths backwards from {@code path[depth]} along decreasing BFS distances.
+         */
+        private static void collectPaths(InMemoryGraph g, Traversal traversal, int[] path, int depth, List<int[]> paths) {
+            if (depth == 0) {
+                paths.add(path.clone());
+                return;
+            }
+            int vertex = path[depth];
+            int degree = g.knows.degree(vertex);
+            for (int i = 0; i < degree; i++) {
+                int previous = g.knows.target(vertex, i);
+                if (traversal.distance(previous) == depth - 1) {
+                    path[depth - 1] = previous;
+                    collectPaths(g, traversal, path, depth - 1, paths);
+                }
+            }
+        }
+
+        /**
+         * @return the weight of the comments of {@code replier} replying to messages of {@code author},
+         * in units of 0.5: 2 for a reply to a post, 1 for a reply to a comment
+         */
+        private static int interactionHalves(InMemoryGraph g, int author, int replier) {
+            int halves = 0;
+            int messages = g.personMessages.degree(author);
+            for (int i = 0; i < messages; i++) {
+                int message = g.personMessages.target(author, i);
+                int replies = g.messageReplies.degree(message);
+                for (int j = 0; j < replies; j++) {
+                    if (g.messageCreator[g.messageReplies.target(message, j)] == replier) {
+                        halves += g.messageReplyOf[message] < 0 ? 2 : 1;
+                    }
+                }
+            }
+            return halves;
+        }
+
+    }
+
+    // Interactive short reads
+
+    public static class ShortQuery1PersonProfile extends InMemorySingletonOperationHandler<LdbcShortQuery1PersonProfile, LdbcShortQuery1PersonProfileResult> {
+
+        @Override
+        public LdbcShortQuery1PersonProfileResult execute(InMemoryGraph g, LdbcShortQuery1PersonProfile operation) {
+            int person = g.person(operation.getPersonIdSQ1());
+            if (person < 0) {
+                return null;
+            }
+            int city = g.personCity[person];
+            return new LdbcShortQuery1PersonProfileResult(
+                    g.personFirstName[person],
+                    g.personLastName[person],
+                    g.personBirthday[person],
+                    g.personLocationIp[person],
+                    g.personBrowserUsed[person],
+                    city < 0 ? -1 : g.placeId[city],
+                    g.personGender[person],
+                    g.personCreationDate[person]);
+        }
+
+    }
+
+    public static class ShortQuery2PersonPosts extends InMemoryListOperationHandler<LdbcShortQuery2PersonPosts, LdbcShortQuery2PersonPostsResult> {
+
+        @Override
+        public List<LdbcShortQuery2PersonPostsResult> execute(InMemoryGraph g, LdbcShortQuery2PersonPosts operation) {
+            int person = g.person(operation.getPersonIdSQ2());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            TopK top = new TopK(operation.getLimit(), (a, b) -> {
+                int c = Long.compare(g.messageCreationDate[b], g.messageCreationDate[a]);
+                return c != 0 ? c : Long.compare(g.messageId[b], g.messageId[a]);
+            });
+            int messages = g.personMessages.degree(person);
+            for (int i = 0; i < messages; i++) {
+                top.offer(g.personMessages.target(person, i));
+            }
+            List<LdbcShortQuery2PersonPostsResult> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int message = top.get(i);
+                int post = g.rootPost(message);
+                int author = g.messageCreator[post];
+                results.add(new LdbcShortQuery2PersonPostsResult(
+                        g.messageId[message],
+                        contentOrEmpty(g, message),
+                        g.messageCreationDate[message],
+                        g.messageId[post],
+                        g.personId[author],
+                        g.personFirstName[author],
+                        g.personLastName[author]));
+            }
+            return results;
+        }
+
+    }
+
+    public static class ShortQuery3PersonFriends extends InMemoryListOperationHandler<LdbcShortQuery3PersonFriends, LdbcShortQuery3PersonFriendsResult> {
+
+        @Override
+        public List<LdbcShortQuery3PersonFriendsResult> execute(InMemoryGraph g, LdbcShortQuery3PersonFriends operation) {
+            int person = g.person(operation.getPersonIdSQ3());
+            if (person < 0) {
+                return Collections.emptyList();
+            }
+            // sorts positions in the adjacency list, so the friendship date stays addressable
+            int friends = g.knows.degree(person);
+            TopK top = new TopK(friends, (a, b) -> {
+                int c = Long.compare(g.knows.stamp(person, b), g.knows.stamp(person, a));
+                return c != 0 ? c : Long.compare(g.personId[g.knows.target(person, a)], g.personId[g.knows.target(person, b)]);
+            });
+            for (int i = 0; i < friends; i++) {
+                top.offer(i);
+            }
+            List<LdbcShortQuery3PersonFriendsResult> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int position = top.get(i);
+                int friend = g.knows.target(person, position);
+                results.add(new LdbcShortQuery3PersonFriendsResult(
+                        g.personId[friend],
+                        g.personFirstName[friend],
+                        g.personLastName[friend],
+                        g.knows.stamp(person, position)));
+            }
+            return results;
+        }
+
+    }
+
+    public static class ShortQuery4MessageContent extends InMemorySingletonOperationHandler<LdbcShortQuery4MessageContent, LdbcShortQuery4MessageContentResult> {
+
+        @Override
+        public LdbcShortQuery4MessageContentResult execute(InMemoryGraph g, LdbcShortQuery4MessageContent operation) {
+            int message = g.message(operation.getMessageIdContent());
+            if (message < 0) {
+                return null;
+            }
+            return new LdbcShortQuery4MessageContentResult(
+                    contentOrEmpty(g, message),
+                    g.messageCreationDate[message]);
+        }
+
+    }
+
+    public static class ShortQuery5MessageCreator extends InMemorySingletonOperationHandler<LdbcShortQuery5MessageCreator, LdbcShortQuery5MessageCreatorResult> {
+
+        @Override
+        public LdbcShortQuery5MessageCreatorResult execute(InMemoryGraph g, LdbcShortQuery5MessageCreator operation) {
+            int message = g.message(operation.getMessageIdCreator());
+            if (message < 0) {
+                return null;
+            }
+            int creator = g.messageCreator[message];
+            return new LdbcShortQuery5MessageCreatorResult(
+                    g.personId[creator],
+                    g.personFirstName[creator],
+                    g.personLastName[creator]);
+        }
+
+    }
+
+    public static class ShortQuery6MessageForum extends InMemorySingletonOperationHandler<LdbcShortQuery6MessageForum, LdbcShortQuery6MessageForumResult> {
+
+        @Override
+        public LdbcShortQuery6MessageForumResult execute(InMemoryGraph g, LdbcShortQuery6MessageForum operation) {
+            int message = g.message(operation.getMessageForumId());
+            if (message < 0) {
+                return null;
+            }
+            int forum = g.messageForum[g.rootPost(message)];
+            if (forum < 0 || g.forumModerator[forum] < 0) {
+                return null;
+            }
+            int moderator = g.forumModerator[forum];
+            return new LdbcShortQuery6MessageForumResult(
+                    g.forumId[forum],
+                    g.forumTitle[forum],
+                    g.personId[moderator],
+                    g.personFirstName[moderator],
+                    g.personLastName[moderator]);
+        }
+
+    }
+
+    public static class ShortQuery7MessageReplies extends InMemoryListOperationHandler<LdbcShortQuery7MessageReplies, LdbcShortQuery7MessageRepliesResult> {
+
+        @Override
+        public List<LdbcShortQuery7MessageRepliesResult> execute(InMemoryGraph g, LdbcShortQuery7MessageReplies operation) {
+            int message = g.message(operation.getMessageRepliesId());
+            if (message < 0) {
+                return Collections.emptyList();
+            }
+            int replies = g.messageReplies.degree(message);
+            TopK top = new TopK(replies, (a, b) -> {
+                int c = Long.compare(g.messageCreationDate[b], g.messageCreationDate[a]);
+                return c != 0 ? c : Long.compare(g.personId[g.messageCreator[a]], g.personId[g.messageCreator[b]]);
+            });
+            for (int i = 0; i < replies; i++) {
+                top.offer(g.messageReplies.target(message, i));
+            }
+            int author = g.messageCreator[message];
+            List<LdbcShortQuery7MessageRepliesResult> results = new ArrayList<>(top.size());
+            for (int i = 0; i < top.size(); i++) {
+                int comment = top.get(i);
+                int replier = g.messageCreator[comment];
+                results.add(new LdbcShortQuery7MessageRepliesResult(
+                        g.messageId[comment],
+                        g.messageContent[comment],
+                        g.messageCreationDate[comment],
+                        g.personId[replier],
+                        g.personFirstName[replier],
+                        g.personLastName[replier],
+                        g.knows.contains(author, replier)));
+            }
+            return results;
+        }
+
+    }
+
+    // Interactive inserts
+
+    public static class Update1AddPerson extends InMemoryUpdateOperationHandler<LdbcUpdate1AddPerson> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate1AddPerson operation) {
+            int person = g.addPerson(
+                    operation.getPersonId(),
+                    operation.getPersonFirstName(),
+                    operation.getPersonLastName(),
+                    operation.getGender(),
+                    operation.getBirthday().getTime(),
+                    operation.getCreationDate().getTime(),
+                    operation.getLocationIp(),
+                    operation.getBrowserUsed(),
+                    g.place(operation.getCityId()));
+            g.personEmails[person] = operation.getEmails().toArray(InMemoryGraph.NO_STRINGS);
+            g.personLanguages[person] = operation.getLanguages().toArray(InMemoryGraph.NO_STRINGS);
+            for (long tagId : operation.getTagIds()) {
+                appendEdge(g.personInterests, person, g.tag(tagId), 0L);
+            }
+            for (LdbcUpdate1AddPerson.Organization organization : operation.getStudyAt()) {
+                appendEdge(g.personStudyAt, person, g.organisation(organization.getOrganizationId()), organization.getYear());
+            }
+            for (LdbcUpdate1AddPerson.Organization organization : operation.getWorkAt()) {
+                appendEdge(g.personWorkAt, person, g.organisation(organization.getOrganizationId()), organization.getYear());
+            }
+        }
+
+    }
+
+    public static class Update2AddPostLike extends InMemoryUpdateOperationHandler<LdbcUpdate2AddPostLike> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate2AddPostLike operation) {
+            appendEdge(g.messageLikes, g.message(operation.getPostId()), g.person(operation.getPersonId()),
+                    operation.getCreationDate().getTime());
+        }
+
+    }
+
+    public static class Update3AddCommentLike extends InMemoryUpdateOperationHandler<LdbcUpdate3AddCommentLike> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate3AddCommentLike operation) {
+            appendEdge(g.messageLikes, g.message(operation.getCommentId()), g.person(operation.getPersonId()),
+                    operation.getCreationDate().getTime());
+        }
+
+    }
+
+    public static class Update4AddForum extends InMemoryUpdateOperationHandler<LdbcUpdate4AddForum> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate4AddForum operation) {
+            int forum = g.addForum(
+                    operation.getForumId(),
+                    operation.getForumTitle(),
+                    operation.getCreationDate().getTime(),
+                    g.person(operation.getModeratorPersonId()));
+            for (long tagId : operation.getTagIds()) {
+                appendEdge(g.forumTags, forum, g.tag(tagId), 0L);
+            }
+        }
+
+    }
+
+    public static class Update5AddForumMembership extends InMemoryUpdateOperationHandler<LdbcUpdate5AddForumMembership> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate5AddForumMembership operation) {
+            int forum = g.forum(operation.getForumId());
+            int person = g.person(operation.getPersonId());
+            long joinDate = operation.getJoinDate().getTime();
+            appendEdge(g.forumMembers, forum, person, joinDate);
+            appendEdge(g.personForums, person, forum, joinDate);
+        }
+
+    }
+
+    public static class Update6AddPost extends InMemoryUpdateOperationHandler<LdbcUpdate6AddPost> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate6AddPost operation) {
+            String imageFile = operation.getImageFile();
+            long creationDate = operation.getCreationDate().getTime();
+            int author = g.person(operation.getAuthorPersonId());
+            int post = g.addMessage(
+                    operation.getPostId(),
+                    imageFile != null && !imageFile.isEmpty() ? imageFile : operation.getContent(),
+                    creationDate,
+                    author,
+                    g.place(operation.getCountryId()),
+                    g.forum(operation.getForumId()),
+                    -1);
+            appendEdge(g.personMessages, author, post, creationDate);
+            for (long tagId : operation.getTagIds()) {
+                appendEdge(g.messageTags, post, g.tag(tagId), 0L);
+            }
+        }
+
+    }
+
+    public static class Update7AddComment extends InMemoryUpdateOperationHandler<LdbcUpdate7AddComment> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate7AddComment operation) {
+            long creationDate = operation.getCreationDate().getTime();
+            int author = g.person(operation.getAuthorPersonId());
+            int parent = operation.getReplyToPostId() != -1
+                    ? g.message(operation.getReplyToPostId())
+                    : g.message(operation.getReplyToCommentId());
+            int comment = g.addMessage(
+                    operation.getCommentId(),
+                    operation.getContent(),
+                    creationDate,
+                    author,
+                    g.place(operation.getCountryId()),
+                    -1,
+                    parent);
+            appendEdge(g.personMessages, author, comment, creationDate);
+            appendEdge(g.messageReplies, parent, comment, 0L);
+            for (long tagId : operation.getTagIds()) {
+                appendEdge(g.messageTags, comment, g.tag(tagId), 0L);
+            }
+        }
+
+    }
+
+    public static class Update8AddFriendship extends InMemoryUpdateOperationHandler<LdbcUpdate8AddFriendship> {
+
+        @Override
+        public void execute(InMemoryGraph g, LdbcUpdate8AddFriendship operation) {
+            int person1 = g.person(operation.getPerson1Id());
+            int person2 = g.person(operation.getPerson2Id());
+            long creationDate = operation.getCreationDate().getTime();
+            appendEdge(g.knows, person1, person2, creationDate);
+            appendEdge(g.knows, person2, person1, creationDate);
+        }
+
+    }
+
+    /**
+     * Orders messages by creation date descending, then by identifier ascending.
+     */
+    private static int recentFirst(InMemoryGraph g, int a, int b) {
+        int c = Long.compare(g.messageCreationDate[b], g.messageCreationDate[a]);
+        return c != 0 ? c : Long.compare(g.messageId[a], g.messageId[b]);
+    }
+
+    private static String contentOrEmpty(InMemoryGraph g, int message) {
+        String content = g.messageContent[message];
+        return content != null ? content : "";
+    }
+
+    /**
+     * Appends an edge unless one of its endpoints refers to an unknown entity, mirroring the
+     * loader which drops dangling references.
+     */
+    private static void appendEdge(Adjacency adjacency, int source, int target, long stamp) {
+        if (source >= 0 && target >= 0) {
+            adjacency.append(source, target, stamp);
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.impls.workloads.BaseDbConnectionState;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class InMemoryDbConnectionState extends BaseDbConnectionState<InMemoryQueryStore> {
+
+    protected final InMemoryGraph graph;
+
+    public InMemoryDbConnectionState(Map<String, String> properties, InMemoryQueryStore store) throws DbException {
+        super(properties, store);
+        String dataDir = properties.get("dataDir");
+        if (dataDir == null) {
+            throw new DbException("Property 'dataDir' pointing to the CsvMergeForeign data set is required");
+        }
+        try {
+            graph = new InMemoryGraphLoader(dataDir).load();
+        } catch (IOException | RuntimeException e) {
+            throw new DbException("Unable to load data set from " + dataDir, e);
+        }
+    }
+
+    public InMemoryGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return true if operations should be rendered for {@link #logQuery(String, String)}
+     */
+    public boolean isLogQueries() {
+        return printNames || printStrings;
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
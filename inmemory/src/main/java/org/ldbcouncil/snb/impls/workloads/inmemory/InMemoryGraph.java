@@ -0,0 +1,318 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented in-memory representation of the SNB graph.
+ *
+ * Every entity type is addressed by a dense index assigned in insertion order, the original
+ * identifiers are resolved through {@link LongIntMap}s. Properties are stored in parallel arrays
+ * and relationships in {@link Adjacency} lists. Messages (posts and comments) share one index
+ * space; posts have {@code messageReplyOf == -1}, comments have {@code messageForum == -1}.
+ *
+ * Reads run concurrently under the read lock, updates append under the write lock.
+ */
+public class InMemoryGraph {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    // static part
+
+    final LongIntMap placeIndex = new LongIntMap(2048);
+    long[] placeId = new long[0];
+    String[] placeName = new String[0];
+    int[] placeContainer = new int[0];
+    int placeCount;
+    final Map<String, Integer> countryByName = new HashMap<>();
+
+    final LongIntMap organisationIndex = new LongIntMap(8192);
+    String[] organisationName = new String[0];
+    int[] organisationPlace = new int[0];
+    int organisationCount;
+
+    final LongIntMap tagClassIndex = new LongIntMap(128);
+    String[] tagClassName = new String[0];
+    int[] tagClassParent = new int[0];
+    int tagClassCount;
+
+    final LongIntMap tagIndex = new LongIntMap(16384);
+    String[] tagName = new String[0];
+    int[] tagClass = new int[0];
+    int tagCount;
+    final Map<String, Integer> tagByName = new HashMap<>();
+
+    // dynamic part
+
+    final LongIntMap personIndex = new LongIntMap(1024);
+    long[] personId = new long[0];
+    String[] personFirstName = new String[0];
+    String[] personLastName = new String[0];
+    String[] personGender = new String[0];
+    long[] personBirthday = new long[0];
+    long[] personCreationDate = new long[0];
+    String[] personLocationIp = new String[0];
+    String[] personBrowserUsed = new String[0];
+    int[] personCity = new int[0];
+    String[][] personEmails = new String[0][];
+    String[][] personLanguages = new String[0][];
+    int personCount;
+
+    final LongIntMap forumIndex = new LongIntMap(1024);
+    long[] forumId = new long[0];
+    String[] forumTitle = new String[0];
+    long[] forumCreationDate = new long[0];
+    int[] forumModerator = new int[0];
+    int forumCount;
+
+    final LongIntMap messageIndex = new LongIntMap(8192);
+    long[] messageId = new long[0];
+    String[] messageContent = new String[0];
+    long[] messageCreationDate = new long[0];
+    int[] messageCreator = new int[0];
+    int[] messageCountry = new int[0];
+    int[] messageForum = new int[0];
+    int[] messageReplyOf = new int[0];
+    int messageCount;
+
+    // person -> person, stamped with the creation date, stored in both directions
+    Adjacency knows;
+    // person -> message (hasCreator reversed), stamped with the message creation date
+    Adjacency personMessages;
+    // message -> comment (replyOf reversed)
+    Adjacency messageReplies;
+    // message -> tag
+    Adjacency messageTags;
+    // message -> person, stamped with the like creation date
+    Adjacency messageLikes;
+    // person -> tag
+    Adjacency personInterests;
+    // person -> forum (hasMember reversed), stamped with the join date
+    Adjacency personForums;
+    // forum -> person, stamped with the join date
+    Adjacency forumMembers;
+    // forum -> tag
+    Adjacency forumTags;
+    // person -> organisation, stamped with the class year
+    Adjacency personStudyAt;
+    // person -> organisation, stamped with the work from year
+    Adjacency personWorkAt;
+
+    public Lock readLock() {
+        return lock.readLock();
+    }
+
+    public Lock writeLock() {
+        return lock.writeLock();
+    }
+
+    Scratch scratch() {
+        return scratch.get();
+    }
+
+    int place(long id) {
+        return placeIndex.get(id);
+    }
+
+    int organisation(long id) {
+        return organisationIndex.get(id);
+    }
+
+    int tag(long id) {
+        return tagIndex.get(id);
+    }
+
+    int person(long id) {
+        return personIndex.get(id);
+    }
+
+    int forum(long id) {
+        return forumIndex.get(id);
+    }
+
+    int message(long id) {
+        return messageIndex.get(id);
+    }
+
+    int country(int city) {
+        return city < 0 ? -1 : placeContainer[city];
+    }
+
+    int rootPost(int message) {
+        while (messageReplyOf[message] >= 0) {
+            message = messageReplyOf[message];
+        }
+        return message;
+    }
+
+    /**
+     * @return the largest index space, used to size per-thread scratch structures
+     */
+    int vertexCapacity() {
+        return Math.max(Math.max(personCount, messageCount), Math.max(forumCount, tagCount));
+    }
+
+    int addPlace(long id, String name, String type) {
+        int i = placeCount;
+        if (i == placeId.length) {
+            int capacity = grow(i);
+            placeId = Arrays.copyOf(placeId, capacity);
+            placeName = Arrays.copyOf(placeName, capacity);
+            placeContainer = Arrays.copyOf(placeContainer, capacity);
+        }
+        placeId[i] = id;
+        placeName[i] = name;
+        placeContainer[i] = -1;
+        placeIndex.put(id, i);
+        if ("country".equals(type)) {
+            countryByName.put(name, i);
+        }
+        placeCount++;
+        return i;
+    }
+
+    int addOrganisation(long id, String name, int place) {
+        int i = organisationCount;
+        if (i == organisationName.length) {
+            int capacity = grow(i);
+            organisationName = Arrays.copyOf(organisationName, capacity);
+            organisationPlace = Arrays.copyOf(organisationPlace, capacity);
+        }
+        organisationName[i] = name;
+        organisationPlace[i] = place;
+        organisationIndex.put(id, i);
+        organisationCount++;
+        return i;
+    }
+
+    int addTagClass(long id, String name) {
+        int i = tagClassCount;
+        if (i == tagClassName.length) {
+            int capacity = grow(i);
+            tagClassName = Arrays.copyOf(tagClassName, capacity);
+            tagClassParent = Arrays.copyOf(tagClassParent, capacity);
+        }
+        tagClassName[i] = name;
+        tagClassParent[i] = -1;
+        tagClassIndex.put(id, i);
+        tagClassCount++;
+        return i;
+    }
+
+    int addTag(long id, String name, int tagClass) {
+        int i = tagCount;
+        if (i == tagName.length) {
+            int capacity = grow(i);
+            tagName = Arrays.copyOf(tagName, capacity);
+            this.tagClass = Arrays.copyOf(this.tagClass, capacity);
+        }
+        tagName[i] = name;
+        this.tagClass[i] = tagClass;
+        tagIndex.put(id, i);
+        tagByName.put(name, i);
+        tagCount++;
+        return i;
+    }
+
+    int addPerson(long id, String firstName, String lastName, String gender, long birthday, long creationDate,
+                  String locationIp, String browserUsed, int city) {
+        int i = personCount;
+        if (i == personId.length) {
+            int capacity = grow(i);
+            personId = Arrays.copyOf(personId, capacity);
+            personFirstName = Arrays.copyOf(personFirstName, capacity);
+            personLastName = Arrays.copyOf(personLastName, capacity);
+            personGender = Arrays.copyOf(personGender, capacity);
+            personBirthday = Arrays.copyOf(personBirthday, capacity);
+            personCreationDate = Arrays.copyOf(personCreationDate, capacity);
+            personLocationIp = Arrays.copyOf(personLocationIp, capacity);
+            personBrowserUsed = Arrays.copyOf(personBrowserUsed, capacity);
+            personCity = Arrays.copyOf(personCity, capacity);
+            personEmails = Arrays.copyOf(personEmails, capacity);
+            personLanguages = Arrays.copyOf(personLanguages, capacity);
+        }
+        personId[i] = id;
+        personFirstName[i] = firstName;
+        personLastName[i] = lastName;
+        personGender[i] = gender;
+        personBirthday[i] = birthday;
+        personCreationDate[i] = creationDate;
+        personLocationIp[i] = locationIp;
+        personBrowserUsed[i] = browserUsed;
+        personCity[i] = city;
+        personEmails[i] = NO_STRINGS;
+        personLanguages[i] = NO_STRINGS;
+        personIndex.put(id, i);
+        personCount++;
+        return i;
+    }
+
+    int addForum(long id, String title, long creationDate, int moderator) {
+        int i = forumCount;
+        if (i == forumId.length) {
+            int capacity = grow(i);
+            forumId = Arrays.copyOf(forumId, capacity);
+            forumTitle = Arrays.copyOf(forumTitle, capacity);
+            forumCreationDate = Arrays.copyOf(forumCreationDate, capacity);
+            forumModerator = Arrays.copyOf(forumModerator, capacity);
+        }
+        forumId[i] = id;
+        forumTitle[i] = title;
+        forumCreationDate[i] = creationDate;
+        forumModerator[i] = moderator;
+        forumIndex.put(id, i);
+        forumCount++;
+        return i;
+    }
+
+    int addMessage(long id, String content, long creationDate, int creator, int country, int forum, int replyOf) {
+        int i = messageCount;
+        if (i == messageId.length) {
+            int capacity = grow(i);
+            messageId = Arrays.copyOf(messageId, capacity);
+            messageContent = Arrays.copyOf(messageContent, capacity);
+            messageCreationDate = Arrays.copyOf(messageCreationDate, capacity);
+            messageCreator = Arrays.copyOf(messageCreator, capacity);
+            messageCountry = Arrays.copyOf(messageCountry, capacity);
+            messageForum = Arrays.copyOf(messageForum, capacity);
+            messageReplyOf = Arrays.copyOf(messageReplyOf, capacity);
+        }
+        messageId[i] = id;
+        messageContent[i] = content;
+        messageCreationDate[i] = creationDate;
+        messageCreator[i] = creator;
+        messageCountry[i] = country;
+        messageForum[i] = forum;
+        messageReplyOf[i] = replyOf;
+        messageIndex.put(id, i);
+        messageCount++;
+        return i;
+    }
+
+    static String[] append(String[] values, String value) {
+        String[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int grow(int length) {
+        return Math.max(16, length + (length >> 1));
+    }
+
+    static final String[] NO_STRINGS = new String[0];
+
+    /**
+     * Per-thread working memory of the query handlers.
+     */
+    static class Scratch {
+        final Traversal traversal = new Traversal();
+        final Counters first = new Counters();
+        final Counters second = new Counters();
+    }
+
+}
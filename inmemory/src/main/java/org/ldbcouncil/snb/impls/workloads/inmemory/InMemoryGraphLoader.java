@@ -0,0 +1,252 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the CsvMergeForeign serialization of the data set (the layout used by the
+ * PostgreSQL, Umbra and DuckDB loaders, see {@code postgres/test-data}) into an {@link InMemoryGraph}.
+ */
+public class InMemoryGraphLoader {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\|");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private final File dataDir;
+    private final InMemoryGraph graph = new InMemoryGraph();
+
+    public InMemoryGraphLoader(String dataDir) {
+        this.dataDir = new File(dataDir);
+    }
+
+    public InMemoryGraph load() throws IOException {
+        loadStatic();
+        loadPersons();
+        loadForums();
+        loadMessages();
+        return graph;
+    }
+
+    private void loadStatic() throws IOException {
+        LongList placeParents = new LongList();
+        each("static", "place", row -> {
+            graph.addPlace(Long.parseLong(row[0]), row[1], row[3]);
+            placeParents.add(row[4].isEmpty() ? -1L : Long.parseLong(row[4]));
+        });
+        for (int i = 0; i < graph.placeCount; i++) {
+            graph.placeContainer[i] = placeParents.get(i) < 0 ? -1 : graph.place(placeParents.get(i));
+        }
+
+        each("static", "organisation", row -> {
+            graph.addOrganisation(Long.parseLong(row[0]), row[2], graph.place(Long.parseLong(row[4])));
+        });
+
+        LongList tagClassParents = new LongList();
+        each("static", "tagclass", row -> {
+            graph.addTagClass(Long.parseLong(row[0]), row[1]);
+            tagClassParents.add(row[3].isEmpty() ? -1L : Long.parseLong(row[3]));
+        });
+        for (int i = 0; i < graph.tagClassCount; i++) {
+            graph.tagClassParent[i] = tagClassParents.get(i) < 0 ? -1 : graph.tagClassIndex.get(tagClassParents.get(i));
+        }
+
+        each("static", "tag", row -> {
+            graph.addTag(Long.parseLong(row[0]), row[1], graph.tagClassIndex.get(Long.parseLong(row[3])));
+        });
+    }
+
+    private void loadPersons() throws IOException {
+        each("dynamic", "person", row -> {
+            graph.addPerson(Long.parseLong(row[0]), row[1], row[2], row[3], parseDate(row[4]), parseDateTime(row[5]),
+                    row[6], row[7], graph.place(Long.parseLong(row[8])));
+        });
+        each("dynamic", "person_email_emailaddress", row -> {
+            int person = graph.person(Long.parseLong(row[0]));
+            if (person >= 0) {
+                graph.personEmails[person] = InMemoryGraph.append(graph.personEmails[person], row[1]);
+            }
+        });
+        each("dynamic", "person_speaks_language", row -> {
+            int person = graph.person(Long.parseLong(row[0]));
+            if (person >= 0) {
+                graph.personLanguages[person] = InMemoryGraph.append(graph.personLanguages[person], row[1]);
+            }
+        });
+
+        Adjacency.Builder knows = new Adjacency.Builder();
+        each("dynamic", "person_knows_person", row -> {
+            int person1 = graph.person(Long.parseLong(row[0]));
+            int person2 = graph.person(Long.parseLong(row[1]));
+            long creationDate = parseDateTime(row[2]);
+            knows.add(person1, person2, creationDate);
+            knows.add(person2, person1, creationDate);
+        });
+        graph.knows = knows.build(graph.personCount);
+
+        Adjacency.Builder interests = new Adjacency.Builder();
+        each("dynamic", "person_hasInterest_tag", row -> {
+            interests.add(graph.person(Long.parseLong(row[0])), graph.tag(Long.parseLong(row[1])), 0L);
+        });
+        graph.personInterests = interests.build(graph.personCount);
+
+        Adjacency.Builder studyAt = new Adjacency.Builder();
+        each("dynamic", "person_studyAt_organisation", row -> {
+            studyAt.add(graph.person(Long.parseLong(row[0])), graph.organisation(Long.parseLong(row[1])), Long.parseLong(row[2]));
+        });
+        graph.personStudyAt = studyAt.build(graph.personCount);
+
+        Adjacency.Builder workAt = new Adjacency.Builder();
+        each("dynamic", "person_workAt_organisation", row -> {
+            workAt.add(graph.person(Long.parseLong(row[0])), graph.organisation(Long.parseLong(row[1])), Long.parseLong(row[2]));
+        });
+        graph.personWorkAt = workAt.build(graph.personCount);
+    }
+
+    private void loadForums() throws IOException {
+        each("dynamic", "forum", row -> {
+            graph.addForum(Long.parseLong(row[0]), row[1], parseDateTime(row[2]),
+                    row[3].isEmpty() ? -1 : graph.person(Long.parseLong(row[3])));
+        });
+
+        Adjacency.Builder members = new Adjacency.Builder();
+        Adjacency.Builder memberships = new Adjacency.Builder();
+        each("dynamic", "forum_hasMember_person", row -> {
+            int forum = graph.forum(Long.parseLong(row[0]));
+            int person = graph.person(Long.parseLong(row[1]));
+            long joinDate = parseDateTime(row[2]);
+            members.add(forum, person, joinDate);
+            memberships.add(person, forum, joinDate);
+        });
+        graph.forumMembers = members.build(graph.forumCount);
+        graph.personForums = memberships.build(graph.personCount);
+
+        Adjacency.Builder forumTags = new Adjacency.Builder();
+        each("dynamic", "forum_hasTag_tag", row -> {
+            forumTags.add(graph.forum(Long.parseLong(row[0])), graph.tag(Long.parseLong(row[1])), 0L);
+        });
+        graph.forumTags = forumTags.build(graph.forumCount);
+    }
+
+    private void loadMessages() throws IOException {
+        each("dynamic", "post", row -> {
+            String content = !row[1].isEmpty() ? row[1] : row[6];
+            graph.addMessage(Long.parseLong(row[0]), content, parseDateTime(row[2]),
+                    graph.person(Long.parseLong(row[8])), graph.place(Long.parseLong(row[10])),
+                    graph.forum(Long.parseLong(row[9])), -1);
+        });
+
+        // comments may reply to comments that appear later in the file, so parents are resolved in a second pass
+        int firstComment = graph.messageCount;
+        LongList parents = new LongList();
+        each("dynamic", "comment", row -> {
+            graph.addMessage(Long.parseLong(row[0]), row[4], parseDateTime(row[1]),
+                    graph.person(Long.parseLong(row[6])), graph.place(Long.parseLong(row[7])), -1, -1);
+            parents.add(Long.parseLong(!row[8].isEmpty() ? row[8] : row[9]));
+        });
+        Adjacency.Builder replies = new Adjacency.Builder();
+        for (int i = firstComment; i < graph.messageCount; i++) {
+            int parent = graph.message(parents.get(i - firstComment));
+            graph.messageReplyOf[i] = parent;
+            replies.add(parent, i, 0L);
+        }
+        graph.messageReplies = replies.build(graph.messageCount);
+
+        Adjacency.Builder personMessages = new Adjacency.Builder();
+        for (int i = 0; i < graph.messageCount; i++) {
+            personMessages.add(graph.messageCreator[i], i, graph.messageCreationDate[i]);
+        }
+        graph.personMessages = personMessages.build(graph.personCount);
+
+        Adjacency.Builder messageTags = new Adjacency.Builder();
+        each("dynamic", "post_hasTag_tag", row -> {
+            messageTags.add(graph.message(Long.parseLong(row[0])), graph.tag(Long.parseLong(row[1])), 0L);
+        });
+        each("dynamic", "comment_hasTag_tag", row -> {
+            messageTags.add(graph.message(Long.parseLong(row[0])), graph.tag(Long.parseLong(row[1])), 0L);
+        });
+        graph.messageTags = messageTags.build(graph.messageCount);
+
+        Adjacency.Builder likes = new Adjacency.Builder();
+        each("dynamic", "person_likes_post", row -> {
+            likes.add(graph.message(Long.parseLong(row[1])), graph.person(Long.parseLong(row[0])), parseDateTime(row[2]));
+        });
+        each("dynamic", "person_likes_comment", row -> {
+            likes.add(graph.message(Long.parseLong(row[1])), graph.person(Long.parseLong(row[0])), parseDateTime(row[2]));
+        });
+        graph.messageLikes = likes.build(graph.messageCount);
+    }
+
+    /**
+     * Streams every part file of an entity (e.g. {@code dynamic/person_0_0.csv}), skipping the header lines.
+     */
+    private void each(String directory, String entity, RowHandler handler) throws IOException {
+        File[] parts = new File(dataDir, directory).listFiles(
+                (dir, name) -> name.matches(Pattern.quote(entity) + "_\\d+_\\d+\\.csv"));
+        if (parts == null || parts.length == 0) {
+            throw new IOException("No CSV files found for " + directory + "/" + entity + " in " + dataDir);
+        }
+        Arrays.sort(parts);
+        for (File part : parts) {
+            try (BufferedReader reader = Files.newBufferedReader(part.toPath(), StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        handler.accept(SEPARATOR.split(line, -1));
+                    }
+                }
+            }
+        }
+    }
+
+    private interface RowHandler {
+        void accept(String[] row);
+    }
+
+    static long parseDateTime(String value) {
+        if (isNumeric(value)) {
+            return Long.parseLong(value);
+        }
+        return OffsetDateTime.parse(value, DATE_TIME_FORMATTER).toInstant().toEpochMilli();
+    }
+
+    static long parseDate(String value) {
+        if (isNumeric(value)) {
+            return Long.parseLong(value);
+        }
+        return LocalDate.parse(value).toEpochDay() * 86_400_000L;
+    }
+
+    private static boolean isNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    private static class LongList {
+        private long[] values = new long[256];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long get(int i) {
+            return values[i];
+        }
+    }
+
+}
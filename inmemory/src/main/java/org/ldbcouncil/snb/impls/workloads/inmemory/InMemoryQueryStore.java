@@ -0,0 +1,14 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import org.ldbcouncil.snb.impls.workloads.QueryStore;
+
+/**
+ * The in-memory implementation evaluates the operations natively, so it does not load query files.
+ */
+public class InMemoryQueryStore extends QueryStore {
+
+    public InMemoryQueryStore() {
+        super();
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+/**
+ * Bounded sorted buffer of vertex indices, used to evaluate ORDER BY ... LIMIT k
+ * without materializing and sorting every candidate.
+ */
+public class TopK {
+
+    public interface IntComparator {
+        int compare(int a, int b);
+    }
+
+    private final int[] items;
+    private final IntComparator comparator;
+    private int size;
+
+    public TopK(int k, IntComparator comparator) {
+        this.items = new int[Math.max(0, k)];
+        this.comparator = comparator;
+    }
+
+    public void offer(int item) {
+        int k = items.length;
+        if (k == 0 || (size == k && comparator.compare(item, items[size - 1]) >= 0)) {
+            return;
+        }
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(items[mid], item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int moved = Math.min(size, k - 1) - low;
+        System.arraycopy(items, low, items, low + 1, moved);
+        items[low] = item;
+        if (size < k) {
+            size++;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(int i) {
+        return items[i];
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory;
+
+import java.util.Arrays;
+
+/**
+ * Reusable breadth-first search state. Visited marks are epoch stamped, so
+ * starting a new traversal does not clear the per-vertex arrays.
+ */
+public class Traversal {
+
+    private int[] queue = new int[64];
+    private int[] distance = new int[0];
+    private int[] seen = new int[0];
+    private int epoch;
+    private int size;
+
+    /**
+     * Level-synchronous BFS from {@code start} over {@code adjacency}. Vertices further than
+     * {@code maxDepth} hops are not discovered. If {@code target} is reached, the level containing
+     * it is completed and the search stops.
+     *
+     * @return number of discovered vertices, including the start vertex
+     */
+    public int run(Adjacency adjacency, int vertexCount, int start, int maxDepth, int target) {
+        begin(vertexCount);
+        visit(start, 0);
+        int targetDistance = start == target ? 0 : -1;
+        for (int head = 0; head < size; head++) {
+            int vertex = queue[head];
+            int depth = distance[vertex];
+            if (depth >= maxDepth || (targetDistance >= 0 && depth >= targetDistance)) {
+                break;
+            }
+            int degree = adjacency.degree(vertex);
+            for (int i = 0; i < degree; i++) {
+                int next = adjacency.target(vertex, i);
+                if (seen[next] != epoch) {
+                    visit(next, depth + 1);
+                    if (next == target) {
+                        targetDistance = depth + 1;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int vertex(int i) {
+        return queue[i];
+    }
+
+    public boolean visited(int vertex) {
+        return vertex < seen.length && seen[vertex] == epoch;
+    }
+
+    /**
+     * @return hop distance of a discovered vertex, -1 if it was not discovered
+     */
+    public int distance(int vertex) {
+        return visited(vertex) ? distance[vertex] : -1;
+    }
+
+    private void begin(int vertexCount) {
+        if (seen.length < vertexCount) {
+            int capacity = Math.max(vertexCount, seen.length + (seen.length >> 1));
+            seen = Arrays.copyOf(seen, capacity);
+            distance = Arrays.copyOf(distance, capacity);
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(seen, 0);
+            epoch = 1;
+        }
+        size = 0;
+    }
+
+    private void visit(int vertex, int depth) {
+        if (size == queue.length) {
+            queue = Arrays.copyOf(queue, size * 2);
+        }
+        queue[size++] = vertex;
+        seen[vertex] = epoch;
+        distance[vertex] = depth;
+    }
+
+}
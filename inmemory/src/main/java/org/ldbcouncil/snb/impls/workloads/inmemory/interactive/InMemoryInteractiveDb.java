@@ -0,0 +1,77 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory.interactive;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery10;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery11;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery12;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery14;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery3;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery4;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery5;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery6;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery7;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery8;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery9;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery1PersonProfile;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery2PersonPosts;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery3PersonFriends;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery4MessageContent;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery5MessageCreator;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery6MessageForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcShortQuery7MessageReplies;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate2AddPostLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate3AddCommentLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate4AddForum;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate5AddForumMembership;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate6AddPost;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate7AddComment;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate8AddFriendship;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryDb;
+
+import java.util.Map;
+
+public class InMemoryInteractiveDb extends InMemoryDb {
+
+    @Override
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
+        super.initialize(properties, loggingService);
+
+        registerHandler(LdbcQuery1.class, Query1.class);
+        registerHandler(LdbcQuery2.class, Query2.class);
+        registerHandler(LdbcQuery3.class, Query3.class);
+        registerHandler(LdbcQuery4.class, Query4.class);
+        registerHandler(LdbcQuery5.class, Query5.class);
+        registerHandler(LdbcQuery6.class, Query6.class);
+        registerHandler(LdbcQuery7.class, Query7.class);
+        registerHandler(LdbcQuery8.class, Query8.class);
+        registerHandler(LdbcQuery9.class, Query9.class);
+        registerHandler(LdbcQuery10.class, Query10.class);
+        registerHandler(LdbcQuery11.class, Query11.class);
+        registerHandler(LdbcQuery12.class, Query12.class);
+        registerHandler(LdbcQuery13.class, Query13.class);
+        registerHandler(LdbcQuery14.class, Query14.class);
+
+        registerHandler(LdbcShortQuery1PersonProfile.class, ShortQuery1PersonProfile.class);
+        registerHandler(LdbcShortQuery2PersonPosts.class, ShortQuery2PersonPosts.class);
+        registerHandler(LdbcShortQuery3PersonFriends.class, ShortQuery3PersonFriends.class);
+        registerHandler(LdbcShortQuery4MessageContent.class, ShortQuery4MessageContent.class);
+        registerHandler(LdbcShortQuery5MessageCreator.class, ShortQuery5MessageCreator.class);
+        registerHandler(LdbcShortQuery6MessageForum.class, ShortQuery6MessageForum.class);
+        registerHandler(LdbcShortQuery7MessageReplies.class, ShortQuery7MessageReplies.class);
+
+        registerHandler(LdbcUpdate1AddPerson.class, Update1AddPerson.class);
+        registerHandler(LdbcUpdate2AddPostLike.class, Update2AddPostLike.class);
+        registerHandler(LdbcUpdate3AddCommentLike.class, Update3AddCommentLike.class);
+        registerHandler(LdbcUpdate4AddForum.class, Update4AddForum.class);
+        registerHandler(LdbcUpdate5AddForumMembership.class, Update5AddForumMembership.class);
+        registerHandler(LdbcUpdate6AddPost.class, Update6AddPost.class);
+        registerHandler(LdbcUpdate7AddComment.class, Update7AddComment.class);
+        registerHandler(LdbcUpdate8AddFriendship.class, Update8AddFriendship.class);
+    }
+
+}
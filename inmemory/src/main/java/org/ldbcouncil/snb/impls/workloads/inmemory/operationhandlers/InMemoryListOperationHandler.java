@@ -0,0 +1,67 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryGraph;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+public abstract class InMemoryListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
+        implements ListOperationHandler<TOperationResult, TOperation, InMemoryDbConnectionState> {
+
+    @Override
+    public void executeOperation(TOperation operation, InMemoryDbConnectionState state,
+                                 ResultReporter resultReporter) throws DbException {
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isLogQueries()) {
+                state.logQuery(operation.getClass().getSimpleName(), getQueryString(state, operation));
+            }
+
+            InMemoryGraph graph = state.getGraph();
+            List<TOperationResult> results;
+            Lock lock = graph.readLock();
+            lock.lock();
+            probe.connectionAcquired();
+            try {
+                results = execute(graph, operation);
+            } catch (RuntimeException e) {
+                throw new DbException(e);
+            } finally {
+                lock.unlock();
+            }
+
+            // the queries build their results in memory, so the sink only decides what is reported
+            ResultSink<TOperationResult> sink = state.newResultSink(results.size());
+            for (TOperationResult tuple : results) {
+                if (sink.isMaterialized()) {
+                    if (state.isPrintResults()) {
+                        System.out.println(tuple.toString());
+                    }
+                    sink.add(tuple);
+                } else {
+                    sink.addRow();
+                    if (sink.isChecksummed()) {
+                        // the result classes of the driver do not all implement hashCode, but their toString
+                        sink.addValue(tuple.toString());
+                    }
+                }
+            }
+            probe.succeeded(sink.getCount());
+            sink.report(resultReporter, operation);
+        }
+    }
+
+    @Override
+    public String getQueryString(InMemoryDbConnectionState state, TOperation operation) {
+        return operation.toString();
+    }
+
+    public abstract List<TOperationResult> execute(InMemoryGraph graph, TOperation operation);
+
+}
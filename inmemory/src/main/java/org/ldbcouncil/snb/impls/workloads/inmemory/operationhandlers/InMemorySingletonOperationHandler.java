@@ -0,0 +1,59 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryGraph;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
+
+import java.util.concurrent.locks.Lock;
+
+public abstract class InMemorySingletonOperationHandler<TOperation extends Operation<TOperationResult>, TOperationResult>
+        implements SingletonOperationHandler<TOperationResult, TOperation, InMemoryDbConnectionState> {
+
+    @Override
+    public void executeOperation(TOperation operation, InMemoryDbConnectionState state,
+                                 ResultReporter resultReporter) throws DbException {
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isLogQueries()) {
+                state.logQuery(operation.getClass().getSimpleName(), getQueryString(state, operation));
+            }
+
+            InMemoryGraph graph = state.getGraph();
+            TOperationResult tuple;
+            Lock lock = graph.readLock();
+            lock.lock();
+            probe.connectionAcquired();
+            try {
+                tuple = execute(graph, operation);
+            } catch (RuntimeException e) {
+                throw new DbException(e);
+            } finally {
+                lock.unlock();
+            }
+
+            int resultCount = 0;
+            if (tuple != null) {
+                resultCount++;
+                if (state.isPrintResults()) {
+                    System.out.println(tuple.toString());
+                }
+            }
+            probe.succeeded(resultCount);
+            resultReporter.report(resultCount, tuple, operation);
+        }
+    }
+
+    @Override
+    public String getQueryString(InMemoryDbConnectionState state, TOperation operation) {
+        return operation.toString();
+    }
+
+    /**
+     * @return the result, or null if the operation does not match anything
+     */
+    public abstract TOperationResult execute(InMemoryGraph graph, TOperation operation);
+
+}
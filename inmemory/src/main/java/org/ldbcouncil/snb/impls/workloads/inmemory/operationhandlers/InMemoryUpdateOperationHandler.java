@@ -0,0 +1,48 @@
+package org.ldbcouncil.snb.impls.workloads.inmemory.operationhandlers;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.inmemory.InMemoryGraph;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
+
+import java.util.concurrent.locks.Lock;
+
+public abstract class InMemoryUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
+        implements UpdateOperationHandler<TOperation, InMemoryDbConnectionState> {
+
+    @Override
+    public void executeOperation(TOperation operation, InMemoryDbConnectionState state,
+                                 ResultReporter resultReporter) throws DbException {
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isLogQueries()) {
+                state.logQuery(operation.getClass().getSimpleName(), getQueryString(state, operation));
+            }
+
+            InMemoryGraph graph = state.getGraph();
+            Lock lock = graph.writeLock();
+            lock.lock();
+            probe.connectionAcquired();
+            try {
+                execute(graph, operation);
+            } catch (RuntimeException e) {
+                throw new DbException(e);
+            } finally {
+                lock.unlock();
+            }
+            probe.succeeded(0);
+            resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
+        }
+    }
+
+    @Override
+    public String getQueryString(InMemoryDbConnectionState state, TOperation operation) {
+        return operation.toString();
+    }
+
+    public abstract void execute(InMemoryGraph graph, TOperation operation);
+
+}
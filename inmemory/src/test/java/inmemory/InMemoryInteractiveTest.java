@@ -0,0 +1,26 @@
+package inmemory;
+
+import org.ldbcouncil.snb.impls.workloads.inmemory.interactive.InMemoryInteractiveDb;
+import org.ldbcouncil.snb.impls.workloads.interactive.InteractiveTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryInteractiveTest extends InteractiveTest {
+
+    public InMemoryInteractiveTest() {
+        super(new InMemoryInteractiveDb());
+    }
+
+    String dataDir = "../postgres/test-data";
+
+    public Map<String, String> getProperties() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("printQueryNames", "true");
+        properties.put("printQueryStrings", "true");
+        properties.put("printQueryResults", "true");
+        properties.put("dataDir", dataDir);
+        return properties;
+    }
+
+}
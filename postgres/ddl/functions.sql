@@ -0,0 +1,113 @@
+-- Server-side implementations of IC13 and IC14, used with ic13Implementation=function and ic14Implementation=function.
+-- The visited sets are kept in session-local temporary tables (created on first use, emptied on commit),
+-- so the traversal state is a hash-indexed set instead of a path array carried along every row.
+
+-- IC13: length of the shortest path between two persons, 0 if they are the same person, -1 if unreachable
+CREATE OR REPLACE FUNCTION ic13_shortest_path(p_person1id bigint, p_person2id bigint)
+RETURNS int AS $$
+DECLARE
+    v_depth int := 0;
+    v_frontier bigint[];
+BEGIN
+    IF p_person1id = p_person2id THEN
+        RETURN 0;
+    END IF;
+    IF to_regclass('pg_temp.ic13_visited') IS NULL THEN
+        CREATE TEMPORARY TABLE ic13_visited (vis_personid bigint PRIMARY KEY) ON COMMIT DELETE ROWS;
+    END IF;
+    TRUNCATE ic13_visited;
+
+    INSERT INTO ic13_visited VALUES (p_person1id);
+    v_frontier := ARRAY[p_person1id];
+    LOOP
+        v_depth := v_depth + 1;
+        WITH reached AS (
+            INSERT INTO ic13_visited (vis_personid)
+            SELECT DISTINCT k_person2id FROM knows WHERE k_person1id = ANY(v_frontier)
+            ON CONFLICT (vis_personid) DO NOTHING
+            RETURNING vis_personid
+        )
+        SELECT array_agg(vis_personid) INTO v_frontier FROM reached;
+        IF v_frontier IS NULL THEN
+            RETURN -1;
+        END IF;
+        IF p_person2id = ANY(v_frontier) THEN
+            RETURN v_depth;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- IC14: all shortest paths between two persons (as person id arrays) with their interaction weights, heaviest first,
+-- the single path of no edges and weight 0 if they are the same person
+CREATE OR REPLACE FUNCTION ic14_trusted_paths(p_person1id bigint, p_person2id bigint)
+RETURNS TABLE (trusted_path bigint[], path_weight double precision) AS $$
+DECLARE
+    v_depth int := 0;
+    v_frontier bigint[];
+BEGIN
+    IF p_person1id = p_person2id THEN
+        RETURN QUERY SELECT ARRAY[p_person1id], 0.0::double precision;
+        RETURN;
+    END IF;
+    IF to_regclass('pg_temp.ic14_visited') IS NULL THEN
+        CREATE TEMPORARY TABLE ic14_visited (vis_personid bigint PRIMARY KEY, vis_depth int NOT NULL) ON COMMIT DELETE ROWS;
+        CREATE TEMPORARY TABLE ic14_edge (e_src bigint, e_dst bigint, e_weight double precision, PRIMARY KEY (e_src, e_dst)) ON COMMIT DELETE ROWS;
+    END IF;
+    TRUNCATE ic14_visited, ic14_edge;
+
+    -- breadth-first search from person1 until person2 is reached, recording the depth of every visited person
+    INSERT INTO ic14_visited VALUES (p_person1id, 0);
+    v_frontier := ARRAY[p_person1id];
+    LOOP
+        v_depth := v_depth + 1;
+        WITH reached AS (
+            INSERT INTO ic14_visited (vis_personid, vis_depth)
+            SELECT DISTINCT k_person2id, v_depth FROM knows WHERE k_person1id = ANY(v_frontier)
+            ON CONFLICT (vis_personid) DO NOTHING
+            RETURNING ic14_visited.vis_personid
+        )
+        SELECT array_agg(reached.vis_personid) INTO v_frontier FROM reached;
+        IF v_frontier IS NULL THEN
+            RETURN;
+        END IF;
+        EXIT WHEN p_person2id = ANY(v_frontier);
+    END LOOP;
+
+    -- walk back from person2 to collect the edges of the shortest path DAG
+    INSERT INTO ic14_edge (e_src, e_dst)
+    WITH RECURSIVE dag(src, dst) AS (
+        SELECT k_person1id, k_person2id
+        FROM knows JOIN ic14_visited ON ic14_visited.vis_personid = k_person1id
+        WHERE k_person2id = p_person2id AND ic14_visited.vis_depth = v_depth - 1
+      UNION
+        SELECT k_person1id, k_person2id
+        FROM dag
+        JOIN knows ON k_person2id = dag.src
+        JOIN ic14_visited pred ON pred.vis_personid = k_person1id
+        JOIN ic14_visited succ ON succ.vis_personid = dag.src AND pred.vis_depth = succ.vis_depth - 1
+    )
+    SELECT src, dst FROM dag;
+
+    -- score every edge once: 1.0 per reply to a post, 0.5 per reply to a comment, in either direction
+    UPDATE ic14_edge SET e_weight = (
+        SELECT count(*) FILTER (WHERE m1.m_c_replyof IS NULL) + 0.5 * count(*) FILTER (WHERE m1.m_c_replyof IS NOT NULL)
+        FROM message m1 JOIN message m2 ON m2.m_c_replyof = m1.m_messageid
+        WHERE m1.m_creatorid = e_src AND m2.m_creatorid = e_dst
+    ) + (
+        SELECT count(*) FILTER (WHERE m1.m_c_replyof IS NULL) + 0.5 * count(*) FILTER (WHERE m1.m_c_replyof IS NOT NULL)
+        FROM message m1 JOIN message m2 ON m2.m_c_replyof = m1.m_messageid
+        WHERE m1.m_creatorid = e_dst AND m2.m_creatorid = e_src
+    );
+
+    RETURN QUERY
+    WITH RECURSIVE paths(personid, path, weight) AS (
+        SELECT p_person1id, ARRAY[p_person1id], 0.0::double precision
+      UNION ALL
+        SELECT e_dst, paths.path || e_dst, paths.weight + e_weight
+        FROM paths JOIN ic14_edge ON e_src = paths.personid
+    )
+    SELECT paths.path, paths.weight FROM paths WHERE paths.personid = p_person2id
+    ORDER BY paths.weight DESC;
+END;
+$$ LANGUAGE plpgsql;
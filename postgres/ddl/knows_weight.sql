@@ -0,0 +1,19 @@
+-- Interaction weights between persons, used by IC14 with ic14Implementation=knows_weight.
+-- A reply to a post scores 1.0 and a reply to a comment scores 0.5, in both directions of the pair.
+-- The table is kept current by the Update7AddComment handler in that mode.
+DROP TABLE IF EXISTS knows_weight;
+
+CREATE TABLE knows_weight AS
+    SELECT person1id AS kw_person1id, person2id AS kw_person2id, sum(score)::double precision AS kw_score
+    FROM (
+        SELECT parent.m_creatorid AS person1id, reply.m_creatorid AS person2id, CASE WHEN parent.m_c_replyof IS NULL THEN 1.0 ELSE 0.5 END AS score
+        FROM message parent JOIN message reply ON reply.m_c_replyof = parent.m_messageid
+        WHERE parent.m_creatorid <> reply.m_creatorid
+        UNION ALL
+        SELECT reply.m_creatorid AS person1id, parent.m_creatorid AS person2id, CASE WHEN parent.m_c_replyof IS NULL THEN 1.0 ELSE 0.5 END AS score
+        FROM message parent JOIN message reply ON reply.m_c_replyof = parent.m_messageid
+        WHERE parent.m_creatorid <> reply.m_creatorid
+    ) interactions
+    GROUP BY person1id, person2id;
+
+ALTER TABLE knows_weight ADD PRIMARY KEY (kw_person1id, kw_person2id);
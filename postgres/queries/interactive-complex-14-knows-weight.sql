@@ -0,0 +1,40 @@
+/* Q14. Trusted connection paths, with the interaction weights looked up in knows_weight (see ddl/knows_weight.sql)
+\set person1Id 8796093022357
+\set person2Id 8796093022390
+ */
+WITH start_node(v) AS (
+    SELECT :person1Id::bigint
+)
+select * from (
+    WITH RECURSIVE
+    search_graph(link, depth, path) AS (
+            (SELECT v::bigint, 0, ARRAY[]::bigint[][] from start_node)
+          UNION ALL
+            (WITH sg(link, depth) as (select * from search_graph)
+            SELECT distinct k_person2id, x.depth + 1, path || ARRAY[[x.link, k_person2id]]
+            FROM knows, sg x
+            WHERE x.link = k_person1id and not exists(select * from sg y where y.link = :person2Id::bigint) and not exists(select * from sg y where y.link=k_person2id)
+            )
+    ),
+    paths(pid, path) AS (
+        SELECT row_number() OVER (), path FROM search_graph where link = :person2Id::bigint
+    ),
+    edges(id, e) AS (
+        SELECT pid, array_agg(path[d1][d2])
+        FROM paths, generate_subscripts(path, 1) d1, generate_subscripts(path, 2) d2
+        GROUP BY pid, d1
+    ),
+    unique_edges(e) AS (
+        SELECT DISTINCT e from edges
+    ),
+    weights(we, score) as (
+        select e, kw_score from unique_edges, knows_weight where kw_person1id = e[1] and kw_person2id = e[2]
+    ),
+    weightedpaths(path, score) as (
+        select path, coalesce(sum(score), 0) from paths left join edges on pid=id left join weights on we=e group by pid, path
+    )
+    -- the path from a person to itself has no edges, so it is returned as the one-dimensional array of its person
+    select case when cardinality(path) = 0 then array[:person1Id::bigint] else path end as path, score
+    from weightedpaths order by score desc)
+x  order by score desc;
+;
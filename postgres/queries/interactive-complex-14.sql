@@ -42,8 +42,10 @@ select * from (
         group by e
     ),
     weightedpaths(path, score) as (
-        select path, coalesce(sum(score), 0) from paths, edges left join weights on we=e where pid=id group by id, path
+        select path, coalesce(sum(score), 0) from paths left join edges on pid=id left join weights on we=e group by pid, path
     )
-    select path, score from weightedpaths order by score desc)
+    -- the path from a person to itself has no edges, so it is returned as the one-dimensional array of its person
+    select case when cardinality(path) = 0 then array[:person1Id::bigint] else path end as path, score
+    from weightedpaths order by score desc)
 x  order by score desc;
 ;
@@ -13,6 +13,7 @@ class PostgresDbLoader():
         self.port = int(os.environ.get("POSTGRES_PORT", 5432))
         self.user = os.environ.get("POSTGRES_USER", "postgres")
         self.password = os.environ.get("POSTGRES_PASSWORD", "mysecretpassword")
+        self.knows_weight = os.environ.get("POSTGRES_KNOWS_WEIGHT", "false") == "true"
 
 
     def run_script(self, conn, filename):
@@ -41,6 +42,18 @@ class PostgresDbLoader():
                 raise
 
 
+    def run_script_as_single_statement(self, conn, filename):
+        # function bodies contain semicolons, so the file cannot be split into statements
+        with open(filename, "r") as f:
+            print(f"Installing {filename} ...")
+            start = time.time()
+            conn.cursor().execute(f.read())
+            conn.commit()
+            end = time.time()
+            duration = end - start
+            print(f"-> {duration:.4f} seconds")
+
+
     def vacuum(self, conn):
         conn.autocommit=True
         conn.cursor().execute("ANALYZE")
@@ -63,6 +76,13 @@ class PostgresDbLoader():
             self.run_script(conn, "ddl/schema_constraints.sql")
             self.run_script(conn, "ddl/schema_foreign_keys.sql")
 
+            if self.knows_weight:
+                print("Creating knows_weight table")
+                self.run_script(conn, "ddl/knows_weight.sql")
+
+            print("Installing functions")
+            self.run_script_as_single_statement(conn, "ddl/functions.sql")
+
             print("Vacuuming")
             self.vacuum(conn)
             conn.commit()
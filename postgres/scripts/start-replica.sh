@@ -0,0 +1,69 @@
+#!/bin/bash
+
+# Starts a streaming replica of the running Postgres container, e.g. for testing the read routing
+# (replicaEndpoints=jdbc:postgresql://localhost:5433/ldbcsnb in the driver's properties file).
+
+set -eu
+set -o pipefail
+
+cd "$( cd "$( dirname "${BASH_SOURCE[0]}" )" >/dev/null 2>&1 && pwd )"
+cd ..
+
+. scripts/vars.sh
+
+POSTGRES_REPLICA_CONTAINER_NAME=${POSTGRES_REPLICA_CONTAINER_NAME:-${POSTGRES_CONTAINER_NAME}-replica}
+POSTGRES_REPLICA_DATA_DIR=${POSTGRES_REPLICA_DATA_DIR:-`pwd`/scratch/replica-data}
+POSTGRES_REPLICA_PORT=${POSTGRES_REPLICA_PORT:-5433}
+
+docker rm -f ${POSTGRES_REPLICA_CONTAINER_NAME} || echo "No container ${POSTGRES_REPLICA_CONTAINER_NAME} found"
+
+echo "==============================================================================="
+echo "Starting Postgres replica container"
+echo "-------------------------------------------------------------------------------"
+echo "POSTGRES_VERSION: ${POSTGRES_VERSION}"
+echo "POSTGRES_CONTAINER_NAME (primary): ${POSTGRES_CONTAINER_NAME}"
+echo "POSTGRES_REPLICA_CONTAINER_NAME: ${POSTGRES_REPLICA_CONTAINER_NAME}"
+echo "POSTGRES_REPLICA_DATA_DIR: ${POSTGRES_REPLICA_DATA_DIR}"
+echo "POSTGRES_REPLICA_PORT: ${POSTGRES_REPLICA_PORT}"
+echo "==============================================================================="
+
+# allow replication connections from other containers
+docker exec ${POSTGRES_CONTAINER_NAME} bash -c \
+    "grep -q '^host replication all all' /var/lib/postgresql/data/pg_hba.conf || echo 'host replication all all scram-sha-256' >> /var/lib/postgresql/data/pg_hba.conf"
+docker exec ${POSTGRES_CONTAINER_NAME} psql -U ${POSTGRES_USER} -c "SELECT pg_reload_conf()" 1>/dev/null
+
+PRIMARY_HOST=$(docker inspect -f '{{range .NetworkSettings.Networks}}{{.IPAddress}}{{end}}' ${POSTGRES_CONTAINER_NAME})
+
+# copy the primary's data directory, -R configures the copy as a standby of the primary
+rm -rf "${POSTGRES_REPLICA_DATA_DIR}"
+mkdir -p "${POSTGRES_REPLICA_DATA_DIR}"
+chmod 700 "${POSTGRES_REPLICA_DATA_DIR}"
+docker run --rm \
+    --user "$(id -u):$(id -g)" \
+    ${POSTGRES_DOCKER_PLATFORM_FLAG} \
+    --env PGPASSWORD=${POSTGRES_PASSWORD} \
+    --volume=${POSTGRES_REPLICA_DATA_DIR}:/var/lib/postgresql/data:z \
+    postgres:${POSTGRES_VERSION} \
+    pg_basebackup --host=${PRIMARY_HOST} --username=${POSTGRES_USER} --pgdata=/var/lib/postgresql/data --wal-method=stream --write-recovery-conf
+
+docker run \
+    --user "$(id -u):$(id -g)" \
+    --publish=${POSTGRES_REPLICA_PORT}:5432 \
+    ${POSTGRES_DOCKER_PLATFORM_FLAG} \
+    --name ${POSTGRES_REPLICA_CONTAINER_NAME} \
+    --volume=${POSTGRES_REPLICA_DATA_DIR}:/var/lib/postgresql/data:z \
+    --detach \
+    postgres:${POSTGRES_VERSION}
+
+echo -n "Waiting for the replica to start ."
+until POSTGRES_PORT=${POSTGRES_REPLICA_PORT} python3 scripts/test-db-connection.py 1>/dev/null 2>&1; do
+    docker ps | grep ${POSTGRES_REPLICA_CONTAINER_NAME} 1>/dev/null 2>&1 || (
+        echo
+        echo "Container lost."
+        exit 1
+    )
+    echo -n " ."
+    sleep 1
+done
+echo
+echo "Replica started"
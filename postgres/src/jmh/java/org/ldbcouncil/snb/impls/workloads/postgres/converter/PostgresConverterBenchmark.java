@@ -0,0 +1,105 @@
+package org.ldbcouncil.snb.impls.workloads.postgres.converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery1Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converting the array columns of the JDBC driver (the emails and languages of IC1, the organisations of IC1 and
+ * the path of IC14) into result fields: PostgresConverter against the element-by-element copies it replaced.
+ * Run with -prof gc to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostgresConverterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Columns {
+        String[] emails;
+        Object[][] organizations;
+        Object[][] pathEdges;
+
+        @Setup
+        public void setUp() {
+            emails = new String[]{"Jan16@gmx.com", "Jan16@yahoo.com", "Jan16@zoho.com"};
+            organizations = new Object[][]{
+                    {"University_of_Amsterdam", "2005", "Amsterdam"},
+                    {"Koninklijke_Philips", "2009", "Netherlands"},
+                    {"ING_Group", "2012", "Netherlands"}};
+            pathEdges = new Object[5][];
+            for (int i = 0; i < pathEdges.length; i++) {
+                pathEdges[i] = new Object[]{933L + i * 1_000_000_000L, 933L + (i + 1) * 1_000_000_000L};
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> stringList(Columns columns) {
+        return PostgresConverter.stringList(columns.emails);
+    }
+
+    @Benchmark
+    public List<String> copiedStringList(Columns columns) {
+        String[] strs = columns.emails;
+        List<String> array = new ArrayList<>();
+        for (int i = 0; i < strs.length; i++) {
+            array.add(strs[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public List<LdbcQuery1Result.Organization> organizationList(Columns columns) {
+        return PostgresConverter.organizationList(columns.organizations);
+    }
+
+    @Benchmark
+    public List<LdbcQuery1Result.Organization> copiedOrganizationList(Columns columns) {
+        Object[][] strs = columns.organizations;
+        List<LdbcQuery1Result.Organization> array = new ArrayList<>();
+        for (int i = 0; i < strs.length; i++) {
+            array.add(new LdbcQuery1Result.Organization((String) strs[i][0], Integer.parseInt((String) strs[i][1]), (String) strs[i][2]));
+        }
+        return array;
+    }
+
+    @Benchmark
+    public List<Long> path(Columns columns) {
+        return PostgresConverter.path(columns.pathEdges);
+    }
+
+    /**
+     * The edges were copied into lists (arrayToObjectArray) before their ids were collected (convertLists).
+     */
+    @Benchmark
+    public List<Long> copiedPath(Columns columns) {
+        Object[][] strs = columns.pathEdges;
+        List<List<Object>> edges = new ArrayList<>();
+        for (int i = 0; i < strs.length; i++) {
+            edges.add(new ArrayList<>(Arrays.asList(strs[i])));
+        }
+        List<Long> path = new ArrayList<>();
+        for (List<Object> entry : edges) {
+            path.add((Long) entry.get(0));
+        }
+        path.add((Long) edges.get(edges.size() - 1).get(1));
+        return path;
+    }
+
+}
@@ -6,6 +6,7 @@ import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.workloads.interactive.*;
 import org.ldbcouncil.snb.impls.workloads.QueryType;
 import org.ldbcouncil.snb.impls.workloads.db.BaseDb;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.postgres.converter.PostgresConverter;
 import org.ldbcouncil.snb.impls.workloads.postgres.operationhandlers.PostgresListOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.postgres.operationhandlers.PostgresMultipleUpdateOperationHandler;
@@ -16,6 +17,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,9 +29,12 @@ import com.google.common.collect.ImmutableList;
 public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
 
     @Override
-    protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
         try {
-            dcs = new PostgresDbConnectionState(properties, new PostgresQueryStore(properties.get("queryDir")));
+            PostgresQueryStore queryStore = new PostgresQueryStore(properties.get("queryDir"));
+            dcs = properties.containsKey("replicaEndpoints")
+                    ? new PostgresRoutingDbConnectionState(properties, queryStore)
+                    : new PostgresDbConnectionState(properties, queryStore);
         } catch (ClassNotFoundException e) {
             throw new DbException(e);
         }
@@ -283,6 +291,109 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
 
     }
 
+    /**
+     * Alternative IC13 implementation (ic13Implementation=bfs) which runs a bidirectional BFS on the client.
+     * Both frontiers are expanded level by level, always the smaller one first, with a single batched
+     * lookup on the knows table per level. The search stops at the first level where the frontiers meet.
+     */
+    public static class Query13BidirectionalBfs extends PostgresSingletonOperationHandler<LdbcQuery13, LdbcQuery13Result> {
+
+        private static final String EXPAND_FRONTIER = "SELECT DISTINCT k_person2id FROM knows WHERE k_person1id = ANY(?)";
+
+        @Override
+        public void executeOperation(LdbcQuery13 operation, PostgresDbConnectionState state, ResultReporter resultReporter) throws DbException {
+            try (OperationProbe probe = state.startOperation(operation)) {
+                LdbcQuery13Result tuple;
+                state.logQuery(operation.getClass().getSimpleName(), EXPAND_FRONTIER);
+                probe.rendered(EXPAND_FRONTIER);
+                try (Connection conn = state.getReadConnection();
+                     PreparedStatement stmt = conn.prepareStatement(EXPAND_FRONTIER)) {
+                    probe.connectionAcquired();
+                    tuple = new LdbcQuery13Result(shortestPathLength(conn, stmt,
+                            operation.getPerson1IdQ13StartNode(), operation.getPerson2IdQ13EndNode()));
+                } catch (SQLException e) {
+                    throw new DbException(e);
+                }
+                if (state.isPrintResults()) {
+                    System.out.println(tuple.toString());
+                }
+                probe.succeeded(1);
+                resultReporter.report(1, tuple, operation);
+            }
+        }
+
+        private int shortestPathLength(Connection conn, PreparedStatement stmt, long person1Id, long person2Id) throws SQLException {
+            if (person1Id == person2Id) {
+                return 0;
+            }
+            Map<Long, Integer> forwardDistances = new HashMap<>();
+            Map<Long, Integer> backwardDistances = new HashMap<>();
+            forwardDistances.put(person1Id, 0);
+            backwardDistances.put(person2Id, 0);
+            List<Long> forwardFrontier = Collections.singletonList(person1Id);
+            List<Long> backwardFrontier = Collections.singletonList(person2Id);
+
+            while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+                boolean forward = forwardFrontier.size() <= backwardFrontier.size();
+                List<Long> frontier = forward ? forwardFrontier : backwardFrontier;
+                Map<Long, Integer> distances = forward ? forwardDistances : backwardDistances;
+                Map<Long, Integer> otherDistances = forward ? backwardDistances : forwardDistances;
+                int depth = distances.get(frontier.get(0)) + 1;
+
+                int shortest = Integer.MAX_VALUE;
+                List<Long> next = new ArrayList<>();
+                stmt.setArray(1, conn.createArrayOf("bigint", frontier.toArray()));
+                try (ResultSet result = stmt.executeQuery()) {
+                    while (result.next()) {
+                        long personId = result.getLong(1);
+                        Integer otherDepth = otherDistances.get(personId);
+                        if (otherDepth != null) {
+                            shortest = Math.min(shortest, depth + otherDepth);
+                        } else if (!distances.containsKey(personId)) {
+                            distances.put(personId, depth);
+                            next.add(personId);
+                        }
+                    }
+                }
+                if (shortest != Integer.MAX_VALUE) {
+                    return shortest;
+                }
+                if (forward) {
+                    forwardFrontier = next;
+                } else {
+                    backwardFrontier = next;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getQueryString(PostgresDbConnectionState state, LdbcQuery13 operation) {
+            return EXPAND_FRONTIER;
+        }
+
+        @Override
+        public LdbcQuery13Result convertSingleResult(ResultSet result) throws SQLException {
+            return new LdbcQuery13Result(result.getInt(1));
+        }
+
+    }
+
+    /**
+     * Alternative IC13 implementation (ic13Implementation=function) which calls the ic13_shortest_path
+     * PL/pgSQL function installed by the loader (see ddl/functions.sql).
+     */
+    public static class Query13Function extends Query13 {
+
+        private static final String QUERY = "SELECT ic13_shortest_path(:person1Id, :person2Id)";
+
+        @Override
+        public String getQueryString(PostgresDbConnectionState state, LdbcQuery13 operation) {
+            return QUERY;
+        }
+
+    }
+
     public static class Query14 extends PostgresListOperationHandler<LdbcQuery14, LdbcQuery14Result> {
 
         @Override
@@ -293,7 +404,43 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
         @Override
         public LdbcQuery14Result convertSingleResult(ResultSet result) throws SQLException {
             return new LdbcQuery14Result(
-                    PostgresConverter.convertLists(PostgresConverter.arrayToObjectArray(result, 1)),
+                    PostgresConverter.arrayToPath(result, 1),
+                    result.getDouble(2));
+        }
+
+    }
+
+    /**
+     * Alternative IC14 implementation (ic14Implementation=knows_weight) which looks up the interaction weights
+     * in the knows_weight table built by the loader (see ddl/knows_weight.sql) instead of computing them.
+     */
+    public static class Query14KnowsWeight extends Query14 {
+
+        @Override
+        public String getQueryString(PostgresDbConnectionState state, LdbcQuery14 operation) {
+            return ((PostgresQueryStore) state.getQueryStore()).getParameterizedQueryVariant(QueryType.InteractiveComplexQuery14, "knows-weight");
+        }
+
+    }
+
+    /**
+     * Alternative IC14 implementation (ic14Implementation=function) which calls the ic14_trusted_paths
+     * PL/pgSQL function installed by the loader (see ddl/functions.sql). The function returns the paths
+     * as one-dimensional arrays of person ids.
+     */
+    public static class Query14Function extends Query14 {
+
+        private static final String QUERY = "SELECT * FROM ic14_trusted_paths(:person1Id, :person2Id)";
+
+        @Override
+        public String getQueryString(PostgresDbConnectionState state, LdbcQuery14 operation) {
+            return QUERY;
+        }
+
+        @Override
+        public LdbcQuery14Result convertSingleResult(ResultSet result) throws SQLException {
+            return new LdbcQuery14Result(
+                    Arrays.asList((Long[]) result.getArray(1).getArray()),
                     result.getDouble(2));
         }
 
@@ -438,8 +585,9 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
 
         @Override
         public void executeOperation(LdbcUpdate1AddPerson operation, PostgresDbConnectionState state, ResultReporter resultReporter) throws DbException {
-            try {
-                Connection conn = state.getConnection();
+            try (OperationProbe probe = state.startOperation(operation)) {
+                Connection conn = state.getWriteConnection();
+                probe.connectionAcquired();
 
                 try {
                     // InteractiveUpdate1AddPerson
@@ -447,6 +595,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     replaceParameterNamesWithQuestionMarks(operation, queryStringAddPerson);
                     final PreparedStatement stmt1 = prepareAndSetParametersInPreparedStatement(operation, queryStringAddPerson, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPerson);
+                    probe.rendered(queryStringAddPerson);
                     stmt1.executeUpdate();
 
                     // InteractiveUpdate1AddPersonCompanies
@@ -454,6 +603,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     replaceParameterNamesWithQuestionMarks(operation, queryStringAddPersonCompanies, ImmutableList.of("organizationId", "worksFromYear"));
                     final PreparedStatement stmt2 = prepareSnbStatement(queryStringAddPersonCompanies, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPersonCompanies);
+                    probe.rendered(queryStringAddPersonCompanies);
                     stmt2.setLong(1, operation.getPersonId());
                     for (LdbcUpdate1AddPerson.Organization o : operation.getWorkAt()) {
                         stmt2.setLong(2, o.getOrganizationId());
@@ -466,6 +616,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     replaceParameterNamesWithQuestionMarks(operation, queryStringAddPersonEmails, ImmutableList.of("email"));
                     final PreparedStatement stmt3 = prepareSnbStatement(queryStringAddPersonEmails, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPersonEmails);
+                    probe.rendered(queryStringAddPersonEmails);
                     stmt3.setLong(1, operation.getPersonId());
                     for (String email : operation.getEmails()) {
                         stmt3.setString(2, email);
@@ -478,6 +629,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                             ImmutableList.of("language"));
                     final PreparedStatement stmt4 = prepareSnbStatement(queryStringAddPersonLanguages, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPersonLanguages);
+                    probe.rendered(queryStringAddPersonLanguages);
                     stmt4.setLong(1, operation.getPersonId());
                     for (String language : operation.getLanguages()) {
                         stmt4.setString(2, language);
@@ -489,6 +641,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     replaceParameterNamesWithQuestionMarks(operation, queryStringAddPersonTags, ImmutableList.of("tagId"));
                     final PreparedStatement stmt5 = prepareSnbStatement(queryStringAddPersonTags, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPersonTags);
+                    probe.rendered(queryStringAddPersonTags);
                     stmt5.setLong(1, operation.getPersonId());
                     for (long tagId : operation.getTagIds()) {
                         stmt5.setLong(2, tagId);
@@ -500,6 +653,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     replaceParameterNamesWithQuestionMarks(operation, queryStringAddPersonUniversities, ImmutableList.of("organizationId", "studiesFromYear"));
                     final PreparedStatement stmt6 = prepareSnbStatement(queryStringAddPersonUniversities, conn);
                     state.logQuery(operation.getClass().getSimpleName(), queryStringAddPersonUniversities);
+                    probe.rendered(queryStringAddPersonUniversities);
                     stmt6.setLong(1, operation.getPersonId());
                     for (LdbcUpdate1AddPerson.Organization o : operation.getStudyAt()) {
                         stmt6.setLong(2, o.getOrganizationId());
@@ -512,6 +666,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                 finally{
                     conn.close();
                 }
+                probe.succeeded(0);
             } catch (Exception e) {
                 throw new DbException(e);
             }
@@ -540,14 +695,16 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
 
         @Override
         public void executeOperation(LdbcUpdate4AddForum operation, PostgresDbConnectionState state, ResultReporter resultReporter) throws DbException {
-            try {
-                Connection conn = state.getConnection();
+            try (OperationProbe probe = state.startOperation(operation)) {
+                Connection conn = state.getWriteConnection();
+                probe.connectionAcquired();
                 // InteractiveUpdate4AddForum
                 String queryStringAddForum = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate4AddForum);
                 replaceParameterNamesWithQuestionMarks(operation, queryStringAddForum);
 
                 final PreparedStatement stmt1 = prepareAndSetParametersInPreparedStatement(operation, queryStringAddForum, conn);
                 state.logQuery(operation.getClass().getSimpleName(), queryStringAddForum);
+                probe.rendered(queryStringAddForum);
                 try {
 
                     stmt1.executeUpdate();
@@ -564,6 +721,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                 replaceParameterNamesWithQuestionMarks(operation, queryStringAddForumTags, ImmutableList.of("tagId"));
                 final PreparedStatement stmt2 = prepareSnbStatement(queryStringAddForumTags, conn);
                 state.logQuery(operation.getClass().getSimpleName(), queryStringAddForumTags);
+                probe.rendered(queryStringAddForumTags);
                 stmt2.setLong(1, operation.getForumId());
 
                 try {
@@ -580,6 +738,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     stmt2.close();
                     conn.close();
                 }
+                probe.succeeded(0);
             } catch (Exception e) {
                 throw new DbException(e);
             }
@@ -599,13 +758,15 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
     public static class Update6AddPost extends PostgresMultipleUpdateOperationHandler<LdbcUpdate6AddPost> {
         @Override
         public void executeOperation(LdbcUpdate6AddPost operation, PostgresDbConnectionState state, ResultReporter resultReporter) throws DbException {
-            try {
-                Connection conn = state.getConnection();
+            try (OperationProbe probe = state.startOperation(operation)) {
+                Connection conn = state.getWriteConnection();
+                probe.connectionAcquired();
                 String queryStringAddPost = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate6AddPost);
                 replaceParameterNamesWithQuestionMarks(operation, queryStringAddPost);
 
                 final PreparedStatement stmt1 = prepareAndSetParametersInPreparedStatement(operation, queryStringAddPost, conn);
                 state.logQuery(operation.getClass().getSimpleName(), queryStringAddPost);
+                probe.rendered(queryStringAddPost);
                 try {
                     // InteractiveUpdate6AddPost
                     stmt1.executeUpdate();
@@ -621,6 +782,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                 replaceParameterNamesWithQuestionMarks(operation, queryStringAddPostTags, ImmutableList.of("tagId"));
                 final PreparedStatement stmt2 = prepareSnbStatement(queryStringAddPostTags, conn);
                 state.logQuery(operation.getClass().getSimpleName(), queryStringAddPostTags);
+                probe.rendered(queryStringAddPostTags);
                 stmt2.setLong(1, operation.getPostId());
 
                 try{
@@ -635,6 +797,7 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
                     stmt2.close();
                     conn.close();
                 }
+                probe.succeeded(0);
         } catch (Exception e) {
             throw new DbException(e);
         }
@@ -646,47 +809,85 @@ public abstract class PostgresDb extends BaseDb<PostgresQueryStore> {
 
         @Override
         public void executeOperation(LdbcUpdate7AddComment operation, PostgresDbConnectionState state, ResultReporter resultReporter) throws DbException {
-            try {
-                Connection conn = state.getConnection();
-                // InteractiveUpdate7AddComment
-                String queryStringAddComment = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate7AddComment);
-                replaceParameterNamesWithQuestionMarks(operation, queryStringAddComment);
-                final PreparedStatement stmt1 = prepareAndSetParametersInPreparedStatement(operation, queryStringAddComment, conn);
-                state.logQuery(operation.getClass().getSimpleName(), queryStringAddComment);
-            try {
-
-                stmt1.executeUpdate();
-            } catch (Exception e) {
-                throw new DbException(e);
-            }
-            finally{
-                stmt1.close();
-            }
-            // InteractiveUpdate7AddCommentTags
-            String queryStringAddCommentTags = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate7AddCommentTags);
-            replaceParameterNamesWithQuestionMarks(operation, queryStringAddCommentTags, ImmutableList.of("tagId"));
-            final PreparedStatement stmt2 = prepareSnbStatement(queryStringAddCommentTags, conn);
-            state.logQuery(operation.getClass().getSimpleName(), queryStringAddCommentTags);
-            stmt2.setLong(1, operation.getCommentId());
-            try{
-
-                for (long tagId: operation.getTagIds()) {
-                    stmt2.setLong(2, tagId);
-                    stmt2.executeUpdate();
+            try (OperationProbe probe = state.startOperation(operation);
+                 Connection conn = state.getWriteConnection()) {
+                probe.connectionAcquired();
+                // the comment, its tags and the statements of subclasses are inserted in one transaction
+                conn.setAutoCommit(false);
+                try {
+                    executeBeforeInsert(operation, state, conn, probe);
+
+                    // InteractiveUpdate7AddComment
+                    String queryStringAddComment = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate7AddComment);
+                    replaceParameterNamesWithQuestionMarks(operation, queryStringAddComment);
+                    state.logQuery(operation.getClass().getSimpleName(), queryStringAddComment);
+                    probe.rendered(queryStringAddComment);
+                    try (PreparedStatement stmt1 = prepareAndSetParametersInPreparedStatement(operation, queryStringAddComment, conn)) {
+                        stmt1.executeUpdate();
+                    }
+
+                    // InteractiveUpdate7AddCommentTags
+                    String queryStringAddCommentTags = state.getQueryStore().getParameterizedQuery(QueryType.InteractiveUpdate7AddCommentTags);
+                    replaceParameterNamesWithQuestionMarks(operation, queryStringAddCommentTags, ImmutableList.of("tagId"));
+                    state.logQuery(operation.getClass().getSimpleName(), queryStringAddCommentTags);
+                    probe.rendered(queryStringAddCommentTags);
+                    try (PreparedStatement stmt2 = prepareSnbStatement(queryStringAddCommentTags, conn)) {
+                        stmt2.setLong(1, operation.getCommentId());
+                        for (long tagId : operation.getTagIds()) {
+                            stmt2.setLong(2, tagId);
+                            stmt2.executeUpdate();
+                        }
+                    }
+                    conn.commit();
+                } catch (SQLException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
                 }
+                probe.succeeded(0);
             } catch (Exception e) {
                 throw new DbException(e);
             }
-            finally{
-                stmt2.close();
-                conn.close();
-            }
-        } catch (Exception e) {
-            throw new DbException(e);
-        }
             resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
 
+        /**
+         * Executes further statements of the operation in its transaction, before the comment is inserted.
+         */
+        protected void executeBeforeInsert(LdbcUpdate7AddComment operation, PostgresDbConnectionState state,
+                                           Connection conn, OperationProbe probe) throws SQLException {
+        }
+
+    }
+
+    /**
+     * Update7AddComment for ic14Implementation=knows_weight: in the transaction of the comment, the interaction
+     * weight between its author and the author of the replied message is increased in both directions,
+     * by 1.0 for a reply to a post and by 0.5 for a reply to a comment.
+     */
+    public static class Update7AddCommentWithKnowsWeight extends Update7AddComment {
+
+        // the id of the replied message is -1 for the kind of message which is not replied to
+        private static final String UPDATE_KNOWS_WEIGHT =
+                "INSERT INTO knows_weight (kw_person1id, kw_person2id, kw_score) " +
+                "SELECT pair.person1id, pair.person2id, CASE WHEN m_c_replyof IS NULL THEN 1.0 ELSE 0.5 END " +
+                "FROM message, LATERAL (VALUES (m_creatorid, :authorPersonId), (:authorPersonId, m_creatorid)) pair(person1id, person2id) " +
+                "WHERE m_messageid = CASE WHEN :replyToPostId = -1 THEN :replyToCommentId ELSE :replyToPostId END " +
+                "AND m_creatorid <> :authorPersonId " +
+                "ON CONFLICT (kw_person1id, kw_person2id) DO UPDATE SET kw_score = knows_weight.kw_score + EXCLUDED.kw_score";
+
+        @Override
+        protected void executeBeforeInsert(LdbcUpdate7AddComment operation, PostgresDbConnectionState state,
+                                           Connection conn, OperationProbe probe) throws SQLException {
+            replaceParameterNamesWithQuestionMarks(operation, UPDATE_KNOWS_WEIGHT);
+            state.logQuery(operation.getClass().getSimpleName(), UPDATE_KNOWS_WEIGHT);
+            probe.rendered(UPDATE_KNOWS_WEIGHT);
+            try (PreparedStatement stmt = prepareAndSetParametersInPreparedStatement(operation, UPDATE_KNOWS_WEIGHT, conn)) {
+                stmt.executeUpdate();
+            }
+        }
+
     }
 
     public static class Update8AddFriendship extends PostgresUpdateOperationHandler<LdbcUpdate8AddFriendship> {
@@ -1,56 +1,25 @@
 package org.ldbcouncil.snb.impls.workloads.postgres;
 
-import org.ldbcouncil.snb.driver.DbException;
-import org.ldbcouncil.snb.impls.workloads.BaseDbConnectionState;
+import org.ldbcouncil.snb.impls.workloads.JdbcDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.QueryStore;
-import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
 
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.util.Map;
-import java.util.Properties;
-import java.util.TimeZone;
 
-public class PostgresDbConnectionState<TDbQueryStore extends QueryStore> extends BaseDbConnectionState<TDbQueryStore> {
-
-    protected String endPoint;
-    protected HikariDataSource ds;
+/**
+ * Connection state of the PostgreSQL implementation, see JdbcDbConnectionState for the connection pools.
+ * The read pool is not read-only if IC13 or IC14 use the PL/pgSQL functions.
+ */
+public class PostgresDbConnectionState<TDbQueryStore extends QueryStore> extends JdbcDbConnectionState<TDbQueryStore> {
 
     public PostgresDbConnectionState(Map<String, String> properties, TDbQueryStore store) throws ClassNotFoundException {
-        super(properties, store);
-        endPoint = properties.get("endpoint");
-
-        Class.forName(properties.get("jdbcDriver"));
-
-        Properties props = new Properties();
-        endPoint = properties.get("endpoint");
-        props.setProperty("jdbcUrl", endPoint);
-        props.setProperty("dataSource.databaseName", properties.get("databaseName"));
-        props.setProperty("dataSource.assumeMinServerVersion", "9.0");
-        props.setProperty("dataSource.ssl", "false");
-        HikariConfig config = new HikariConfig(props);
-        config.setPassword(properties.get("password"));
-        config.setUsername(properties.get("user"));
-        config.setJdbcUrl(endPoint);
-        ds = new HikariDataSource(config);
-    }
-
-    public Connection getConnection() throws DbException {
-        Connection connection = null;
-        try {
-            TimeZone.setDefault(TimeZone.getTimeZone("Etc/GMT+0"));
-            connection = ds.getConnection();
-        } catch (SQLException e) {
-            throw new DbException(e);
-        }
-        return connection;
+        super(properties, store, "EXPLAIN (ANALYZE, BUFFERS) ", !usesFunctions(properties));
     }
 
-    @Override
-    public void close() {
-        if (ds != null) {
-            ds.close();
-        }
+    /**
+     * @return whether IC13 or IC14 use the PL/pgSQL functions, which create temporary tables,
+     * i.e. they cannot run in read-only transactions
+     */
+    private static boolean usesFunctions(Map<String, String> properties) {
+        return "function".equals(properties.get("ic13Implementation")) || "function".equals(properties.get("ic14Implementation"));
     }
-}
\ No newline at end of file
+}
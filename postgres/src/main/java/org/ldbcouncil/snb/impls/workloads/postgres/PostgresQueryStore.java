@@ -2,11 +2,18 @@ package org.ldbcouncil.snb.impls.workloads.postgres;
 
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.impls.workloads.QueryStore;
+import org.ldbcouncil.snb.impls.workloads.QueryType;
 import org.ldbcouncil.snb.impls.workloads.converter.Converter;
 import org.ldbcouncil.snb.impls.workloads.postgres.converter.PostgresConverter;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class PostgresQueryStore extends QueryStore {
 
+    private final String path;
+    private final Map<String, String> variants = new ConcurrentHashMap<>();
+
     protected Converter getConverter() {
         return new PostgresConverter();
     }
@@ -18,6 +25,30 @@ public class PostgresQueryStore extends QueryStore {
 
     public PostgresQueryStore(String path) throws DbException {
         super(path, ".sql");
+        this.path = path;
+    }
+
+    /**
+     * Get an alternative definition of a query, stored next to the default one
+     * (e.g. interactive-complex-14-knows-weight.sql for variant "knows-weight").
+     * Variants are only loaded when an operation handler asks for them.
+     * @param queryType Type of the query
+     * @param variant Name of the variant
+     * @return Parameterized query string
+     */
+    public String getParameterizedQueryVariant(QueryType queryType, String variant) {
+        return variants.computeIfAbsent(queryType.getName() + "-" + variant + ".sql", filename -> {
+            String query = null;
+            try {
+                query = loadQueryFromFile(path, filename);
+            } catch (DbException e) {
+                // handled below
+            }
+            if (query == null) {
+                throw new IllegalStateException("Unable to load query variant: " + filename);
+            }
+            return query;
+        });
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,257 @@
+package org.ldbcouncil.snb.impls.workloads.postgres;
+
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.impls.workloads.QueryStore;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection state for a primary with read replicas (e.g. streaming replication):
+ * the updates are executed on the primary (endpoint), the reads are routed to one of the replicas (replicaEndpoints).
+ *
+ * Configuration properties:
+ * replicaEndpoints (comma-separated JDBC URLs of the replicas, enables this connection state),
+ * readRouting (round_robin, least_in_flight or the name of a class implementing ReadRouting, default: round_robin),
+ * readYourWrites (default: false).
+ * The replicas are read-only, so ic13Implementation=function and ic14Implementation=function are rejected.
+ *
+ * With readYourWrites=true, the WAL position of the primary is recorded after every update, and a read is only
+ * executed on a replica which has replayed the WAL up to the latest recorded position; otherwise it falls back to
+ * the primary. So the reads see all completed updates, including the ones the driver treats as their dependencies.
+ */
+public class PostgresRoutingDbConnectionState<TDbQueryStore extends QueryStore> extends PostgresDbConnectionState<TDbQueryStore> {
+
+    private static final String CURRENT_LSN = "SELECT (pg_current_wal_lsn() - '0/0'::pg_lsn)::bigint";
+    private static final String REPLAYED_LSN = "SELECT (pg_last_wal_replay_lsn() - '0/0'::pg_lsn)::bigint";
+
+    /**
+     * Selects the replica for a read operation. Implementations must be thread-safe.
+     */
+    public interface ReadRouting {
+        /**
+         * @return the index of the selected replica
+         */
+        int select(List<Replica> replicas);
+    }
+
+    public static class RoundRobin implements ReadRouting {
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Override
+        public int select(List<Replica> replicas) {
+            return Math.floorMod(next.getAndIncrement(), replicas.size());
+        }
+    }
+
+    public static class LeastInFlight implements ReadRouting {
+        @Override
+        public int select(List<Replica> replicas) {
+            int selected = 0;
+            int selectedInFlight = Integer.MAX_VALUE;
+            for (int i = 0; i < replicas.size(); i++) {
+                int inFlight = replicas.get(i).getInFlight();
+                if (inFlight < selectedInFlight) {
+                    selected = i;
+                    selectedInFlight = inFlight;
+                }
+            }
+            return selected;
+        }
+    }
+
+    public static class Replica {
+        private final String endPoint;
+        private final HikariDataSource ds;
+        // the highest WAL position the replica is known to have replayed
+        private final AtomicLong replayedLsn = new AtomicLong(-1);
+
+        Replica(String endPoint, HikariDataSource ds) {
+            this.endPoint = endPoint;
+            this.ds = ds;
+        }
+
+        public String getEndPoint() {
+            return endPoint;
+        }
+
+        /**
+         * @return the number of connections in use plus the number of threads waiting for one
+         */
+        public int getInFlight() {
+            HikariPoolMXBean pool = ds.getHikariPoolMXBean();
+            return pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+        }
+
+        boolean hasReplayed(Connection conn, long lsn) throws SQLException {
+            if (replayedLsn.get() >= lsn) {
+                return true;
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(REPLAYED_LSN);
+                 ResultSet result = stmt.executeQuery()) {
+                if (!result.next()) {
+                    return false;
+                }
+                long replayed = result.getLong(1);
+                // the position is null if the server is not in recovery, i.e. it is not a replica
+                if (result.wasNull()) {
+                    return false;
+                }
+                return replayedLsn.accumulateAndGet(replayed, Math::max) >= lsn;
+            }
+        }
+    }
+
+    /**
+     * Tracks the WAL position of the primary after the updates, so that reads are only served by the replicas
+     * which have replayed it.
+     */
+    static class ReadYourWrites {
+        // the highest WAL position of the primary recorded after an update
+        private final AtomicLong writtenLsn = new AtomicLong(-1);
+
+        /**
+         * @param conn connection to the replica
+         * @return whether the replica has replayed all recorded updates
+         */
+        boolean isUpToDate(Replica replica, Connection conn) throws SQLException {
+            long lsn = writtenLsn.get();
+            return lsn < 0 || replica.hasReplayed(conn, lsn);
+        }
+
+        /**
+         * Wraps the connection to the primary so that closing it records the WAL position of the primary,
+         * i.e. the position the replicas must reach before they can serve reads which depend on the update.
+         */
+        Connection recordingLsnOnClose(Connection conn) {
+            return (Connection) Proxy.newProxyInstance(ReadYourWrites.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                            try {
+                                if (!conn.isClosed()) {
+                                    recordWrittenLsn(conn);
+                                }
+                            } finally {
+                                conn.close();
+                            }
+                            return null;
+                        }
+                        try {
+                            return method.invoke(conn, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        private void recordWrittenLsn(Connection conn) throws SQLException {
+            try (PreparedStatement stmt = conn.prepareStatement(CURRENT_LSN);
+                 ResultSet result = stmt.executeQuery()) {
+                if (result.next()) {
+                    writtenLsn.accumulateAndGet(result.getLong(1), Math::max);
+                }
+            }
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final ReadRouting routing;
+    // null if readYourWrites is disabled
+    private final ReadYourWrites readYourWrites;
+
+    public PostgresRoutingDbConnectionState(Map<String, String> properties, TDbQueryStore store) throws ClassNotFoundException {
+        // checked before the pools of the primary are created
+        super(checkProperties(properties), store);
+        List<Replica> replicas = new ArrayList<>();
+        for (String replicaEndPoint : properties.get("replicaEndpoints").split(",")) {
+            if (!replicaEndPoint.trim().isEmpty()) {
+                HikariConfig config = createPoolConfig(properties, replicaEndPoint.trim());
+                config.setReadOnly(true);
+                config.addDataSourceProperty("readOnlyMode", "always");
+                replicas.add(new Replica(replicaEndPoint.trim(), createDataSource(config, "replica-" + replicas.size())));
+            }
+        }
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replicaEndpoints does not contain any endpoint");
+        }
+        this.replicas = Collections.unmodifiableList(replicas);
+        this.routing = createRouting(properties.getOrDefault("readRouting", "round_robin"));
+        this.readYourWrites = Boolean.parseBoolean(properties.get("readYourWrites")) ? new ReadYourWrites() : null;
+    }
+
+    private static Map<String, String> checkProperties(Map<String, String> properties) {
+        for (String property : new String[]{"ic13Implementation", "ic14Implementation"}) {
+            if ("function".equals(properties.get(property))) {
+                throw new IllegalArgumentException("replicaEndpoints cannot be combined with " + property
+                        + "=function: the PL/pgSQL function creates temporary tables, which read-only replicas do not allow");
+            }
+        }
+        return properties;
+    }
+
+    private static ReadRouting createRouting(String name) {
+        switch (name) {
+            case "round_robin":
+                return new RoundRobin();
+            case "least_in_flight":
+                return new LeastInFlight();
+            default:
+                try {
+                    return (ReadRouting) Class.forName(name).getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalArgumentException("Invalid readRouting: " + name, e);
+                }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getReadConnection() throws DbException {
+        Replica replica = replicas.get(routing.select(replicas));
+        Connection conn = getConnection(replica.ds);
+        if (readYourWrites == null) {
+            return conn;
+        }
+        try {
+            if (readYourWrites.isUpToDate(replica, conn)) {
+                return conn;
+            }
+            conn.close();
+        } catch (SQLException e) {
+            throw new DbException(e);
+        }
+        // the replica lags behind the completed updates
+        return getConnection();
+    }
+
+    @Override
+    public Connection getWriteConnection() throws DbException {
+        Connection conn = super.getWriteConnection();
+        return readYourWrites != null ? readYourWrites.recordingLsnOnClose(conn) : conn;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.ds.close();
+        }
+        super.close();
+    }
+}
@@ -6,108 +6,122 @@ import org.ldbcouncil.snb.impls.workloads.converter.Converter;
 import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
-import java.time.Instant;
 import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
 
 public class PostgresConverter extends Converter {
 
+    private final static DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").withZone(ZoneOffset.UTC);
+    /**
+     * The calendar of the timestamps, which the JDBC driver only reads. It is per thread, as a Calendar is mutable,
+     * instead of per column value.
+     */
+    private final static ThreadLocal<Calendar> GMT =
+            ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("GMT")));
+
     @Override
-    public String convertDateTime(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
-        return "timestamp with time zone '" + sdf.format(date) + "'";
+    public StringBuilder appendDateTime(StringBuilder sb, Date date) {
+        sb.append("timestamp with time zone '");
+        TIMESTAMP_FORMATTER.formatTo(date.toInstant(), sb);
+        return sb.append('\'');
     }
 
-    public String convertDate(Date date) {
-        return super.convertDate(date) + "::date";
+    @Override
+    public StringBuilder appendDate(StringBuilder sb, Date date) {
+        return super.appendDate(sb, date).append("::date");
     }
 
     public static OffsetDateTime convertDateToOffsetDateTime(Date date) {
-        Instant instant = date.toInstant();
-        ZonedDateTime zdt = ZonedDateTime.ofInstant(instant, ZoneId.of("GMT"));
-        return zdt.toOffsetDateTime();
+        return date.toInstant().atOffset(ZoneOffset.UTC);
     }
 
     @Override
-    public String convertString(String value) {
-        return "'" + value.replace("'", "''") + "'";
+    public StringBuilder appendString(StringBuilder sb, String value) {
+        sb.append('\'');
+        appendEscaped(sb, value, '\'', "''");
+        return sb.append('\'');
     }
 
-    public String convertStringList(List<String> values) {
-        return "'{" +
-                values
-                        .stream()
-                        .map(v -> "\"" + v + "\"")
-                        .collect(Collectors.joining(", ")) +
-                "}'::text[]";
+    @Override
+    public StringBuilder appendStringList(StringBuilder sb, List<String> values) {
+        sb.append("'{");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(values.get(i)).append('"');
+        }
+        return sb.append("}'::text[]");
     }
 
 
+    /**
+     * @return the text[] column as a list backed by the array of the JDBC driver
+     */
     public static Iterable<String> arrayToStringArray(ResultSet r, int column) throws SQLException {
         Array value = r.getArray(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            String[] strs = (String[]) value.getArray();
-            List<String> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                array.add(strs[i]);
-            }
-            return array;
-        }
+        return value == null ? Collections.emptyList() : stringList(value.getArray());
+    }
+
+    static List<String> stringList(Object array) {
+        return Arrays.asList((String[]) array);
     }
 
-    public static Iterable<List<Object>> arrayToObjectArray(ResultSet r, int column) throws SQLException {
+    /**
+     * @return the text[][] column of (name, year, place) triples as organisations
+     */
+    public static Iterable<LdbcQuery1Result.Organization> arrayToOrganizationArray(ResultSet r, int column) throws SQLException {
         Array value = r.getArray(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            Object[][] strs = (Object[][]) value.getArray();
-            List<List<Object>> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                array.add(new ArrayList(Arrays.asList(strs[i])));
-            }
-            return array;
+        return value == null ? Collections.emptyList() : organizationList((Object[][]) value.getArray());
+    }
+
+    static List<LdbcQuery1Result.Organization> organizationList(Object[][] rows) {
+        LdbcQuery1Result.Organization[] organizations = new LdbcQuery1Result.Organization[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            Object[] row = rows[i];
+            Object year = row[1];
+            organizations[i] = new LdbcQuery1Result.Organization((String) row[0],
+                    year instanceof Number ? ((Number) year).intValue() : Integer.parseInt((String) year),
+                    (String) row[2]);
         }
+        return Arrays.asList(organizations);
     }
 
-    public static Iterable<LdbcQuery1Result.Organization> arrayToOrganizationArray(ResultSet r, int column) throws SQLException {
+    /**
+     * @return the person ids of a path given as the bigint[][] column of its edges, e.g. {{1,2},{2,3}} is 1, 2, 3,
+     * or as the bigint[] column of its persons, e.g. {1} for the path of a single person, which has no edges
+     */
+    public static Iterable<Long> arrayToPath(ResultSet r, int column) throws SQLException {
         Array value = r.getArray(column);
         if (value == null) {
-            return new ArrayList<>();
-        } else {
-            Object[][] strs = (Object[][]) value.getArray();
-            List<LdbcQuery1Result.Organization> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                array.add(new LdbcQuery1Result.Organization((String) strs[i][0],Integer.parseInt((String) strs[i][1]), (String) strs[i][2]));
-            }
-            return array;
+            return Collections.emptyList();
         }
+        Object array = value.getArray();
+        return array instanceof Object[][] ? path((Object[][]) array) : Arrays.asList((Long[]) array);
     }
 
-    public static Iterable<Long> convertLists(Iterable<List<Object>> arr) {
-        List<Long> new_arr = new ArrayList<>();
-        List<List<Object>> better_arr = (List<List<Object>>) arr;
-        for (List<Object> entry : better_arr) {
-            new_arr.add((Long) entry.get(0));
+    static List<Long> path(Object[][] edges) {
+        if (edges.length == 0) {
+            return Collections.emptyList();
         }
-        new_arr.add((Long) better_arr.get(better_arr.size() - 1).get(1));
-        return new_arr;
+        Long[] path = new Long[edges.length + 1];
+        for (int i = 0; i < edges.length; i++) {
+            path[i] = (Long) edges[i][0];
+        }
+        path[edges.length] = (Long) edges[edges.length - 1][1];
+        return Arrays.asList(path);
     }
 
-
     public static long stringTimestampToEpoch(ResultSet r, int column) throws SQLException {
-        return r.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone("GMT"))).getTime();
+        return r.getTimestamp(column, GMT.get()).getTime();
     }
 
 
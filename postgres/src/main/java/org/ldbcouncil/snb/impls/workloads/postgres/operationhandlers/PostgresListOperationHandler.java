@@ -3,11 +3,12 @@ package org.ldbcouncil.snb.impls.workloads.postgres.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 import org.ldbcouncil.snb.impls.workloads.postgres.PostgresDbConnectionState;
 
 import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class PostgresListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
@@ -17,29 +18,42 @@ public abstract class PostgresListOperationHandler<TOperation extends Operation<
     @Override
     public void executeOperation(TOperation operation, PostgresDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
+        try (OperationProbe probe = state.startOperation(operation)) {
             ResultSet result = null;
-            Connection conn = state.getConnection();
-            List<TOperationResult> results = new ArrayList<>();
-            int resultCount = 0;
-            results.clear();
+            Connection conn = state.getReadConnection();
+            probe.connectionAcquired();
+            int limit = getResultLimit(operation);
+            ResultSink<TOperationResult> sink = state.newResultSink(limit);
     
             String queryString = getQueryString(state, operation);
             replaceParameterNamesWithQuestionMarks(operation, queryString);
             final PreparedStatement stmt = prepareAndSetParametersInPreparedStatement(operation, queryString, conn);
             state.logQuery(operation.getClass().getSimpleName(), queryString);
+            probe.rendered(queryString);
             
             try {
+                if (limit > 0) {
+                    stmt.setMaxRows(limit);
+                }
+                long executionStart = System.nanoTime();
                 result = stmt.executeQuery();
+                int columnCount = sink.isChecksummed() ? result.getMetaData().getColumnCount() : 0;
                 while (result.next()) {
-                    resultCount++;
-
-                    TOperationResult tuple = convertSingleResult(result);
-                    if (state.isPrintResults()) {
-                        System.out.println(tuple.toString());
+                    if (sink.isMaterialized()) {
+                        TOperationResult tuple = convertSingleResult(result);
+                        if (state.isPrintResults()) {
+                            System.out.println(tuple.toString());
+                        }
+                        sink.add(tuple);
+                    } else {
+                        // the row is not converted, its values are at most read as strings for the checksum
+                        sink.addRow();
+                        for (int i = 1; i <= columnCount; i++) {
+                            sink.addValue(result.getString(i));
+                        }
                     }
-                    results.add(tuple);
                 }
+                recordIfSlow(state, operation, queryString, conn, executionStart, true);
             } catch (SQLException e) {
                 throw new DbException(e);
             }
@@ -51,7 +65,8 @@ public abstract class PostgresListOperationHandler<TOperation extends Operation<
                 conn.close();
             }
 
-            resultReporter.report(resultCount, results, operation);
+            probe.succeeded(sink.getCount());
+            sink.report(resultReporter, operation);
 
         }
         catch (SQLException e) {
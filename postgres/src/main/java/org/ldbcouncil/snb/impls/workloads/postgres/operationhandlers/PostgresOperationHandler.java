@@ -4,6 +4,8 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.monitoring.SlowQueryRecorder;
+import org.ldbcouncil.snb.impls.workloads.postgres.PostgresDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.postgres.converter.PostgresConverter;
 
 import java.sql.Connection;
@@ -68,8 +70,49 @@ public class PostgresOperationHandler {
     public PreparedStatement setParametersInPreparedStatement(Operation operation, String queryString, Connection conn) throws SQLException {
         String queryStringWithQuestionMarks = queryStringWithQuestionMarksCache.get(queryString);
         PreparedStatement stmt = conn.prepareStatement(queryStringWithQuestionMarks);
+        return bindParameters(operation, positionsCache.get(queryString), stmt);
+    }
+
+    /**
+     * Returns a function which prepares the query prefixed with EXPLAIN on another connection, with the same
+     * parameters. The query must have been prepared already (see replaceParameterNamesWithQuestionMarks).
+     */
+    public SlowQueryRecorder.ExplainStatement explainStatement(Operation operation, String queryString) {
+        String queryStringWithQuestionMarks = queryStringWithQuestionMarksCache.get(queryString);
         Multimap<String, Integer> positions = positionsCache.get(queryString);
+        return (conn, explainPrefix) ->
+                bindParameters(operation, positions, conn.prepareStatement(explainPrefix + queryStringWithQuestionMarks));
+    }
+
+    /**
+     * Hands the query to the slow query recorder of the connection state, if there is one.
+     * A slow read query is explained on the endpoint of the connection which executed it (e.g. a read replica).
+     *
+     * @param conn    the connection which executed the query
+     * @param explain whether the query can be re-run with EXPLAIN ANALYZE, i.e. it is a read query
+     */
+    public void recordIfSlow(PostgresDbConnectionState state, Operation operation, String queryString, Connection conn,
+                             long executionStart, boolean explain) {
+        SlowQueryRecorder slowQueries = state.getSlowQueryRecorder();
+        long latency = System.nanoTime() - executionStart;
+        if (slowQueries != null && slowQueries.isSlow(operation, latency)) {
+            slowQueries.record(operation, queryString, latency, endPoint(conn),
+                    explain ? explainStatement(operation, queryString) : null);
+        }
+    }
+
+    /**
+     * @return the JDBC URL of the connection, or null (i.e. the endpoint of the connection state) if it is unknown
+     */
+    private static String endPoint(Connection conn) {
+        try {
+            return conn.getMetaData().getURL();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
 
+    private static PreparedStatement bindParameters(Operation operation, Multimap<String, Integer> positions, PreparedStatement stmt) throws SQLException {
         Map<String, Object> parameterMap = operation.parameterMap();
         for (Map.Entry<String, Object> parameter : parameterMap.entrySet()) {
             for (Integer parameterIndex : positions.get(parameter.getKey())) {
@@ -3,6 +3,7 @@ package org.ldbcouncil.snb.impls.workloads.postgres.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.postgres.PostgresDbConnectionState;
 
@@ -15,17 +16,20 @@ public abstract class PostgresSingletonOperationHandler<TOperation extends Opera
     @Override
     public void executeOperation(TOperation operation, PostgresDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
+        try (OperationProbe probe = state.startOperation(operation)) {
             TOperationResult tuple = null;
-            Connection conn = state.getConnection();
+            Connection conn = state.getReadConnection();
+            probe.connectionAcquired();
             int resultCount = 0;
 
             String queryString = getQueryString(state, operation);
             replaceParameterNamesWithQuestionMarks(operation, queryString);
             final PreparedStatement stmt = prepareAndSetParametersInPreparedStatement(operation, queryString, conn);
             state.logQuery(operation.getClass().getSimpleName(), queryString);
+            probe.rendered(queryString);
 
             try {
+                long executionStart = System.nanoTime();
                 ResultSet result = stmt.executeQuery();
 
                 if (result.next()) {
@@ -35,6 +39,7 @@ public abstract class PostgresSingletonOperationHandler<TOperation extends Opera
                     if (state.isPrintResults())
                         System.out.println(tuple.toString());
                 }
+                recordIfSlow(state, operation, queryString, conn, executionStart, true);
             }
             catch (Exception e) {
                 throw new DbException(e);
@@ -43,6 +48,7 @@ public abstract class PostgresSingletonOperationHandler<TOperation extends Opera
                 stmt.close();
                 conn.close();
             }
+            probe.succeeded(resultCount);
             resultReporter.report(resultCount, tuple, operation);
         }
         catch (SQLException e){
@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.postgres.PostgresDbConnectionState;
 
@@ -18,16 +19,20 @@ public abstract class PostgresUpdateOperationHandler<TOperation extends Operatio
     @Override
     public void executeOperation(TOperation operation, PostgresDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
-            Connection conn = state.getConnection();
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getWriteConnection();
+            probe.connectionAcquired();
             String queryString = getQueryString(state, operation);
             replaceParameterNamesWithQuestionMarks(operation, queryString);
             final PreparedStatement stmt = prepareAndSetParametersInPreparedStatement(operation, queryString, conn);
             state.logQuery(operation.getClass().getSimpleName(), queryString);
+            probe.rendered(queryString);
             
             try {
                 state.logQuery(operation.getClass().getSimpleName(), queryString);
+                long executionStart = System.nanoTime();
                 stmt.executeUpdate();
+                recordIfSlow(state, operation, queryString, conn, executionStart, false);
             } catch (Exception e) {
                 throw new DbException(e);
             }
@@ -35,6 +40,7 @@ public abstract class PostgresUpdateOperationHandler<TOperation extends Operatio
                 stmt.close();
                 conn.close();
             }
+            probe.succeeded(0);
             resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
         catch (SQLException e) {
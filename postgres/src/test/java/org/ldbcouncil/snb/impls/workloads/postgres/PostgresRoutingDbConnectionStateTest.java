@@ -0,0 +1,197 @@
+package org.ldbcouncil.snb.impls.workloads.postgres;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PostgresRoutingDbConnectionStateTest {
+
+    /**
+     * Connection answering the WAL position queries with a given position, or SQL NULL.
+     */
+    private static class FakeConnection {
+        Long lsn;
+        boolean closed;
+        final List<String> queries = new ArrayList<>();
+
+        FakeConnection(Long lsn) {
+            this.lsn = lsn;
+        }
+
+        Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "prepareStatement":
+                                queries.add((String) args[0]);
+                                return statement();
+                            case "isClosed":
+                                return closed;
+                            case "close":
+                                closed = true;
+                                return null;
+                            case "getAutoCommit":
+                                return true;
+                            case "setReadOnly":
+                                throw new SQLException("read-only connection");
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private PreparedStatement statement() {
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> "executeQuery".equals(method.getName()) ? result() : null);
+        }
+
+        private ResultSet result() {
+            boolean[] read = {false};
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "next":
+                                boolean next = !read[0];
+                                read[0] = true;
+                                return next;
+                            case "getLong":
+                                return lsn != null ? lsn : 0L;
+                            case "wasNull":
+                                return lsn == null;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    private static class FakeReplica extends PostgresRoutingDbConnectionState.Replica {
+        final int inFlight;
+
+        FakeReplica(String endPoint, int inFlight) {
+            super(endPoint, null);
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public int getInFlight() {
+            return inFlight;
+        }
+    }
+
+    private static List<PostgresRoutingDbConnectionState.Replica> replicas(int... inFlight) {
+        List<PostgresRoutingDbConnectionState.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < inFlight.length; i++) {
+            replicas.add(new FakeReplica("jdbc:postgresql://replica" + i + "/ldbcsnb", inFlight[i]));
+        }
+        return replicas;
+    }
+
+    @Test
+    public void testRoundRobin() {
+        PostgresRoutingDbConnectionState.ReadRouting routing = new PostgresRoutingDbConnectionState.RoundRobin();
+        List<PostgresRoutingDbConnectionState.Replica> replicas = replicas(5, 0, 0);
+        List<Integer> selected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            selected.add(routing.select(replicas));
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 0, 1, 2, 0), selected);
+    }
+
+    @Test
+    public void testLeastInFlight() {
+        PostgresRoutingDbConnectionState.ReadRouting routing = new PostgresRoutingDbConnectionState.LeastInFlight();
+        assertEquals(1, routing.select(replicas(3, 0, 2)));
+        assertEquals(2, routing.select(replicas(3, 4, 2)));
+        // ties go to the first replica
+        assertEquals(0, routing.select(replicas(1, 1, 1)));
+        assertEquals(0, routing.select(replicas(7)));
+    }
+
+    @Test
+    public void testNoUpdateRecorded() throws SQLException {
+        PostgresRoutingDbConnectionState.ReadYourWrites readYourWrites = new PostgresRoutingDbConnectionState.ReadYourWrites();
+        FakeConnection replica = new FakeConnection(0L);
+        assertTrue(readYourWrites.isUpToDate(replicas(0).get(0), replica.connection()));
+        assertEquals(0, replica.queries.size());
+    }
+
+    @Test
+    public void testWaitsForTheLsnOfTheUpdates() throws SQLException {
+        PostgresRoutingDbConnectionState.ReadYourWrites readYourWrites = new PostgresRoutingDbConnectionState.ReadYourWrites();
+        FakeConnection primary = new FakeConnection(100L);
+        Connection write = readYourWrites.recordingLsnOnClose(primary.connection());
+        assertTrue(write.getAutoCommit());
+        assertEquals(0, primary.queries.size());
+        write.close();
+        assertTrue(primary.closed);
+        assertEquals(1, primary.queries.size());
+        assertTrue(primary.queries.get(0).contains("pg_current_wal_lsn()"));
+
+        PostgresRoutingDbConnectionState.Replica replica = replicas(0).get(0);
+        FakeConnection lagging = new FakeConnection(60L);
+        assertFalse(readYourWrites.isUpToDate(replica, lagging.connection()));
+        assertTrue(lagging.queries.get(0).contains("pg_last_wal_replay_lsn()"));
+
+        FakeConnection caughtUp = new FakeConnection(120L);
+        assertTrue(readYourWrites.isUpToDate(replica, caughtUp.connection()));
+        assertEquals(1, caughtUp.queries.size());
+
+        // the replica is known to have replayed the position, so it is not queried again
+        FakeConnection cached = new FakeConnection(0L);
+        assertTrue(readYourWrites.isUpToDate(replica, cached.connection()));
+        assertEquals(0, cached.queries.size());
+
+        // a later update moves the position past the one the replica is known to have replayed
+        primary = new FakeConnection(150L);
+        readYourWrites.recordingLsnOnClose(primary.connection()).close();
+        assertFalse(readYourWrites.isUpToDate(replica, caughtUp.connection()));
+        assertEquals(2, caughtUp.queries.size());
+    }
+
+    @Test
+    public void testPositionOnlyMovesForward() throws SQLException {
+        PostgresRoutingDbConnectionState.ReadYourWrites readYourWrites = new PostgresRoutingDbConnectionState.ReadYourWrites();
+        readYourWrites.recordingLsnOnClose(new FakeConnection(200L).connection()).close();
+        // updates closed out of order do not lower the position
+        readYourWrites.recordingLsnOnClose(new FakeConnection(100L).connection()).close();
+        assertFalse(readYourWrites.isUpToDate(replicas(0).get(0), new FakeConnection(150L).connection()));
+    }
+
+    @Test
+    public void testNotAReplica() throws SQLException {
+        PostgresRoutingDbConnectionState.ReadYourWrites readYourWrites = new PostgresRoutingDbConnectionState.ReadYourWrites();
+        readYourWrites.recordingLsnOnClose(new FakeConnection(100L).connection()).close();
+        // pg_last_wal_replay_lsn() is null on a server which is not in recovery
+        assertFalse(readYourWrites.isUpToDate(replicas(0).get(0), new FakeConnection(null).connection()));
+    }
+
+    @Test
+    public void testClosedConnection() throws SQLException {
+        PostgresRoutingDbConnectionState.ReadYourWrites readYourWrites = new PostgresRoutingDbConnectionState.ReadYourWrites();
+        FakeConnection primary = new FakeConnection(100L);
+        primary.closed = true;
+        readYourWrites.recordingLsnOnClose(primary.connection()).close();
+        assertEquals(0, primary.queries.size());
+        assertTrue(readYourWrites.isUpToDate(replicas(0).get(0), new FakeConnection(0L).connection()));
+    }
+
+    @Test(expected = SQLException.class)
+    public void testExceptionsOfTheConnection() throws SQLException {
+        new PostgresRoutingDbConnectionState.ReadYourWrites()
+                .recordingLsnOnClose(new FakeConnection(100L).connection()).setReadOnly(true);
+    }
+
+}
@@ -8,4 +8,4 @@ set -o pipefail
 cd "$( cd "$( dirname "${BASH_SOURCE[0]}" )" >/dev/null 2>&1 && pwd )"
 cd ..
 
-../driver/determine-best-tcr-common.sh driver/benchmark.properties 0.001 0.01 4
+../driver/determine-best-tcr-common.sh driver/benchmark.properties 0.001 0.01 4 "$@"
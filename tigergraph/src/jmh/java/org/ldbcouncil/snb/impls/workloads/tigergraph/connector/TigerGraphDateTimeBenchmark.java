@@ -0,0 +1,87 @@
+package org.ldbcouncil.snb.impls.workloads.tigergraph.connector;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing TigerGraph datetimes to epoch seconds: TigerGraphDateTime against SimpleDateFormat, which is either
+ * confined to a thread or shared and synchronized (the latter shows its contention when run with several threads, e.g. -t 4).
+ * Run with -prof gc to compare the allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TigerGraphDateTimeBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @State(Scope.Benchmark)
+    public static class Values {
+        final String[] datetimes = new String[VALUES];
+        final SimpleDateFormat sharedFormat = newFormat();
+
+        @Setup
+        public void setUp() {
+            SimpleDateFormat format = newFormat();
+            Random random = new Random(42);
+            for (int i = 0; i < VALUES; i++) {
+                // 2010-01-01 to 2013-01-01, the time span of the data sets
+                long epochSecond = 1_262_304_000L + (long) (random.nextDouble() * 94_694_400L);
+                datetimes[i] = format.format(new Date(epochSecond * 1000));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SimpleDateFormat format = newFormat();
+        int next;
+
+        String nextValue(Values values) {
+            next = (next + 1) & (VALUES - 1);
+            return values.datetimes[next];
+        }
+    }
+
+    static SimpleDateFormat newFormat() {
+        SimpleDateFormat format = new SimpleDateFormat(TigerGraphConverter.DATETIME_FORMAT);
+        format.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
+        return format;
+    }
+
+    @Benchmark
+    public long tigerGraphDateTime(Values values, ThreadState state) throws ParseException {
+        return TigerGraphDateTime.parseEpochSecond(state.nextValue(values));
+    }
+
+    @Benchmark
+    public long threadConfinedSimpleDateFormat(Values values, ThreadState state) throws ParseException {
+        return state.format.parse(state.nextValue(values)).toInstant().getEpochSecond();
+    }
+
+    @Benchmark
+    public long synchronizedSimpleDateFormat(Values values, ThreadState state) throws ParseException {
+        String value = state.nextValue(values);
+        synchronized (values.sharedFormat) {
+            return values.sharedFormat.parse(value).toInstant().getEpochSecond();
+        }
+    }
+
+}
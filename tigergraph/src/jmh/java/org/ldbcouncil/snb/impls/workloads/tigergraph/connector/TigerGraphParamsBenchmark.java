@@ -0,0 +1,79 @@
+package org.ldbcouncil.snb.impls.workloads.tigergraph.connector;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding the parameters of a short read (one id) and of an insert (IU6, with tags): an ImmutableMap per operation,
+ * as the handlers used to build, against the TigerGraphParams of the thread.
+ * Run with -prof gc to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TigerGraphParamsBenchmark {
+
+    private final long messageId = 2061584476422L;
+    private final long creationDate = 1347528982194L;
+    private final String content = "About Augustine of Hippo, ng the rise of a new Christian culture.";
+    private final List<Long> tagIds = ImmutableList.of(1679L, 2170L, 7125L);
+
+    @Benchmark
+    public Map<String, String> shortReadImmutableMap() {
+        return ImmutableMap.<String, String>builder()
+                .put("messageId", Long.toString(messageId))
+                .build();
+    }
+
+    @Benchmark
+    public Map<String, String> shortReadParams() {
+        return TigerGraphParams.forCurrentThread()
+                .add("messageId", messageId);
+    }
+
+    @Benchmark
+    public Map<String, String> insertImmutableMap() {
+        ImmutableMap.Builder<String, String> builder = ImmutableMap.<String, String>builder()
+                .put("postId", Long.toString(messageId))
+                .put("creationDate", Long.toString(creationDate))
+                .put("content", content)
+                .put("length", Integer.toString(content.length()))
+                .put("authorPersonId", Long.toString(933L))
+                .put("forumId", Long.toString(1236950581248L));
+        int idx = 0;
+        for (Long tagId : tagIds) {
+            builder.put("tagIds[" + idx++ + "]", Long.toString(tagId));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public Map<String, String> insertParams() {
+        return TigerGraphParams.forCurrentThread()
+                .add("postId", messageId)
+                .add("creationDate", creationDate)
+                .add("content", content)
+                .add("length", content.length())
+                .add("authorPersonId", 933L)
+                .add("forumId", 1236950581248L)
+                .addLongs("tagIds", tagIds);
+    }
+
+}
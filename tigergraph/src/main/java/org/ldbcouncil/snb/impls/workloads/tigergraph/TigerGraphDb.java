@@ -1,12 +1,12 @@
 package org.ldbcouncil.snb.impls.workloads.tigergraph;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.gson.internal.LinkedTreeMap;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.workloads.interactive.*;
 import org.ldbcouncil.snb.impls.workloads.db.BaseDb;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.TigerGraphConverter;
+import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.TigerGraphParams;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.VertexResult;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.operationhandlers.TigerGraphListOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.operationhandlers.TigerGraphSingletonOperationHandler;
@@ -18,29 +18,14 @@ import java.util.Map;
 
 public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
 
-    private static void addStringArrayParam(List<String> items, ImmutableMap.Builder<String, String> builder, String key) {
-        int idx = 0;
-        for (String item : items) {
-            builder.put(key + "[" + idx++ + "]", item);
-
-        }
-    }
-
-    private static void addLongArrayParam(List<Long> items, ImmutableMap.Builder<String, String> builder, String key) {
-        int idx = 0;
-        for (Long item : items) {
-            builder.put(key + "[" + idx++ + "]", Long.toString(item));
-        }
-    }
-
-    private static void addOrgsParam(ImmutableMap.Builder<String, String> builder, List<LdbcUpdate1AddPerson.Organization> orgs, String key) {
+    private static void addOrgsParam(TigerGraphParams params, List<LdbcUpdate1AddPerson.Organization> orgs, String key) {
         if (orgs != null && orgs.size() > 0) {
-            builder.put(key, TigerGraphConverter.orgsToString(orgs));
+            params.add(key, TigerGraphConverter.orgsToString(orgs));
         }
     }
 
     @Override
-    protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
         dcs = new TigerGraphDbConnectionState(properties, new TigerGraphQueryStore(properties.get("queryDir")));
     }
 
@@ -53,12 +38,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery1 o) {
+        protected void constructParams(LdbcQuery1 o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery1.PERSON_ID, Long.toString(o.getPersonIdQ1()))
-                    .put(LdbcQuery1.FIRST_NAME, o.getFirstName())
-                    .build();
+            params.add(LdbcQuery1.PERSON_ID, o.getPersonIdQ1())
+                    .add(LdbcQuery1.FIRST_NAME, o.getFirstName());
         }
 
         @Override
@@ -94,11 +77,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery2 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery2.PERSON_ID, Long.toString(o.getPersonIdQ2()))
-                    .put(LdbcQuery2.MAX_DATE,  Long.toString(o.getMaxDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcQuery2 o, TigerGraphParams params) {
+            params.add(LdbcQuery2.PERSON_ID, o.getPersonIdQ2())
+                    .add(LdbcQuery2.MAX_DATE, o.getMaxDate().getTime());
         }
 
         @Override
@@ -123,14 +104,12 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery3 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery3.PERSON_ID, Long.toString(o.getPersonIdQ3()))
-                    .put(LdbcQuery3.COUNTRY_X_NAME, o.getCountryXName())
-                    .put(LdbcQuery3.COUNTRY_Y_NAME, o.getCountryYName())
-                    .put(LdbcQuery3.START_DATE, Long.toString(o.getStartDate().getTime()))
-                    .put(LdbcQuery3.DURATION_DAYS, Integer.toString(o.getDurationDays()))
-                    .build();
+        protected void constructParams(LdbcQuery3 o, TigerGraphParams params) {
+            params.add(LdbcQuery3.PERSON_ID, o.getPersonIdQ3())
+                    .add(LdbcQuery3.COUNTRY_X_NAME, o.getCountryXName())
+                    .add(LdbcQuery3.COUNTRY_Y_NAME, o.getCountryYName())
+                    .add(LdbcQuery3.START_DATE, o.getStartDate().getTime())
+                    .add(LdbcQuery3.DURATION_DAYS, o.getDurationDays());
         }
 
         @Override
@@ -154,12 +133,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery4 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery3.PERSON_ID, Long.toString(o.getPersonIdQ4()))
-                    .put(LdbcQuery3.START_DATE, Long.toString(o.getStartDate().getTime()))
-                    .put(LdbcQuery3.DURATION_DAYS, Integer.toString(o.getDurationDays()))
-                    .build();
+        protected void constructParams(LdbcQuery4 o, TigerGraphParams params) {
+            params.add(LdbcQuery3.PERSON_ID, o.getPersonIdQ4())
+                    .add(LdbcQuery3.START_DATE, o.getStartDate().getTime())
+                    .add(LdbcQuery3.DURATION_DAYS, o.getDurationDays());
         }
 
         @Override
@@ -179,11 +156,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery5 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery5.PERSON_ID, Long.toString(o.getPersonIdQ5()))
-                    .put(LdbcQuery5.MIN_DATE, Long.toString(o.getMinDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcQuery5 o, TigerGraphParams params) {
+            params.add(LdbcQuery5.PERSON_ID, o.getPersonIdQ5())
+                    .add(LdbcQuery5.MIN_DATE, o.getMinDate().getTime());
         }
 
         @Override
@@ -201,11 +176,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery6 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery6.PERSON_ID, Long.toString(o.getPersonIdQ6()))
-                    .put(LdbcQuery6.TAG_NAME, o.getTagName())
-                    .build();
+        protected void constructParams(LdbcQuery6 o, TigerGraphParams params) {
+            params.add(LdbcQuery6.PERSON_ID, o.getPersonIdQ6())
+                    .add(LdbcQuery6.TAG_NAME, o.getTagName());
         }
 
         @Override
@@ -225,8 +198,8 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery7 o) {
-            return ImmutableMap.<String, String>builder().put(LdbcQuery7.PERSON_ID, Long.toString(o.getPersonIdQ7())).build();
+        protected void constructParams(LdbcQuery7 o, TigerGraphParams params) {
+            params.add(LdbcQuery7.PERSON_ID, o.getPersonIdQ7());
         }
 
         @Override
@@ -252,8 +225,8 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery8 o) {
-            return ImmutableMap.<String, String>builder().put(LdbcQuery8.PERSON_ID, Long.toString(o.getPersonIdQ8())).build();
+        protected void constructParams(LdbcQuery8 o, TigerGraphParams params) {
+            params.add(LdbcQuery8.PERSON_ID, o.getPersonIdQ8());
         }
 
         @Override
@@ -277,11 +250,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery9 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery9.PERSON_ID, Long.toString(o.getPersonIdQ9()))
-                    .put(LdbcQuery9.MAX_DATE, Long.toString(o.getMaxDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcQuery9 o, TigerGraphParams params) {
+            params.add(LdbcQuery9.PERSON_ID, o.getPersonIdQ9())
+                    .add(LdbcQuery9.MAX_DATE, o.getMaxDate().getTime());
         }
 
         @Override
@@ -306,8 +277,8 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery10 o) {
-            return ImmutableMap.<String, String>builder().put(LdbcQuery10.PERSON_ID, Long.toString(o.getPersonIdQ10())).put(LdbcQuery10.MONTH, Integer.toString(o.getMonth())).build();
+        protected void constructParams(LdbcQuery10 o, TigerGraphParams params) {
+            params.add(LdbcQuery10.PERSON_ID, o.getPersonIdQ10()).add(LdbcQuery10.MONTH, o.getMonth());
         }
 
         @Override
@@ -331,8 +302,8 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery11 o) {
-            return ImmutableMap.<String, String>builder().put(LdbcQuery11.PERSON_ID, Long.toString(o.getPersonIdQ11())).put(LdbcQuery11.COUNTRY_NAME, o.getCountryName()).put(LdbcQuery11.WORK_FROM_YEAR, Integer.toString(o.getWorkFromYear())).build();
+        protected void constructParams(LdbcQuery11 o, TigerGraphParams params) {
+            params.add(LdbcQuery11.PERSON_ID, o.getPersonIdQ11()).add(LdbcQuery11.COUNTRY_NAME, o.getCountryName()).add(LdbcQuery11.WORK_FROM_YEAR, o.getWorkFromYear());
         }
 
         @Override
@@ -355,11 +326,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery12 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery12.PERSON_ID, Long.toString(o.getPersonIdQ12()))
-                    .put(LdbcQuery12.TAG_CLASS_NAME, o.getTagClassName())
-                    .build();
+        protected void constructParams(LdbcQuery12 o, TigerGraphParams params) {
+            params.add(LdbcQuery12.PERSON_ID, o.getPersonIdQ12())
+                    .add(LdbcQuery12.TAG_CLASS_NAME, o.getTagClassName());
         }
 
         @Override
@@ -384,8 +353,8 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery13 o) {
-            return ImmutableMap.<String, String>builder().put(LdbcQuery13.PERSON1_ID, Long.toString(o.getPerson1IdQ13StartNode())).put(LdbcQuery13.PERSON2_ID, Long.toString(o.getPerson2IdQ13EndNode())).build();
+        protected void constructParams(LdbcQuery13 o, TigerGraphParams params) {
+            params.add(LdbcQuery13.PERSON1_ID, o.getPerson1IdQ13StartNode()).add(LdbcQuery13.PERSON2_ID, o.getPerson2IdQ13EndNode());
         }
 
         @Override
@@ -408,10 +377,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcQuery14 o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery14.PERSON1_ID, Long.toString(o.getPerson1IdQ14StartNode()))
-                    .put(LdbcQuery14.PERSON2_ID, Long.toString(o.getPerson2IdQ14EndNode())).build();
+        protected void constructParams(LdbcQuery14 o, TigerGraphParams params) {
+            params.add(LdbcQuery14.PERSON1_ID, o.getPerson1IdQ14StartNode())
+                    .add(LdbcQuery14.PERSON2_ID, o.getPerson2IdQ14EndNode());
         }
 
         @Override
@@ -438,11 +406,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery1PersonProfile o) {
+        protected void constructParams(LdbcShortQuery1PersonProfile o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery1.PERSON_ID, Long.toString(o.getPersonIdSQ1()))
-                    .build();
+            params.add(LdbcQuery1.PERSON_ID, o.getPersonIdSQ1());
         }
 
         @Override
@@ -472,11 +438,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery2PersonPosts o) {
+        protected void constructParams(LdbcShortQuery2PersonPosts o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcQuery2.PERSON_ID, Long.toString(o.getPersonIdSQ2()))
-                    .build();
+            params.add(LdbcQuery2.PERSON_ID, o.getPersonIdSQ2());
         }
 
         @Override
@@ -504,11 +468,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery3PersonFriends o) {
+        protected void constructParams(LdbcShortQuery3PersonFriends o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcShortQuery3PersonFriends.PERSON_ID, Long.toString(o.getPersonIdSQ3()))
-                    .build();
+            params.add(LdbcShortQuery3PersonFriends.PERSON_ID, o.getPersonIdSQ3());
         }
 
         @Override
@@ -530,11 +492,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery4MessageContent o) {
+        protected void constructParams(LdbcShortQuery4MessageContent o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcShortQuery4MessageContent.MESSAGE_ID, Long.toString(o.getMessageIdContent()))
-                    .build();
+            params.add(LdbcShortQuery4MessageContent.MESSAGE_ID, o.getMessageIdContent());
         }
 
         @Override
@@ -556,11 +516,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery5MessageCreator o) {
+        protected void constructParams(LdbcShortQuery5MessageCreator o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcShortQuery5MessageCreator.MESSAGE_ID, Long.toString(o.getMessageIdCreator()))
-                    .build();
+            params.add(LdbcShortQuery5MessageCreator.MESSAGE_ID, o.getMessageIdCreator());
         }
 
         @Override
@@ -586,11 +544,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery6MessageForum o) {
+        protected void constructParams(LdbcShortQuery6MessageForum o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcShortQuery5MessageCreator.MESSAGE_ID, Long.toString(o.getMessageForumId()))
-                    .build();
+            params.add(LdbcShortQuery5MessageCreator.MESSAGE_ID, o.getMessageForumId());
         }
 
         @Override
@@ -614,11 +570,9 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcShortQuery7MessageReplies o) {
+        protected void constructParams(LdbcShortQuery7MessageReplies o, TigerGraphParams params) {
 
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcShortQuery7MessageReplies.MESSAGE_ID, Long.toString(o.getMessageRepliesId()))
-                    .build();
+            params.add(LdbcShortQuery7MessageReplies.MESSAGE_ID, o.getMessageRepliesId());
         }
 
         @Override
@@ -651,26 +605,23 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
 
         @Override
 
-        protected Map<String, String> constructParams(LdbcUpdate1AddPerson o) {
-            ImmutableMap.Builder<String, String> builder = ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate1AddPerson.PERSON_ID, Long.toString(o.getPersonId()))
-                    .put(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, o.getPersonFirstName())
-                    .put(LdbcUpdate1AddPerson.PERSON_LAST_NAME, o.getPersonLastName())
-                    .put(LdbcUpdate1AddPerson.GENDER, o.getGender())
-                    .put(LdbcUpdate1AddPerson.BIRTHDAY, Long.toString(o.getBirthday().getTime()))
-                    .put(LdbcUpdate1AddPerson.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .put(LdbcUpdate1AddPerson.LOCATION_IP, o.getLocationIp())
-                    .put(LdbcUpdate1AddPerson.BROWSER_USED, o.getBrowserUsed())
-                    .put(LdbcUpdate1AddPerson.CITY_ID, Long.toString(o.getCityId()));
-
-            addOrgsParam(builder, o.getStudyAt(), LdbcUpdate1AddPerson.STUDY_AT);
-            addOrgsParam(builder, o.getWorkAt(), LdbcUpdate1AddPerson.WORK_AT);
+        protected void constructParams(LdbcUpdate1AddPerson o, TigerGraphParams params) {
+            params.add(LdbcUpdate1AddPerson.PERSON_ID, o.getPersonId())
+                    .add(LdbcUpdate1AddPerson.PERSON_FIRST_NAME, o.getPersonFirstName())
+                    .add(LdbcUpdate1AddPerson.PERSON_LAST_NAME, o.getPersonLastName())
+                    .add(LdbcUpdate1AddPerson.GENDER, o.getGender())
+                    .add(LdbcUpdate1AddPerson.BIRTHDAY, o.getBirthday().getTime())
+                    .add(LdbcUpdate1AddPerson.CREATION_DATE, o.getCreationDate().getTime())
+                    .add(LdbcUpdate1AddPerson.LOCATION_IP, o.getLocationIp())
+                    .add(LdbcUpdate1AddPerson.BROWSER_USED, o.getBrowserUsed())
+                    .add(LdbcUpdate1AddPerson.CITY_ID, o.getCityId());
 
-            addStringArrayParam(o.getLanguages(), builder, LdbcUpdate1AddPerson.LANGUAGES);
-            addStringArrayParam(o.getEmails(), builder, LdbcUpdate1AddPerson.EMAILS);
-            addLongArrayParam(o.getTagIds(), builder, LdbcUpdate1AddPerson.TAG_IDS);
+            addOrgsParam(params, o.getStudyAt(), LdbcUpdate1AddPerson.STUDY_AT);
+            addOrgsParam(params, o.getWorkAt(), LdbcUpdate1AddPerson.WORK_AT);
 
-            return builder.build();
+            params.addStrings(LdbcUpdate1AddPerson.LANGUAGES, o.getLanguages());
+            params.addStrings(LdbcUpdate1AddPerson.EMAILS, o.getEmails());
+            params.addLongs(LdbcUpdate1AddPerson.TAG_IDS, o.getTagIds());
 
         }
     }
@@ -687,12 +638,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate2AddPostLike o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate2AddPostLike.PERSON_ID, Long.toString(o.getPersonId()))
-                    .put(LdbcUpdate2AddPostLike.POST_ID, Long.toString(o.getPostId()))
-                    .put(LdbcUpdate2AddPostLike.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcUpdate2AddPostLike o, TigerGraphParams params) {
+            params.add(LdbcUpdate2AddPostLike.PERSON_ID, o.getPersonId())
+                    .add(LdbcUpdate2AddPostLike.POST_ID, o.getPostId())
+                    .add(LdbcUpdate2AddPostLike.CREATION_DATE, o.getCreationDate().getTime());
         }
     }
 
@@ -708,12 +657,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate3AddCommentLike o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate3AddCommentLike.PERSON_ID, Long.toString(o.getPersonId()))
-                    .put(LdbcUpdate3AddCommentLike.COMMENT_ID, Long.toString(o.getCommentId()))
-                    .put(LdbcUpdate3AddCommentLike.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcUpdate3AddCommentLike o, TigerGraphParams params) {
+            params.add(LdbcUpdate3AddCommentLike.PERSON_ID, o.getPersonId())
+                    .add(LdbcUpdate3AddCommentLike.COMMENT_ID, o.getCommentId())
+                    .add(LdbcUpdate3AddCommentLike.CREATION_DATE, o.getCreationDate().getTime());
         }
     }
 
@@ -729,14 +676,12 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate4AddForum o) {
-            ImmutableMap.Builder<String, String> builder = ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate4AddForum.FORUM_ID, Long.toString(o.getForumId()))
-                    .put(LdbcUpdate4AddForum.FORUM_TITLE, o.getForumTitle())
-                    .put(LdbcUpdate4AddForum.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .put(LdbcUpdate4AddForum.MODERATOR_PERSON_ID, Long.toString(o.getModeratorPersonId()));
-            addLongArrayParam(o.getTagIds(), builder, LdbcUpdate4AddForum.TAG_IDS);
-            return builder.build();
+        protected void constructParams(LdbcUpdate4AddForum o, TigerGraphParams params) {
+            params.add(LdbcUpdate4AddForum.FORUM_ID, o.getForumId())
+                    .add(LdbcUpdate4AddForum.FORUM_TITLE, o.getForumTitle())
+                    .add(LdbcUpdate4AddForum.CREATION_DATE, o.getCreationDate().getTime())
+                    .add(LdbcUpdate4AddForum.MODERATOR_PERSON_ID, o.getModeratorPersonId());
+            params.addLongs(LdbcUpdate4AddForum.TAG_IDS, o.getTagIds());
         }
     }
 
@@ -752,12 +697,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate5AddForumMembership o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate5AddForumMembership.FORUM_ID, Long.toString(o.getForumId()))
-                    .put(LdbcUpdate5AddForumMembership.PERSON_ID, Long.toString(o.getPersonId()))
-                    .put(LdbcUpdate5AddForumMembership.JOIN_DATE, Long.toString(o.getJoinDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcUpdate5AddForumMembership o, TigerGraphParams params) {
+            params.add(LdbcUpdate5AddForumMembership.FORUM_ID, o.getForumId())
+                    .add(LdbcUpdate5AddForumMembership.PERSON_ID, o.getPersonId())
+                    .add(LdbcUpdate5AddForumMembership.JOIN_DATE, o.getJoinDate().getTime());
         }
     }
 
@@ -773,22 +716,20 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate6AddPost o) {
-            ImmutableMap.Builder<String, String> builder = ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate6AddPost.POST_ID, Long.toString(o.getPostId()))
-                    .put(LdbcUpdate6AddPost.IMAGE_FILE, o.getImageFile())
-                    .put(LdbcUpdate6AddPost.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .put(LdbcUpdate6AddPost.LOCATION_IP, o.getLocationIp())
-                    .put(LdbcUpdate6AddPost.BROWSER_USED, o.getBrowserUsed())
-                    .put(LdbcUpdate6AddPost.LANGUAGE, o.getLanguage())
-                    .put(LdbcUpdate6AddPost.CONTENT, o.getContent())
-                    .put(LdbcUpdate6AddPost.LENGTH, Integer.toString(o.getLength()))
-                    .put(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, Long.toString(o.getAuthorPersonId()))
-                    .put(LdbcUpdate6AddPost.FORUM_ID, Long.toString(o.getForumId()))
-                    .put(LdbcUpdate6AddPost.COUNTRY_ID, Long.toString(o.getCountryId()));
+        protected void constructParams(LdbcUpdate6AddPost o, TigerGraphParams params) {
+            params.add(LdbcUpdate6AddPost.POST_ID, o.getPostId())
+                    .add(LdbcUpdate6AddPost.IMAGE_FILE, o.getImageFile())
+                    .add(LdbcUpdate6AddPost.CREATION_DATE, o.getCreationDate().getTime())
+                    .add(LdbcUpdate6AddPost.LOCATION_IP, o.getLocationIp())
+                    .add(LdbcUpdate6AddPost.BROWSER_USED, o.getBrowserUsed())
+                    .add(LdbcUpdate6AddPost.LANGUAGE, o.getLanguage())
+                    .add(LdbcUpdate6AddPost.CONTENT, o.getContent())
+                    .add(LdbcUpdate6AddPost.LENGTH, o.getLength())
+                    .add(LdbcUpdate6AddPost.AUTHOR_PERSON_ID, o.getAuthorPersonId())
+                    .add(LdbcUpdate6AddPost.FORUM_ID, o.getForumId())
+                    .add(LdbcUpdate6AddPost.COUNTRY_ID, o.getCountryId());
 
-            addLongArrayParam(o.getTagIds(), builder, LdbcUpdate6AddPost.TAG_IDS);
-            return builder.build();
+            params.addLongs(LdbcUpdate6AddPost.TAG_IDS, o.getTagIds());
         }
     }
 
@@ -804,21 +745,19 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate7AddComment o) {
-            ImmutableMap.Builder<String, String> builder = ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate7AddComment.COMMENT_ID, Long.toString(o.getCommentId()))
-                    .put(LdbcUpdate7AddComment.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .put(LdbcUpdate7AddComment.LOCATION_IP, o.getLocationIp())
-                    .put(LdbcUpdate7AddComment.BROWSER_USED, o.getBrowserUsed())
-                    .put(LdbcUpdate7AddComment.CONTENT, o.getContent())
-                    .put(LdbcUpdate7AddComment.LENGTH, Integer.toString(o.getLength()))
-                    .put(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, Long.toString(o.getAuthorPersonId()))
-                    .put(LdbcUpdate7AddComment.COUNTRY_ID, Long.toString(o.getCountryId()))
-                    .put(LdbcUpdate7AddComment.REPLY_TO_POST_ID, Long.toString(o.getReplyToPostId()))
-                    .put(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, Long.toString(o.getReplyToCommentId()));
+        protected void constructParams(LdbcUpdate7AddComment o, TigerGraphParams params) {
+            params.add(LdbcUpdate7AddComment.COMMENT_ID, o.getCommentId())
+                    .add(LdbcUpdate7AddComment.CREATION_DATE, o.getCreationDate().getTime())
+                    .add(LdbcUpdate7AddComment.LOCATION_IP, o.getLocationIp())
+                    .add(LdbcUpdate7AddComment.BROWSER_USED, o.getBrowserUsed())
+                    .add(LdbcUpdate7AddComment.CONTENT, o.getContent())
+                    .add(LdbcUpdate7AddComment.LENGTH, o.getLength())
+                    .add(LdbcUpdate7AddComment.AUTHOR_PERSON_ID, o.getAuthorPersonId())
+                    .add(LdbcUpdate7AddComment.COUNTRY_ID, o.getCountryId())
+                    .add(LdbcUpdate7AddComment.REPLY_TO_POST_ID, o.getReplyToPostId())
+                    .add(LdbcUpdate7AddComment.REPLY_TO_COMMENT_ID, o.getReplyToCommentId());
 
-            addLongArrayParam(o.getTagIds(), builder, LdbcUpdate6AddPost.TAG_IDS);
-            return builder.build();
+            params.addLongs(LdbcUpdate6AddPost.TAG_IDS, o.getTagIds());
         }
     }
 
@@ -834,12 +773,10 @@ public abstract class TigerGraphDb extends BaseDb<TigerGraphQueryStore> {
         }
 
         @Override
-        protected Map<String, String> constructParams(LdbcUpdate8AddFriendship o) {
-            return ImmutableMap.<String, String>builder()
-                    .put(LdbcUpdate8AddFriendship.PERSON1_ID, Long.toString(o.getPerson1Id()))
-                    .put(LdbcUpdate8AddFriendship.PERSON2_ID, Long.toString(o.getPerson2Id()))
-                    .put(LdbcUpdate8AddFriendship.CREATION_DATE, Long.toString(o.getCreationDate().getTime()))
-                    .build();
+        protected void constructParams(LdbcUpdate8AddFriendship o, TigerGraphParams params) {
+            params.add(LdbcUpdate8AddFriendship.PERSON1_ID, o.getPerson1Id())
+                    .add(LdbcUpdate8AddFriendship.PERSON2_ID, o.getPerson2Id())
+                    .add(LdbcUpdate8AddFriendship.CREATION_DATE, o.getCreationDate().getTime());
         }
     }
 
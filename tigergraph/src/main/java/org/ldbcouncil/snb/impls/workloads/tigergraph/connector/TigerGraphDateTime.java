@@ -0,0 +1,83 @@
+package org.ldbcouncil.snb.impls.workloads.tigergraph.connector;
+
+import org.ldbcouncil.snb.impls.workloads.converter.EpochDays;
+
+import java.text.ParseException;
+
+/**
+ * Parser of the DATETIME values returned by TigerGraph (yyyy-MM-dd HH:mm:ss, UTC).
+ *
+ * Unlike SimpleDateFormat, the parser has no state, so it can be used by all driver threads without locking,
+ * and it does not allocate: the digits are read directly from the character data (e.g. a String of the JSON response)
+ * and the epoch is computed arithmetically from the proleptic Gregorian calendar (EpochDays).
+ * The parsing is strict: fields out of range (e.g. month 13) are rejected instead of rolled over.
+ */
+public final class TigerGraphDateTime {
+
+    /**
+     * Length of a datetime: yyyy-MM-dd HH:mm:ss.
+     */
+    public static final int LENGTH = 19;
+
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private TigerGraphDateTime() {
+    }
+
+    /**
+     * @param text a datetime, e.g. "2010-02-14 15:32:10"
+     * @return the seconds since the epoch
+     */
+    public static long parseEpochSecond(CharSequence text) throws ParseException {
+        if (text.length() != LENGTH) {
+            throw new ParseException("Unparseable datetime: \"" + text + "\"", 0);
+        }
+        return parseEpochSecond(text, 0);
+    }
+
+    /**
+     * Parses the datetime starting at the given offset, ignoring the characters after it.
+     *
+     * @return the seconds since the epoch
+     */
+    public static long parseEpochSecond(CharSequence text, int offset) throws ParseException {
+        if (offset < 0 || text.length() - offset < LENGTH) {
+            throw new ParseException("Unparseable datetime: \"" + text + "\"", offset);
+        }
+        int year = digits(text, offset, 4);
+        expect(text, offset + 4, '-');
+        int month = digits(text, offset + 5, 2);
+        expect(text, offset + 7, '-');
+        int day = digits(text, offset + 8, 2);
+        expect(text, offset + 10, ' ');
+        int hour = digits(text, offset + 11, 2);
+        expect(text, offset + 13, ':');
+        int minute = digits(text, offset + 14, 2);
+        expect(text, offset + 16, ':');
+        int second = digits(text, offset + 17, 2);
+
+        if (!EpochDays.isValid(year, month, day) || hour > 23 || minute > 59 || second > 59) {
+            throw new ParseException("Invalid datetime: \"" + text.subSequence(offset, offset + LENGTH) + "\"", offset);
+        }
+        return EpochDays.epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    private static int digits(CharSequence text, int offset, int count) throws ParseException {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new ParseException("Unparseable datetime: \"" + text + "\"", i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void expect(CharSequence text, int offset, char separator) throws ParseException {
+        if (text.charAt(offset) != separator) {
+            throw new ParseException("Unparseable datetime: \"" + text + "\"", offset);
+        }
+    }
+
+}
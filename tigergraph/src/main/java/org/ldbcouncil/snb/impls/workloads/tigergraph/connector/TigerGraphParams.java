@@ -0,0 +1,200 @@
+package org.ldbcouncil.snb.impls.workloads.tigergraph.connector;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parameters of an installed query, in the order in which they are sent in the query string of the request.
+ *
+ * Every driver thread reuses a single instance (see {@link #forCurrentThread()}), which the handlers fill in
+ * constructParams, so that encoding the parameters of an operation does not allocate a map: the keys and values
+ * are appended to two arrays, which grow to the largest operation and are kept. The keys of the elements of list
+ * parameters (e.g. tagIds[3]) are shared by all threads. The text form ({key:value, ...}) is only built when
+ * it is logged.
+ *
+ * The instance is only valid until the next call of forCurrentThread() on the same thread, so it must not be
+ * kept after the query has been run. The keys of an operation are distinct, so they are not checked for duplicates.
+ */
+public final class TigerGraphParams extends AbstractMap<String, String> {
+
+    private static final ThreadLocal<TigerGraphParams> PARAMS = ThreadLocal.withInitial(TigerGraphParams::new);
+    private static final Map<String, String[]> INDEXED_KEYS = new ConcurrentHashMap<>();
+    private static final int INITIAL_CAPACITY = 16;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+    private final Set<Entry<String, String>> entrySet = new EntrySet();
+
+    TigerGraphParams() {
+    }
+
+    /**
+     * @return the empty parameters of the current thread
+     */
+    public static TigerGraphParams forCurrentThread() {
+        TigerGraphParams params = PARAMS.get();
+        params.clear();
+        return params;
+    }
+
+    public TigerGraphParams add(String key, String value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        return this;
+    }
+
+    public TigerGraphParams add(String key, long value) {
+        return add(key, Long.toString(value));
+    }
+
+    public TigerGraphParams add(String key, int value) {
+        return add(key, Integer.toString(value));
+    }
+
+    /**
+     * Adds the elements of a list as key[0], key[1], ...
+     */
+    public TigerGraphParams addStrings(String key, List<String> items) {
+        String[] indexedKeys = indexedKeys(key, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            add(indexedKeys[i], items.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Adds the elements of a list as key[0], key[1], ...
+     */
+    public TigerGraphParams addLongs(String key, List<Long> items) {
+        String[] indexedKeys = indexedKeys(key, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            add(indexedKeys[i], items.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * @return at least count keys of the form key[index]
+     */
+    static String[] indexedKeys(String key, int count) {
+        String[] indexedKeys = INDEXED_KEYS.get(key);
+        if (indexedKeys == null || indexedKeys.length < count) {
+            // racing threads compute equal arrays, so it does not matter which one is kept
+            indexedKeys = new String[Math.max(count, 8)];
+            for (int i = 0; i < indexedKeys.length; i++) {
+                indexedKeys[i] = key + "[" + i + "]";
+            }
+            INDEXED_KEYS.put(key, indexedKeys);
+        }
+        return indexedKeys;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        // release the values of the previous operation, which may be long (e.g. the content of a post)
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                String previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        add(key, value);
+        return null;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * @return the parameters as {key:value, ...}, the format of TigerGraphDbConnectionState.mapToString
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(keys[i]).append(':').append(values[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new Iterator<Entry<String, String>>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Entry<String, String> next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, String> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+                    next++;
+                    return entry;
+                }
+            };
+        }
+    }
+
+}
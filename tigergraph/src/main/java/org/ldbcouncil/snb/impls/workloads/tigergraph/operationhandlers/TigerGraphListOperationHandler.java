@@ -4,59 +4,77 @@ import com.google.gson.internal.LinkedTreeMap;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.TigerGraphDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.QueryRunner;
+import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.TigerGraphParams;
 import io.github.karol_brejna_i.tigergraph.restppclient.model.QueryResponse;
 
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public abstract class TigerGraphListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
         implements ListOperationHandler<TOperationResult, TOperation, TigerGraphDbConnectionState> {
 
     @Override
     public String getQueryString(TigerGraphDbConnectionState state, TOperation operation) {
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
-        return queryName + ":" + TigerGraphDbConnectionState.mapToString(params);
+        TigerGraphParams params = TigerGraphParams.forCurrentThread();
+        constructParams(operation, params);
+        return getQueryName() + ":" + params;
     }
 
     public abstract String getQueryName();
 
-    protected abstract Map<String, String> constructParams(TOperation o);
+    /**
+     * Adds the parameters of the operation to the (empty) parameters of the current thread.
+     */
+    protected abstract void constructParams(TOperation o, TigerGraphParams params);
 
     public abstract TOperationResult toResult(LinkedTreeMap<String, Object> record) throws ParseException;
 
     @Override
     public void executeOperation(TOperation operation, TigerGraphDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        if (state.isDebug()) {
-            System.out.println("-------Executing list operation: " + operation);
-        }
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isDebug()) {
+                System.out.println("-------Executing list operation: " + operation);
+            }
 
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
+            final String queryName = getQueryName();
+            TigerGraphParams params = TigerGraphParams.forCurrentThread();
+            constructParams(operation, params);
 
-        QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
+            QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
 
-        // collect and convert results
-        final List<TOperationResult> results = new ArrayList<>();
-        try {
-            ArrayList<LinkedTreeMap<String, Object>> records = getRecords(queryResponse, "result");
-            if (records != null) {
-                for (LinkedTreeMap<String, Object> record : records) {
-                    results.add(toResult(record));
+            // collect and convert results
+            final ResultSink<TOperationResult> sink;
+            try {
+                ArrayList<LinkedTreeMap<String, Object>> records = getRecords(queryResponse, "result");
+                // the records are parsed already, the sink sizes the results to them
+                sink = state.newResultSink(records == null ? 0 : records.size());
+                if (records != null) {
+                    for (LinkedTreeMap<String, Object> record : records) {
+                        if (sink.isMaterialized()) {
+                            sink.add(toResult(record));
+                        } else {
+                            sink.addRow();
+                            if (sink.isChecksummed()) {
+                                sink.addValue(record);
+                            }
+                        }
+                    }
                 }
+            } catch (ParseException e) {
+                e.printStackTrace();
+                throw new DbException(e);
             }
-        } catch (ParseException e) {
-            e.printStackTrace();
-            throw new DbException(e);
-        }
 
-        resultReporter.report(results.size(), results, operation);
+            probe.succeeded(sink.getCount());
+            sink.report(resultReporter, operation);
+        }
     }
 
     public ArrayList<LinkedTreeMap<String, Object>> getRecords(QueryResponse queryResponse, String resultKey) {
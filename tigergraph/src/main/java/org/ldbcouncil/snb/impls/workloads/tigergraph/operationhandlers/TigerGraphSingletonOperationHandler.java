@@ -4,14 +4,15 @@ import com.google.gson.internal.LinkedTreeMap;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.TigerGraphDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.QueryRunner;
+import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.TigerGraphParams;
 import io.github.karol_brejna_i.tigergraph.restppclient.model.QueryResponse;
 
 import java.text.ParseException;
 import java.util.List;
-import java.util.Map;
 import java.io.*;
 
 public abstract class TigerGraphSingletonOperationHandler<TOperation extends Operation<TOperationResult>, TOperationResult>
@@ -19,9 +20,9 @@ public abstract class TigerGraphSingletonOperationHandler<TOperation extends Ope
 
     @Override
     public String getQueryString(TigerGraphDbConnectionState state, TOperation operation) {
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
-        return queryName + ":" + TigerGraphDbConnectionState.mapToString(params);
+        TigerGraphParams params = TigerGraphParams.forCurrentThread();
+        constructParams(operation, params);
+        return getQueryName() + ":" + params;
     }
 
     public LinkedTreeMap<String, Object> getRecord(QueryResponse queryResponse) {
@@ -37,34 +38,41 @@ public abstract class TigerGraphSingletonOperationHandler<TOperation extends Ope
 
     @Override
     public void executeOperation(TOperation operation, TigerGraphDbConnectionState state, ResultReporter resultReporter) throws DbException {
-        if (state.isDebug()) {
-            System.out.println("-------Executing singleton operation: " + operation);
-        }
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isDebug()) {
+                System.out.println("-------Executing singleton operation: " + operation);
+            }
 
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
+            final String queryName = getQueryName();
+            TigerGraphParams params = TigerGraphParams.forCurrentThread();
+            constructParams(operation, params);
 
-        QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
+            QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
 
-        // collect and convert results
-        LinkedTreeMap<String, Object> record = getRecord(queryResponse);
-        if (record != null) {
-            try {
-                resultReporter.report(1, toResult(record), operation);
-            } catch (ParseException|IndexOutOfBoundsException e) {
-                //resultReporter.report(0, null, operation);
-                System.err.println("Empty results for " + queryName + ", paramters: " + TigerGraphDbConnectionState.mapToString(params));
-            }
-        } else {
+            // collect and convert results
+            LinkedTreeMap<String, Object> record = getRecord(queryResponse);
+            if (record != null) {
+                try {
+                    TOperationResult tuple = toResult(record);
+                    probe.succeeded(1);
+                    resultReporter.report(1, tuple, operation);
+                } catch (ParseException|IndexOutOfBoundsException e) {
+                    //resultReporter.report(0, null, operation);
+                    System.err.println("Empty results for " + queryName + ", paramters: " + params);
+                }
+            } else {
 //            throw new DbException("Cannot serialize null result.");
 //            // TODO XXX with the following construct, we get `Caused by: java.lang.NullPointerException
 //            //	at org.ldbcouncil.snb.driver.workloads.interactive.LdbcQuery13.serializeResult(LdbcQuery13.java:111)`
 //            //resultReporter.report(0, null, operation);
+            }
         }
-
     }
 
-    protected abstract Map<String, String> constructParams(TOperation o);
+    /**
+     * Adds the parameters of the operation to the (empty) parameters of the current thread.
+     */
+    protected abstract void constructParams(TOperation o, TigerGraphParams params);
     public abstract TOperationResult toResult(LinkedTreeMap<String, Object> record) throws ParseException;
     public abstract String getQueryName();
 }
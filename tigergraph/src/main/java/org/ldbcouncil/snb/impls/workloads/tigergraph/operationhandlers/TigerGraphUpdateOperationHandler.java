@@ -4,38 +4,45 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.TigerGraphDbConnectionState;
 import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.QueryRunner;
+import org.ldbcouncil.snb.impls.workloads.tigergraph.connector.TigerGraphParams;
 import io.github.karol_brejna_i.tigergraph.restppclient.model.QueryResponse;
 
-import java.util.Map;
-
 
 public abstract class TigerGraphUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
         implements UpdateOperationHandler<TOperation, TigerGraphDbConnectionState> {
     
     @Override
     public String getQueryString(TigerGraphDbConnectionState state, TOperation operation) {
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
-        return queryName + ":" + TigerGraphDbConnectionState.mapToString(params);
+        TigerGraphParams params = TigerGraphParams.forCurrentThread();
+        constructParams(operation, params);
+        return getQueryName() + ":" + params;
     }
 
     @Override
     public void executeOperation(TOperation operation, TigerGraphDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        if (state.isDebug()) {
-            System.out.println("-------Executing update operation: " + operation);
+        try (OperationProbe probe = state.startOperation(operation)) {
+            if (state.isDebug()) {
+                System.out.println("-------Executing update operation: " + operation);
+            }
+
+            final String queryName = getQueryName();
+            TigerGraphParams params = TigerGraphParams.forCurrentThread();
+            constructParams(operation, params);
+
+            QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
+            probe.succeeded(0);
+            resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
-
-        final String queryName = getQueryName();
-        Map<String, String> params = constructParams(operation);
-
-        QueryResponse queryResponse = QueryRunner.runQuery(queryName, params, state);
-        resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
     }
 
     public abstract String getQueryName();
-    protected abstract Map<String, String> constructParams(TOperation o);
+    /**
+     * Adds the parameters of the operation to the (empty) parameters of the current thread.
+     */
+    protected abstract void constructParams(TOperation o, TigerGraphParams params);
 }
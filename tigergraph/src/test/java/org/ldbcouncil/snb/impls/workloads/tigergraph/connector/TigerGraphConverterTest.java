@@ -7,12 +7,15 @@ import org.ldbcouncil.snb.driver.workloads.interactive.LdbcUpdate1AddPerson;
 import junit.framework.TestCase;
 
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
 
 public class TigerGraphConverterTest extends TestCase {
 
@@ -36,6 +39,42 @@ public class TigerGraphConverterTest extends TestCase {
 
     }
 
+    public void testParseDateTimeToEpochMatchesSimpleDateFormat() throws ParseException {
+        SimpleDateFormat sdf = new SimpleDateFormat(TigerGraphConverter.DATETIME_FORMAT);
+        sdf.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // 1900-01-01 to 2100-01-01
+            long epochSecond = -2_208_988_800L + (long) (random.nextDouble() * 6_311_433_600L);
+            String representation = sdf.format(new Date(epochSecond * 1000));
+            assertEquals(representation, epochSecond, TigerGraphConverter.parseDateTimeToEpoch(representation));
+        }
+        assertEquals(951_782_400L, TigerGraphConverter.parseDateTimeToEpoch("2000-02-29 00:00:00"));
+        assertEquals(-1L, TigerGraphConverter.parseDateTimeToEpoch("1969-12-31 23:59:59"));
+    }
+
+    public void testParseDateTimeAtOffset() throws ParseException {
+        assertEquals(1_266_161_530L, TigerGraphDateTime.parseEpochSecond("{\"creationDate\":\"2010-02-14 15:32:10\"}", 17));
+    }
+
+    public void testParseInvalidDateTime() {
+        String[] invalid = {"", "2010-02-14", "2010-02-14 15:32:10.000", "2010-02-14T15:32:10", "2010-13-01 00:00:00",
+                "2010-02-29 00:00:00", "2010-04-31 00:00:00", "2010-02-14 24:00:00", "2010-02-14 15:60:10", "2010-0a-14 15:32:10"};
+        for (String representation : invalid) {
+            try {
+                TigerGraphConverter.parseDateTimeToEpoch(representation);
+                fail("No ParseException thrown for " + representation);
+            } catch (ParseException e) {
+                // expected
+            }
+        }
+    }
+
+    public void testDateToEpoch() {
+        assertEquals(1_266_161_530L, TigerGraphConverter.dateToEpoch(new Date(1_266_161_530_999L)));
+        assertEquals(-1L, TigerGraphConverter.dateToEpoch(new Date(-1L)));
+    }
+
     public void testToOrgList() {
         List<List> comps1 = Arrays.asList(
                 Arrays.asList("5142L", "2004", "dada"),
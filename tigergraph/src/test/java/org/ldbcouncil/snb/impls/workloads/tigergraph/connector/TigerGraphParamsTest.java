@@ -0,0 +1,65 @@
+package org.ldbcouncil.snb.impls.workloads.tigergraph.connector;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.ldbcouncil.snb.impls.workloads.tigergraph.TigerGraphDbConnectionState;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class TigerGraphParamsTest extends TestCase {
+
+    public void testAddKeepsOrder() {
+        TigerGraphParams params = new TigerGraphParams()
+                .add("personId", 933L)
+                .add("firstName", "Mahinda")
+                .add("durationDays", 30);
+
+        Map<String, String> expected = ImmutableMap.of("personId", "933", "firstName", "Mahinda", "durationDays", "30");
+        assertEquals(expected, params);
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(params.entrySet()));
+        assertEquals("Mahinda", params.get("firstName"));
+        assertNull(params.get("lastName"));
+    }
+
+    public void testLists() {
+        TigerGraphParams params = new TigerGraphParams()
+                .addStrings("languages", ImmutableList.of("en", "de"))
+                .addLongs("tagIds", ImmutableList.of(1L, 2L, 3L));
+
+        assertEquals(ImmutableMap.of("languages[0]", "en", "languages[1]", "de",
+                "tagIds[0]", "1", "tagIds[1]", "2", "tagIds[2]", "3"), params);
+    }
+
+    public void testLongList() {
+        List<Long> tagIds = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            tagIds.add(i);
+        }
+        TigerGraphParams params = new TigerGraphParams().addLongs("tagIds", tagIds);
+
+        assertEquals(100, params.size());
+        assertEquals("99", params.get("tagIds[99]"));
+        assertSame(TigerGraphParams.indexedKeys("tagIds", 100), TigerGraphParams.indexedKeys("tagIds", 3));
+    }
+
+    public void testForCurrentThreadIsReused() {
+        TigerGraphParams params = TigerGraphParams.forCurrentThread().add("personId", 1L);
+        TigerGraphParams next = TigerGraphParams.forCurrentThread();
+
+        assertSame(params, next);
+        assertTrue(next.isEmpty());
+    }
+
+    public void testToString() {
+        TigerGraphParams params = new TigerGraphParams().add("person1Id", 1L).add("person2Id", 2L);
+
+        assertEquals(TigerGraphDbConnectionState.mapToString(ImmutableMap.of("person1Id", "1", "person2Id", "2")),
+                params.toString());
+        assertEquals("{}", new TigerGraphParams().toString());
+    }
+
+}
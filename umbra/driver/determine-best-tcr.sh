@@ -8,4 +8,4 @@ set -o pipefail
 cd "$( cd "$( dirname "${BASH_SOURCE[0]}" )" >/dev/null 2>&1 && pwd )"
 cd ..
 
-../driver/determine-best-tcr-common.sh
+../driver/determine-best-tcr-common.sh "$@"
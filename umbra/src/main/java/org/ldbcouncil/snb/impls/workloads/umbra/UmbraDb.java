@@ -18,7 +18,7 @@ import java.util.Map;
 public abstract class UmbraDb extends BaseDb<UmbraQueryStore> {
 
     @Override
-    protected void onInit(Map<String, String> properties, LoggingService loggingService) throws DbException {
+    protected void initialize(Map<String, String> properties, LoggingService loggingService) throws DbException {
         try {
             dcs = new UmbraDbConnectionState<>(properties, new UmbraQueryStore(properties.get("queryDir")));
         } catch (ClassNotFoundException e) {
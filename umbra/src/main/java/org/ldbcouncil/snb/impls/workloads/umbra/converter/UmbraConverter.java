@@ -5,88 +5,77 @@ import org.ldbcouncil.snb.impls.workloads.converter.Converter;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
-import java.util.stream.Collectors;
 
 public class UmbraConverter extends Converter {
 
+    private final static DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS").withZone(ZoneOffset.UTC);
+    /**
+     * The calendar of the timestamps, which the JDBC driver only reads. It is per thread, as a Calendar is mutable,
+     * instead of per column value.
+     */
+    private final static ThreadLocal<Calendar> GMT =
+            ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("Etc/GMT+0")));
+
     @Override
-    public String convertDateTime(Date date) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
-        sdf.setTimeZone(TimeZone.getTimeZone("Etc/GMT+0"));
-        return "timestamp with time zone '" + sdf.format(date) + "'";
+    public StringBuilder appendDateTime(StringBuilder sb, Date date) {
+        sb.append("timestamp with time zone '");
+        TIMESTAMP_FORMATTER.formatTo(date.toInstant(), sb);
+        return sb.append('\'');
     }
 
-    public String convertDate(Date date) {
-        return super.convertDate(date) + "::date";
+    @Override
+    public StringBuilder appendDate(StringBuilder sb, Date date) {
+        return super.appendDate(sb, date).append("::date");
     }
 
     @Override
-    public String convertString(String value) {
-        return "'" + value.replace("'", "''") + "'";
+    public StringBuilder appendString(StringBuilder sb, String value) {
+        sb.append('\'');
+        appendEscaped(sb, value, '\'', "''");
+        return sb.append('\'');
     }
 
-    public String convertStringList(List<String> values) {
-        return "'[" +
-                values
-                        .stream()
-                        .map(v -> "\"" + v + "\"")
-                        .collect(Collectors.joining(", ")) +
-                "]'::text[]";
+    @Override
+    public StringBuilder appendStringList(StringBuilder sb, List<String> values) {
+        sb.append("'[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('"').append(values.get(i)).append('"');
+        }
+        return sb.append("]'::text[]");
     }
 
 
     public static Iterable<String> arrayToStringArray(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            String[] strs = value.split(";");
-            List<String> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                array.add(strs[i]);
-            }
-            return array;
-        }
+        return value == null ? Collections.emptyList() : split(value, ';');
     }
 
     public static Iterable<LdbcQuery1Result.Organization> arrayToObjectArray(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
-        if (value == null) {
-            return new ArrayList<>();
-        } else {
-            String[] strs = value.split(";");
-            List<LdbcQuery1Result.Organization> array = new ArrayList<>();
-            for (int i = 0; i < strs.length; i++) {
-                String[] s = strs[i].split("\\|");
-                // the corresponding results of Interactive Q1 (field 12: universities, field 13: companies)
-                // both return <string, int32, string> tuples
-                array.add(new LdbcQuery1Result.Organization((String) s[0],Integer.parseInt((String) s[1]), (String) s[2]));
-            }
-            return array;
-        }
+        // the corresponding results of Interactive Q1 (field 12: universities, field 13: companies)
+        // both return <string, int32, string> tuples, rendered as "name|year|place;..."
+        return value == null ? Collections.emptyList() : splitOrganizations(value, ';');
     }
 
     public static Iterable<Long> pathToList(ResultSet r, int column) throws SQLException {
         String value = r.getString(column);
         // drop '{' and '}'
-        value = value.substring(1, value.length() - 1);
-        // split
-        String[] strs = value.split(",");
-        List<Long> list = new ArrayList<>();
-        for (int i = 0; i < strs.length; i++) {
-            list.add(Long.valueOf(strs[i]));
-        }
-        return list;
+        return splitLongs(value, 1, value.length() - 1, ',');
     }
 
     public static long stringTimestampToEpoch(ResultSet r, int column) throws SQLException {
-        return r.getTimestamp(column, Calendar.getInstance(TimeZone.getTimeZone("Etc/GMT+0"))).getTime();
+        return r.getTimestamp(column, GMT.get()).getTime();
     }
 
 
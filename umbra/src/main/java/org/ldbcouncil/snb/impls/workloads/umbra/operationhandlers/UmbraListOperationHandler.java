@@ -3,42 +3,58 @@ package org.ldbcouncil.snb.impls.workloads.umbra.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.ListOperationHandler;
+import org.ldbcouncil.snb.impls.workloads.operationhandlers.ResultSink;
 import org.ldbcouncil.snb.impls.workloads.umbra.UmbraDbConnectionState;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class UmbraListOperationHandler<TOperation extends Operation<List<TOperationResult>>, TOperationResult>
+        extends UmbraOperationHandler
         implements ListOperationHandler<TOperationResult, TOperation, UmbraDbConnectionState> {
 
     @Override
     public void executeOperation(TOperation operation, UmbraDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
+        try (OperationProbe probe = state.startOperation(operation)) {
             ResultSet result = null;
-            Connection conn = state.getConnection();
-            List<TOperationResult> results = new ArrayList<>();
-            int resultCount = 0;
+            Connection conn = state.getReadConnection();
+            probe.connectionAcquired();
+            int limit = getResultLimit(operation);
+            ResultSink<TOperationResult> sink = state.newResultSink(limit);
 
             String queryString = getQueryString(state, operation);
             try (final Statement stmt = conn.createStatement()) {
                 state.logQuery(operation.getClass().getSimpleName(), queryString);
+                probe.rendered(queryString);
+                if (limit > 0) {
+                    stmt.setMaxRows(limit);
+                }
 
+                long executionStart = System.nanoTime();
                 result = stmt.executeQuery(queryString);
+                int columnCount = sink.isChecksummed() ? result.getMetaData().getColumnCount() : 0;
                 while (result.next()) {
-                    resultCount++;
-
-                    TOperationResult tuple = convertSingleResult(result);
-                    if (state.isPrintResults()) {
-                        System.out.println(tuple.toString());
+                    if (sink.isMaterialized()) {
+                        TOperationResult tuple = convertSingleResult(result);
+                        if (state.isPrintResults()) {
+                            System.out.println(tuple.toString());
+                        }
+                        sink.add(tuple);
+                    } else {
+                        // the row is not converted, its values are at most read as strings for the checksum
+                        sink.addRow();
+                        for (int i = 1; i <= columnCount; i++) {
+                            sink.addValue(result.getString(i));
+                        }
                     }
-                    results.add(tuple);
                 }
+                recordIfSlow(state, operation, queryString, executionStart, true);
         } catch (SQLException e) {
             throw new DbException(e);
         }
@@ -48,7 +64,8 @@ public abstract class UmbraListOperationHandler<TOperation extends Operation<Lis
             }
             conn.close();
         }
-        resultReporter.report(resultCount, results, operation);
+        probe.succeeded(sink.getCount());
+        sink.report(resultReporter, operation);
     }
     catch (SQLException e) {
         throw new DbException(e);
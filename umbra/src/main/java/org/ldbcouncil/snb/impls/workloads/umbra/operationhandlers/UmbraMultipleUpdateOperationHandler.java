@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.MultipleUpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.umbra.UmbraDbConnectionState;
 
@@ -13,18 +14,21 @@ import java.sql.Statement;
 import java.util.List;
 
 public abstract class UmbraMultipleUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
+        extends UmbraOperationHandler
         implements MultipleUpdateOperationHandler<TOperation, UmbraDbConnectionState> {
 
     @Override
     public void executeOperation(TOperation operation, UmbraDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
-            Connection conn = state.getConnection();
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getWriteConnection();
+            probe.connectionAcquired();
             try {
                 List<String> queryStrings = getQueryString(state, operation);
                 for (String queryString : queryStrings) {
                     Statement stmt = conn.createStatement();
                     state.logQuery(operation.getClass().getSimpleName(), queryString);
+                    probe.rendered(queryString);
                     stmt.execute(queryString);
                     stmt.close();
                 }
@@ -35,6 +39,7 @@ public abstract class UmbraMultipleUpdateOperationHandler<TOperation extends Ope
             finally {
                 conn.close();
             }
+            probe.succeeded(0);
             resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         } 
         catch (SQLException e) {
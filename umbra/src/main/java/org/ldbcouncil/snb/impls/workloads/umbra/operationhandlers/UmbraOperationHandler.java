@@ -0,0 +1,24 @@
+package org.ldbcouncil.snb.impls.workloads.umbra.operationhandlers;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.impls.workloads.monitoring.SlowQueryRecorder;
+import org.ldbcouncil.snb.impls.workloads.umbra.UmbraDbConnectionState;
+
+public class UmbraOperationHandler {
+
+    /**
+     * Hands the query to the slow query recorder of the connection state, if there is one.
+     *
+     * @param explain whether the query can be re-run with EXPLAIN ANALYZE, i.e. it is a read query
+     */
+    public void recordIfSlow(UmbraDbConnectionState state, Operation operation, String queryString,
+                             long executionStart, boolean explain) {
+        SlowQueryRecorder slowQueries = state.getSlowQueryRecorder();
+        long latency = System.nanoTime() - executionStart;
+        if (slowQueries != null && slowQueries.isSlow(operation, latency)) {
+            slowQueries.record(operation, queryString, latency,
+                    explain ? (conn, explainPrefix) -> conn.prepareStatement(explainPrefix + queryString) : null);
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package org.ldbcouncil.snb.impls.workloads.umbra.operationhandlers;
 import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.SingletonOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.umbra.UmbraDbConnectionState;
 
@@ -12,20 +13,24 @@ import java.sql.SQLException;
 import java.sql.Statement;
 
 public abstract class UmbraSingletonOperationHandler<TOperation extends Operation<TOperationResult>, TOperationResult>
+        extends UmbraOperationHandler
         implements SingletonOperationHandler<TOperationResult, TOperation, UmbraDbConnectionState> {
 
     @Override
     public void executeOperation(TOperation operation, UmbraDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
+        try (OperationProbe probe = state.startOperation(operation)) {
             TOperationResult tuple = null;
-            Connection conn = state.getConnection();
+            Connection conn = state.getReadConnection();
+            probe.connectionAcquired();
             int resultCount = 0;
             String queryString = getQueryString(state, operation);
 
             try (final Statement stmt = conn.createStatement()) {
                 state.logQuery(operation.getClass().getSimpleName(), queryString);
+                probe.rendered(queryString);
     
+                long executionStart = System.nanoTime();
                 ResultSet result = stmt.executeQuery(queryString);
                 if (result.next()) {
                     resultCount++;
@@ -34,6 +39,7 @@ public abstract class UmbraSingletonOperationHandler<TOperation extends Operatio
                     if (state.isPrintResults())
                         System.out.println(tuple.toString());
                 }
+                recordIfSlow(state, operation, queryString, executionStart, true);
             }
             catch (Exception e) {
                 throw new DbException(e);
@@ -41,6 +47,7 @@ public abstract class UmbraSingletonOperationHandler<TOperation extends Operatio
             finally {
                 conn.close();
             }
+            probe.succeeded(resultCount);
             resultReporter.report(resultCount, tuple, operation);
         }
         catch (SQLException e){
@@ -4,6 +4,7 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.ResultReporter;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcNoResult;
+import org.ldbcouncil.snb.impls.workloads.monitoring.OperationProbe;
 import org.ldbcouncil.snb.impls.workloads.operationhandlers.UpdateOperationHandler;
 import org.ldbcouncil.snb.impls.workloads.umbra.UmbraDbConnectionState;
 
@@ -12,23 +13,29 @@ import java.sql.SQLException;
 import java.sql.Statement;
 
 public abstract class UmbraUpdateOperationHandler<TOperation extends Operation<LdbcNoResult>>
+        extends UmbraOperationHandler
         implements UpdateOperationHandler<TOperation, UmbraDbConnectionState> {
 
     @Override
     public void executeOperation(TOperation operation, UmbraDbConnectionState state,
                                  ResultReporter resultReporter) throws DbException {
-        try {
-            Connection conn = state.getConnection();
+        try (OperationProbe probe = state.startOperation(operation)) {
+            Connection conn = state.getWriteConnection();
+            probe.connectionAcquired();
             String queryString = getQueryString(state, operation);
                 try (final Statement stmt = conn.createStatement()) {
                     state.logQuery(operation.getClass().getSimpleName(), queryString);
+                    probe.rendered(queryString);
+                    long executionStart = System.nanoTime();
                     stmt.execute(queryString);
+                    recordIfSlow(state, operation, queryString, executionStart, false);
                 } catch (Exception e) {
                     throw new DbException(e);
                 }
                 finally {
                     conn.close();
                 }
+                probe.succeeded(0);
                 resultReporter.report(0, LdbcNoResult.INSTANCE, operation);
         }
         catch (SQLException e) {